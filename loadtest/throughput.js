@@ -0,0 +1,34 @@
+// 최대 처리량 측정 (scripts/startup-benchmark.sh 에서 모드별로 실행)
+//
+// 고정된 VU 수로 조회 API를 쉬지 않고 호출해 초당 처리 요청 수를 잽니다 (closed model).
+// JVM은 JIT 워밍업이 끝난 뒤의 값을 보도록 스크립트가 같은 부하로 먼저 한 번 돌린 다음 측정합니다.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=32 -e DURATION=60s loadtest/throughput.js
+//
+// 출력: 초당 2xx 응답 수 한 줄 (스크립트에서 파싱)
+import http from 'k6/http';
+import { Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+const ok = new Counter('ok');
+
+export const options = {
+    vus: Number(__ENV.VUS || 32),
+    duration: __ENV.DURATION || '60s',
+};
+
+export default function () {
+    // 입장 제어의 클라이언트별 토큰 버킷에 걸리지 않도록 VU마다 다른 클라이언트 id
+    const headers = { 'X-Client-Id': `throughput-${__VU}` };
+    const res = Math.random() < 0.5
+        ? http.get(`${BASE_URL}/api/books/${1 + Math.floor(Math.random() * 5)}`, { headers })
+        : http.get(`${BASE_URL}/api/books/search?author=${encodeURIComponent('김영한')}&sort=price,desc&limit=50`, { headers });
+    if (res.status >= 200 && res.status < 300) {
+        ok.add(1);
+    }
+}
+
+export function handleSummary(data) {
+    return { stdout: `${data.metrics.ok ? data.metrics.ok.values.rate.toFixed(1) : 0}\n` };
+}
@@ -0,0 +1,152 @@
+#!/usr/bin/env bash
+# 실행 방식별 기동 시간 / 메모리 / 최대 처리량 비교.
+# docker run 직후부터 /actuator/health/readiness가 UP을 돌려줄 때까지의 시간(컨테이너 시작과 기동 후 색인 적재 포함)과
+# 애플리케이션 로그의 "Started LibraryApplication in N seconds"(JVM 기준), 기동 직후 RSS를 모드별로 측정해 중앙값을 출력합니다.
+# THROUGHPUT=1 이면 모드마다 한 번 더 띄워 loadtest/throughput.js(k6)로 최대 처리량과 부하 중 최대 RSS도 잽니다.
+#
+#   jar     : Dockerfile           (fat jar, java -jar)
+#   cds     : Dockerfile.startup   (AppCDS)
+#   cds-aot : Dockerfile.startup   (AppCDS + Spring AOT)
+#   native  : Dockerfile.native    (GraalVM 네이티브 이미지)
+#
+# 힙 상한은 모든 모드에 HEAP_MAX(기본 400m, docker-compose의 JVM 설정과 같음)를 줍니다.
+#
+# JVM/네이티브 비교 결과는 아직 측정하지 않았습니다 (GraalVM, Docker가 있는 환경에서 이 스크립트로 측정해 게시 필요).
+#
+# 사용: [THROUGHPUT=1] [VUS=32] [DURATION=60s] scripts/startup-benchmark.sh [반복 횟수=5] [모드...]
+#   예) THROUGHPUT=1 scripts/startup-benchmark.sh 10 jar native
+set -euo pipefail
+
+RUNS=${1:-5}
+shift || true
+MODES=("$@")
+if [ ${#MODES[@]} -eq 0 ]; then
+  MODES=(jar cds cds-aot native)
+fi
+THROUGHPUT=${THROUGHPUT:-0}
+VUS=${VUS:-32}
+DURATION=${DURATION:-60s}
+HEAP_MAX=${HEAP_MAX:-400m}
+
+NETWORK=library-startup-bench
+DB=library-startup-bench-db
+APP=library-startup-bench-app
+PORT=18080
+
+cleanup() {
+  docker rm -f "$APP" "$DB" >/dev/null 2>&1 || true
+  docker network rm "$NETWORK" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+build() {
+  case "$1" in
+    jar)     docker build -q -t library:jar -f Dockerfile . >/dev/null ;;
+    cds)     docker build -q -t library:cds -f Dockerfile.startup . >/dev/null ;;
+    cds-aot) docker build -q -t library:cds-aot -f Dockerfile.startup --build-arg AOT=true . >/dev/null ;;
+    native)  docker build -q -t library:native -f Dockerfile.native . >/dev/null ;;
+    *)       echo "알 수 없는 모드: $1" >&2; exit 1 ;;
+  esac
+}
+
+now_ms() {
+  date +%s%3N
+}
+
+# /proc/1/status의 값(kB)을 MB로 (VmRSS: 현재, VmHWM: 최대)
+rss_mb() {
+  docker exec "$APP" sh -c "grep $1 /proc/1/status" | awk '{ printf "%d", $2 / 1024 }'
+}
+
+# 앱 컨테이너를 띄우고 ready까지 기다림. 추가 인자는 환경 변수(-e ...)
+start_app() {
+  local mode=$1
+  shift
+  local heap_env=() heap_args=()
+  if [ "$mode" = native ]; then
+    heap_args=("-Xmx$HEAP_MAX")
+  else
+    heap_env=(-e "JAVA_TOOL_OPTIONS=-Xmx$HEAP_MAX")
+  fi
+  docker run -d --name "$APP" --network "$NETWORK" -p "$PORT:8080" \
+    -e SPRING_PROFILES_ACTIVE=docker \
+    -e SPRING_DATASOURCE_URL="jdbc:postgresql://$DB:5432/postgres" \
+    -e SPRING_DATASOURCE_USERNAME=postgres \
+    -e SPRING_DATASOURCE_PASSWORD=postgres \
+    ${heap_env[@]+"${heap_env[@]}"} "$@" \
+    "library:$mode" ${heap_args[@]+"${heap_args[@]}"} >/dev/null
+  until curl -sf "http://localhost:$PORT/actuator/health/readiness" 2>/dev/null | grep -q '"UP"'; do
+    if [ "$(docker inspect -f '{{.State.Running}}' "$APP")" != "true" ]; then
+      docker logs "$APP" >&2
+      echo "기동 실패: $mode" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+}
+
+# 한 번 기동해 "ready까지 ms, 로그의 기동 시간(초), 기동 직후 RSS(MB)"를 출력
+measure() {
+  local mode=$1
+  local start end started rss
+  start=$(now_ms)
+  start_app "$mode"
+  end=$(now_ms)
+  started=$(docker logs "$APP" 2>&1 | sed -n 's/.*Started LibraryApplication in \([0-9.]*\) seconds.*/\1/p' | tail -1)
+  rss=$(rss_mb VmRSS)
+  docker rm -f "$APP" >/dev/null
+  echo "$((end - start)) ${started:-?} $rss"
+}
+
+# 워밍업 한 번 + 측정 한 번, "초당 요청 수, 최대 RSS(MB)"를 출력.
+# 입장 제어의 클라이언트별 속도 제한은 처리량 상한이 되지 않도록 풀어 둠 (토글이 아니라 값이라 AOT/네이티브에서도 적용됨)
+throughput() {
+  local mode=$1
+  local k6=(docker run --rm -i --network "$NETWORK" grafana/k6 run -q
+    -e "BASE_URL=http://$APP:8080" -e "VUS=$VUS" -e "DURATION=$DURATION" -)
+  start_app "$mode" -e APP_ADMISSION_CLIENT_BURST=1000000 -e APP_ADMISSION_CLIENT_RATE_PER_SECOND=1000000
+  "${k6[@]}" < loadtest/throughput.js >/dev/null
+  local rate
+  rate=$("${k6[@]}" < loadtest/throughput.js | tail -1)
+  local peak
+  peak=$(rss_mb VmHWM)
+  docker rm -f "$APP" >/dev/null
+  echo "$rate $peak"
+}
+
+median() {
+  sort -n | awk '{ values[NR] = $1 } END { if (NR == 0) print "-"; else print (NR % 2) ? values[(NR + 1) / 2] : (values[NR / 2] + values[NR / 2 + 1]) / 2 }'
+}
+
+for mode in "${MODES[@]}"; do
+  echo "이미지 빌드: $mode" >&2
+  build "$mode"
+done
+
+docker network create "$NETWORK" >/dev/null
+docker run -d --name "$DB" --network "$NETWORK" -e POSTGRES_PASSWORD=postgres postgres:16 >/dev/null
+until docker exec "$DB" pg_isready -U postgres >/dev/null 2>&1; do
+  sleep 0.5
+done
+
+# 첫 기동은 Flyway 마이그레이션이 돌므로 결과에서 제외
+measure "${MODES[0]}" >/dev/null
+
+# 결과는 PR/문서에 그대로 붙일 수 있도록 마크다운 표로 출력
+echo "| mode | ready (ms) | started (s) | RSS after start (MB) | peak req/s | peak RSS (MB) |"
+echo "|------|-----------:|------------:|---------------------:|-----------:|--------------:|"
+for mode in "${MODES[@]}"; do
+  results=()
+  for ((run = 1; run <= RUNS; run++)); do
+    results+=("$(measure "$mode")")
+  done
+  ready=$(printf '%s\n' "${results[@]}" | awk '{ print $1 }' | median)
+  started=$(printf '%s\n' "${results[@]}" | awk '$2 != "?" { print $2 }' | median)
+  rss=$(printf '%s\n' "${results[@]}" | awk '{ print $3 }' | median)
+  rate="-"
+  peak="-"
+  if [ "$THROUGHPUT" = 1 ]; then
+    read -r rate peak <<< "$(throughput "$mode")"
+  fi
+  echo "| $mode | $ready | $started | $rss | $rate | $peak |"
+done
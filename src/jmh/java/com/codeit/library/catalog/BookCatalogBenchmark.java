@@ -0,0 +1,151 @@
+package com.codeit.library.catalog;
+
+import com.codeit.library.dto.request.BookSearchCondition;
+import com.codeit.library.dto.response.BookResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.Sort;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가격/출판일/저자 검색과 출판일 범위 조회: 컬럼형 메모리 카탈로그 vs DB.
+ *
+ * - db     : 같은 데이터를 넣은 H2 인메모리 DB (V2와 같은 인덱스)에 JPQL이 만드는 것과 같은 SQL을 JDBC로 실행.
+ *            네트워크 왕복과 Hibernate 엔티티 생성이 빠져 있어 실제 PostgreSQL 경로보다 유리한 쪽으로 측정됩니다.
+ * - catalog: BookCatalog (parallel-threshold 기본값 200000, 행 수가 그 이상이면 fork/join 스캔)
+ * 실행: ./gradlew jmh -Pjmh.includes=BookCatalogBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookCatalogBenchmark {
+
+    private static final LocalDate RECENT = LocalDate.of(2023, 1, 1);
+    private static final LocalDate PUBLISHED_FROM = LocalDate.of(2010, 1, 1);
+    private static final LocalDate PUBLISHED_TO = LocalDate.of(2010, 3, 31);
+
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    private BookCatalog catalog;
+    private Connection connection;
+    private PreparedStatement expensiveRecent;
+    private PreparedStatement byAuthorAndPrice;
+    private PreparedStatement publishedBetween;
+
+    @Setup
+    public void setUp() throws SQLException {
+        Random random = new Random(42);
+        List<CatalogBook> books = new ArrayList<>(rows);
+        for (long id = 1; id <= rows; id++) {
+            books.add(new CatalogBook(id, "도서 " + id, "저자" + random.nextInt(5000), "isbn-" + id,
+                random.nextInt(100_000), LocalDate.of(2000, 1, 1).plusDays(random.nextInt(9000))));
+        }
+
+        catalog = new BookCatalog(new ForkJoinPool(Runtime.getRuntime().availableProcessors()), 200_000);
+        catalog.reload(books.size() + 1, lastId -> lastId == 0 ? books : List.of());
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:catalog-benchmark;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS book");
+            statement.execute("CREATE TABLE book (id BIGINT PRIMARY KEY, title VARCHAR(255) NOT NULL, "
+                + "author VARCHAR(255) NOT NULL, isbn VARCHAR(255), price INT NOT NULL, published_date DATE)");
+            statement.execute("CREATE INDEX idx_book_author_price ON book (author, price)");
+            statement.execute("CREATE INDEX idx_book_published_date ON book (published_date)");
+            statement.execute("CREATE INDEX idx_book_price_published_date ON book (price, published_date)");
+        }
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO book VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (CatalogBook book : books) {
+                insert.setLong(1, book.id());
+                insert.setString(2, book.title());
+                insert.setString(3, book.author());
+                insert.setString(4, book.isbn());
+                insert.setInt(5, book.price());
+                insert.setDate(6, Date.valueOf(book.publishedDate()));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        expensiveRecent = connection.prepareStatement("SELECT id, title, author, isbn, price, published_date FROM book "
+            + "WHERE price > ? AND published_date > ? ORDER BY price DESC");
+        byAuthorAndPrice = connection.prepareStatement("SELECT id, title, author, isbn, price, published_date FROM book "
+            + "WHERE author = ? AND price >= ? AND price <= ?");
+        publishedBetween = connection.prepareStatement("SELECT id, title, author, isbn, price, published_date FROM book "
+            + "WHERE published_date BETWEEN ? AND ?");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        catalog.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public List<BookResponse> expensiveRecentCatalog() {
+        return catalog.findExpensiveRecentBooks(90_000, RECENT);
+    }
+
+    @Benchmark
+    public List<BookResponse> expensiveRecentDb() throws SQLException {
+        expensiveRecent.setInt(1, 90_000);
+        expensiveRecent.setDate(2, Date.valueOf(RECENT));
+        return read(expensiveRecent);
+    }
+
+    @Benchmark
+    public List<BookResponse> authorAndPriceCatalog() {
+        return catalog.search(new BookSearchCondition("저자42", 10_000, 60_000, Sort.unsorted(), null), null);
+    }
+
+    @Benchmark
+    public List<BookResponse> authorAndPriceDb() throws SQLException {
+        byAuthorAndPrice.setString(1, "저자42");
+        byAuthorAndPrice.setInt(2, 10_000);
+        byAuthorAndPrice.setInt(3, 60_000);
+        return read(byAuthorAndPrice);
+    }
+
+    @Benchmark
+    public List<BookResponse> publishedBetweenCatalog() {
+        return catalog.findByPublishedDateBetween(PUBLISHED_FROM, PUBLISHED_TO);
+    }
+
+    @Benchmark
+    public List<BookResponse> publishedBetweenDb() throws SQLException {
+        publishedBetween.setDate(1, Date.valueOf(PUBLISHED_FROM));
+        publishedBetween.setDate(2, Date.valueOf(PUBLISHED_TO));
+        return read(publishedBetween);
+    }
+
+    private static List<BookResponse> read(PreparedStatement statement) throws SQLException {
+        List<BookResponse> books = new ArrayList<>();
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                Date published = resultSet.getDate(6);
+                books.add(new BookResponse(resultSet.getLong(1), resultSet.getString(2), resultSet.getString(3),
+                    resultSet.getString(4), resultSet.getInt(5), published == null ? null : published.toLocalDate()));
+            }
+        }
+        return books;
+    }
+}
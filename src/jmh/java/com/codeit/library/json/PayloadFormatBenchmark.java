@@ -0,0 +1,119 @@
+package com.codeit.library.json;
+
+import com.codeit.library.config.IsoLocalDateSerializer;
+import com.codeit.library.converter.ProtobufDtoMapper;
+import com.codeit.library.dto.response.LoanResponse;
+import com.codeit.library.proto.LoanList;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대출 목록 응답을 JSON / CBOR / Protobuf로 인코딩·디코딩하는 비용 비교.
+ * 페이로드 크기는 setUp에서 한 번 출력합니다.
+ * Protobuf 디코딩은 생성된 메시지 객체까지만 만듭니다 (클라이언트 쪽 사용 형태).
+ * 실행: ./gradlew jmh -Pjmh.includes=PayloadFormatBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PayloadFormatBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private List<LoanResponse> loans;
+    private ObjectWriter jsonWriter;
+    private ObjectReader jsonReader;
+    private ObjectWriter cborWriter;
+    private ObjectReader cborReader;
+    private byte[] json;
+    private byte[] cbor;
+    private byte[] protobuf;
+
+    @Setup
+    public void setUp() throws IOException {
+        loans = new ArrayList<>(size);
+        LocalDate base = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < size; i++) {
+            long id = i + 1;
+            LocalDate loanDate = base.plusDays(i % 365);
+            loans.add(new LoanResponse(id, id % 1000, "회원" + (i % 1000), id % 5000,
+                "도서 제목 " + (i % 5000), loanDate, i % 3 == 0 ? null : loanDate.plusDays(7), i % 7 == 0));
+        }
+
+        ObjectMapper jsonMapper = configure(JsonMapper.builder()).build();
+        ObjectMapper cborMapper = configure(CBORMapper.builder()).build();
+        JavaType listType = jsonMapper.getTypeFactory().constructCollectionType(List.class, LoanResponse.class);
+        jsonWriter = jsonMapper.writerFor(listType);
+        jsonReader = jsonMapper.readerFor(listType);
+        cborWriter = cborMapper.writerFor(listType);
+        cborReader = cborMapper.readerFor(listType);
+
+        json = jsonWriter.writeValueAsBytes(loans);
+        cbor = cborWriter.writeValueAsBytes(loans);
+        protobuf = ProtobufDtoMapper.toListMessage(LoanResponse.class, loans).toByteArray();
+        System.out.printf("%n[payload size, %d loans] json=%d bytes, cbor=%d bytes, protobuf=%d bytes%n",
+            size, json.length, cbor.length, protobuf.length);
+    }
+
+    private static <M extends ObjectMapper, B extends MapperBuilder<M, B>> B configure(B builder) {
+        return builder
+            .addModule(new JavaTimeModule())
+            .addModule(new SimpleModule().addSerializer(new IsoLocalDateSerializer()))
+            .addModule(new BlackbirdModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return jsonWriter.writeValueAsBytes(loans);
+    }
+
+    @Benchmark
+    public byte[] encodeCbor() throws IOException {
+        return cborWriter.writeValueAsBytes(loans);
+    }
+
+    @Benchmark
+    public byte[] encodeProtobuf() {
+        return ProtobufDtoMapper.toListMessage(LoanResponse.class, loans).toByteArray();
+    }
+
+    @Benchmark
+    public Object decodeJson() throws IOException {
+        return jsonReader.readValue(json);
+    }
+
+    @Benchmark
+    public Object decodeCbor() throws IOException {
+        return cborReader.readValue(cbor);
+    }
+
+    @Benchmark
+    public Object decodeProtobuf() throws IOException {
+        return LoanList.parseFrom(protobuf);
+    }
+}
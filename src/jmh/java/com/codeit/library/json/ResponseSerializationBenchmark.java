@@ -0,0 +1,129 @@
+package com.codeit.library.json;
+
+import com.codeit.library.config.IsoLocalDateSerializer;
+import com.codeit.library.dto.response.LoanResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /api/loans 응답(LoanResponse 1만 건) 직렬화 비용 비교.
+ *
+ * - before: 기존 방식 (getter 기반 클래스 + 리플렉션 + JavaTimeModule의 LocalDateSerializer(toString()))
+ * - after : record + Blackbird + IsoLocalDateSerializer
+ *
+ * 출력 버퍼는 요청마다 새로 만들지 않고 스레드별로 재사용해 직렬화 자체의 비용만 측정합니다.
+ * 실행: ./gradlew jmh  (결과: build/results/jmh/results.json)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResponseSerializationBenchmark {
+
+    @Param({"10000"})
+    public int size;
+
+    private ObjectWriter beforeWriter;
+    private ObjectWriter afterWriter;
+    private List<LegacyLoanResponse> legacyLoans;
+    private List<LoanResponse> loans;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(2 * 1024 * 1024);
+
+    @Setup
+    public void setUp() {
+        ObjectMapper before = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        ObjectMapper after = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .addModule(new SimpleModule().addSerializer(new IsoLocalDateSerializer()))
+            .addModule(new BlackbirdModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        beforeWriter = before.writerFor(before.getTypeFactory().constructCollectionType(List.class, LegacyLoanResponse.class));
+        afterWriter = after.writerFor(after.getTypeFactory().constructCollectionType(List.class, LoanResponse.class));
+
+        legacyLoans = new ArrayList<>(size);
+        loans = new ArrayList<>(size);
+        LocalDate base = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < size; i++) {
+            long id = i + 1;
+            LocalDate loanDate = base.plusDays(i % 365);
+            LocalDate returnDate = i % 3 == 0 ? null : loanDate.plusDays(7);
+            legacyLoans.add(new LegacyLoanResponse(id, id % 1000, "회원" + (i % 1000), id % 5000,
+                "도서 제목 " + (i % 5000), loanDate, returnDate, returnDate == null && i % 7 == 0));
+            loans.add(new LoanResponse(id, id % 1000, "회원" + (i % 1000), id % 5000,
+                "도서 제목 " + (i % 5000), loanDate, returnDate, returnDate == null && i % 7 == 0));
+        }
+    }
+
+    @Benchmark
+    public int before() throws IOException {
+        buffer.reset();
+        beforeWriter.writeValue(buffer, legacyLoans);
+        return buffer.size();
+    }
+
+    @Benchmark
+    public int after() throws IOException {
+        buffer.reset();
+        afterWriter.writeValue(buffer, loans);
+        return buffer.size();
+    }
+
+    /**
+     * record로 바꾸기 전의 LoanResponse와 같은 형태.
+     */
+    public static class LegacyLoanResponse {
+
+        private final Long id;
+        private final Long memberId;
+        private final String memberName;
+        private final Long bookId;
+        private final String bookTitle;
+        private final LocalDate loanDate;
+        private final LocalDate returnDate;
+        private final boolean overdue;
+
+        public LegacyLoanResponse(Long id, Long memberId, String memberName, Long bookId, String bookTitle,
+                                  LocalDate loanDate, LocalDate returnDate, boolean overdue) {
+            this.id = id;
+            this.memberId = memberId;
+            this.memberName = memberName;
+            this.bookId = bookId;
+            this.bookTitle = bookTitle;
+            this.loanDate = loanDate;
+            this.returnDate = returnDate;
+            this.overdue = overdue;
+        }
+
+        public Long getId() { return id; }
+        public Long getMemberId() { return memberId; }
+        public String getMemberName() { return memberName; }
+        public Long getBookId() { return bookId; }
+        public String getBookTitle() { return bookTitle; }
+        public LocalDate getLoanDate() { return loanDate; }
+        public LocalDate getReturnDate() { return returnDate; }
+        public boolean isOverdue() { return overdue; }
+    }
+}
@@ -0,0 +1,74 @@
+package com.codeit.library.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자동완성 색인 조회 지연 분포. 합성 한글 제목 size권에 Zipf 비슷한 인기도를 주고
+ * 1~3음절 접두사, 조합 중인 음절("클ㄹ"), 초성 접두사를 섞어 조회합니다.
+ * SampleTime 모드라 결과의 p0.99 행이 p99 지연입니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=BookSuggestBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookSuggestBenchmark {
+
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하고노도로모보소오조초코토포호구누두루무부수우주추쿠투푸후클린스프링자바코드";
+    private static final String[] WORDS = {"입문", "실전", "완벽 가이드", "첫걸음", "핵심", "개정판", "설계", "패턴"};
+
+    @Param({"1000000"})
+    public int size;
+
+    private BookSuggestIndex index;
+    private String[] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new BookSuggestIndex();
+        for (int id = 1; id <= size; id++) {
+            index.load(id, title(random), title(random));
+            index.setPopularity(id, (int) (1_000_000 / (1 + random.nextInt(10_000))));
+        }
+        index.compact();
+
+        queries = new String[4096];
+        for (int i = 0; i < queries.length; i++) {
+            String title = title(random);
+            queries[i] = switch (i % 4) {
+                case 0 -> title.substring(0, 1);
+                case 1 -> title.substring(0, 2);
+                case 2 -> title.substring(0, 1) + "ㄹ";
+                default -> new String(new char[]{"ㄱㄴㄷㄹㅁㅂㅅㅇㅈㅊㅋㅌㅍㅎ".charAt(random.nextInt(14)),
+                    "ㄱㄴㄷㄹㅁㅂㅅㅇㅈㅊㅋㅌㅍㅎ".charAt(random.nextInt(14))});
+            };
+        }
+    }
+
+    @Benchmark
+    public List<BookSuggestIndex.Suggestion> suggest() {
+        String query = queries[next++ & (queries.length - 1)];
+        return index.suggest(query, 10);
+    }
+
+    private static String title(Random random) {
+        StringBuilder title = new StringBuilder();
+        int length = 2 + random.nextInt(4);
+        for (int i = 0; i < length; i++) {
+            title.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        }
+        return title.append(' ').append(WORDS[random.nextInt(WORDS.length)]).toString();
+    }
+}
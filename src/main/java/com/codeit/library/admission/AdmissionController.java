@@ -0,0 +1,129 @@
+package com.codeit.library.admission;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * 요청을 받을지 미리 버릴지 결정합니다.
+ *
+ * 1. 클라이언트별 토큰 버킷을 넘으면 429
+ *    - 대출/반납(CRITICAL)은 조회가 많은 클라이언트라도 막히지 않도록 별도 버킷을 씀 (따로 정한 한도)
+ *    - 버킷은 클라이언트 수 상한(maxTrackedClients)까지 LRU로 두고, 오래 안 쓴 버킷은 주기적으로 정리
+ * 2. 처리 중인 요청 수(in-flight)와 커넥션 풀 대기 스레드 수를 보고 우선순위가 낮은 요청부터 503
+ *    - BROWSE : in-flight가 한도의 browseRatio 이상이거나 풀 대기 스레드가 browsePending 이상
+ *    - NORMAL : in-flight가 한도의 normalRatio 이상이거나 풀 대기 스레드가 normalPending 이상
+ *    - CRITICAL : in-flight가 한도에 도달했을 때만
+ *
+ * 모든 요청이 Tomcat/Hikari 큐에서 같이 타임아웃 나는 대신, 일찍 거절해 처리 중인 요청은 끝까지 성공시킵니다.
+ * 검사는 2 -> 1 순서로 합니다. 과부하로 503을 받은 요청이 클라이언트 토큰까지 써 버리면
+ * 과부하가 풀린 뒤 재시도가 429로 다시 막히기 때문입니다.
+ */
+public class AdmissionController {
+
+    private static final long IDLE_CLIENT_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final int maxInFlight;
+    private final double browseRatio;
+    private final double normalRatio;
+    private final int browsePending;
+    private final int normalPending;
+    private final long overloadRetryAfterSeconds;
+    private final IntSupplier poolPending;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ClientBuckets buckets;
+    private final ClientBuckets criticalBuckets;
+
+    public AdmissionController(int maxInFlight, double browseRatio, double normalRatio,
+                               int browsePending, int normalPending,
+                               double clientBurst, double clientRatePerSecond,
+                               double criticalClientBurst, double criticalClientRatePerSecond,
+                               int maxTrackedClients, long overloadRetryAfterSeconds,
+                               IntSupplier poolPending, LongSupplier nanoClock) {
+        this.maxInFlight = maxInFlight;
+        this.browseRatio = browseRatio;
+        this.normalRatio = normalRatio;
+        this.browsePending = browsePending;
+        this.normalPending = normalPending;
+        this.buckets = new ClientBuckets(maxTrackedClients, clientBurst, clientRatePerSecond);
+        this.criticalBuckets = new ClientBuckets(maxTrackedClients, criticalClientBurst, criticalClientRatePerSecond);
+        this.overloadRetryAfterSeconds = overloadRetryAfterSeconds;
+        this.poolPending = poolPending;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 입장을 시도합니다. admitted 이면 처리 후 반드시 {@link #release()}를 호출해야 합니다.
+     */
+    public AdmissionDecision tryAdmit(String clientId, RequestPriority priority) {
+        AdmissionDecision overload = checkOverload(priority);
+        if (overload != null) {
+            return overload;
+        }
+
+        // 검사와 증가 사이에 한도를 넘는 것을 막기 위해 CAS로 증가 (토큰 검사에서 막히면 되돌림)
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limitFor(priority)) {
+                return AdmissionDecision.overloaded(overloadRetryAfterSeconds, "in_flight");
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                break;
+            }
+        }
+
+        long now = nanoClock.getAsLong();
+        ClientBuckets limits = priority == RequestPriority.CRITICAL ? criticalBuckets : buckets;
+        long waitNanos = limits.get(clientId, now).tryAcquire(now);
+        if (waitNanos > 0) {
+            release();
+            return AdmissionDecision.rateLimited(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1));
+        }
+        return AdmissionDecision.ADMITTED;
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getTrackedClients() {
+        return buckets.size() + criticalBuckets.size();
+    }
+
+    // 요청 경로에서 전체를 훑지 않도록 정리는 스케줄러 스레드에서만
+    @Scheduled(fixedDelayString = "${app.admission.idle-client-evict-interval-ms:30000}")
+    public void evictIdleClients() {
+        long now = nanoClock.getAsLong();
+        buckets.evictIdle(now, IDLE_CLIENT_NANOS);
+        criticalBuckets.evictIdle(now, IDLE_CLIENT_NANOS);
+    }
+
+    private AdmissionDecision checkOverload(RequestPriority priority) {
+        int pending = switch (priority) {
+            case BROWSE -> browsePending;
+            case NORMAL -> normalPending;
+            case CRITICAL -> Integer.MAX_VALUE;
+        };
+        if (pending != Integer.MAX_VALUE && poolPending.getAsInt() >= pending) {
+            return AdmissionDecision.overloaded(overloadRetryAfterSeconds, "pool_pending");
+        }
+        return null;
+    }
+
+    private int limitFor(RequestPriority priority) {
+        return switch (priority) {
+            case BROWSE -> (int) (maxInFlight * browseRatio);
+            case NORMAL -> (int) (maxInFlight * normalRatio);
+            case CRITICAL -> maxInFlight;
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.codeit.library.admission;
+
+/**
+ * 입장 판정 결과.
+ * @param status 거절 시 응답 코드 (429: 클라이언트 속도 초과, 503: 서버 과부하)
+ * @param retryAfterSeconds Retry-After 헤더 값
+ * @param reason 지표/로그용 거절 사유
+ */
+public record AdmissionDecision(boolean admitted, int status, long retryAfterSeconds, String reason) {
+
+    static final AdmissionDecision ADMITTED = new AdmissionDecision(true, 200, 0, "admitted");
+
+    static AdmissionDecision rateLimited(long retryAfterSeconds) {
+        return new AdmissionDecision(false, 429, retryAfterSeconds, "rate_limited");
+    }
+
+    static AdmissionDecision overloaded(long retryAfterSeconds, String reason) {
+        return new AdmissionDecision(false, 503, retryAfterSeconds, reason);
+    }
+}
@@ -0,0 +1,83 @@
+package com.codeit.library.admission;
+
+import com.codeit.library.dto.response.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 컨트롤러 앞에서 {@link AdmissionController}로 입장 여부를 판정하고,
+ * 거절되면 DB에 닿기 전에 429/503 + Retry-After로 바로 응답합니다.
+ * 클라이언트는 원격 IP로 구분합니다. 로드밸런서 뒤에서는 server.forward-headers-strategy=native 로
+ * 신뢰하는 프록시(server.tomcat.remoteip.internal-proxies)가 붙인 X-Forwarded-For의 실제 클라이언트 IP가 됩니다.
+ * X-Client-Id 헤더는 클라이언트가 마음대로 바꿀 수 있으므로, 앞단 게이트웨이가 인증 후 직접 채우는 경우에만
+ * trustClientIdHeader=true 로 사용합니다.
+ */
+@RequiredArgsConstructor
+public class AdmissionFilter extends OncePerRequestFilter {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    private final AdmissionController admissionController;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final boolean trustClientIdHeader;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        RequestPriority priority = RequestPriority.of(request);
+        AdmissionDecision decision = admissionController.tryAdmit(clientId(request), priority);
+
+        if (!decision.admitted()) {
+            reject(response, priority, decision);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            admissionController.release();
+        }
+    }
+
+    private void reject(HttpServletResponse response, RequestPriority priority, AdmissionDecision decision)
+        throws IOException {
+        Counter.builder("library.admission.rejected")
+            .description("Requests shed by the admission filter")
+            .tag("priority", priority.name())
+            .tag("reason", decision.reason())
+            .register(meterRegistry)
+            .increment();
+
+        ErrorResponse error = decision.status() == 429
+            ? new ErrorResponse("TOO_MANY_REQUESTS", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.")
+            : new ErrorResponse("SERVICE_OVERLOADED", "서버가 혼잡합니다. 잠시 후 다시 시도해주세요.");
+
+        response.setStatus(decision.status());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private String clientId(HttpServletRequest request) {
+        if (trustClientIdHeader) {
+            String header = request.getHeader(CLIENT_ID_HEADER);
+            if (header != null && !header.isBlank()) {
+                return header;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,72 @@
+package com.codeit.library.admission;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 클라이언트별 토큰 버킷 저장소.
+ * 최대 maxClients 개까지만 두고, 넘으면 가장 오래 쓰지 않은 클라이언트부터 버립니다 (LRU).
+ * 락 경합을 줄이려고 클라이언트 키의 해시로 나눈 구간마다 따로 잠급니다.
+ * 버려진 클라이언트는 다음 요청에서 가득 찬 버킷으로 다시 시작합니다.
+ */
+class ClientBuckets {
+
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final double burst;
+    private final double ratePerSecond;
+
+    ClientBuckets(int maxClients, double burst, double ratePerSecond) {
+        this.burst = burst;
+        this.ratePerSecond = ratePerSecond;
+        int perSegment = Math.max(1, maxClients / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+    }
+
+    TokenBucket get(String clientKey, long nowNanos) {
+        return segments[Math.floorMod(clientKey.hashCode(), SEGMENTS)].get(clientKey, nowNanos);
+    }
+
+    void evictIdle(long nowNanos, long idleNanos) {
+        for (Segment segment : segments) {
+            segment.evictIdle(nowNanos, idleNanos);
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private final class Segment {
+
+        private final Map<String, TokenBucket> buckets;
+
+        Segment(int capacity) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        synchronized TokenBucket get(String clientKey, long nowNanos) {
+            return buckets.computeIfAbsent(clientKey, key -> new TokenBucket(burst, ratePerSecond, nowNanos));
+        }
+
+        synchronized void evictIdle(long nowNanos, long idleNanos) {
+            buckets.values().removeIf(bucket -> nowNanos - bucket.getLastUsedNanos() > idleNanos);
+        }
+
+        synchronized int size() {
+            return buckets.size();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.codeit.library.admission;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * 모든 Hikari 풀의 커넥션 대기 스레드 수 합계(hikaricp.connections.pending).
+ * 풀은 첫 커넥션 시점에 지표를 등록하므로, 찾을 때까지 조회를 다시 시도합니다.
+ */
+@RequiredArgsConstructor
+public class HikariPendingProbe implements IntSupplier {
+
+    private final MeterRegistry meterRegistry;
+    private volatile Collection<Gauge> gauges = List.of();
+    private volatile long lastLookupMillis;
+
+    @Override
+    public int getAsInt() {
+        Collection<Gauge> current = gauges;
+        long now = System.currentTimeMillis();
+        // 풀이 추가될 수 있으므로(라우팅 사용 시 replica) 10초마다 다시 찾음
+        if (current.isEmpty() || now - lastLookupMillis > 10_000) {
+            current = meterRegistry.find("hikaricp.connections.pending").gauges();
+            gauges = current;
+            lastLookupMillis = now;
+        }
+        double sum = 0;
+        for (Gauge gauge : current) {
+            sum += gauge.value();
+        }
+        return (int) sum;
+    }
+}
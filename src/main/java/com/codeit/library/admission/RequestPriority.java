@@ -0,0 +1,28 @@
+package com.codeit.library.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 과부하 시 어떤 요청부터 버릴지 정하는 우선순위.
+ * 값이 클수록 마지막까지 받아줍니다.
+ */
+public enum RequestPriority {
+
+    BROWSE,     // 목록/검색 등 조회
+    NORMAL,     // 도서/회원 등록·수정 등 일반 변경
+    CRITICAL;   // 대출/반납 (실제 업무가 걸린 요청)
+
+    public static RequestPriority of(HttpServletRequest request) {
+        String method = request.getMethod();
+        String uri = request.getRequestURI();
+        if (uri.startsWith("/api/loans")
+            && ("POST".equals(method)
+                || ("PUT".equals(method) && (uri.endsWith("/return") || uri.endsWith("/return/batch"))))) {
+            return CRITICAL;
+        }
+        if ("GET".equals(method) || "HEAD".equals(method)) {
+            return BROWSE;
+        }
+        return NORMAL;
+    }
+}
@@ -0,0 +1,42 @@
+package com.codeit.library.admission;
+
+/**
+ * 클라이언트별 요청 속도 제한용 토큰 버킷.
+ * 초당 refillPerSecond 개씩 채워지고 최대 capacity 개까지 쌓입니다.
+ */
+class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+    private volatile long lastUsedNanos;
+
+    TokenBucket(double capacity, double refillPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000.0;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+        this.lastUsedNanos = nowNanos;
+    }
+
+    /**
+     * 토큰을 하나 꺼냅니다.
+     * @return 0이면 성공, 양수면 다음 토큰이 생길 때까지 기다려야 하는 시간(ns)
+     */
+    synchronized long tryAcquire(long nowNanos) {
+        lastUsedNanos = nowNanos;
+        tokens = Math.min(capacity, tokens + (nowNanos - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = nowNanos;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / refillPerNano);
+    }
+
+    long getLastUsedNanos() {
+        return lastUsedNanos;
+    }
+}
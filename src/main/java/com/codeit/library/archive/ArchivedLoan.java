@@ -0,0 +1,23 @@
+package com.codeit.library.archive;
+
+import com.codeit.library.dto.response.LoanResponse;
+
+import java.time.LocalDate;
+
+/**
+ * 아카이브 파일에 저장되는 반납 완료 대출 한 건.
+ * 도서가 나중에 삭제되어도 이력을 보여줄 수 있도록 도서 제목을 함께 보관합니다.
+ */
+public record ArchivedLoan(
+    Long id,
+    Long memberId,
+    Long bookId,
+    String bookTitle,
+    LocalDate loanDate,
+    LocalDate returnDate
+) {
+
+    public LoanResponse toResponse(String memberName) {
+        return new LoanResponse(id, memberId, memberName, bookId, bookTitle, loanDate, returnDate, false);
+    }
+}
@@ -0,0 +1,118 @@
+package com.codeit.library.archive;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 회원 id 구간 x 대출월 별 대출 아카이브 파일의 쓰기/조회.
+ *
+ * 파일 키: members={구간 시작}-{구간 끝}/month=2024-03.lnar (구간 크기 membersPerFile)
+ * - 키는 (회원 구간, 대출월)로만 정해지므로 같은 대출은 항상 같은 파일에 들어감
+ * - 기록할 때 기존 파일과 합쳐(대출 id로 중복 제거) 같은 키에 다시 씀. 커밋 실패 후 재시도해도 파일/행이 늘지 않음
+ * - 조회는 회원이 속한 구간 디렉터리만 목록을 받아 읽음 (S3 LIST/GET이 해당 구간의 월 수만큼만 발생)
+ */
+@Slf4j
+public class LoanArchive {
+
+    private static final String MEMBERS_PREFIX = "members=";
+    private static final Pattern FILE_NAME =
+        Pattern.compile("^members=(\\d+)-(\\d+)/month=\\d{4}-\\d{2}\\.lnar$");
+
+    private final LoanArchiveStore store;
+    private final int rowGroupSize;
+    private final long membersPerFile;
+
+    public LoanArchive(LoanArchiveStore store, int rowGroupSize, long membersPerFile) {
+        if (membersPerFile < 1) {
+            throw new IllegalArgumentException("membersPerFile은 1 이상이어야 합니다");
+        }
+        this.store = store;
+        this.rowGroupSize = rowGroupSize;
+        this.membersPerFile = membersPerFile;
+    }
+
+    /**
+     * 대출을 (회원 구간, 대출월) 파일에 합쳐 기록하고 기록한 키를 반환합니다.
+     */
+    public List<String> write(List<ArchivedLoan> loans) throws IOException {
+        Map<String, Map<String, List<ArchivedLoan>>> byDirectory = loans.stream()
+            .collect(Collectors.groupingBy(loan -> directory(loan.memberId()), TreeMap::new,
+                Collectors.groupingBy(loan -> fileKey(loan.memberId(), YearMonth.from(loan.loanDate())),
+                    TreeMap::new, Collectors.toList())));
+
+        List<String> written = new ArrayList<>();
+        for (Map.Entry<String, Map<String, List<ArchivedLoan>>> directory : byDirectory.entrySet()) {
+            Set<String> existing = new HashSet<>(store.list(directory.getKey()));
+            for (Map.Entry<String, List<ArchivedLoan>> file : directory.getValue().entrySet()) {
+                String key = file.getKey();
+                Map<Long, ArchivedLoan> merged = new LinkedHashMap<>();
+                if (existing.contains(key)) {
+                    try (InputStream in = store.open(key)) {
+                        LoanArchiveFormat.readAll(in).forEach(loan -> merged.put(loan.id(), loan));
+                    }
+                }
+                file.getValue().forEach(loan -> merged.put(loan.id(), loan));
+                store.put(key, LoanArchiveFormat.write(new ArrayList<>(merged.values()), rowGroupSize));
+                written.add(key);
+            }
+        }
+        return written;
+    }
+
+    /**
+     * 회원의 아카이브 대출을 오래된 달부터 스트림으로 반환합니다.
+     * 파일은 스트림을 소비하는 시점에 하나씩 열리므로 메모리에는 한 파일의 해당 회원 행만 올라옵니다.
+     */
+    public Stream<ArchivedLoan> findByMemberId(long memberId) {
+        List<String> keys;
+        try {
+            keys = store.list(directory(memberId));
+        } catch (IOException e) {
+            throw new UncheckedIOException("대출 아카이브 목록 조회 실패", e);
+        }
+        return keys.stream()
+            .filter(key -> mayContain(key, memberId))
+            .flatMap(key -> read(key, memberId).stream());
+    }
+
+    private List<ArchivedLoan> read(String key, long memberId) {
+        try (InputStream in = store.open(key)) {
+            return LoanArchiveFormat.readByMemberId(in, memberId);
+        } catch (IOException e) {
+            throw new UncheckedIOException("대출 아카이브 파일 읽기 실패: " + key, e);
+        }
+    }
+
+    private String directory(long memberId) {
+        long start = Math.floorDiv(memberId, membersPerFile) * membersPerFile;
+        return MEMBERS_PREFIX + start + "-" + (start + membersPerFile - 1) + "/";
+    }
+
+    private String fileKey(long memberId, YearMonth month) {
+        return directory(memberId) + "month=" + month + ".lnar";
+    }
+
+    static boolean mayContain(String key, long memberId) {
+        Matcher matcher = FILE_NAME.matcher(key);
+        if (!matcher.matches()) {
+            log.debug("아카이브 파일 이름 형식이 아니므로 건너뜀: {}", key);
+            return false;
+        }
+        return memberId >= Long.parseLong(matcher.group(1)) && memberId <= Long.parseLong(matcher.group(2));
+    }
+}
@@ -0,0 +1,264 @@
+package com.codeit.library.archive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 반납 대출 아카이브 파일(.lnar) 형식. 회원 id 순으로 정렬한 행을 row group 단위로 나눠
+ * 컬럼별로 저장하고, row group마다 deflate로 압축합니다.
+ *
+ * <pre>
+ * 파일   : "LNAR" | version(1) | rowCount(int) | minMemberId(long) | maxMemberId(long) | groupCount(int) | group...
+ * group  : rowCount(int) | minMemberId(long) | maxMemberId(long) | compressedLength(int) | deflate(columns)
+ * columns: memberId(증가분) | id | bookId | loanDate(epoch day) 는 이전 값과의 차이를 varint로,
+ *          returnDate는 loanDate로부터의 일수, bookTitle은 길이 + UTF-8
+ * </pre>
+ * 조회 시 파일/row group 헤더의 회원 id 범위로 대상이 아닌 묶음은 압축을 풀지 않고 건너뜁니다.
+ */
+public final class LoanArchiveFormat {
+
+    private static final int MAGIC = 0x4C4E4152; // "LNAR"
+    private static final int VERSION = 1;
+
+    static final Comparator<ArchivedLoan> ORDER = Comparator.comparing(ArchivedLoan::memberId)
+        .thenComparing(ArchivedLoan::loanDate)
+        .thenComparing(ArchivedLoan::id);
+
+    private LoanArchiveFormat() {
+    }
+
+    public static byte[] write(List<ArchivedLoan> loans, int rowGroupSize) throws IOException {
+        if (loans.isEmpty()) {
+            throw new IllegalArgumentException("아카이브할 대출이 없습니다");
+        }
+        List<ArchivedLoan> sorted = new ArrayList<>(loans);
+        sorted.sort(ORDER);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeInt(sorted.size());
+        out.writeLong(sorted.get(0).memberId());
+        out.writeLong(sorted.get(sorted.size() - 1).memberId());
+        out.writeInt((sorted.size() + rowGroupSize - 1) / rowGroupSize);
+
+        for (int from = 0; from < sorted.size(); from += rowGroupSize) {
+            List<ArchivedLoan> group = sorted.subList(from, Math.min(from + rowGroupSize, sorted.size()));
+            byte[] compressed = compress(group);
+            out.writeInt(group.size());
+            out.writeLong(group.get(0).memberId());
+            out.writeLong(group.get(group.size() - 1).memberId());
+            out.writeInt(compressed.length);
+            out.write(compressed);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 한 파일에서 memberId의 대출만 읽습니다. 파일 범위 밖이면 헤더만 읽고 바로 반환합니다.
+     */
+    public static List<ArchivedLoan> readByMemberId(InputStream input, long memberId) throws IOException {
+        DataInputStream in = new DataInputStream(input);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("대출 아카이브 파일이 아닙니다");
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 아카이브 버전입니다: " + version);
+        }
+        in.readInt(); // rowCount
+        long fileMin = in.readLong();
+        long fileMax = in.readLong();
+        int groupCount = in.readInt();
+        List<ArchivedLoan> result = new ArrayList<>();
+        if (memberId < fileMin || memberId > fileMax) {
+            return result;
+        }
+
+        for (int g = 0; g < groupCount; g++) {
+            int rowCount = in.readInt();
+            long groupMin = in.readLong();
+            long groupMax = in.readLong();
+            int length = in.readInt();
+            if (memberId < groupMin) {
+                break; // 회원 id 순으로 정렬되어 있으므로 이후 묶음에도 없음
+            }
+            if (memberId > groupMax) {
+                skipFully(in, length);
+                continue;
+            }
+            byte[] compressed = new byte[length];
+            in.readFully(compressed);
+            for (ArchivedLoan loan : decompress(compressed, rowCount)) {
+                if (loan.memberId() == memberId) {
+                    result.add(loan);
+                }
+            }
+        }
+        return result;
+    }
+
+    // 전체 행 읽기 (검증/재처리용)
+    public static List<ArchivedLoan> readAll(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(input);
+        if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION) {
+            throw new IOException("대출 아카이브 파일이 아닙니다");
+        }
+        in.readInt();
+        in.readLong();
+        in.readLong();
+        int groupCount = in.readInt();
+        List<ArchivedLoan> result = new ArrayList<>();
+        for (int g = 0; g < groupCount; g++) {
+            int rowCount = in.readInt();
+            in.readLong();
+            in.readLong();
+            byte[] compressed = new byte[in.readInt()];
+            in.readFully(compressed);
+            result.addAll(decompress(compressed, rowCount));
+        }
+        return result;
+    }
+
+    private static byte[] compress(List<ArchivedLoan> group) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            long previous = 0;
+            for (ArchivedLoan loan : group) {
+                writeVarLong(out, loan.memberId() - previous);
+                previous = loan.memberId();
+            }
+            previous = 0;
+            for (ArchivedLoan loan : group) {
+                writeSignedVarLong(out, loan.id() - previous);
+                previous = loan.id();
+            }
+            previous = 0;
+            for (ArchivedLoan loan : group) {
+                writeSignedVarLong(out, loan.bookId() - previous);
+                previous = loan.bookId();
+            }
+            previous = 0;
+            for (ArchivedLoan loan : group) {
+                long epochDay = loan.loanDate().toEpochDay();
+                writeSignedVarLong(out, epochDay - previous);
+                previous = epochDay;
+            }
+            for (ArchivedLoan loan : group) {
+                writeVarLong(out, loan.returnDate().toEpochDay() - loan.loanDate().toEpochDay());
+            }
+            for (ArchivedLoan loan : group) {
+                byte[] title = loan.bookTitle() == null ? new byte[0] : loan.bookTitle().getBytes(StandardCharsets.UTF_8);
+                writeVarLong(out, title.length);
+                out.write(title);
+            }
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static List<ArchivedLoan> decompress(byte[] compressed, int rowCount) throws IOException {
+        long[] memberIds = new long[rowCount];
+        long[] ids = new long[rowCount];
+        long[] bookIds = new long[rowCount];
+        long[] loanDays = new long[rowCount];
+        long[] returnDays = new long[rowCount];
+        List<ArchivedLoan> rows = new ArrayList<>(rowCount);
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(compressed)))) {
+            long previous = 0;
+            for (int i = 0; i < rowCount; i++) {
+                previous += readVarLong(in);
+                memberIds[i] = previous;
+            }
+            previous = 0;
+            for (int i = 0; i < rowCount; i++) {
+                previous += readSignedVarLong(in);
+                ids[i] = previous;
+            }
+            previous = 0;
+            for (int i = 0; i < rowCount; i++) {
+                previous += readSignedVarLong(in);
+                bookIds[i] = previous;
+            }
+            previous = 0;
+            for (int i = 0; i < rowCount; i++) {
+                previous += readSignedVarLong(in);
+                loanDays[i] = previous;
+            }
+            for (int i = 0; i < rowCount; i++) {
+                returnDays[i] = loanDays[i] + readVarLong(in);
+            }
+            for (int i = 0; i < rowCount; i++) {
+                byte[] title = new byte[(int) readVarLong(in)];
+                in.readFully(title);
+                rows.add(new ArchivedLoan(ids[i], memberIds[i], bookIds[i],
+                    new String(title, StandardCharsets.UTF_8),
+                    LocalDate.ofEpochDay(loanDays[i]), LocalDate.ofEpochDay(returnDays[i])));
+            }
+        }
+        return rows;
+    }
+
+    private static void skipFully(InputStream in, long length) throws IOException {
+        while (length > 0) {
+            long skipped = in.skip(length);
+            if (skipped <= 0) {
+                if (in.read() < 0) {
+                    throw new EOFException();
+                }
+                skipped = 1;
+            }
+            length -= skipped;
+        }
+    }
+
+    private static void writeSignedVarLong(OutputStream out, long value) throws IOException {
+        writeVarLong(out, (value << 1) ^ (value >> 63)); // zigzag
+    }
+
+    private static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readSignedVarLong(InputStream in) throws IOException {
+        long raw = readVarLong(in);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    private static long readVarLong(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("잘못된 varint 입니다");
+    }
+}
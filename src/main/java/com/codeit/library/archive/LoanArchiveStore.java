@@ -0,0 +1,18 @@
+package com.codeit.library.archive;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 아카이브 파일 저장소 (로컬 디스크 또는 S3). 키는 "month=2024-03/..." 처럼 '/'로 구분합니다.
+ */
+public interface LoanArchiveStore {
+
+    void put(String key, byte[] data) throws IOException;
+
+    // prefix로 시작하는 키를 사전순으로 반환
+    List<String> list(String prefix) throws IOException;
+
+    InputStream open(String key) throws IOException;
+}
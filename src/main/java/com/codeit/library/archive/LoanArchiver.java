@@ -0,0 +1,102 @@
+package com.codeit.library.archive;
+
+import com.codeit.library.repository.LoanRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 보관 기간(retentionDays)이 지난 반납 대출을 chunk 단위로 아카이브 파일에 옮기고 DB에서 삭제합니다.
+ *
+ * 한 chunk는 하나의 트랜잭션에서 "회원 id 순 조회 -> (회원 구간, 대출월) 파일에 합쳐 기록 -> 삭제" 순서로 처리합니다.
+ * 회원 id 순으로 읽으므로 한 chunk가 건드리는 회원 구간 파일은 몇 개뿐입니다.
+ * 한 번의 실행 안에서는 마지막으로 옮긴 (회원 id, 대출 id) 다음부터 읽으므로 chunk마다 읽는 양이 chunk 크기로 일정합니다.
+ * - 파일 기록이 실패하면 롤백되어 행이 그대로 남음
+ * - 파일 기록 후 커밋이 실패하면 같은 행이 DB와 파일에 모두 남음. 다음 실행에서 같은 행을 같은 키의 파일에
+ *   대출 id 기준으로 다시 합치므로 파일 쪽 중복은 생기지 않고, 그 사이 조회는 DB 행을 우선함 (LoanService.findByMemberId)
+ * 지표: library.loan.archive.rows, library.loan.archive.failures
+ */
+@Slf4j
+public class LoanArchiver {
+
+    // 한 번 실행에 너무 오래 붙잡고 있지 않도록 최대 chunk 수 제한 (나머지는 다음 실행에서)
+    private static final int MAX_CHUNKS_PER_RUN = 100;
+
+    private final LoanRepository loanRepository;
+    private final LoanArchive loanArchive;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+    private final int chunkSize;
+
+    private final Counter archivedCounter;
+    private final Counter failureCounter;
+
+    public LoanArchiver(LoanRepository loanRepository, LoanArchive loanArchive, TransactionTemplate transactionTemplate,
+                        MeterRegistry meterRegistry, int retentionDays, int chunkSize) {
+        this.loanRepository = loanRepository;
+        this.loanArchive = loanArchive;
+        this.transactionTemplate = transactionTemplate;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+
+        this.archivedCounter = Counter.builder("library.loan.archive.rows")
+            .description("Returned loans moved from the database to archive files")
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder("library.loan.archive.failures")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.loan.archive.cron:0 0 3 * * *}")
+    public void archive() {
+        LocalDate cutoff = LocalDate.now().minusDays(retentionDays);
+        long total = 0;
+        long afterMemberId = 0;
+        long afterId = 0;
+        try {
+            for (int i = 0; i < MAX_CHUNKS_PER_RUN; i++) {
+                long memberCursor = afterMemberId;
+                long idCursor = afterId;
+                List<ArchivedLoan> archived = transactionTemplate.execute(
+                    status -> archiveChunk(cutoff, memberCursor, idCursor));
+                total += archived.size();
+                if (archived.size() < chunkSize) {
+                    break;
+                }
+                ArchivedLoan last = archived.get(archived.size() - 1);
+                afterMemberId = last.memberId();
+                afterId = last.id();
+            }
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            log.warn("대출 아카이브 실패, 다음 실행에 재시도합니다: {}", e.getMessage());
+        }
+        if (total > 0) {
+            log.info("반납 대출 {}건 아카이브 완료 (반납일 {} 이전)", total, cutoff);
+        }
+    }
+
+    // 옮긴 대출을 조회 순서 그대로 반환 (마지막 행이 다음 chunk의 커서)
+    private List<ArchivedLoan> archiveChunk(LocalDate cutoff, long afterMemberId, long afterId) {
+        List<ArchivedLoan> loans = loanRepository.findArchivable(cutoff, afterMemberId, afterId,
+            PageRequest.of(0, chunkSize));
+        if (loans.isEmpty()) {
+            return loans;
+        }
+        try {
+            loanArchive.write(loans);
+        } catch (IOException e) {
+            throw new UncheckedIOException("대출 아카이브 파일 기록 실패", e);
+        }
+        loanRepository.deleteAllByIdIn(loans.stream().map(ArchivedLoan::id).toList());
+        archivedCounter.increment(loans.size());
+        return loans;
+    }
+}
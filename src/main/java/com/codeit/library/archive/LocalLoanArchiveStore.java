@@ -0,0 +1,55 @@
+package com.codeit.library.archive;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 디렉터리에 아카이브 파일을 저장합니다. 임시 파일에 쓴 뒤 이름을 바꿔 읽는 쪽이 쓰다 만 파일을 보지 않게 합니다.
+ */
+public class LocalLoanArchiveStore implements LoanArchiveStore {
+
+    private final Path root;
+
+    public LocalLoanArchiveStore(Path root) {
+        this.root = root;
+    }
+
+    @Override
+    public void put(String key, byte[] data) throws IOException {
+        Path target = root.resolve(key);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".tmp-", ".lnar");
+        try {
+            Files.write(temp, data);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public List<String> list(String prefix) throws IOException {
+        // prefix의 디렉터리 부분만 훑음 (members=0-999/ 면 해당 구간 디렉터리)
+        Path base = root.resolve(prefix.substring(0, prefix.lastIndexOf('/') + 1));
+        if (!Files.isDirectory(base)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.walk(base)) {
+            return files.filter(Files::isRegularFile)
+                .map(path -> root.relativize(path).toString().replace('\\', '/'))
+                .filter(key -> key.startsWith(prefix) && !key.contains("/.tmp-"))
+                .sorted()
+                .toList();
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(root.resolve(key));
+    }
+}
@@ -0,0 +1,45 @@
+package com.codeit.library.archive;
+
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * S3 버킷의 keyPrefix 아래에 아카이브 파일을 저장합니다.
+ */
+public class S3LoanArchiveStore implements LoanArchiveStore {
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final String keyPrefix;
+
+    public S3LoanArchiveStore(S3Client s3Client, String bucket, String keyPrefix) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.keyPrefix = keyPrefix;
+    }
+
+    @Override
+    public void put(String key, byte[] data) {
+        s3Client.putObject(b -> b.bucket(bucket).key(keyPrefix + key).contentType("application/octet-stream"),
+            RequestBody.fromBytes(data));
+    }
+
+    @Override
+    public List<String> list(String prefix) {
+        return s3Client.listObjectsV2Paginator(b -> b.bucket(bucket).prefix(keyPrefix + prefix))
+            .contents().stream()
+            .map(S3Object::key)
+            .map(key -> key.substring(keyPrefix.length()))
+            .sorted()
+            .toList();
+    }
+
+    @Override
+    public InputStream open(String key) {
+        return s3Client.getObject(b -> b.bucket(bucket).key(keyPrefix + key));
+    }
+}
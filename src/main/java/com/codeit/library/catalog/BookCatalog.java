@@ -0,0 +1,389 @@
+package com.codeit.library.catalog;
+
+import com.codeit.library.dto.request.BookSearchCondition;
+import com.codeit.library.dto.response.BookResponse;
+import com.codeit.library.util.KeysetScan;
+import com.codeit.library.util.LongIntHashMap;
+import com.codeit.library.util.RebuildJournal;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+
+/**
+ * 도서 테이블의 메모리 복제본. 가격/출판일/저자를 행 단위 객체가 아니라 기본형 배열(컬럼)로 들고 있어
+ * 가격·출판일 범위와 저자 조건 검색을 분기 없는 배열 스캔 한 번으로 처리합니다.
+ *
+ * - price: int[], publishedDate: epoch day int[] (null은 NULL_DAY), author: 사전 번호 int[] (이름은 사전에 한 번만 보관)
+ * - 삭제된 행은 가격을 -1로 두어 어떤 조건에도 걸리지 않게 하고, 많이 쌓이면 배열을 다시 만듦
+ * - 행 수가 parallelThreshold 이상이면 SEGMENT_SIZE 행 단위로 fork/join 풀에서 나눠 스캔
+ * - 재적재(reload) 중 들어온 변경은 순서대로 기록해 두었다가 새 컬럼에 다시 적용한 뒤 교체 ({@link RebuildJournal})
+ * 읽기는 공유 잠금, 갱신과 교체는 배타 잠금으로 보호합니다.
+ */
+public class BookCatalog implements AutoCloseable {
+
+    private static final int NULL_DAY = Integer.MIN_VALUE;
+    private static final int DELETED_PRICE = -1;
+    private static final int SEGMENT_SIZE = 1 << 16;
+    private static final int MIN_COMPACT_ROWS = 1024;
+
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 재적재 중 기록: 도착 순서대로 CatalogBook(등록/수정) 또는 Long(삭제된 도서 id)
+    private final RebuildJournal<List<Object>> changes =
+        new RebuildJournal<>(RebuildJournal.with(lock.writeLock()), ArrayList::new);
+
+    private Columns columns = new Columns(MIN_COMPACT_ROWS);
+    private volatile boolean ready;
+
+    public BookCatalog(ForkJoinPool pool, int parallelThreshold) {
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    // 첫 적재가 끝나기 전에는 호출자가 JPA로 조회해야 함
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return columns.rows - columns.deleted;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void upsert(CatalogBook book) {
+        lock.writeLock().lock();
+        try {
+            List<Object> journal = changes.journal();
+            if (journal != null) {
+                journal.add(book);
+            }
+            columns.upsert(book);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long bookId) {
+        lock.writeLock().lock();
+        try {
+            List<Object> journal = changes.journal();
+            if (journal != null) {
+                journal.add(bookId);
+            }
+            columns.remove(bookId);
+            if (columns.deleted >= MIN_COMPACT_ROWS && columns.deleted * 2 >= columns.rows) {
+                columns = columns.compacted();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * chunkAfter(마지막 id)로 id 순 chunk를 키셋 스캔해 새 컬럼을 만들고 교체합니다.
+     * 이미 재적재 중이면 아무것도 하지 않고 false.
+     */
+    public boolean reload(int chunkSize, LongFunction<List<CatalogBook>> chunkAfter) {
+        return changes.rebuild(() -> {
+            Columns loaded = new Columns(Math.max(size(), MIN_COMPACT_ROWS));
+            KeysetScan.forEachChunk(chunkSize, chunkAfter, CatalogBook::id, chunk -> chunk.forEach(loaded::upsert));
+            return loaded;
+        }, (loaded, journal) -> {
+            // 같은 도서의 마지막 변경이 남음
+            for (Object change : journal) {
+                if (change instanceof CatalogBook book) {
+                    loaded.upsert(book);
+                } else {
+                    loaded.remove((Long) change);
+                }
+            }
+            columns = loaded.deleted > 0 ? loaded.compacted() : loaded;
+            ready = true;
+        });
+    }
+
+    // BookRepositoryCustom.search와 같은 의미 (저자 일치, 가격 범위, 정렬, limit). idFilter가 있으면 통과한 행만
+    public List<BookResponse> search(BookSearchCondition condition, LongPredicate idFilter) {
+        Integer limit = condition.validatedLimit();
+        int minPrice = condition.getMinPrice() == null ? 0 : condition.getMinPrice();
+        int maxPrice = condition.getMaxPrice() == null ? Integer.MAX_VALUE : condition.getMaxPrice();
+        return query(condition.getAuthor(), new Range(minPrice, maxPrice, NULL_DAY, Integer.MAX_VALUE),
+            condition.getSort(), limit, idFilter);
+    }
+
+    // BookRepository.findByPublishedDateBetween (양 끝 포함)
+    public List<BookResponse> findByPublishedDateBetween(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            return List.of();
+        }
+        return query(null, new Range(0, Integer.MAX_VALUE, toDay(startDate), toDay(endDate)),
+            Sort.unsorted(), null, null);
+    }
+
+    // BookRepository.findExpensiveRecentBooks (price > minPrice AND publishedDate > date, 가격 내림차순)
+    public List<BookResponse> findExpensiveRecentBooks(Integer minPrice, LocalDate date) {
+        if (minPrice == null || date == null || minPrice == Integer.MAX_VALUE) {
+            return List.of();
+        }
+        return query(null, new Range(minPrice + 1, Integer.MAX_VALUE, toDay(date) + 1, Integer.MAX_VALUE),
+            Sort.by(Sort.Direction.DESC, "price"), null, null);
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private List<BookResponse> query(String author, Range range, Sort sort, Integer limit, LongPredicate idFilter) {
+        lock.readLock().lock();
+        try {
+            Columns current = columns;
+            int authorId = -1;
+            if (author != null) {
+                Integer id = current.authorIds.get(author);
+                if (id == null) {
+                    return List.of();
+                }
+                authorId = id;
+            }
+            // 삭제된 행(가격 -1)은 minPrice 0 이상이면 항상 걸러짐
+            Range bounded = new Range(Math.max(range.minPrice(), 0), range.maxPrice(), range.fromDay(), range.toDay());
+            int[] matches = sort(current, scan(current, bounded, authorId), sort);
+
+            int expected = limit == null ? matches.length : Math.min(limit, matches.length);
+            List<BookResponse> result = new ArrayList<>(expected);
+            for (int i = 0; i < matches.length && result.size() < expected; i++) {
+                int row = matches[i];
+                if (idFilter == null || idFilter.test(current.ids[row])) {
+                    result.add(current.response(row));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] scan(Columns current, Range range, int authorId) {
+        int rows = current.rows;
+        int[] prices = current.prices;
+        int[] days = current.days;
+        int[] authors = current.authors;
+        if (rows < parallelThreshold) {
+            return scan(prices, days, authors, 0, rows, range, authorId);
+        }
+        // 호출 스레드가 읽기 잠금을 쥐고 있으므로 작업 중에 컬럼이 바뀌지 않음
+        List<ForkJoinTask<int[]>> tasks = new ArrayList<>();
+        for (int from = 0; from < rows; from += SEGMENT_SIZE) {
+            int start = from;
+            int end = Math.min(rows, from + SEGMENT_SIZE);
+            tasks.add(pool.submit(() -> scan(prices, days, authors, start, end, range, authorId)));
+        }
+        int[][] parts = new int[tasks.size()][];
+        int total = 0;
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = tasks.get(i).join();
+            total += parts[i].length;
+        }
+        int[] matches = new int[total];
+        int offset = 0;
+        for (int[] part : parts) {
+            System.arraycopy(part, 0, matches, offset, part.length);
+            offset += part.length;
+        }
+        return matches;
+    }
+
+    /**
+     * [from, to) 행 중 조건에 맞는 행 번호. 조건 결과를 분기 대신 0/1로 더해 가며 기록하므로
+     * 선택도와 무관하게 루프가 예측 실패 없이 돌고, 저자 조건이 없을 때는 저자 컬럼을 읽지 않습니다.
+     */
+    static int[] scan(int[] prices, int[] days, int[] authors, int from, int to, Range range, int authorId) {
+        int minPrice = range.minPrice();
+        int maxPrice = range.maxPrice();
+        int fromDay = range.fromDay();
+        int toDay = range.toDay();
+        int[] out = new int[to - from];
+        int count = 0;
+        if (authorId < 0) {
+            for (int row = from; row < to; row++) {
+                int price = prices[row];
+                int day = days[row];
+                out[count] = row;
+                count += (price >= minPrice & price <= maxPrice & day >= fromDay & day <= toDay) ? 1 : 0;
+            }
+        } else {
+            for (int row = from; row < to; row++) {
+                int price = prices[row];
+                int day = days[row];
+                out[count] = row;
+                count += (price >= minPrice & price <= maxPrice & day >= fromDay & day <= toDay
+                    & authors[row] == authorId) ? 1 : 0;
+            }
+        }
+        return count == out.length ? out : Arrays.copyOf(out, count);
+    }
+
+    private static int[] sort(Columns current, int[] matches, Sort sort) {
+        if (sort == null || sort.isUnsorted() || matches.length < 2) {
+            return matches;
+        }
+        List<Sort.Order> orders = sort.toList();
+        orders.forEach(order -> BookSearchCondition.validateSortProperty(order.getProperty()));
+
+        // 가격/출판일 하나로만 정렬하면 (값, 행 번호)를 long 하나로 묶어 기본형 배열로 정렬
+        Sort.Order first = orders.get(0);
+        if (orders.size() == 1 && (first.getProperty().equals("price") || first.getProperty().equals("publishedDate"))) {
+            boolean isDay = first.getProperty().equals("publishedDate");
+            int[] column = isDay ? current.days : current.prices;
+            long[] keys = new long[matches.length];
+            for (int i = 0; i < matches.length; i++) {
+                int value = isDay ? sortableDay(column[matches[i]]) : column[matches[i]];
+                keys[i] = ((long) (first.isAscending() ? value : ~value) << 32) | matches[i];
+            }
+            Arrays.sort(keys);
+            int[] sorted = new int[matches.length];
+            for (int i = 0; i < keys.length; i++) {
+                sorted[i] = (int) keys[i];
+            }
+            return sorted;
+        }
+
+        Comparator<Integer> comparator = null;
+        for (Sort.Order order : orders) {
+            Comparator<Integer> next = switch (order.getProperty()) {
+                case "id" -> Comparator.comparingLong(row -> current.ids[row]);
+                case "title" -> Comparator.comparing(row -> current.titles[row]);
+                case "author" -> Comparator.comparing(row -> current.authorNames.get(current.authors[row]));
+                case "price" -> Comparator.comparingInt(row -> current.prices[row]);
+                default -> Comparator.comparingInt(row -> sortableDay(current.days[row]));
+            };
+            next = order.isAscending() ? next : next.reversed();
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        Integer[] boxed = Arrays.stream(matches).boxed().toArray(Integer[]::new);
+        Arrays.sort(boxed, comparator.thenComparingInt(row -> row));
+        return Arrays.stream(boxed).mapToInt(Integer::intValue).toArray();
+    }
+
+    // PostgreSQL과 같이 null은 오름차순에서 마지막, 내림차순에서 처음
+    private static int sortableDay(int day) {
+        return day == NULL_DAY ? Integer.MAX_VALUE : day;
+    }
+
+    private static int toDay(LocalDate date) {
+        return (int) date.toEpochDay();
+    }
+
+    record Range(int minPrice, int maxPrice, int fromDay, int toDay) {
+    }
+
+    // 행 번호로 정렬된 컬럼 배열. 행은 추가 순서 (기동 시에는 id 순)
+    private static final class Columns {
+
+        long[] ids;
+        int[] prices;
+        int[] days;
+        int[] authors;
+        String[] titles;
+        String[] isbns;
+        int rows;
+        int deleted;
+        final LongIntHashMap rowsById = new LongIntHashMap();
+        final Map<String, Integer> authorIds = new HashMap<>();
+        final List<String> authorNames = new ArrayList<>();
+
+        Columns(int capacity) {
+            ids = new long[capacity];
+            prices = new int[capacity];
+            days = new int[capacity];
+            authors = new int[capacity];
+            titles = new String[capacity];
+            isbns = new String[capacity];
+        }
+
+        void upsert(CatalogBook book) {
+            int row = rowsById.getOrDefault(book.id(), -1);
+            if (row < 0) {
+                if (rows == ids.length) {
+                    grow();
+                }
+                row = rows++;
+                ids[row] = book.id();
+                rowsById.put(book.id(), row);
+            } else if (prices[row] == DELETED_PRICE) {
+                deleted--;
+            }
+            prices[row] = book.price();
+            days[row] = book.publishedDate() == null ? NULL_DAY : toDay(book.publishedDate());
+            authors[row] = authorId(book.author());
+            titles[row] = book.title();
+            isbns[row] = book.isbn();
+        }
+
+        void remove(long bookId) {
+            int row = rowsById.getOrDefault(bookId, -1);
+            if (row >= 0 && prices[row] != DELETED_PRICE) {
+                prices[row] = DELETED_PRICE;
+                titles[row] = null;
+                isbns[row] = null;
+                deleted++;
+            }
+        }
+
+        // 삭제된 행을 빼고 다시 만든 컬럼 (저자 사전은 공유하지 않고 새로 만듦)
+        Columns compacted() {
+            Columns compacted = new Columns(Math.max(rows - deleted, MIN_COMPACT_ROWS));
+            for (int row = 0; row < rows; row++) {
+                if (prices[row] != DELETED_PRICE) {
+                    compacted.upsert(new CatalogBook(ids[row], titles[row], authorNames.get(authors[row]), isbns[row],
+                        prices[row], days[row] == NULL_DAY ? null : LocalDate.ofEpochDay(days[row])));
+                }
+            }
+            return compacted;
+        }
+
+        BookResponse response(int row) {
+            return new BookResponse(ids[row], titles[row], authorNames.get(authors[row]), isbns[row], prices[row],
+                days[row] == NULL_DAY ? null : LocalDate.ofEpochDay(days[row]));
+        }
+
+        // 같은 저자 이름은 사전에 있는 String 하나를 공유
+        private int authorId(String author) {
+            Integer id = authorIds.get(author);
+            if (id == null) {
+                id = authorNames.size();
+                authorIds.put(author, id);
+                authorNames.add(author);
+            }
+            return id;
+        }
+
+        private void grow() {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            days = Arrays.copyOf(days, capacity);
+            authors = Arrays.copyOf(authors, capacity);
+            titles = Arrays.copyOf(titles, capacity);
+            isbns = Arrays.copyOf(isbns, capacity);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.codeit.library.catalog;
+
+import com.codeit.library.event.BookDeletedEvent;
+import com.codeit.library.event.BookSavedEvent;
+import com.codeit.library.repository.BookRepository;
+import com.codeit.library.warmup.WarmupTask;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * {@link BookCatalog}를 기동 시 DB로 채우고, BookService의 등록/수정/삭제 이벤트(커밋 후)로 갱신합니다.
+ * 다른 인스턴스에서 바뀐 도서는 refresh-interval-ms마다 전체를 다시 읽어 반영합니다.
+ */
+@Slf4j
+public class BookCatalogLoader implements WarmupTask {
+
+    private final BookCatalog bookCatalog;
+    private final BookRepository bookRepository;
+    private final int chunkSize;
+
+    public BookCatalogLoader(BookCatalog bookCatalog, BookRepository bookRepository, int chunkSize) {
+        this.bookCatalog = bookCatalog;
+        this.bookRepository = bookRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    @TransactionalEventListener
+    public void onBookSaved(BookSavedEvent event) {
+        bookCatalog.upsert(new CatalogBook(event.getBookId(), event.getTitle(), event.getAuthor(), event.getIsbn(),
+            event.getPrice(), event.getPublishedDate()));
+    }
+
+    @TransactionalEventListener
+    public void onBookDeleted(BookDeletedEvent event) {
+        bookCatalog.remove(event.getBookId());
+    }
+
+    @Override
+    public void warmUp() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${app.catalog.refresh-interval-ms:60000}",
+               initialDelayString = "${app.catalog.refresh-interval-ms:60000}")
+    public void reload() {
+        long start = System.nanoTime();
+        try {
+            if (!bookCatalog.reload(chunkSize,
+                lastId -> bookRepository.findCatalogBooks(lastId, PageRequest.of(0, chunkSize)))) {
+                return; // 이미 재적재 중
+            }
+        } catch (RuntimeException e) {
+            log.warn("도서 카탈로그 재적재 실패, {}: {}",
+                bookCatalog.isReady() ? "기존 카탈로그를 유지합니다" : "JPA로 조회합니다", e.getMessage());
+            return;
+        }
+        log.debug("도서 카탈로그 재적재 완료: {}권, {}ms", bookCatalog.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,14 @@
+package com.codeit.library.catalog;
+
+import java.time.LocalDate;
+
+// 카탈로그 적재/갱신에 쓰는 도서 한 행 (엔티티를 읽지 않는 조회 결과)
+public record CatalogBook(
+    Long id,
+    String title,
+    String author,
+    String isbn,
+    Integer price,
+    LocalDate publishedDate
+) {
+}
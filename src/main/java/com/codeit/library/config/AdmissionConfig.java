@@ -0,0 +1,64 @@
+package com.codeit.library.config;
+
+import com.codeit.library.admission.AdmissionController;
+import com.codeit.library.admission.AdmissionFilter;
+import com.codeit.library.admission.HikariPendingProbe;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 과부하 시 우선순위가 낮은 요청부터 미리 거절하는 입장 제어 필터를 등록합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionConfig {
+
+    @Bean
+    public AdmissionController admissionController(
+        MeterRegistry meterRegistry,
+        @Value("${app.admission.max-in-flight:150}") int maxInFlight,
+        @Value("${app.admission.browse-ratio:0.7}") double browseRatio,
+        @Value("${app.admission.normal-ratio:0.9}") double normalRatio,
+        @Value("${app.admission.browse-pool-pending:3}") int browsePending,
+        @Value("${app.admission.normal-pool-pending:10}") int normalPending,
+        @Value("${app.admission.client-burst:100}") double clientBurst,
+        @Value("${app.admission.client-rate-per-second:50}") double clientRatePerSecond,
+        @Value("${app.admission.critical-client-burst:30}") double criticalClientBurst,
+        @Value("${app.admission.critical-client-rate-per-second:10}") double criticalClientRatePerSecond,
+        @Value("${app.admission.max-tracked-clients:10000}") int maxTrackedClients,
+        @Value("${app.admission.retry-after-seconds:1}") long retryAfterSeconds
+    ) {
+        AdmissionController controller = new AdmissionController(maxInFlight, browseRatio, normalRatio,
+            browsePending, normalPending, clientBurst, clientRatePerSecond,
+            criticalClientBurst, criticalClientRatePerSecond, maxTrackedClients, retryAfterSeconds,
+            new HikariPendingProbe(meterRegistry), System::nanoTime);
+
+        Gauge.builder("library.admission.in_flight", controller, AdmissionController::getInFlight)
+            .description("Requests currently admitted and being processed")
+            .register(meterRegistry);
+        Gauge.builder("library.admission.tracked_clients", controller, AdmissionController::getTrackedClients)
+            .description("Per-client token buckets currently held in memory")
+            .register(meterRegistry);
+        return controller;
+    }
+
+    @Bean
+    public FilterRegistrationBean<AdmissionFilter> admissionFilter(
+        AdmissionController admissionController, MeterRegistry meterRegistry, ObjectMapper objectMapper,
+        @Value("${app.admission.trust-client-id-header:false}") boolean trustClientIdHeader
+    ) {
+        FilterRegistrationBean<AdmissionFilter> registration = new FilterRegistrationBean<>(
+            new AdmissionFilter(admissionController, meterRegistry, objectMapper, trustClientIdHeader));
+        registration.addUrlPatterns("/api/*");
+        // 트레이싱 필터(HIGHEST_PRECEDENCE + 1) 바로 뒤, 다른 필터보다 먼저 거절
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
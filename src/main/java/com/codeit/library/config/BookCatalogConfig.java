@@ -0,0 +1,40 @@
+package com.codeit.library.config;
+
+import com.codeit.library.catalog.BookCatalog;
+import com.codeit.library.catalog.BookCatalogLoader;
+import com.codeit.library.repository.BookRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 도서 컬럼형 메모리 카탈로그(BookCatalog) 설정. app.catalog.enabled=true 일 때만 등록되고,
+ * 꺼져 있거나 첫 적재 전에는 BookService가 가격/출판일/저자 검색을 JPA로 처리합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.catalog", name = "enabled", havingValue = "true")
+public class BookCatalogConfig {
+
+    @Bean
+    public BookCatalog bookCatalog(MeterRegistry meterRegistry,
+                                   @Value("${app.catalog.parallelism:0}") int parallelism,
+                                   @Value("${app.catalog.parallel-threshold:200000}") int parallelThreshold) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        BookCatalog bookCatalog = new BookCatalog(pool, parallelThreshold);
+        Gauge.builder("library.catalog.books", bookCatalog, BookCatalog::size)
+            .description("Books in the in-memory columnar catalog")
+            .register(meterRegistry);
+        return bookCatalog;
+    }
+
+    @Bean
+    public BookCatalogLoader bookCatalogLoader(BookCatalog bookCatalog, BookRepository bookRepository,
+                                               @Value("${app.catalog.chunk-size:5000}") int chunkSize) {
+        return new BookCatalogLoader(bookCatalog, bookRepository, chunkSize);
+    }
+}
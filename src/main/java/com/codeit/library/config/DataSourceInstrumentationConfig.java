@@ -0,0 +1,67 @@
+package com.codeit.library.config;
+
+import com.codeit.library.metrics.AdaptivePoolSizer;
+import com.codeit.library.metrics.InstrumentedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Hikari 풀을 InstrumentedDataSource로 감싸 커넥션 획득 대기/점유 시간을 엔드포인트별로 기록하고 느린 쿼리를 로그로 남기며,
+ * 설정 시 풀 크기를 자동으로 조정합니다.
+ */
+@Configuration
+public class DataSourceInstrumentationConfig {
+
+    // BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 static으로 선언하고 MeterRegistry는 늦게 꺼내 씁니다.
+    @Bean
+    public static BeanPostProcessor connectionPoolInstrumenter(
+        ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${app.logging.slow-query-ms:200}") long slowQueryMillis
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    // 풀이 시작되기 전이므로 이름을 정할 수 있음 (지표의 pool 태그와 맞추기 위해)
+                    if (hikari.getPoolName() == null) {
+                        hikari.setPoolName(beanName);
+                    }
+                    return new InstrumentedDataSource(hikari, meterRegistry.getObject(), hikari.getPoolName(),
+                        slowQueryMillis);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.datasource.pool.adaptive", name = "enabled", havingValue = "true")
+    public AdaptivePoolSizer adaptivePoolSizer(DataSource dataSource, MeterRegistry meterRegistry, Environment environment) {
+        // 라우팅 사용 시에도 트랜잭션 밖에서는 primary 풀로 unwrap 됩니다. replica 풀은 DataSourceRoutingConfig가 따로 등록
+        return newAdaptivePoolSizer(dataSource, meterRegistry, environment);
+    }
+
+    static AdaptivePoolSizer newAdaptivePoolSizer(DataSource dataSource, MeterRegistry meterRegistry, Environment environment) {
+        HikariDataSource hikari;
+        try {
+            hikari = dataSource.unwrap(HikariDataSource.class);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Hikari 풀이 아니므로 크기를 조정할 수 없습니다", e);
+        }
+        return new AdaptivePoolSizer(hikari, meterRegistry,
+            environment.getProperty("app.datasource.pool.adaptive.min-size", Integer.class, 5),
+            environment.getProperty("app.datasource.pool.adaptive.max-size", Integer.class, 20),
+            environment.getProperty("app.datasource.pool.adaptive.high-wait-ms", Long.class, 50L),
+            environment.getProperty("app.datasource.pool.adaptive.low-wait-ms", Long.class, 5L));
+    }
+}
@@ -0,0 +1,160 @@
+package com.codeit.library.config;
+
+import com.codeit.library.metrics.AdaptivePoolSizer;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * app.datasource.routing.enabled=true 일 때 읽기 전용 트랜잭션을 replica로 분산합니다.
+ *
+ * primary 접속 정보는 기존 spring.datasource.* 를 그대로 사용하고,
+ * replica는 URL만 다르고 계정/풀 설정(spring.datasource.hikari.*)은 primary와 같게 만듭니다.
+ * replica 풀도 빈(replica-1, replica-2 ...)으로 등록하므로 primary처럼 지표로 감싸지고,
+ * 풀 크기 자동 조정 대상이 되며, 종료 시 닫힙니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Value("${app.datasource.routing.max-lag-ms:5000}")
+    private long maxLagMillis;
+
+    @Value("${app.datasource.routing.sticky-window-ms:5000}")
+    private long stickyWindowMillis;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    // replica 풀을 URL 목록만큼 빈으로 등록 (개수가 설정으로 정해지므로 @Bean 메서드 대신 정의를 직접 추가)
+    @Bean
+    public static BeanDefinitionRegistryPostProcessor replicaDataSourceRegistrar(Environment environment) {
+        List<String> urls = replicaUrls(environment);
+        boolean adaptive = environment.getProperty("app.datasource.pool.adaptive.enabled", Boolean.class, false);
+        return new BeanDefinitionRegistryPostProcessor() {
+            @Override
+            public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) {
+                BeanFactory beanFactory = (BeanFactory) registry;
+                for (int i = 0; i < urls.size(); i++) {
+                    String name = replicaName(i);
+                    String url = urls.get(i);
+                    RootBeanDefinition definition = new RootBeanDefinition(HikariDataSource.class,
+                        () -> replicaDataSource(beanFactory.getBean(DataSourceProperties.class), environment, name, url));
+                    definition.setDestroyMethodName("close");
+                    registry.registerBeanDefinition(name, definition);
+                    if (adaptive) {
+                        registry.registerBeanDefinition(name + "PoolSizer", new RootBeanDefinition(
+                            AdaptivePoolSizer.class, () -> DataSourceInstrumentationConfig.newAdaptivePoolSizer(
+                                beanFactory.getBean(name, DataSource.class), beanFactory.getBean(MeterRegistry.class),
+                                environment)));
+                    }
+                }
+            }
+
+            @Override
+            public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+            }
+        };
+    }
+
+    @Bean
+    public ReplicationRoutingDataSource replicationRoutingDataSource(
+        ListableBeanFactory beanFactory,
+        Environment environment,
+        @Qualifier("primaryDataSource") DataSource primaryDataSource // 지표 수집용으로 감싸져 있으므로 DataSource 타입으로 주입
+    ) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReplicationRoutingDataSource.PRIMARY, primaryDataSource);
+        for (int i = 0; i < replicaUrls(environment).size(); i++) {
+            String name = replicaName(i);
+            targets.put(name, beanFactory.getBean(name, DataSource.class));
+        }
+
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource();
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        return routingDataSource;
+    }
+
+    // JPA, Flyway 등이 사용하는 기본 DataSource
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicationRoutingDataSource replicationRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicationRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicationRoutingDataSource replicationRoutingDataSource,
+                                               MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicationRoutingDataSource.getResolvedDataSources().forEach((key, dataSource) -> {
+            if (!ReplicationRoutingDataSource.PRIMARY.equals(key)) {
+                replicas.put((String) key, dataSource);
+            }
+        });
+        return new ReplicaLagMonitor(replicationRoutingDataSource, replicas, maxLagMillis, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter() {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+            new FilterRegistrationBean<>(new ReadYourWritesFilter(stickyWindowMillis));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    private static HikariDataSource replicaDataSource(DataSourceProperties properties, Environment environment,
+                                                      String name, String url) {
+        HikariDataSource replica = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .url(url)
+            .build();
+        // primary(@ConfigurationProperties)와 같은 풀 설정. 이름/URL/읽기 전용은 replica 값으로 덮어씀
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(replica));
+        replica.setJdbcUrl(url);
+        replica.setPoolName(name);
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    private static List<String> replicaUrls(Environment environment) {
+        return Binder.get(environment).bind("app.datasource.routing.replicas", Bindable.listOf(String.class))
+            .orElse(List.of()).stream()
+            .map(String::trim)
+            .filter(url -> !url.isEmpty())
+            .toList();
+    }
+
+    private static String replicaName(int index) {
+        return "replica-" + (index + 1);
+    }
+}
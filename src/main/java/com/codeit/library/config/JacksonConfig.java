@@ -0,0 +1,26 @@
+package com.codeit.library.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
+
+/**
+ * 목록 응답 직렬화 비용을 줄이기 위한 Jackson 설정.
+ * Module 빈은 Spring Boot가 기본 ObjectMapper에 자동 등록합니다.
+ */
+@Configuration
+public class JacksonConfig {
+
+    // getter/생성자 호출을 리플렉션 대신 LambdaMetafactory로 생성한 코드로 처리.
+    // 네이티브 이미지는 런타임에 클래스를 정의할 수 없으므로 빈 모듈로 대체 (AOT가 빈 구성을 고정하므로 조건 대신 런타임 분기)
+    @Bean
+    public Module blackbirdModule() {
+        if (NativeDetector.inNativeImage()) {
+            return new SimpleModule("blackbird-disabled");
+        }
+        return new BlackbirdModule();
+    }
+}
@@ -0,0 +1,59 @@
+package com.codeit.library.config;
+
+import com.codeit.library.archive.LoanArchive;
+import com.codeit.library.archive.LoanArchiveStore;
+import com.codeit.library.archive.LoanArchiver;
+import com.codeit.library.archive.LocalLoanArchiveStore;
+import com.codeit.library.archive.S3LoanArchiveStore;
+import com.codeit.library.repository.LoanRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.nio.file.Path;
+
+/**
+ * 반납 대출 아카이브: 저장소(로컬/S3), 조회(LoanArchive), 이동 작업(LoanArchiver) 설정.
+ * 조회는 항상 가능하고, 이동 작업은 app.loan.archive.enabled=true 일 때만 등록됩니다.
+ */
+@Configuration
+public class LoanArchiveConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.loan.archive", name = "store", havingValue = "local", matchIfMissing = true)
+    public LoanArchiveStore localLoanArchiveStore(@Value("${app.loan.archive.local-path:archive/loans}") String localPath) {
+        return new LocalLoanArchiveStore(Path.of(localPath));
+    }
+
+    // S3Config의 클라이언트를 공유 (@Lazy 프록시라 첫 업로드/조회 때 생성)
+    @Bean
+    @ConditionalOnProperty(prefix = "app.loan.archive", name = "store", havingValue = "s3")
+    public LoanArchiveStore s3LoanArchiveStore(@Lazy S3Client s3Client,
+                                               @Value("${spring.cloud.aws.s3.bucket}") String bucket,
+                                               @Value("${app.loan.archive.s3-prefix:loan-archive/}") String prefix) {
+        return new S3LoanArchiveStore(s3Client, bucket, prefix);
+    }
+
+    @Bean
+    public LoanArchive loanArchive(LoanArchiveStore loanArchiveStore,
+                                   @Value("${app.loan.archive.row-group-size:1024}") int rowGroupSize,
+                                   @Value("${app.loan.archive.members-per-file:1000}") long membersPerFile) {
+        return new LoanArchive(loanArchiveStore, rowGroupSize, membersPerFile);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.loan.archive", name = "enabled", havingValue = "true")
+    public LoanArchiver loanArchiver(LoanRepository loanRepository, LoanArchive loanArchive,
+                                     PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                     @Value("${app.loan.archive.retention-days:365}") int retentionDays,
+                                     @Value("${app.loan.archive.chunk-size:5000}") int chunkSize) {
+        return new LoanArchiver(loanRepository, loanArchive, new TransactionTemplate(transactionManager),
+            meterRegistry, retentionDays, chunkSize);
+    }
+}
@@ -0,0 +1,151 @@
+package com.codeit.library.config;
+
+import com.codeit.library.archive.ArchivedLoan;
+import com.codeit.library.catalog.CatalogBook;
+import com.codeit.library.domain.Book;
+import com.codeit.library.domain.Loan;
+import com.codeit.library.domain.Member;
+import com.codeit.library.domain.OutboxEvent;
+import com.codeit.library.dto.request.BookCreateRequest;
+import com.codeit.library.dto.request.BookSearchCondition;
+import com.codeit.library.dto.request.BookUpdateRequest;
+import com.codeit.library.dto.request.LoanBatchCreateRequest;
+import com.codeit.library.dto.request.LoanBatchReturnRequest;
+import com.codeit.library.dto.request.LoanCreateRequest;
+import com.codeit.library.dto.request.MemberCreateRequest;
+import com.codeit.library.dto.response.BookResponse;
+import com.codeit.library.dto.response.BookSuggestionResponse;
+import com.codeit.library.dto.response.BorrowerStatsResponse;
+import com.codeit.library.dto.response.DailyLoanStatsResponse;
+import com.codeit.library.dto.response.ErrorResponse;
+import com.codeit.library.dto.response.LoanBatchResponse;
+import com.codeit.library.dto.response.LoanDurationStatsResponse;
+import com.codeit.library.dto.response.LoanResponse;
+import com.codeit.library.dto.response.MemberResponse;
+import com.codeit.library.dto.response.MultiGetResponse;
+import com.codeit.library.dto.response.RelatedBookResponse;
+import com.codeit.library.dto.response.TopItemResponse;
+import com.codeit.library.event.LoanCreatedEvent;
+import com.codeit.library.event.LoanReturnedEvent;
+import com.codeit.library.event.MemberCreatedEvent;
+import com.codeit.library.outbox.OutboxMessage;
+import com.codeit.library.search.BookLoanCount;
+import com.codeit.library.search.SuggestSource;
+import com.codeit.library.stats.LoanFact;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * GraalVM 네이티브 이미지(./gradlew nativeCompile -Pnative)에서 필요한 리플렉션/리소스 힌트.
+ * 빈, 엔티티 스캔, 컨트롤러 요청/응답 타입은 Spring AOT가 알아서 등록하므로
+ * 여기에는 AOT가 코드만 보고는 알 수 없는 것(ObjectMapper로 직접 쓰는 타입, JPQL 생성자 표현식,
+ * Protobuf 메시지, logback 설정 컴포넌트, AWS SDK가 클래스 이름으로 읽는 인터셉터)만 둡니다. JVM 실행에는 영향이 없습니다.
+ */
+@Configuration
+@ImportRuntimeHints(NativeImageConfig.LibraryRuntimeHints.class)
+@RegisterReflectionForBinding({
+    // Jackson: 제네릭 래퍼(MultiGetResponse<T>)와 outbox/입장 제어에서 ObjectMapper로 직접 쓰는 타입까지 포함
+    BookCreateRequest.class, BookUpdateRequest.class, BookSearchCondition.class, LoanCreateRequest.class,
+    LoanBatchCreateRequest.class, LoanBatchReturnRequest.class, MemberCreateRequest.class,
+    BookResponse.class, BookSuggestionResponse.class, BorrowerStatsResponse.class, DailyLoanStatsResponse.class,
+    ErrorResponse.class, LoanBatchResponse.class, LoanDurationStatsResponse.class, LoanResponse.class,
+    MemberResponse.class, MultiGetResponse.class, RelatedBookResponse.class, TopItemResponse.class,
+    LoanCreatedEvent.class, LoanReturnedEvent.class, MemberCreatedEvent.class, OutboxMessage.class
+})
+public class NativeImageConfig {
+
+    private static final String PROTO_PACKAGE = "com.codeit.library.proto.";
+    private static final String[] PROTO_MESSAGES = {
+        "Book", "BookList", "Member", "MemberList", "Loan", "LoanList", "Error", "BookCreate", "LoanCreate"
+    };
+    private static final String[] LOGBACK_COMPONENTS = {
+        "com.codeit.library.logging.CategorySamplingFilter",
+        "com.codeit.library.logging.MeteredAsyncAppender",
+        "net.logstash.logback.encoder.LogstashEncoder"
+    };
+    // AWS SDK가 클래스 이름 목록을 읽어 리플렉션으로 만드는 인터셉터 (core 공통 + S3 전용)
+    private static final String[] AWS_INTERCEPTOR_LISTS = {
+        "software/amazon/awssdk/global/handlers/execution.interceptors",
+        "software/amazon/awssdk/services/s3/execution.interceptors"
+    };
+
+    static class LibraryRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // 엔티티: Hibernate가 필드 접근과 기본 생성자로 읽고 만듦
+            for (Class<?> entity : new Class<?>[]{Book.class, Member.class, Loan.class, OutboxEvent.class}) {
+                hints.reflection().registerType(entity, MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+
+            // JPQL "select new ..." 결과 타입: Hibernate가 생성자를 리플렉션으로 찾음
+            for (Class<?> projection : new Class<?>[]{SuggestSource.class, BookLoanCount.class, CatalogBook.class,
+                ArchivedLoan.class, LoanFact.class}) {
+                hints.reflection().registerType(projection, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            }
+
+            // Protobuf: 생성된 메시지/빌더의 접근자를 FieldAccessorTable이 이름으로 찾음 (toString, 필드 반영 API)
+            for (String message : PROTO_MESSAGES) {
+                hints.reflection().registerType(TypeReference.of(PROTO_PACKAGE + message),
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+                hints.reflection().registerType(TypeReference.of(PROTO_PACKAGE + message + "$Builder"),
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+
+            // logback-spring.xml: Joran이 클래스 이름으로 만들고 setter/adder로 설정
+            for (String component : LOGBACK_COMPONENTS) {
+                hints.reflection().registerType(TypeReference.of(component),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+
+            // AWS SDK: 목록 파일 자체와 거기 적힌 클래스의 생성자
+            for (String list : AWS_INTERCEPTOR_LISTS) {
+                hints.resources().registerPattern(list);
+                for (String className : readLines(classLoader, list)) {
+                    hints.reflection().registerType(TypeReference.of(className),
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+                }
+            }
+        }
+
+        // 빌드 시점(AOT 처리)의 클래스패스에서 목록을 읽음
+        private static List<String> readLines(ClassLoader classLoader, String resource) {
+            List<String> lines = new ArrayList<>();
+            try {
+                Enumeration<URL> urls = (classLoader != null ? classLoader : NativeImageConfig.class.getClassLoader())
+                    .getResources(resource);
+                while (urls.hasMoreElements()) {
+                    try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(urls.nextElement().openStream(), StandardCharsets.UTF_8))) {
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            line = line.trim();
+                            if (!line.isEmpty() && !line.startsWith("#")) {
+                                lines.add(line);
+                            }
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("AWS SDK 인터셉터 목록을 읽을 수 없습니다: " + resource, e);
+            }
+            return lines;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.codeit.library.config;
+
+import com.codeit.library.outbox.FileOutboxSink;
+import com.codeit.library.outbox.InMemoryOutboxSink;
+import com.codeit.library.outbox.OutboxRelay;
+import com.codeit.library.outbox.OutboxSink;
+import com.codeit.library.outbox.OutboxWriter;
+import com.codeit.library.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 트랜잭셔널 outbox: 이벤트 기록(OutboxWriter)과 배치 전달(OutboxRelay), 전달 대상(OutboxSink) 설정.
+ * 실제 브로커를 붙일 때는 OutboxSink 빈을 직접 등록하면 아래 싱크 대신 사용됩니다.
+ *
+ * 기본은 꺼져 있습니다 (app.outbox.enabled). 켤 때는 전달 대상을 명시해야 하며(OutboxSink 빈 또는 app.outbox.sink),
+ * 없으면 기동에 실패합니다. 운영에서 로컬 파일(file)로 조용히 흘려보내고 행을 지우는 일이 없도록 기본 싱크는 두지 않습니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.outbox", name = "enabled", havingValue = "true")
+public class OutboxConfig {
+
+    @Bean
+    public OutboxWriter outboxWriter(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        return new OutboxWriter(outboxEventRepository, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxSink.class)
+    @ConditionalOnProperty(prefix = "app.outbox", name = "sink", havingValue = "file")
+    public OutboxSink fileOutboxSink(@Value("${app.outbox.file-path:outbox/events.jsonl}") String filePath,
+                                     @Value("${app.outbox.file-max-size-mb:100}") long maxSizeMb,
+                                     @Value("${app.outbox.file-max-history:5}") int maxHistory,
+                                     ObjectMapper objectMapper) throws IOException {
+        return new FileOutboxSink(Path.of(filePath), objectMapper, maxSizeMb * 1024 * 1024, maxHistory);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxSink.class)
+    @ConditionalOnProperty(prefix = "app.outbox", name = "sink", havingValue = "memory")
+    public OutboxSink inMemoryOutboxSink() {
+        return new InMemoryOutboxSink();
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(OutboxEventRepository outboxEventRepository, ObjectProvider<OutboxSink> outboxSinks,
+                                   PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                   @Value("${app.outbox.batch-size:100}") int batchSize) {
+        OutboxSink outboxSink = outboxSinks.getIfAvailable();
+        if (outboxSink == null) {
+            throw new IllegalStateException(
+                "app.outbox.enabled=true 이면 OutboxSink 빈을 등록하거나 app.outbox.sink(file|memory)를 지정해야 합니다");
+        }
+        return new OutboxRelay(outboxEventRepository, outboxSink,
+            new TransactionTemplate(transactionManager), meterRegistry, batchSize);
+    }
+}
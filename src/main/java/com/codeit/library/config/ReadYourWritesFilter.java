@@ -0,0 +1,66 @@
+package com.codeit.library.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * 변경 요청(POST/PUT/PATCH/DELETE)을 보낸 클라이언트는 stickyWindow 동안 읽기도 primary에서 처리합니다.
+ * 만료 시각을 쿠키에 담기 때문에 어느 노드로 요청이 가도 같은 규칙이 적용됩니다.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "rw-primary-until";
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final long stickyWindowMillis;
+
+    public ReadYourWritesFilter(long stickyWindowMillis) {
+        this.stickyWindowMillis = stickyWindowMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        try {
+            if (!READ_METHODS.contains(request.getMethod())) {
+                // 응답 본문이 쓰이기 전에 쿠키를 붙여야 하므로 처리 전에 설정
+                Cookie cookie = new Cookie(COOKIE_NAME, String.valueOf(now + stickyWindowMillis));
+                cookie.setPath("/");
+                cookie.setHttpOnly(true);
+                cookie.setMaxAge((int) Math.max(1, stickyWindowMillis / 1000));
+                response.addCookie(cookie);
+                ReplicationContext.forcePrimary();
+            } else if (stickyUntil(request) > now) {
+                ReplicationContext.forcePrimary();
+            }
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicationContext.clear();
+        }
+    }
+
+    private long stickyUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0L;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0L;
+                }
+            }
+        }
+        return 0L;
+    }
+}
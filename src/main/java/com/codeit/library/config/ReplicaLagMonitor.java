@@ -0,0 +1,90 @@
+package com.codeit.library.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 주기적으로 각 replica의 복제 지연을 측정하고, 허용 범위를 넘은 replica는 라우팅 대상에서 제외합니다.
+ * primary로부터 WAL을 스트리밍으로 받고 있지 않은 replica(pg_stat_wal_receiver에 streaming 행이 없음)도 제외합니다.
+ * 모든 replica가 제외되면 읽기 트래픽도 primary로 갑니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    // 1열: WAL을 스트리밍으로 받고 있는지, 2열: 지연(ms)
+    // 받은 WAL을 모두 재생했다면 마지막 재생 시각과 무관하게 지연은 0 입니다. (primary에 쓰기가 없을 때 오탐 방지)
+    // 단 WAL 수신이 끊긴 replica도 받은 것을 다 재생하면 같은 상태가 되므로, 스트리밍 중이 아니면 지연을 믿지 않습니다.
+    private static final String LAG_QUERY =
+        "SELECT NOT pg_is_in_recovery() OR EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming'), " +
+        "CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+        "ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000, 0) END";
+
+    private final ReplicationRoutingDataSource routingDataSource;
+    private final Map<String, DataSource> replicas;
+    private final long maxLagMillis;
+    private final Map<String, Double> lagMillis = new ConcurrentHashMap<>();
+
+    public ReplicaLagMonitor(ReplicationRoutingDataSource routingDataSource,
+                             Map<String, DataSource> replicas,
+                             long maxLagMillis,
+                             MeterRegistry meterRegistry) {
+        this.routingDataSource = routingDataSource;
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.maxLagMillis = maxLagMillis;
+
+        for (String key : this.replicas.keySet()) {
+            lagMillis.put(key, Double.NaN);
+            Gauge.builder("db.replica.lag", lagMillis, lags -> lags.getOrDefault(key, Double.NaN))
+                .description("Replica replay lag in milliseconds")
+                .baseUnit("milliseconds")
+                .tag("replica", key)
+                .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.lag-check-interval-ms:1000}")
+    public void checkLag() {
+        List<String> healthy = new ArrayList<>();
+        replicas.forEach((key, dataSource) -> {
+            try {
+                double lag = measureLag(dataSource);
+                lagMillis.put(key, lag);
+                if (lag <= maxLagMillis) {
+                    healthy.add(key);
+                }
+            } catch (SQLException e) {
+                lagMillis.put(key, Double.NaN);
+                log.warn("replica {} 지연 측정 실패: {}", key, e.getMessage());
+            }
+        });
+        if (!healthy.equals(routingDataSource.getHealthyReplicas())) {
+            log.info("읽기 라우팅 대상 replica 변경: {} -> {}", routingDataSource.getHealthyReplicas(), healthy);
+        }
+        routingDataSource.updateHealthyReplicas(healthy);
+    }
+
+    private double measureLag(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            resultSet.next();
+            if (!resultSet.getBoolean(1)) {
+                return Double.POSITIVE_INFINITY; // WAL 수신 끊김: 얼마나 뒤처졌는지 알 수 없으므로 허용 범위 밖으로 봄
+            }
+            return resultSet.getDouble(2);
+        }
+    }
+}
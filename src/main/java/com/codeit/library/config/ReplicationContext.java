@@ -0,0 +1,25 @@
+package com.codeit.library.config;
+
+/**
+ * 현재 요청을 읽기 전용 트랜잭션이라도 primary로 보내야 하는지 표시합니다.
+ * (쓰기 직후 짧은 시간 동안 자신이 쓴 데이터를 읽을 수 있도록 보장하기 위해 사용)
+ */
+public final class ReplicationContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private ReplicationContext() {
+    }
+
+    public static void forcePrimary() {
+        PRIMARY_FORCED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(PRIMARY_FORCED.get());
+    }
+
+    public static void clear() {
+        PRIMARY_FORCED.remove();
+    }
+}
@@ -0,0 +1,43 @@
+package com.codeit.library.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 정상 상태의 replica 중 하나로(라운드 로빈), 그 외에는 primary로 커넥션을 라우팅합니다.
+ *
+ * 트랜잭션의 readOnly 여부는 커넥션을 실제로 얻는 시점에 결정되어 있어야 하므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 사용해야 합니다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final AtomicInteger counter = new AtomicInteger();
+    // 복제 지연이 허용 범위 안인 replica 키 목록 (ReplicaLagMonitor가 갱신)
+    private volatile List<String> healthyReplicas = List.of();
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            || ReplicationContext.isPrimaryForced()) {
+            return PRIMARY;
+        }
+        List<String> replicas = healthyReplicas;
+        if (replicas.isEmpty()) {
+            return PRIMARY;
+        }
+        return replicas.get(Math.floorMod(counter.getAndIncrement(), replicas.size()));
+    }
+
+    public void updateHealthyReplicas(List<String> replicas) {
+        this.healthyReplicas = List.copyOf(replicas);
+    }
+
+    public List<String> getHealthyReplicas() {
+        return healthyReplicas;
+    }
+}
@@ -0,0 +1,53 @@
+package com.codeit.library.config;
+
+import com.codeit.library.metrics.S3ObservationInterceptor;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * S3 클라이언트와 presigner. 둘 다 @Lazy라 기동 시에는 만들지 않고 파일 API를 처음 호출할 때 한 번 만듭니다.
+ * (SDK 클라이언트 생성은 HTTP 클라이언트, 엔드포인트 규칙, 서명기 로딩으로 기동 시간에서 눈에 띄는 비중이고,
+ * 자격 증명 환경 변수가 없어도 파일 API 외의 기능은 기동할 수 있게 됩니다.)
+ */
+@Configuration
+public class S3Config {
+
+    @Bean
+    @Lazy
+    public S3Client s3Client(@Value("${spring.cloud.aws.credentials.accessKey}") String accessKey,
+                             @Value("${spring.cloud.aws.credentials.secretKey}") String secretKey,
+                             @Value("${spring.cloud.aws.region.static}") String region,
+                             ObservationRegistry observationRegistry) {
+        return S3Client.builder()
+            .region(Region.of(region))
+            .credentialsProvider(credentials(accessKey, secretKey))
+            // S3 호출마다 트레이싱 span 생성
+            .overrideConfiguration(config -> config.addExecutionInterceptor(
+                new S3ObservationInterceptor(observationRegistry)))
+            .build();
+    }
+
+    // Pre-signed URL 생성용 (S3 접근을 위한 임시 URL, 로컬 서명이라 S3를 호출하지 않음)
+    @Bean
+    @Lazy
+    public S3Presigner s3Presigner(@Value("${spring.cloud.aws.credentials.accessKey}") String accessKey,
+                                   @Value("${spring.cloud.aws.credentials.secretKey}") String secretKey,
+                                   @Value("${spring.cloud.aws.region.static}") String region) {
+        return S3Presigner.builder()
+            .region(Region.of(region))
+            .credentialsProvider(credentials(accessKey, secretKey))
+            .build();
+    }
+
+    private static StaticCredentialsProvider credentials(String accessKey, String secretKey) {
+        return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+    }
+}
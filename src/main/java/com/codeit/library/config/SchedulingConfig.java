@@ -0,0 +1,10 @@
+package com.codeit.library.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 메서드(연체 감지 tick 등)를 동작시키기 위한 설정
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
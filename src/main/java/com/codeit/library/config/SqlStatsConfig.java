@@ -0,0 +1,19 @@
+package com.codeit.library.config;
+
+import com.codeit.library.metrics.SqlStatsFilter;
+import com.codeit.library.metrics.SqlStatsRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SqlStatsConfig {
+
+    @Bean
+    public FilterRegistrationBean<SqlStatsFilter> sqlStatsFilter(SqlStatsRegistry sqlStatsRegistry) {
+        FilterRegistrationBean<SqlStatsFilter> registration =
+            new FilterRegistrationBean<>(new SqlStatsFilter(sqlStatsRegistry));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
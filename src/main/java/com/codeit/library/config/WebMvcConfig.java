@@ -0,0 +1,40 @@
+package com.codeit.library.config;
+
+import com.codeit.library.converter.ProtobufDtoHttpMessageConverter;
+import com.codeit.library.metrics.EndpointTagInterceptor;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    // Spring Boot가 만든 빌더 (Blackbird, LocalDate 직렬화 등 JSON과 같은 설정)
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new EndpointTagInterceptor()).addPathPatterns("/api/**");
+    }
+
+    /**
+     * Accept 헤더에 따라 같은 응답을 CBOR(application/cbor), Protobuf(application/x-protobuf)로도 내려줍니다.
+     * Accept가 없거나 *\/* 이면 기존처럼 JSON이 선택되도록 목록 맨 뒤에 추가합니다.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // 기본 CBOR 변환기는 Boot의 Jackson 설정을 따르지 않으므로 교체
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+            objectMapperBuilder.factory(new CBORFactory()).build()));
+        converters.add(new ProtobufDtoHttpMessageConverter());
+    }
+}
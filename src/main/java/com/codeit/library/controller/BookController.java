@@ -1,17 +1,24 @@
 package com.codeit.library.controller;
 
 import com.codeit.library.dto.request.BookCreateRequest;
+import com.codeit.library.dto.request.BookSearchCondition;
 import com.codeit.library.dto.request.BookUpdateRequest;
 import com.codeit.library.dto.response.BookResponse;
+import com.codeit.library.dto.response.BookSuggestionResponse;
+import com.codeit.library.dto.response.MultiGetResponse;
+import com.codeit.library.dto.response.RelatedBookResponse;
 import com.codeit.library.service.BookService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/books")
@@ -24,7 +31,7 @@ public class BookController {
     public ResponseEntity<BookResponse> createBook(@Valid @RequestBody BookCreateRequest request) {
         BookResponse response = bookService.createBook(request);
         return ResponseEntity
-            .created(URI.create("/api/books/" + response.getId()))
+            .created(URI.create("/api/books/" + response.id()))
             .body(response);
     }
 
@@ -34,19 +41,66 @@ public class BookController {
         return ResponseEntity.ok(response);
     }
 
+    // 이 책을 빌린 회원이 함께 빌린 책
+    @GetMapping("/{id}/related")
+    public ResponseEntity<List<RelatedBookResponse>> getRelatedBooks(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<RelatedBookResponse> response = bookService.findRelated(id, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    // 입력 중인 제목/저자 자동완성 (초성, 조합 중인 음절 포함)
+    @GetMapping("/suggest")
+    public ResponseEntity<List<BookSuggestionResponse>> suggestBooks(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<BookSuggestionResponse> response = bookService.suggest(q, limit);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping
     public ResponseEntity<List<BookResponse>> getBooks() {
         List<BookResponse> response = bookService.findAll();
         return ResponseEntity.ok(response);
     }
 
+    // GET /api/books?ids=3,1,2 : 목록 화면에서 행마다 단건 조회하지 않도록 한 번에 조회
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponse<BookResponse>> getBooksByIds(@RequestParam List<Long> ids) {
+        MultiGetResponse<BookResponse> response = bookService.findAllById(ids);
+        return ResponseEntity.ok(response);
+    }
+
+    // GET /api/books?fields=id,title : 요청한 항목만 SELECT 하고 응답
+    @GetMapping(params = {"fields", "!ids"})
+    public ResponseEntity<List<Map<String, Object>>> getBookFields(@RequestParam String fields) {
+        List<Map<String, Object>> response = bookService.findAll(fields);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/search")
     public ResponseEntity<List<BookResponse>> searchBooks(
         @RequestParam(required = false) String author,
         @RequestParam(required = false) Integer minPrice,
-        @RequestParam(required = false) Integer maxPrice
+        @RequestParam(required = false) Integer maxPrice,
+        @RequestParam(required = false) String sort,
+        @RequestParam(required = false) Integer limit,
+        @RequestParam(defaultValue = "false") boolean available
+    ) {
+        BookSearchCondition condition = new BookSearchCondition(
+            author, minPrice, maxPrice, BookService.parseSort(sort), limit);
+        List<BookResponse> response = bookService.searchBooks(condition, available);
+        return ResponseEntity.ok(response);
+    }
+
+    // 출판일이 from ~ to(양 끝 포함)인 도서
+    @GetMapping("/published")
+    public ResponseEntity<List<BookResponse>> getBooksPublishedBetween(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
     ) {
-        List<BookResponse> response = bookService.searchBooks(author, minPrice, maxPrice);
+        List<BookResponse> response = bookService.findByPublishedDateBetween(from, to);
         return ResponseEntity.ok(response);
     }
 
@@ -1,6 +1,9 @@
 package com.codeit.library.controller;
 
+import com.codeit.library.dto.request.LoanBatchCreateRequest;
+import com.codeit.library.dto.request.LoanBatchReturnRequest;
 import com.codeit.library.dto.request.LoanCreateRequest;
+import com.codeit.library.dto.response.LoanBatchResponse;
 import com.codeit.library.dto.response.LoanResponse;
 import com.codeit.library.service.LoanService;
 import jakarta.validation.Valid;
@@ -10,6 +13,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/loans")
@@ -22,10 +26,24 @@ public class LoanController {
     public ResponseEntity<LoanResponse> createLoan(@Valid @RequestBody LoanCreateRequest request) {
         LoanResponse response = loanService.createLoan(request);
         return ResponseEntity
-            .created(URI.create("/api/loans/" + response.getId()))
+            .created(URI.create("/api/loans/" + response.id()))
             .body(response);
     }
 
+    // 한 회원이 여러 권을 한 번에 대출 (책마다 성공/실패 결과)
+    @PostMapping("/batch")
+    public ResponseEntity<LoanBatchResponse> createLoans(@Valid @RequestBody LoanBatchCreateRequest request) {
+        LoanBatchResponse response = loanService.createLoans(request);
+        return ResponseEntity.ok(response);
+    }
+
+    // 여러 대출을 한 번에 반납 (대출마다 성공/실패 결과)
+    @PutMapping("/return/batch")
+    public ResponseEntity<LoanBatchResponse> returnBooks(@Valid @RequestBody LoanBatchReturnRequest request) {
+        LoanBatchResponse response = loanService.returnBooks(request);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<LoanResponse> getLoan(@PathVariable Long id) {
         LoanResponse response = loanService.findById(id);
@@ -38,15 +56,31 @@ public class LoanController {
         return ResponseEntity.ok(response);
     }
 
+    // GET /api/loans?fields=id,memberName,bookTitle : 요청한 항목만 SELECT, 필요한 조인만 수행
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getLoanFields(@RequestParam String fields) {
+        List<Map<String, Object>> response = loanService.findAll(fields);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/current")
     public ResponseEntity<List<LoanResponse>> getCurrentLoans() {
         List<LoanResponse> response = loanService.findCurrentLoans();
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/overdue")
+    public ResponseEntity<List<LoanResponse>> getOverdueLoans() {
+        List<LoanResponse> response = loanService.findOverdueLoans();
+        return ResponseEntity.ok(response);
+    }
+
+    // ?includeArchived=true 면 아카이브 파일로 옮겨진 오래된 반납 이력까지 포함
     @GetMapping("/member/{memberId}")
-    public ResponseEntity<List<LoanResponse>> getLoansByMember(@PathVariable Long memberId) {
-        List<LoanResponse> response = loanService.findByMemberId(memberId);
+    public ResponseEntity<List<LoanResponse>> getLoansByMember(
+            @PathVariable Long memberId,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        List<LoanResponse> response = loanService.findByMemberId(memberId, includeArchived);
         return ResponseEntity.ok(response);
     }
 
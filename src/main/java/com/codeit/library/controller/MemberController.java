@@ -2,6 +2,7 @@ package com.codeit.library.controller;
 
 import com.codeit.library.dto.request.MemberCreateRequest;
 import com.codeit.library.dto.response.MemberResponse;
+import com.codeit.library.dto.response.MultiGetResponse;
 import com.codeit.library.service.MemberService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +12,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/members")
@@ -30,7 +32,7 @@ public class MemberController {
             @RequestPart("file") MultipartFile file) {
         MemberResponse response = memberService.createMember(request, file);
         return ResponseEntity
-                .created(URI.create("/api/members/" + response.getId()))
+                .created(URI.create("/api/members/" + response.id()))
                 .body(response);
     }
 
@@ -46,6 +48,20 @@ public class MemberController {
         return ResponseEntity.ok(response);
     }
 
+    // GET /api/members?ids=3,1,2 : 여러 회원을 한 번에 조회
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponse<MemberResponse>> getMembersByIds(@RequestParam List<Long> ids) {
+        MultiGetResponse<MemberResponse> response = memberService.findAllById(ids);
+        return ResponseEntity.ok(response);
+    }
+
+    // GET /api/members?fields=id,name : 요청한 항목만 SELECT 하고 응답
+    @GetMapping(params = {"fields", "!ids"})
+    public ResponseEntity<List<Map<String, Object>>> getMemberFields(@RequestParam String fields) {
+        List<Map<String, Object>> response = memberService.findAll(fields);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/email/{email}")
     public ResponseEntity<MemberResponse> getMemberByEmail(@PathVariable String email) {
         MemberResponse response = memberService.findByEmail(email);
@@ -0,0 +1,57 @@
+package com.codeit.library.controller;
+
+import com.codeit.library.dto.response.BorrowerStatsResponse;
+import com.codeit.library.dto.response.DailyLoanStatsResponse;
+import com.codeit.library.dto.response.LoanDurationStatsResponse;
+import com.codeit.library.dto.response.TopItemResponse;
+import com.codeit.library.service.StatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 대출 통계 (메모리 집계 기반, loan 테이블을 GROUP BY 하지 않음).
+ *
+ * 집계는 요청을 받은 노드의 메모리에 있으므로 결과는 노드별 근사치입니다.
+ * - 다른 노드에서 처리된 대출/반납은 이 노드의 다음 재계산(app.stats.reconcile-interval-ms, 기본 1시간) 때 반영
+ * - 기동 직후 첫 재계산 전에는 이 노드가 받은 대출/반납만 집계됨
+ * - 집계 기간(app.stats.window-days)의 시작일은 재계산 때마다 옮겨짐 (/loans/duration의 windowStart)
+ * 여러 노드로 띄우면 같은 요청이라도 노드에 따라 값이 조금 다를 수 있습니다.
+ */
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+public class StatsController {
+
+    private final StatsService statsService;
+
+    @GetMapping("/loans/daily")
+    public ResponseEntity<List<DailyLoanStatsResponse>> getDailyLoans(@RequestParam(defaultValue = "30") int days) {
+        return ResponseEntity.ok(statsService.getDailyLoans(days));
+    }
+
+    @GetMapping("/loans/duration")
+    public ResponseEntity<LoanDurationStatsResponse> getLoanDuration() {
+        return ResponseEntity.ok(statsService.getLoanDuration());
+    }
+
+    @GetMapping("/books/top")
+    public ResponseEntity<List<TopItemResponse>> getTopBooks(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(statsService.getTopBooks(limit));
+    }
+
+    @GetMapping("/members/top")
+    public ResponseEntity<List<TopItemResponse>> getTopMembers(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(statsService.getTopMembers(limit));
+    }
+
+    @GetMapping("/borrowers")
+    public ResponseEntity<BorrowerStatsResponse> getDistinctBorrowers(@RequestParam(defaultValue = "30") int days) {
+        return ResponseEntity.ok(statsService.getDistinctBorrowers(days));
+    }
+}
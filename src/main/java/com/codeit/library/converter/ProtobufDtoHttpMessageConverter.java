@@ -0,0 +1,84 @@
+package com.codeit.library.converter;
+
+import com.codeit.library.dto.request.BookCreateRequest;
+import com.codeit.library.proto.BookCreate;
+import com.codeit.library.proto.LoanCreate;
+import com.google.protobuf.Message;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * 컨트롤러가 반환하는 DTO(및 DTO 목록)를 application/x-protobuf로 쓰고,
+ * 같은 형식의 요청 본문을 BookCreateRequest / LoanCreateRequest로 읽습니다.
+ * 목록은 BookList 처럼 repeated 필드 하나를 가진 메시지로 감쌉니다.
+ */
+public class ProtobufDtoHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+    public ProtobufDtoHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ProtobufDtoMapper.isWritable(clazz) || ProtobufDtoMapper.isReadable(clazz)
+            || List.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return ProtobufDtoMapper.isReadable(ResolvableType.forType(type).resolve(Object.class)) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        if (!canWrite(mediaType)) {
+            return false;
+        }
+        if (ProtobufDtoMapper.isWritable(clazz)) {
+            return true;
+        }
+        return List.class.isAssignableFrom(clazz) && type != null && ProtobufDtoMapper.isWritable(elementType(type));
+    }
+
+    @Override
+    protected void writeInternal(Object value, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        Message message = value instanceof List<?> list
+            ? ProtobufDtoMapper.toListMessage(elementType(type), list)
+            : ProtobufDtoMapper.toMessage(value);
+        message.writeTo(outputMessage.getBody());
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        return readInternal(ResolvableType.forType(type).resolve(Object.class), inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        if (clazz == BookCreateRequest.class) {
+            return ProtobufDtoMapper.fromBookCreate(BookCreate.parseFrom(inputMessage.getBody()));
+        }
+        if (ProtobufDtoMapper.isReadable(clazz)) {
+            return ProtobufDtoMapper.fromLoanCreate(LoanCreate.parseFrom(inputMessage.getBody()));
+        }
+        throw new HttpMessageNotReadableException("Protobuf 본문을 읽을 수 없는 타입입니다: " + clazz, inputMessage);
+    }
+
+    private static Class<?> elementType(@Nullable Type type) {
+        if (type == null) {
+            return Object.class;
+        }
+        return ResolvableType.forType(type).asCollection().resolveGeneric(0);
+    }
+}
@@ -0,0 +1,139 @@
+package com.codeit.library.converter;
+
+import com.codeit.library.dto.request.BookCreateRequest;
+import com.codeit.library.dto.request.LoanCreateRequest;
+import com.codeit.library.dto.response.BookResponse;
+import com.codeit.library.dto.response.ErrorResponse;
+import com.codeit.library.dto.response.LoanResponse;
+import com.codeit.library.dto.response.MemberResponse;
+import com.codeit.library.proto.Book;
+import com.codeit.library.proto.BookCreate;
+import com.codeit.library.proto.BookList;
+import com.codeit.library.proto.Error;
+import com.codeit.library.proto.Loan;
+import com.codeit.library.proto.LoanCreate;
+import com.codeit.library.proto.LoanList;
+import com.codeit.library.proto.Member;
+import com.codeit.library.proto.MemberList;
+import com.google.protobuf.Message;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 응답/요청 DTO와 Protobuf 메시지(library.proto) 사이의 변환.
+ * 컨트롤러는 그대로 DTO를 주고받고, 변환은 {@link ProtobufDtoHttpMessageConverter}에서만 일어납니다.
+ */
+public final class ProtobufDtoMapper {
+
+    private ProtobufDtoMapper() {
+    }
+
+    public static boolean isWritable(Class<?> type) {
+        return type == BookResponse.class || type == LoanResponse.class
+            || type == MemberResponse.class || type == ErrorResponse.class;
+    }
+
+    public static boolean isReadable(Class<?> type) {
+        return type == BookCreateRequest.class || type == LoanCreateRequest.class;
+    }
+
+    public static Message toMessage(Object dto) {
+        if (dto instanceof BookResponse book) {
+            return toBook(book);
+        }
+        if (dto instanceof LoanResponse loan) {
+            return toLoan(loan);
+        }
+        if (dto instanceof MemberResponse member) {
+            return toMember(member);
+        }
+        if (dto instanceof ErrorResponse error) {
+            return Error.newBuilder()
+                .setCode(error.getCode())
+                .setMessage(nullToEmpty(error.getMessage()))
+                .build();
+        }
+        throw new IllegalArgumentException("Protobuf로 변환할 수 없는 타입입니다: " + dto.getClass());
+    }
+
+    public static Message toListMessage(Class<?> elementType, List<?> items) {
+        if (elementType == BookResponse.class) {
+            BookList.Builder builder = BookList.newBuilder();
+            items.forEach(item -> builder.addItems(toBook((BookResponse) item)));
+            return builder.build();
+        }
+        if (elementType == LoanResponse.class) {
+            LoanList.Builder builder = LoanList.newBuilder();
+            items.forEach(item -> builder.addItems(toLoan((LoanResponse) item)));
+            return builder.build();
+        }
+        if (elementType == MemberResponse.class) {
+            MemberList.Builder builder = MemberList.newBuilder();
+            items.forEach(item -> builder.addItems(toMember((MemberResponse) item)));
+            return builder.build();
+        }
+        throw new IllegalArgumentException("Protobuf로 변환할 수 없는 목록 타입입니다: " + elementType);
+    }
+
+    public static Book toBook(BookResponse book) {
+        Book.Builder builder = Book.newBuilder()
+            .setId(book.id())
+            .setTitle(book.title())
+            .setAuthor(book.author());
+        if (book.isbn() != null) {
+            builder.setIsbn(book.isbn());
+        }
+        if (book.price() != null) {
+            builder.setPrice(book.price());
+        }
+        if (book.publishedDate() != null) {
+            builder.setPublishedDate(book.publishedDate().toEpochDay());
+        }
+        return builder.build();
+    }
+
+    public static Loan toLoan(LoanResponse loan) {
+        Loan.Builder builder = Loan.newBuilder()
+            .setId(loan.id())
+            .setMemberId(loan.memberId())
+            .setMemberName(loan.memberName())
+            .setBookId(loan.bookId())
+            .setBookTitle(loan.bookTitle())
+            .setLoanDate(loan.loanDate().toEpochDay())
+            .setOverdue(loan.overdue());
+        if (loan.returnDate() != null) {
+            builder.setReturnDate(loan.returnDate().toEpochDay());
+        }
+        return builder.build();
+    }
+
+    public static Member toMember(MemberResponse member) {
+        return Member.newBuilder()
+            .setId(member.id())
+            .setName(member.name())
+            .setEmail(member.email())
+            .build();
+    }
+
+    public static BookCreateRequest fromBookCreate(BookCreate message) {
+        return new BookCreateRequest(
+            message.hasTitle() ? message.getTitle() : null,
+            message.hasAuthor() ? message.getAuthor() : null,
+            message.hasIsbn() ? message.getIsbn() : null,
+            message.hasPrice() ? message.getPrice() : null,
+            message.hasPublishedDate() ? LocalDate.ofEpochDay(message.getPublishedDate()) : null
+        );
+    }
+
+    public static LoanCreateRequest fromLoanCreate(LoanCreate message) {
+        return new LoanCreateRequest(
+            message.hasMemberId() ? message.getMemberId() : null,
+            message.hasBookId() ? message.getBookId() : null
+        );
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
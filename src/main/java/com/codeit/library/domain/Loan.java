@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.PartitionKey;
 
 import java.time.LocalDate;
 
@@ -12,8 +13,13 @@ import java.time.LocalDate;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Loan {
 
+    // 대출 기간 (대출일로부터 14일이 지나면 연체)
+    public static final int LOAN_PERIOD_DAYS = 14;
+
+    // 일괄 대출 시 INSERT를 JDBC 배치로 묶을 수 있도록 시퀀스 사용 (V4__loan_id_sequence.sql)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "loan_id_seq")
+    @SequenceGenerator(name = "loan_id_seq", sequenceName = "loan_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -24,6 +30,8 @@ public class Loan {
     @JoinColumn(name = "book_id", nullable = false)
     private Book book;
 
+    // loan 테이블은 loan_date 월별 파티션 (V6). UPDATE/DELETE에 loan_date 조건을 붙여 한 파티션만 찾도록 함
+    @PartitionKey
     @Column(nullable = false)
     private LocalDate loanDate;
 
@@ -53,11 +61,19 @@ public class Loan {
     }
 
     public boolean isOverdue() {
+        return isOverdue(loanDate, returnDate);
+    }
+
+    // 엔티티를 읽지 않고 컬럼 값만 조회한 경우(필드 선택 조회)에도 같은 규칙을 쓰기 위함
+    public static boolean isOverdue(LocalDate loanDate, LocalDate returnDate) {
         if (returnDate != null) {
             return false;
         }
-        LocalDate dueDate = loanDate.plusDays(14);
-        return LocalDate.now().isAfter(dueDate);
+        return LocalDate.now().isAfter(loanDate.plusDays(LOAN_PERIOD_DAYS));
+    }
+
+    public LocalDate getDueDate() {
+        return loanDate.plusDays(LOAN_PERIOD_DAYS);
     }
 
     public boolean isReturned() {
@@ -0,0 +1,53 @@
+package com.codeit.library.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 외부 시스템에 전달할 이벤트.
+ * 대출/회원 변경과 같은 트랜잭션에서 저장되므로, 변경이 커밋되면 이벤트도 반드시 남습니다.
+ * OutboxRelay가 배치로 읽어 전달한 뒤 삭제합니다.
+ */
+@Entity
+@Table(name = "outbox_event")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // LOAN, MEMBER
+    @Column(nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    // LoanCreated, LoanReturned, MemberCreated
+    @Column(nullable = false, length = 100)
+    private String eventType;
+
+    // 이벤트 내용(JSON)
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public OutboxEvent(String aggregateType, Long aggregateId, String eventType, String payload) {
+        if (aggregateType == null || eventType == null || payload == null) {
+            throw new IllegalArgumentException("이벤트 종류와 내용은 필수입니다");
+        }
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,40 @@
+package com.codeit.library.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.util.Set;
+
+@Getter
+@AllArgsConstructor
+public class BookSearchCondition {
+
+    // JPA 검색과 메모리 카탈로그 검색이 같은 규칙을 쓰도록 여기서 관리
+    public static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "title", "author", "price", "publishedDate");
+    public static final int MAX_LIMIT = 1000;
+
+    private String author;
+    private Integer minPrice;
+    private Integer maxPrice;
+    private Sort sort;
+    private Integer limit;
+
+    public static BookSearchCondition of(String author, Integer minPrice, Integer maxPrice) {
+        return new BookSearchCondition(author, minPrice, maxPrice, Sort.unsorted(), null);
+    }
+
+    // limit이 없으면 null
+    public Integer validatedLimit() {
+        if (limit != null && (limit < 1 || limit > MAX_LIMIT)) {
+            throw new IllegalArgumentException("limit은 1~" + MAX_LIMIT + " 사이여야 합니다");
+        }
+        return limit;
+    }
+
+    public static void validateSortProperty(String property) {
+        if (!SORTABLE_PROPERTIES.contains(property)) {
+            throw new IllegalArgumentException("정렬할 수 없는 항목입니다: " + property);
+        }
+    }
+}
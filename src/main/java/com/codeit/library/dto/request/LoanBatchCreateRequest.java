@@ -0,0 +1,23 @@
+package com.codeit.library.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanBatchCreateRequest {
+
+    @NotNull(message = "회원 ID는 필수입니다")
+    private Long memberId;
+
+    @NotEmpty(message = "대출할 책 ID는 최소 1개 이상이어야 합니다")
+    @Size(max = 20, message = "한 번에 최대 20권까지 요청할 수 있습니다")
+    private List<@NotNull(message = "책 ID는 필수입니다") Long> bookIds;
+}
@@ -0,0 +1,20 @@
+package com.codeit.library.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanBatchReturnRequest {
+
+    @NotEmpty(message = "반납할 대출 ID는 최소 1개 이상이어야 합니다")
+    @Size(max = 100, message = "한 번에 최대 100건까지 반납할 수 있습니다")
+    private List<@NotNull(message = "대출 ID는 필수입니다") Long> loanIds;
+}
@@ -1,21 +1,17 @@
 package com.codeit.library.dto.response;
 
 import com.codeit.library.domain.Book;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
 
 import java.time.LocalDate;
 
-@Getter
-@AllArgsConstructor
-public class BookResponse {
-
-    private Long id;
-    private String title;
-    private String author;
-    private String isbn;
-    private Integer price;
-    private LocalDate publishedDate;
+public record BookResponse(
+    Long id,
+    String title,
+    String author,
+    String isbn,
+    Integer price,
+    LocalDate publishedDate
+) {
 
     public static BookResponse from(Book book) {
         return new BookResponse(
@@ -28,4 +24,3 @@ public class BookResponse {
         );
     }
 }
-
@@ -0,0 +1,15 @@
+package com.codeit.library.dto.response;
+
+import com.codeit.library.search.BookSuggestIndex;
+
+// 자동완성 후보 (인기순)
+public record BookSuggestionResponse(
+    Long id,
+    String title,
+    String author
+) {
+
+    public static BookSuggestionResponse from(BookSuggestIndex.Suggestion suggestion) {
+        return new BookSuggestionResponse(suggestion.bookId(), suggestion.title(), suggestion.author());
+    }
+}
@@ -0,0 +1,9 @@
+package com.codeit.library.dto.response;
+
+// 기간 내 대출한 회원 수 추정치 (relativeError: 표준 오차 비율)
+public record BorrowerStatsResponse(
+    int days,
+    long estimatedBorrowers,
+    double relativeError
+) {
+}
@@ -0,0 +1,11 @@
+package com.codeit.library.dto.response;
+
+import java.time.LocalDate;
+
+// 하루 대출 수와 그날 대출한 회원 수(HyperLogLog 추정)
+public record DailyLoanStatsResponse(
+    LocalDate date,
+    long loans,
+    long distinctBorrowers
+) {
+}
@@ -0,0 +1,39 @@
+package com.codeit.library.dto.response;
+
+import java.util.List;
+
+/**
+ * 일괄 대출/반납 결과. results는 요청 순서를 따릅니다.
+ */
+public record LoanBatchResponse(
+    int succeeded,
+    int failed,
+    List<Item> results
+) {
+
+    public static LoanBatchResponse of(List<Item> results) {
+        int succeeded = (int) results.stream().filter(Item::success).count();
+        return new LoanBatchResponse(succeeded, results.size() - succeeded, results);
+    }
+
+    /**
+     * @param id 요청한 책 ID(대출) 또는 대출 ID(반납)
+     * @param code 실패 사유 (BOOK_NOT_FOUND, ALREADY_LOANED, LIMIT_EXCEEDED, DUPLICATE, LOAN_NOT_FOUND, ALREADY_RETURNED)
+     */
+    public record Item(
+        Long id,
+        boolean success,
+        LoanResponse loan,
+        String code,
+        String message
+    ) {
+
+        public static Item success(Long id, LoanResponse loan) {
+            return new Item(id, true, loan, null, null);
+        }
+
+        public static Item failure(Long id, String code, String message) {
+            return new Item(id, false, null, code, message);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.codeit.library.dto.response;
+
+import java.time.LocalDate;
+
+// windowStart 이후 대출 중 반납된 대출의 평균 대출 기간(일)
+public record LoanDurationStatsResponse(
+    LocalDate windowStart,
+    long returnedLoans,
+    double averageDays
+) {
+}
@@ -1,23 +1,19 @@
 package com.codeit.library.dto.response;
 
 import com.codeit.library.domain.Loan;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
 
 import java.time.LocalDate;
 
-@Getter
-@AllArgsConstructor
-public class LoanResponse {
-
-    private Long id;
-    private Long memberId;
-    private String memberName;
-    private Long bookId;
-    private String bookTitle;
-    private LocalDate loanDate;
-    private LocalDate returnDate;
-    private boolean overdue;
+public record LoanResponse(
+    Long id,
+    Long memberId,
+    String memberName,
+    Long bookId,
+    String bookTitle,
+    LocalDate loanDate,
+    LocalDate returnDate,
+    boolean overdue
+) {
 
     public static LoanResponse from(Loan loan) {
         return new LoanResponse(
@@ -32,4 +28,3 @@ public class LoanResponse {
         );
     }
 }
-
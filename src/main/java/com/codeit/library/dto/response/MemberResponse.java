@@ -1,16 +1,12 @@
 package com.codeit.library.dto.response;
 
 import com.codeit.library.domain.Member;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
 
-@Getter
-@AllArgsConstructor
-public class MemberResponse {
-
-    private Long id;
-    private String name;
-    private String email;
+public record MemberResponse(
+    Long id,
+    String name,
+    String email
+) {
 
     public static MemberResponse from(Member member) {
         return new MemberResponse(
@@ -20,4 +16,3 @@ public class MemberResponse {
         );
     }
 }
-
@@ -0,0 +1,52 @@
+package com.codeit.library.dto.response;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 여러 id를 한 번에 조회한 결과.
+ * items는 요청한 id 순서를 따르고, 찾지 못한 id는 missingIds에 담깁니다.
+ */
+public record MultiGetResponse<T>(
+    List<T> items,
+    List<Long> missingIds
+) {
+
+    public static final int MAX_IDS = 500;
+
+    /**
+     * 요청 id의 중복을 제거(순서 유지)하고 개수를 제한합니다.
+     */
+    public static List<Long> distinctIds(List<Long> ids) {
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinctIds.isEmpty()) {
+            throw new IllegalArgumentException("ids에 최소 하나의 id를 지정해야 합니다");
+        }
+        if (distinctIds.size() > MAX_IDS) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 id는 최대 " + MAX_IDS + "개입니다");
+        }
+        return distinctIds;
+    }
+
+    public static <T> MultiGetResponse<T> of(List<Long> requestedIds, List<T> found, Function<T, Long> idOf) {
+        Map<Long, T> byId = new HashMap<>(found.size() * 2);
+        for (T item : found) {
+            byId.put(idOf.apply(item), item);
+        }
+        List<T> items = new ArrayList<>(requestedIds.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            T item = byId.get(id);
+            if (item != null) {
+                items.add(item);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new MultiGetResponse<>(items, missingIds);
+    }
+}
@@ -0,0 +1,16 @@
+package com.codeit.library.dto.response;
+
+import com.codeit.library.domain.Book;
+
+// 함께 대출된 책 (borrowedTogether: 두 책을 모두 빌린 회원 수)
+public record RelatedBookResponse(
+    Long id,
+    String title,
+    String author,
+    int borrowedTogether
+) {
+
+    public static RelatedBookResponse of(Book book, int borrowedTogether) {
+        return new RelatedBookResponse(book.getId(), book.getTitle(), book.getAuthor(), borrowedTogether);
+    }
+}
@@ -0,0 +1,9 @@
+package com.codeit.library.dto.response;
+
+// 가장 많이 대출된 도서 / 가장 많이 대출한 회원 순위의 한 항목
+public record TopItemResponse(
+    Long id,
+    String name,
+    long loans
+) {
+}
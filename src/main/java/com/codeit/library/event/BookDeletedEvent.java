@@ -0,0 +1,12 @@
+package com.codeit.library.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 도서가 삭제되었을 때 발행되는 이벤트
+@Getter
+@AllArgsConstructor
+public class BookDeletedEvent {
+
+    private Long bookId;
+}
@@ -0,0 +1,19 @@
+package com.codeit.library.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 도서가 등록/수정(할인 포함)되었을 때 발행되는 이벤트. 커밋된 도서의 전체 컬럼을 담음
+@Getter
+@AllArgsConstructor
+public class BookSavedEvent {
+
+    private Long bookId;
+    private String title;
+    private String author;
+    private String isbn;
+    private Integer price;
+    private LocalDate publishedDate;
+}
@@ -0,0 +1,17 @@
+package com.codeit.library.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 대출이 생성되었을 때 발행되는 이벤트
+@Getter
+@AllArgsConstructor
+public class LoanCreatedEvent {
+
+    private Long loanId;
+    private Long memberId;
+    private Long bookId;
+    private LocalDate loanDate;
+}
@@ -0,0 +1,18 @@
+package com.codeit.library.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 대출한 책이 반납되었을 때 발행되는 이벤트
+@Getter
+@AllArgsConstructor
+public class LoanReturnedEvent {
+
+    private Long loanId;
+    private Long memberId;
+    private Long bookId;
+    private LocalDate loanDate;
+    private LocalDate returnDate;
+}
@@ -0,0 +1,14 @@
+package com.codeit.library.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 회원이 가입했을 때 발행되는 이벤트
+@Getter
+@AllArgsConstructor
+public class MemberCreatedEvent {
+
+    private Long memberId;
+    private String name;
+    private String email;
+}
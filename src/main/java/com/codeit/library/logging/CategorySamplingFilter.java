@@ -0,0 +1,129 @@
+package com.codeit.library.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로거 이름 접두사(카테고리)별로 WARN 미만 로그를 비율만큼만 통과시키는 TurboFilter (logback-spring.xml).
+ * TurboFilter는 이벤트 객체를 만들기 전, 메시지 포맷팅 전에 호출되므로 버린 로그는 요청 스레드에서 거의 비용이 없습니다.
+ *
+ * <pre>
+ * &lt;turboFilter class="com.codeit.library.logging.CategorySamplingFilter"&gt;
+ *     &lt;sample&gt;sql:org.hibernate.SQL=0.01&lt;/sample&gt;   &lt;!-- 카테고리:로거 접두사=통과 비율 --&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ * 한 로거에 여러 접두사가 맞으면 가장 긴 접두사를 따르고, 버린 건수는 카테고리별로 셉니다 (LoggingMetrics).
+ *
+ * &lt;follow&gt;sql:org.hibernate.orm.jdbc.bind&lt;/follow&gt; 로 등록한 로거는 따로 뽑지 않고
+ * 같은 스레드에서 그 카테고리가 마지막으로 내린 결정을 따릅니다. Hibernate는 SQL 문장 로그 직후 같은 스레드에서
+ * 바인딩 값을 찍으므로, 문장 하나에 대해 SQL과 바인딩 로그가 함께 남거나 함께 버려집니다.
+ * 스레드에서 아직 결정이 없으면 카테고리 비율로 뽑습니다.
+ */
+public class CategorySamplingFilter extends TurboFilter {
+
+    private static final Category UNSAMPLED = new Category("", 1.0, new LongAdder(), null, false);
+
+    private final List<Category> categories = new ArrayList<>();
+    // 카테고리 이름 -> 버린 건수 (같은 이름의 접두사 여러 개가 하나로 합쳐짐)
+    private final Map<String, LongAdder> sampledOut = new ConcurrentHashMap<>();
+    // 카테고리 이름 -> 처음 등록된 <sample> (follow가 비율, 건수, 스레드별 결정을 공유)
+    private final Map<String, Category> leaders = new ConcurrentHashMap<>();
+    private final Map<String, Category> categoryByLogger = new ConcurrentHashMap<>();
+
+    private record Category(String prefix, double rate, LongAdder sampledOut,
+                            ThreadLocal<Boolean> lastDecision, boolean follower) {
+    }
+
+    // Joran이 <sample> 요소마다 호출
+    public void addSample(String sample) {
+        int colon = sample.indexOf(':');
+        int equals = sample.lastIndexOf('=');
+        if (colon <= 0 || equals < colon) {
+            addError("샘플링 설정 형식이 올바르지 않습니다 (카테고리:로거접두사=비율): " + sample);
+            return;
+        }
+        double rate;
+        try {
+            rate = Double.parseDouble(sample.substring(equals + 1).trim());
+        } catch (NumberFormatException e) {
+            addError("샘플링 비율을 읽을 수 없습니다: " + sample);
+            return;
+        }
+        if (rate < 0 || rate > 1) {
+            addError("샘플링 비율은 0~1 사이여야 합니다: " + sample);
+            return;
+        }
+        String name = sample.substring(0, colon).trim();
+        LongAdder counter = sampledOut.computeIfAbsent(name, key -> new LongAdder());
+        Category category = new Category(sample.substring(colon + 1, equals).trim(), rate, counter,
+            new ThreadLocal<>(), false);
+        leaders.putIfAbsent(name, category);
+        add(category);
+    }
+
+    // Joran이 <follow> 요소마다 호출. 카테고리는 <sample>로 먼저 등록되어 있어야 함
+    public void addFollow(String follow) {
+        int colon = follow.indexOf(':');
+        Category leader = colon > 0 ? leaders.get(follow.substring(0, colon).trim()) : null;
+        if (leader == null) {
+            addError("따를 샘플링 카테고리가 없습니다 (<sample>로 먼저 등록, 형식: 카테고리:로거접두사): " + follow);
+            return;
+        }
+        add(new Category(follow.substring(colon + 1).trim(), leader.rate(), leader.sampledOut(),
+            leader.lastDecision(), true));
+    }
+
+    private void add(Category category) {
+        categories.add(category);
+        categories.sort(Comparator.comparingInt((Category c) -> c.prefix().length()).reversed());
+        categoryByLogger.clear();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format == null 은 isDebugEnabled() 같은 레벨 확인 호출: 여기서 버리면 실제 로그 호출과 이중으로 샘플링됨.
+        // 레벨로 꺼진 로그는 원래대로 버려지게 둠 (logger.isEnabledFor는 TurboFilter를 다시 부르므로 쓸 수 없음)
+        if (format == null || level == null || level.isGreaterOrEqual(Level.WARN)
+            || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Category category = categoryByLogger.computeIfAbsent(logger.getName(), this::categoryOf);
+        if (category.rate() >= 1.0) {
+            return FilterReply.NEUTRAL;
+        }
+        Boolean previous = category.follower() ? category.lastDecision().get() : null;
+        boolean keep = previous != null ? previous : ThreadLocalRandom.current().nextDouble() < category.rate();
+        if (!category.follower()) {
+            category.lastDecision().set(keep);
+        }
+        if (keep) {
+            return FilterReply.NEUTRAL;
+        }
+        category.sampledOut().increment();
+        return FilterReply.DENY;
+    }
+
+    public Map<String, LongAdder> sampledOutCounts() {
+        return sampledOut;
+    }
+
+    private Category categoryOf(String loggerName) {
+        for (Category category : categories) {
+            if (loggerName.startsWith(category.prefix())) {
+                return category;
+            }
+        }
+        return UNSAMPLED;
+    }
+}
@@ -0,0 +1,63 @@
+package com.codeit.library.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그 파이프라인 지표 (logback-spring.xml에 설정된 필터/appender를 찾아서 등록)
+ * - library.logging.dropped{appender, reason}: 비동기 큐에서 버린 이벤트 (discarded | queue_full)
+ * - library.logging.queue.size{appender}: 비동기 큐에 쌓인 이벤트 수
+ * - library.logging.sampled_out{category}: 카테고리 샘플링으로 버린 로그
+ * Spring Boot는 컨텍스트를 만들기 전에 로깅을 다시 초기화하므로 이 시점의 인스턴스가 최종입니다.
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+        for (TurboFilter filter : context.getTurboFilterList()) {
+            if (filter instanceof CategorySamplingFilter sampling) {
+                sampling.sampledOutCounts().forEach((category, count) ->
+                    FunctionCounter.builder("library.logging.sampled_out", count, LongAdder::sum)
+                        .tag("category", category)
+                        .register(registry));
+            }
+        }
+        for (Logger logger : context.getLoggerList()) {
+            for (Iterator<Appender<ILoggingEvent>> it = logger.iteratorForAppenders(); it.hasNext(); ) {
+                if (it.next() instanceof MeteredAsyncAppender appender) {
+                    bind(registry, appender);
+                }
+            }
+        }
+    }
+
+    private static void bind(MeterRegistry registry, MeteredAsyncAppender appender) {
+        FunctionCounter.builder("library.logging.dropped", appender, MeteredAsyncAppender::discardedCount)
+            .tag("appender", appender.getName())
+            .tag("reason", "discarded")
+            .register(registry);
+        FunctionCounter.builder("library.logging.dropped", appender, MeteredAsyncAppender::queueFullCount)
+            .tag("appender", appender.getName())
+            .tag("reason", "queue_full")
+            .register(registry);
+        Gauge.builder("library.logging.queue.size", appender, MeteredAsyncAppender::getNumberOfElementsInQueue)
+            .tag("appender", appender.getName())
+            .register(registry);
+    }
+}
@@ -0,0 +1,41 @@
+package com.codeit.library.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 버린 이벤트 수를 세는 AsyncAppender (logback-spring.xml).
+ * 요청 스레드는 크기가 정해진 큐에 넣기만 하고 인코딩/출력은 전용 스레드가 합니다.
+ * - discarded: 큐 여유가 discardingThreshold 아래일 때 버린 INFO 이하 이벤트
+ * - queue_full: neverBlock=true 라서 큐가 가득 찼을 때 기다리지 않고 버린 이벤트 (WARN/ERROR 포함)
+ * 여유 용량 확인과 넣기 사이에 다른 스레드가 끼어들 수 있어 queue_full 은 근사값입니다.
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder queueFull = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        int remaining = getRemainingCapacity();
+        if (remaining < getDiscardingThreshold() && isDiscardable(event)) {
+            discarded.increment();
+            return;
+        }
+        if (remaining == 0 && isNeverBlock()) {
+            queueFull.increment();
+            return;
+        }
+        super.append(event);
+    }
+
+    public long discardedCount() {
+        return discarded.sum();
+    }
+
+    public long queueFullCount() {
+        return queueFull.sum();
+    }
+}
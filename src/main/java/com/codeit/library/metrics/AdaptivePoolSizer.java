@@ -0,0 +1,94 @@
+package com.codeit.library.metrics;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관측된 커넥션 대기 시간과 풀 사용률을 보고 Hikari 최대 풀 크기를 [minSize, maxSize] 안에서 조정합니다.
+ *
+ * - 대기가 길고(또는 대기 스레드가 있고) 풀이 거의 다 사용 중이면 step 만큼 늘림
+ * - 대기가 거의 없고 사용률이 낮으면 step 만큼 줄임
+ * PostgreSQL max_connections(50)를 여러 인스턴스가 나눠 쓰므로 maxSize는 그보다 충분히 작게 잡아야 합니다.
+ */
+@Slf4j
+public class AdaptivePoolSizer {
+
+    private static final int STEP = 2;
+    private static final double HIGH_UTILIZATION = 0.9;
+    private static final double LOW_UTILIZATION = 0.5;
+
+    private final HikariDataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final int minSize;
+    private final int maxSize;
+    private final long highWaitMillis;
+    private final long lowWaitMillis;
+
+    private long lastCount;
+    private double lastTotalMillis;
+
+    public AdaptivePoolSizer(HikariDataSource dataSource, MeterRegistry meterRegistry,
+                             int minSize, int maxSize, long highWaitMillis, long lowWaitMillis) {
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.highWaitMillis = highWaitMillis;
+        this.lowWaitMillis = lowWaitMillis;
+
+        Gauge.builder("db.pool.size.target", dataSource, HikariDataSource::getMaximumPoolSize)
+            .description("Maximum pool size chosen by the adaptive controller")
+            .tag("pool", String.valueOf(dataSource.getPoolName()))
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.pool.adaptive.interval-ms:5000}")
+    public void adjust() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return; // 아직 풀이 시작되지 않음
+        }
+        HikariConfigMXBean config = dataSource.getHikariConfigMXBean();
+        int current = config.getMaximumPoolSize();
+        double utilization = (double) pool.getActiveConnections() / current;
+        double averageWaitMillis = averageWaitSinceLastTick();
+        int waiting = pool.getThreadsAwaitingConnection();
+
+        int target = current;
+        if ((averageWaitMillis > highWaitMillis || waiting > 0) && utilization >= HIGH_UTILIZATION) {
+            target = Math.min(maxSize, current + STEP);
+        } else if (averageWaitMillis < lowWaitMillis && waiting == 0 && utilization < LOW_UTILIZATION) {
+            target = Math.max(minSize, current - STEP);
+        }
+
+        if (target != current) {
+            config.setMaximumPoolSize(target);
+            log.info("커넥션 풀 크기 조정 {} -> {} (평균 대기 {}ms, 대기 스레드 {}, 사용률 {})",
+                current, target, String.format("%.1f", averageWaitMillis), waiting, String.format("%.2f", utilization));
+        }
+    }
+
+    // 지난 tick 이후 획득 대기 시간 평균 (엔드포인트 태그를 모두 합산)
+    private double averageWaitSinceLastTick() {
+        long count = 0;
+        double totalMillis = 0;
+        for (Timer timer : meterRegistry.find(InstrumentedDataSource.ACQUIRE_METRIC)
+            .tag("pool", String.valueOf(dataSource.getPoolName())).timers()) {
+            count += timer.count();
+            totalMillis += timer.totalTime(TimeUnit.MILLISECONDS);
+        }
+        long deltaCount = count - lastCount;
+        double deltaMillis = totalMillis - lastTotalMillis;
+        lastCount = count;
+        lastTotalMillis = totalMillis;
+        return deltaCount > 0 ? deltaMillis / deltaCount : 0;
+    }
+}
@@ -0,0 +1,22 @@
+package com.codeit.library.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+// URI 템플릿 기준으로 엔드포인트를 기록 (/api/books/1, /api/books/2 를 하나로 묶기 위해)
+public class EndpointTagInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        RequestEndpointHolder.set(request.getMethod() + " " + (pattern != null ? pattern : "unmapped"));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestEndpointHolder.clear();
+    }
+}
@@ -0,0 +1,105 @@
+package com.codeit.library.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커넥션 풀을 감싸서 엔드포인트별로
+ * - db.connection.acquire: 풀에서 커넥션을 얻기까지 기다린 시간
+ * - db.connection.hold: 커넥션을 얻은 뒤 반납(close)할 때까지 점유한 시간
+ * 을 히스토그램으로 기록합니다.
+ * 커넥션에서 만든 Statement도 감싸서 요청별 SQL 통계(RequestSqlStats)를 수집하고 느린 쿼리를 로그로 남깁니다.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    public static final String ACQUIRE_METRIC = "db.connection.acquire";
+    public static final String HOLD_METRIC = "db.connection.hold";
+
+    private final MeterRegistry meterRegistry;
+    private final String poolName;
+    private final SlowQueryLog slowQueryLog;
+
+    public InstrumentedDataSource(DataSource target, MeterRegistry meterRegistry, String poolName,
+                                  long slowQueryMillis) {
+        super(target);
+        this.meterRegistry = meterRegistry;
+        this.poolName = poolName;
+        this.slowQueryLog = new SlowQueryLog(slowQueryMillis, meterRegistry, poolName);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = super.getConnection();
+        return instrument(connection, start);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = super.getConnection(username, password);
+        return instrument(connection, start);
+    }
+
+    private Connection instrument(Connection connection, long start) {
+        long acquired = System.nanoTime();
+        // OSIV 등으로 요청이 끝난 뒤 반납될 수 있으므로 엔드포인트는 획득 시점에 고정
+        String endpoint = RequestEndpointHolder.get();
+        timer(ACQUIRE_METRIC, endpoint).record(acquired - start, TimeUnit.NANOSECONDS);
+        return wrap(connection, endpoint, acquired);
+    }
+
+    protected Connection wrap(Connection connection, String endpoint, long acquiredNanos) {
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[]{Connection.class},
+            new HoldTimeHandler(connection, endpoint, acquiredNanos));
+    }
+
+    protected Timer timer(String name, String endpoint) {
+        return Timer.builder(name)
+            .tag("pool", poolName)
+            .tag("endpoint", endpoint)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    private class HoldTimeHandler implements java.lang.reflect.InvocationHandler {
+
+        private final Connection target;
+        private final String endpoint;
+        private final long acquiredNanos;
+        private boolean closed;
+
+        HoldTimeHandler(Connection target, String endpoint, long acquiredNanos) {
+            this.target = target;
+            this.endpoint = endpoint;
+            this.acquiredNanos = acquiredNanos;
+        }
+
+        @Override
+        public Object invoke(Object proxy, java.lang.reflect.Method method, Object[] args) throws Throwable {
+            if ("close".equals(method.getName()) && !closed) {
+                closed = true;
+                timer(HOLD_METRIC, endpoint).record(System.nanoTime() - acquiredNanos, TimeUnit.NANOSECONDS);
+            }
+            try {
+                Object result = method.invoke(target, args);
+                if (StatementInstrumentation.isStatementFactory(method)) {
+                    return StatementInstrumentation.wrapStatement(result, args, slowQueryLog);
+                }
+                return result;
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.codeit.library.metrics;
+
+import com.codeit.library.event.LoanCreatedEvent;
+import com.codeit.library.event.LoanReturnedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 비즈니스 지표
+ * - library.loans.created / library.loans.returned: 커밋된 대출/반납 수
+ * - library.loans.rejected{reason}: 대출 거절 사유별 건수
+ * - library.uploads{size}: 크기 구간별 업로드 수, library.upload.size: 업로드 크기 분포
+ */
+@Component
+@RequiredArgsConstructor
+public class LibraryMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    @TransactionalEventListener
+    public void onLoanCreated(LoanCreatedEvent event) {
+        meterRegistry.counter("library.loans.created").increment();
+    }
+
+    @TransactionalEventListener
+    public void onLoanReturned(LoanReturnedEvent event) {
+        meterRegistry.counter("library.loans.returned").increment();
+    }
+
+    public void loanRejected(String reason) {
+        Counter.builder("library.loans.rejected")
+            .tag("reason", reason)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    public void fileUploaded(long sizeBytes) {
+        meterRegistry.counter("library.uploads", "size", sizeBucket(sizeBytes)).increment();
+        DistributionSummary.builder("library.upload.size")
+            .baseUnit("bytes")
+            .register(meterRegistry)
+            .record(sizeBytes);
+    }
+
+    static String sizeBucket(long sizeBytes) {
+        if (sizeBytes < 100 * 1024) {
+            return "lt_100kb";
+        }
+        if (sizeBytes < 1024 * 1024) {
+            return "lt_1mb";
+        }
+        if (sizeBytes < 10 * 1024 * 1024) {
+            return "lt_10mb";
+        }
+        return "gte_10mb";
+    }
+}
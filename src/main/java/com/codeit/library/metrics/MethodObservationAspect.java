@@ -0,0 +1,80 @@
+package com.codeit.library.metrics;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서비스의 public 메서드와 Spring Data Repository 메서드마다 Observation을 만듭니다.
+ * 하나의 Observation에서
+ * - 타이머(library.service.method / library.repository.method, percentile 히스토그램은 application.yml에서 설정)
+ * - 트레이싱 span("BookService.findById" 등, HTTP 요청 span의 자식)
+ * 이 함께 만들어집니다.
+ * 태그: class, method, outcome(SUCCESS/ERROR), exception(예외 클래스 이름, 없으면 none)
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MethodObservationAspect {
+
+    public static final String SERVICE_METRIC = "library.service.method";
+    public static final String REPOSITORY_METRIC = "library.repository.method";
+
+    private final ObservationRegistry observationRegistry;
+    // Repository 프록시 클래스 -> 우리가 선언한 Repository 인터페이스 이름
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Around("within(com.codeit.library.service..*) && @within(org.springframework.stereotype.Service) " +
+            "&& execution(public * *(..))")
+    public Object observeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        return observe(SERVICE_METRIC, className, joinPoint);
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object observeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        String className = repositoryNames.computeIfAbsent(joinPoint.getThis().getClass(),
+            type -> repositoryName(joinPoint.getThis(), joinPoint.getSignature().getDeclaringType()));
+        return observe(REPOSITORY_METRIC, className, joinPoint);
+    }
+
+    private Object observe(String metric, String className, ProceedingJoinPoint joinPoint) throws Throwable {
+        String methodName = joinPoint.getSignature().getName();
+        Observation observation = Observation.createNotStarted(metric, observationRegistry)
+            .contextualName(className + "." + methodName)
+            .lowCardinalityKeyValue("class", className)
+            .lowCardinalityKeyValue("method", methodName)
+            .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            Object result = joinPoint.proceed();
+            observation.lowCardinalityKeyValue("outcome", "SUCCESS")
+                .lowCardinalityKeyValue("exception", "none");
+            return result;
+        } catch (Throwable e) {
+            observation.lowCardinalityKeyValue("outcome", "ERROR")
+                .lowCardinalityKeyValue("exception", e.getClass().getSimpleName())
+                .error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    // findById 처럼 상속받은 메서드도 CrudRepository가 아닌 BookRepository 등으로 묶이도록 인터페이스 이름을 찾음
+    private static String repositoryName(Object proxy, Class<?> declaringType) {
+        for (Class<?> type : AopProxyUtils.proxiedUserInterfaces(proxy)) {
+            if (type.getPackageName().startsWith("com.codeit.library")) {
+                return type.getSimpleName();
+            }
+        }
+        return declaringType.getSimpleName();
+    }
+}
@@ -0,0 +1,28 @@
+package com.codeit.library.metrics;
+
+/**
+ * 현재 스레드가 처리 중인 엔드포인트("GET /api/books/{id}")를 보관합니다.
+ * 커넥션 풀/SQL 지표를 엔드포인트별로 나누는 태그로 사용합니다.
+ */
+public final class RequestEndpointHolder {
+
+    public static final String NONE = "none";
+
+    private static final ThreadLocal<String> ENDPOINT = new ThreadLocal<>();
+
+    private RequestEndpointHolder() {
+    }
+
+    public static void set(String endpoint) {
+        ENDPOINT.set(endpoint);
+    }
+
+    public static String get() {
+        String endpoint = ENDPOINT.get();
+        return endpoint != null ? endpoint : NONE;
+    }
+
+    public static void clear() {
+        ENDPOINT.remove();
+    }
+}
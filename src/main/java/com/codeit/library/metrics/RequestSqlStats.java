@@ -0,0 +1,72 @@
+package com.codeit.library.metrics;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * HTTP 요청 하나 동안 실행된 SQL 통계 (문장 수, 행 수, DB 시간, SQL별 실행 횟수).
+ * 요청 스레드에서만 접근하므로 동기화하지 않습니다.
+ */
+public class RequestSqlStats {
+
+    // 같은 SQL이 한 요청에서 이 횟수 이상 실행되면 N+1로 의심
+    public static final int N_PLUS_ONE_THRESHOLD = 5;
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private int statementCount;
+    private long rowCount;
+    private long dbNanos;
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+
+    public static RequestSqlStats start() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    // 요청 밖(스케줄러 등)에서는 null
+    public static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public void recordExecution(String sql, long nanos, long rows) {
+        statementCount++;
+        dbNanos += nanos;
+        rowCount += rows;
+        if (sql != null) {
+            executionsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    public void recordRows(long rows) {
+        rowCount += rows;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public long getDbNanos() {
+        return dbNanos;
+    }
+
+    public Map<String, Integer> suspectedNPlusOne() {
+        Map<String, Integer> suspects = new LinkedHashMap<>();
+        executionsBySql.forEach((sql, count) -> {
+            if (count >= N_PLUS_ONE_THRESHOLD) {
+                suspects.put(sql, count);
+            }
+        });
+        return suspects;
+    }
+}
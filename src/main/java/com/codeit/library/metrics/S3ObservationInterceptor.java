@@ -0,0 +1,54 @@
+package com.codeit.library.metrics;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+/**
+ * S3Client 호출(PutObject, DeleteObject ...)마다 Observation(span + 타이머 library.s3.operation)을 만듭니다.
+ * 호출한 스레드의 현재 Observation(서비스 메서드 span)이 부모가 됩니다.
+ */
+@RequiredArgsConstructor
+public class S3ObservationInterceptor implements ExecutionInterceptor {
+
+    public static final String METRIC = "library.s3.operation";
+
+    private static final ExecutionAttribute<Observation> OBSERVATION = new ExecutionAttribute<>("library.observation");
+
+    private final ObservationRegistry observationRegistry;
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        String operation = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        Observation observation = Observation.createNotStarted(METRIC, observationRegistry)
+            .contextualName("S3." + operation)
+            .lowCardinalityKeyValue("operation", String.valueOf(operation))
+            .start();
+        executionAttributes.putAttribute(OBSERVATION, observation);
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        Observation observation = executionAttributes.getAttribute(OBSERVATION);
+        if (observation != null) {
+            observation.lowCardinalityKeyValue("outcome", "SUCCESS")
+                .highCardinalityKeyValue("http.status_code", String.valueOf(context.httpResponse().statusCode()))
+                .stop();
+        }
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+        Observation observation = executionAttributes.getAttribute(OBSERVATION);
+        if (observation != null) {
+            observation.lowCardinalityKeyValue("outcome", "ERROR")
+                .error(context.exception())
+                .stop();
+        }
+    }
+}
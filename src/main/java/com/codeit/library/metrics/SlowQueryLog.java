@@ -0,0 +1,43 @@
+package com.codeit.library.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 임계값 이상 걸린 SQL만 WARN으로 남깁니다 (show-sql 대신 사용).
+ * SQL은 바인딩 값이 없는 준비 문장 그대로라 개인정보가 남지 않고, WARN이라 카테고리 샘플링 대상이 아닙니다.
+ * 건수는 db.statement.slow 로 셉니다.
+ */
+@Slf4j
+public final class SlowQueryLog {
+
+    public static final String METRIC = "db.statement.slow";
+
+    private static final int MAX_SQL_LENGTH = 2000;
+
+    private final long thresholdNanos;
+    private final Counter counter;
+
+    // thresholdMillis가 0 이하면 기록하지 않음
+    public SlowQueryLog(long thresholdMillis, MeterRegistry meterRegistry, String poolName) {
+        this.thresholdNanos = thresholdMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(thresholdMillis) : Long.MAX_VALUE;
+        this.counter = Counter.builder(METRIC)
+            .tag("pool", poolName)
+            .register(meterRegistry);
+    }
+
+    void record(String sql, long nanos) {
+        if (nanos < thresholdNanos) {
+            return;
+        }
+        counter.increment();
+        log.atWarn()
+            .addKeyValue("elapsedMs", TimeUnit.NANOSECONDS.toMillis(nanos))
+            .addKeyValue("endpoint", RequestEndpointHolder.get())
+            .addKeyValue("sql", sql == null || sql.length() <= MAX_SQL_LENGTH ? sql : sql.substring(0, MAX_SQL_LENGTH) + "...")
+            .log("느린 쿼리");
+    }
+}
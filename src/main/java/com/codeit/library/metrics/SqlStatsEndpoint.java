@@ -0,0 +1,24 @@
+package com.codeit.library.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// GET /actuator/sqlstats : 요청당 SQL 문장 수가 많은 엔드포인트와 N+1 의심 SQL
+@Component
+@Endpoint(id = "sqlstats")
+@RequiredArgsConstructor
+public class SqlStatsEndpoint {
+
+    private static final int LIMIT = 20;
+
+    private final SqlStatsRegistry sqlStatsRegistry;
+
+    @ReadOperation
+    public List<SqlStatsRegistry.EndpointSummary> worstEndpoints() {
+        return sqlStatsRegistry.worstEndpoints(LIMIT);
+    }
+}
@@ -0,0 +1,86 @@
+package com.codeit.library.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+
+/**
+ * 요청마다 SQL 통계를 모아 Server-Timing 헤더로 내려주고 엔드포인트별로 누적합니다.
+ * 예: Server-Timing: db;dur=12.3;desc="5 statements, 42 rows"
+ */
+@RequiredArgsConstructor
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    private final SqlStatsRegistry sqlStatsRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        RequestSqlStats stats = RequestSqlStats.start();
+        ServerTimingResponse wrapped = new ServerTimingResponse(response, stats);
+        try {
+            filterChain.doFilter(request, wrapped);
+        } finally {
+            // 본문 없는 응답(204 등)은 여기서 헤더를 붙임
+            wrapped.writeServerTiming();
+            RequestSqlStats.end();
+
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                sqlStatsRegistry.record(request.getMethod() + " " + pattern, stats);
+            }
+        }
+    }
+
+    /**
+     * 본문을 쓰기 시작하면 헤더를 더 붙일 수 없으므로,
+     * 출력 스트림을 처음 꺼내는 시점(서비스 로직이 끝난 뒤)에 Server-Timing을 붙입니다.
+     */
+    private static class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestSqlStats stats;
+        private boolean written;
+
+        ServerTimingResponse(HttpServletResponse response, RequestSqlStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        void writeServerTiming() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            addHeader("Server-Timing", String.format(Locale.ROOT, "db;dur=%.1f;desc=\"%d statements, %d rows\"",
+                stats.getDbNanos() / 1_000_000.0, stats.getStatementCount(), stats.getRowCount()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeServerTiming();
+            super.flushBuffer();
+        }
+    }
+}
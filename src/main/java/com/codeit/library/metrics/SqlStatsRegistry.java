@@ -0,0 +1,80 @@
+package com.codeit.library.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 SQL 통계를 누적합니다. (actuator sqlstats 엔드포인트에서 조회)
+ */
+@Slf4j
+@Component
+public class SqlStatsRegistry {
+
+    private final Map<String, EndpointSqlStats> statsByEndpoint = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, RequestSqlStats stats) {
+        EndpointSqlStats endpointStats = statsByEndpoint.computeIfAbsent(endpoint, key -> new EndpointSqlStats());
+        endpointStats.requests.increment();
+        endpointStats.statements.add(stats.getStatementCount());
+        endpointStats.rows.add(stats.getRowCount());
+        endpointStats.dbNanos.add(stats.getDbNanos());
+        endpointStats.maxStatements.accumulate(stats.getStatementCount());
+
+        stats.suspectedNPlusOne().forEach((sql, count) -> {
+            if (endpointStats.suspectedNPlusOne.add(sql)) {
+                log.warn("N+1 의심: {} 요청에서 같은 SQL이 {}회 실행되었습니다: {}", endpoint, count, sql);
+            }
+        });
+    }
+
+    // 요청당 평균 SQL 문장 수가 많은 순서
+    public List<EndpointSummary> worstEndpoints(int limit) {
+        return statsByEndpoint.entrySet().stream()
+            .map(entry -> entry.getValue().summarize(entry.getKey()))
+            .sorted(Comparator.comparingDouble(EndpointSummary::avgStatements).reversed())
+            .limit(limit)
+            .toList();
+    }
+
+    public record EndpointSummary(
+        String endpoint,
+        long requests,
+        double avgStatements,
+        long maxStatements,
+        double avgRows,
+        double avgDbMillis,
+        Set<String> suspectedNPlusOne
+    ) {
+    }
+
+    private static class EndpointSqlStats {
+
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder dbNanos = new LongAdder();
+        private final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0);
+        private final Set<String> suspectedNPlusOne = ConcurrentHashMap.newKeySet();
+
+        EndpointSummary summarize(String endpoint) {
+            long count = Math.max(1, requests.sum());
+            return new EndpointSummary(
+                endpoint,
+                requests.sum(),
+                (double) statements.sum() / count,
+                maxStatements.get(),
+                (double) rows.sum() / count,
+                dbNanos.sum() / 1_000_000.0 / count,
+                Set.copyOf(suspectedNPlusOne)
+            );
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.codeit.library.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * JDBC Statement/ResultSet을 감싸서 실행 시간과 처리 행 수를 현재 요청의 RequestSqlStats에 기록합니다.
+ * 요청 밖에서 실행되는 SQL은 통계에 넣지 않고, 느린 쿼리 로그(SlowQueryLog)만 요청 여부와 관계없이 남깁니다.
+ */
+final class StatementInstrumentation {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+        "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+    // execute() 뒤에 결과를 따로 꺼내는 메서드 (Hibernate의 execute() + getResultSet(), INSERT ... RETURNING 키 조회)
+    private static final Set<String> RESULT_SET_GETTERS = Set.of("getResultSet", "getGeneratedKeys");
+
+    private StatementInstrumentation() {
+    }
+
+    static boolean isStatementFactory(Method method) {
+        return STATEMENT_FACTORIES.contains(method.getName());
+    }
+
+    // Connection.prepareStatement(sql, ...) 등의 반환값을 감쌈
+    static Object wrapStatement(Object statement, Object[] args, SlowQueryLog slowQueryLog) {
+        if (!(statement instanceof Statement)) {
+            return statement;
+        }
+        String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+        Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+            : statement instanceof PreparedStatement ? PreparedStatement.class
+            : Statement.class;
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+            new StatementHandler(statement, sql, slowQueryLog));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static class StatementHandler implements InvocationHandler {
+
+        private final Object target;
+        private final String preparedSql;
+        private final SlowQueryLog slowQueryLog;
+
+        StatementHandler(Object target, String preparedSql, SlowQueryLog slowQueryLog) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+            this.slowQueryLog = slowQueryLog;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (RESULT_SET_GETTERS.contains(method.getName())) {
+                return countRows(StatementInstrumentation.invoke(target, method, args), RequestSqlStats.current());
+            }
+            if (!EXECUTE_METHODS.contains(method.getName())) {
+                return StatementInstrumentation.invoke(target, method, args);
+            }
+
+            // Statement.execute(sql) 처럼 실행 시 SQL을 넘기는 경우
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+            long start = System.nanoTime();
+            Object result = StatementInstrumentation.invoke(target, method, args);
+            long elapsed = System.nanoTime() - start;
+
+            slowQueryLog.record(sql, elapsed);
+            RequestSqlStats stats = RequestSqlStats.current();
+            if (stats == null) {
+                return result;
+            }
+            stats.recordExecution(sql, elapsed, affectedRows(result));
+            return countRows(result, stats);
+        }
+
+        private static Object countRows(Object result, RequestSqlStats stats) {
+            if (stats == null || !(result instanceof ResultSet resultSet)) {
+                return result;
+            }
+            return Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                new ResultSetHandler(resultSet, stats));
+        }
+
+        private static long affectedRows(Object result) {
+            if (result instanceof Integer count) {
+                return Math.max(count, 0);
+            }
+            if (result instanceof Long count) {
+                return Math.max(count, 0);
+            }
+            if (result instanceof int[] counts) {
+                long sum = 0;
+                for (int count : counts) {
+                    sum += Math.max(count, 0);
+                }
+                return sum;
+            }
+            return 0;
+        }
+    }
+
+    // 조회 결과는 next()가 true를 반환한 횟수로 행 수를 셉니다.
+    private static class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final RequestSqlStats stats;
+
+        ResultSetHandler(ResultSet target, RequestSqlStats stats) {
+            this.target = target;
+            this.stats = stats;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = StatementInstrumentation.invoke(target, method, args);
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                stats.recordRows(1);
+            }
+            return result;
+        }
+    }
+}
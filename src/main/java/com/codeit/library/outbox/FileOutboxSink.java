@@ -0,0 +1,79 @@
+package com.codeit.library.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * 이벤트를 한 줄에 하나씩 JSON(JSON Lines)으로 파일 끝에 덧붙이는 싱크.
+ * 배치마다 fsync 하므로 반환된 뒤에는 디스크에 남아 있습니다.
+ *
+ * 파일이 maxFileBytes를 넘으면 events.jsonl -> events.jsonl.1 -> ... 로 밀어내고 maxHistory 개까지만 남깁니다.
+ * 회전은 배치 사이에서만 일어나므로 한 배치가 두 파일로 나뉘지 않습니다.
+ */
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final long maxFileBytes;
+    private final int maxHistory;
+
+    public FileOutboxSink(Path path, ObjectMapper objectMapper, long maxFileBytes, int maxHistory) throws IOException {
+        if (maxFileBytes < 1 || maxHistory < 0) {
+            throw new IllegalArgumentException("maxFileBytes는 1 이상, maxHistory는 0 이상이어야 합니다");
+        }
+        this.path = path;
+        this.objectMapper = objectMapper;
+        this.maxFileBytes = maxFileBytes;
+        this.maxHistory = maxHistory;
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> messages) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (OutboxMessage message : messages) {
+            lines.append(objectMapper.writeValueAsString(message)).append('\n');
+        }
+        rotateIfFull();
+        try (FileChannel channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    private void rotateIfFull() throws IOException {
+        if (!Files.exists(path) || Files.size(path) < maxFileBytes) {
+            return;
+        }
+        if (maxHistory == 0) {
+            Files.delete(path);
+            return;
+        }
+        Files.deleteIfExists(rotated(maxHistory));
+        for (int i = maxHistory - 1; i >= 1; i--) {
+            if (Files.exists(rotated(i))) {
+                Files.move(rotated(i), rotated(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(path, rotated(1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Path rotated(int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+}
@@ -0,0 +1,25 @@
+package com.codeit.library.outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 프로세스 안의 큐에 이벤트를 쌓는 브로커 대용 싱크 (로컬 개발/테스트용).
+ */
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final BlockingQueue<OutboxMessage> queue = new LinkedBlockingQueue<>();
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        queue.addAll(messages);
+    }
+
+    public List<OutboxMessage> drain() {
+        List<OutboxMessage> messages = new ArrayList<>();
+        queue.drainTo(messages);
+        return messages;
+    }
+}
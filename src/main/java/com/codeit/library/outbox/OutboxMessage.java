@@ -0,0 +1,24 @@
+package com.codeit.library.outbox;
+
+import com.codeit.library.domain.OutboxEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 싱크로 전달되는 이벤트 (엔티티와 분리해 영속성 컨텍스트 밖에서도 안전하게 사용).
+ * id는 전달 순서이자 수신 측 중복 제거 키로 쓸 수 있습니다 (최소 한 번 전달).
+ */
+public record OutboxMessage(
+    Long id,
+    String aggregateType,
+    Long aggregateId,
+    String eventType,
+    String payload,
+    LocalDateTime createdAt
+) {
+
+    public static OutboxMessage from(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getAggregateType(), event.getAggregateId(),
+            event.getEventType(), event.getPayload(), event.getCreatedAt());
+    }
+}
@@ -0,0 +1,112 @@
+package com.codeit.library.outbox;
+
+import com.codeit.library.domain.OutboxEvent;
+import com.codeit.library.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox 테이블을 배치 단위로 비워 {@link OutboxSink}로 전달합니다.
+ *
+ * 한 배치는 하나의 트랜잭션에서 "SKIP LOCKED로 잠그며 조회 -> 싱크 전달 -> 삭제" 순서로 처리합니다.
+ * - 여러 노드가 동시에 돌아도 같은 행을 두 번 가져가지 않음
+ * - 싱크 전달이 실패하면 롤백되어 다음 주기에 다시 시도 (최소 한 번 전달, 순서는 id 순)
+ * 지표: outbox.relay.batch.size, outbox.relay.lag(생성~전달), outbox.relay.failures, outbox.oldest.age
+ */
+@Slf4j
+public class OutboxRelay {
+
+    // 한 주기에 너무 오래 붙잡고 있지 않도록 최대 배치 수 제한
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer lagTimer;
+    private final Counter failureCounter;
+    private final AtomicLong oldestAgeMillis = new AtomicLong();
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, OutboxSink sink,
+                       TransactionTemplate transactionTemplate, MeterRegistry meterRegistry, int batchSize) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sink = sink;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+
+        this.batchSizeSummary = DistributionSummary.builder("outbox.relay.batch.size")
+            .description("Events delivered per relay batch")
+            .register(meterRegistry);
+        this.lagTimer = Timer.builder("outbox.relay.lag")
+            .description("Time from outbox insert to delivery")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder("outbox.relay.failures")
+            .register(meterRegistry);
+        Gauge.builder("outbox.oldest.age", oldestAgeMillis, AtomicLong::get)
+            .description("Age of the oldest undelivered outbox event after the last relay run")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay-interval-ms:500}")
+    public void relay() {
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                int delivered = relayBatch();
+                if (delivered < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            log.warn("outbox 전달 실패, 다음 주기에 재시도합니다", e);
+        }
+        updateOldestAge();
+    }
+
+    /**
+     * @return 이번 배치에서 전달한 이벤트 수
+     */
+    int relayBatch() {
+        Integer delivered = transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = outboxEventRepository.lockNextBatch(batchSize);
+            if (events.isEmpty()) {
+                return 0;
+            }
+            List<OutboxMessage> messages = events.stream().map(OutboxMessage::from).toList();
+            try {
+                sink.publish(messages);
+            } catch (Exception e) {
+                throw new IllegalStateException("outbox 싱크 전달 실패", e);
+            }
+            outboxEventRepository.deleteByIdIn(messages.stream().map(OutboxMessage::id).toList());
+
+            LocalDateTime now = LocalDateTime.now();
+            for (OutboxMessage message : messages) {
+                lagTimer.record(Duration.between(message.createdAt(), now));
+            }
+            batchSizeSummary.record(messages.size());
+            return messages.size();
+        });
+        return delivered == null ? 0 : delivered;
+    }
+
+    private void updateOldestAge() {
+        LocalDateTime oldest = outboxEventRepository.findOldestCreatedAt();
+        oldestAgeMillis.set(oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toMillis());
+    }
+}
@@ -0,0 +1,12 @@
+package com.codeit.library.outbox;
+
+import java.util.List;
+
+/**
+ * outbox 이벤트를 실제로 내보내는 곳 (메시지 브로커, 파일 등).
+ * 예외 없이 반환되면 전달 완료로 보고 outbox에서 삭제합니다.
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxMessage> messages) throws Exception;
+}
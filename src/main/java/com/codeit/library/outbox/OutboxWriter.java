@@ -0,0 +1,53 @@
+package com.codeit.library.outbox;
+
+import com.codeit.library.domain.OutboxEvent;
+import com.codeit.library.event.LoanCreatedEvent;
+import com.codeit.library.event.LoanReturnedEvent;
+import com.codeit.library.event.MemberCreatedEvent;
+import com.codeit.library.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 도메인 이벤트를 outbox 테이블에 기록합니다.
+ * @EventListener는 발행한 스레드에서 바로 실행되므로, 서비스의 트랜잭션 안에서 엔티티 변경과 함께 커밋/롤백됩니다.
+ * 서비스 트랜잭션 안에서는 외부 호출을 하지 않고, 실제 전달은 {@link OutboxRelay}가 커밋 이후에 합니다.
+ */
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onLoanCreated(LoanCreatedEvent event) {
+        write("LOAN", event.getLoanId(), "LoanCreated", event);
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onLoanReturned(LoanReturnedEvent event) {
+        write("LOAN", event.getLoanId(), "LoanReturned", event);
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onMemberCreated(MemberCreatedEvent event) {
+        write("MEMBER", event.getMemberId(), "MemberCreated", event);
+    }
+
+    private void write(String aggregateType, Long aggregateId, String eventType, Object event) {
+        try {
+            String payload = objectMapper.writeValueAsString(event);
+            outboxEventRepository.save(new OutboxEvent(aggregateType, aggregateId, eventType, payload));
+        } catch (JsonProcessingException e) {
+            // 변경과 이벤트가 어긋나지 않도록 트랜잭션 전체를 롤백
+            throw new IllegalStateException("outbox 이벤트를 직렬화할 수 없습니다: " + eventType, e);
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.codeit.library.recommend;
+
+import com.codeit.library.util.LongIntHashMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * "이 책을 빌린 회원이 함께 빌린 책" 동시 대출 색인.
+ *
+ * - 회원별 최근 대출 도서(memberHistory권, 중복 제외)를 보관하고, 새 대출이 들어오면
+ *   그 회원의 기존 도서들과 양방향으로 동시 대출 횟수를 1씩 올림
+ * - 도서별 이웃 횟수는 LongIntHashMap에, 상위 topK는 별도 배열에 유지해 조회 시 정렬하지 않음
+ * - 도서별 이웃이 maxNeighbors를 넘으면 횟수 하위 절반(상위 topK 제외)을 버려 메모리 상한을 지킴
+ * - 도서 id 해시로 나눈 shard마다 잠금을 따로 잡아 서로 다른 책의 갱신이 경합하지 않음
+ */
+public class CoBorrowIndex {
+
+    public record Related(long bookId, int count) {
+    }
+
+    private static final int INITIAL_HISTORY_LENGTH = 5;
+
+    private final int memberHistory;
+    private final int maxNeighbors;
+    private final int topK;
+    private final Shard[] shards;
+
+    private final LongIntHashMap memberSlots = new LongIntHashMap(); // 회원 id -> histories 인덱스
+    private final List<long[]> histories = new ArrayList<>(); // [0]=채워진 수, [1..]=도서 id (오래된 순)
+
+    public CoBorrowIndex(int shardCount, int memberHistory, int maxNeighbors, int topK) {
+        if (maxNeighbors < topK * 2) {
+            throw new IllegalArgumentException("maxNeighbors는 topK의 2배 이상이어야 합니다");
+        }
+        this.memberHistory = memberHistory;
+        this.maxNeighbors = maxNeighbors;
+        this.topK = topK;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard();
+        }
+    }
+
+    /**
+     * 대출 한 건을 반영합니다. 같은 회원이 이미 빌린 적 있는 책이면(최근 memberHistory권 안) 아무것도 하지 않습니다.
+     */
+    public void add(long memberId, long bookId) {
+        long[] others;
+        synchronized (memberSlots) {
+            int slot = memberSlot(memberId);
+            long[] history = histories.get(slot);
+            if (contains(history, bookId)) {
+                return;
+            }
+            others = Arrays.copyOfRange(history, 1, (int) history[0] + 1);
+            append(slot, bookId);
+        }
+        for (long other : others) {
+            shardOf(other).increment(other, bookId);
+            shardOf(bookId).increment(bookId, other);
+        }
+    }
+
+    public List<Related> related(long bookId, int limit) {
+        return shardOf(bookId).top(bookId, limit);
+    }
+
+    public int trackedBooks() {
+        int books = 0;
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                books += shard.bookSlots.size();
+            }
+        }
+        return books;
+    }
+
+    /**
+     * 회원별 도서 목록(add 순서)만 먼저 채운 뒤 동시 대출 횟수를 병렬로 계산합니다.
+     * shard마다 "이 shard에 속한 책 a"에 대한 (a, b) 쌍만 세므로 작업 간 공유 상태가 없습니다.
+     */
+    public static CoBorrowIndex rebuild(Iterable<long[]> memberBookPairs, int shardCount, int memberHistory,
+                                        int maxNeighbors, int topK, ForkJoinPool pool) {
+        CoBorrowIndex index = new CoBorrowIndex(shardCount, memberHistory, maxNeighbors, topK);
+        for (long[] pair : memberBookPairs) {
+            index.appendHistoryOnly(pair[0], pair[1]);
+        }
+        pool.invoke(index.new CountTask(0, shardCount));
+        return index;
+    }
+
+    private void appendHistoryOnly(long memberId, long bookId) {
+        int slot = memberSlot(memberId);
+        if (!contains(histories.get(slot), bookId)) {
+            append(slot, bookId);
+        }
+    }
+
+    private class CountTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+
+        CountTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new CountTask(from, middle), new CountTask(middle, to));
+                return;
+            }
+            Shard shard = shards[from];
+            for (long[] history : histories) {
+                int filled = (int) history[0];
+                for (int i = 1; i <= filled; i++) {
+                    if (shardIndex(history[i]) != from) {
+                        continue;
+                    }
+                    for (int j = 1; j <= filled; j++) {
+                        if (i != j) {
+                            shard.increment(history[i], history[j]);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private int memberSlot(long memberId) {
+        int slot = memberSlots.getOrDefault(memberId, -1);
+        if (slot < 0) {
+            slot = histories.size();
+            histories.add(new long[INITIAL_HISTORY_LENGTH]);
+            memberSlots.put(memberId, slot);
+        }
+        return slot;
+    }
+
+    private static boolean contains(long[] history, long bookId) {
+        int filled = (int) history[0];
+        for (int i = 1; i <= filled; i++) {
+            if (history[i] == bookId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 대부분의 회원은 몇 권만 빌리므로 배열을 필요할 때 늘리고, 가득 차면 가장 오래된 책을 밀어냄
+    private void append(int slot, long bookId) {
+        long[] history = histories.get(slot);
+        int filled = (int) history[0];
+        if (filled < memberHistory) {
+            if (filled + 1 == history.length) {
+                history = Arrays.copyOf(history, Math.min(memberHistory + 1, history.length * 2));
+                histories.set(slot, history);
+            }
+            history[filled + 1] = bookId;
+            history[0] = filled + 1;
+            return;
+        }
+        System.arraycopy(history, 2, history, 1, memberHistory - 1);
+        history[memberHistory] = bookId;
+    }
+
+    private Shard shardOf(long bookId) {
+        return shards[shardIndex(bookId)];
+    }
+
+    private int shardIndex(long bookId) {
+        return (int) Math.floorMod(bookId * 0x9E3779B97F4A7C15L >>> 32, (long) shards.length);
+    }
+
+    private class Shard {
+
+        private final LongIntHashMap bookSlots = new LongIntHashMap(); // 도서 id -> neighbors 인덱스
+        private final List<Neighbors> neighbors = new ArrayList<>();
+
+        synchronized void increment(long bookId, long otherId) {
+            int slot = bookSlots.getOrDefault(bookId, -1);
+            if (slot < 0) {
+                slot = neighbors.size();
+                neighbors.add(new Neighbors(topK));
+                bookSlots.put(bookId, slot);
+            }
+            neighbors.get(slot).increment(otherId, maxNeighbors);
+        }
+
+        synchronized List<Related> top(long bookId, int limit) {
+            int slot = bookSlots.getOrDefault(bookId, -1);
+            if (slot < 0) {
+                return List.of();
+            }
+            return neighbors.get(slot).top(limit);
+        }
+    }
+
+    private static class Neighbors {
+
+        private final LongIntHashMap counts = new LongIntHashMap(8);
+        private final long[] topIds;
+        private final int[] topCounts;
+        private int topSize;
+
+        Neighbors(int topK) {
+            this.topIds = new long[topK];
+            this.topCounts = new int[topK];
+        }
+
+        void increment(long otherId, int maxNeighbors) {
+            int count = counts.addTo(otherId, 1);
+            updateTop(otherId, count);
+            if (counts.size() > maxNeighbors) {
+                prune();
+            }
+        }
+
+        private void updateTop(long id, int count) {
+            int position = -1;
+            for (int i = 0; i < topSize; i++) {
+                if (topIds[i] == id) {
+                    position = i;
+                    break;
+                }
+            }
+            if (position < 0) {
+                if (topSize < topIds.length) {
+                    position = topSize++;
+                } else if (count > topCounts[topSize - 1]) {
+                    position = topSize - 1;
+                } else {
+                    return;
+                }
+                topIds[position] = id;
+            }
+            topCounts[position] = count;
+            while (position > 0 && topCounts[position - 1] < count) {
+                topIds[position] = topIds[position - 1];
+                topCounts[position] = topCounts[position - 1];
+                topIds[position - 1] = id;
+                topCounts[position - 1] = count;
+                position--;
+            }
+        }
+
+        // 횟수 중앙값 이하인 이웃을 버림 (상위 topK는 유지). 버려진 이웃은 다시 1부터 셈
+        private void prune() {
+            int[] values = counts.values();
+            Arrays.sort(values);
+            int threshold = values[values.length / 2];
+            counts.retainIf((id, count) -> count > threshold || isTop(id));
+        }
+
+        private boolean isTop(long id) {
+            for (int i = 0; i < topSize; i++) {
+                if (topIds[i] == id) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        List<Related> top(int limit) {
+            int n = Math.min(limit, topSize);
+            List<Related> result = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                result.add(new Related(topIds[i], topCounts[i]));
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.codeit.library.recommend;
+
+import com.codeit.library.event.LoanCreatedEvent;
+import com.codeit.library.repository.LoanRepository;
+import com.codeit.library.stats.LoanFact;
+import com.codeit.library.util.KeysetScan;
+import com.codeit.library.util.RebuildJournal;
+import com.codeit.library.warmup.WarmupTask;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 대출 이벤트로 {@link CoBorrowIndex}를 증분 갱신하고, 기동 시/매일 최근 historyDays일의 대출로 색인을 다시 만듭니다.
+ * 재구성은 대출을 id 키셋으로 chunk 단위로 읽어 회원별 목록을 채운 뒤 fork/join으로 병렬 계산하고,
+ * 재구성 중 들어온 대출 중 스캔에서 보지 못한 것만 새 색인에 다시 반영한 뒤 교체합니다 ({@link RebuildJournal}).
+ */
+@Slf4j
+@Component
+public class CoBorrowRecommender implements WarmupTask {
+
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final LoanRepository loanRepository;
+    private final int historyDays;
+    private final int shardCount;
+    private final int memberHistory;
+    private final int maxNeighbors;
+    private final int topK;
+    private final int parallelism;
+
+    // 재구성 중 기록: 대출 id -> {회원 id, 도서 id}
+    private final RebuildJournal<Map<Long, long[]>> changes = new RebuildJournal<>(action -> {
+        synchronized (this) {
+            action.run();
+        }
+    }, LinkedHashMap::new);
+
+    private volatile CoBorrowIndex index;
+
+    public CoBorrowRecommender(LoanRepository loanRepository, MeterRegistry meterRegistry,
+                               @Value("${app.recommend.history-days:730}") int historyDays,
+                               @Value("${app.recommend.member-history:50}") int memberHistory,
+                               @Value("${app.recommend.max-neighbors:200}") int maxNeighbors,
+                               @Value("${app.recommend.top-k:20}") int topK,
+                               @Value("${app.recommend.parallelism:0}") int parallelism) {
+        this.loanRepository = loanRepository;
+        this.historyDays = historyDays;
+        this.memberHistory = memberHistory;
+        this.maxNeighbors = maxNeighbors;
+        this.topK = topK;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.shardCount = Integer.highestOneBit(this.parallelism) * 8;
+        this.index = new CoBorrowIndex(shardCount, memberHistory, maxNeighbors, topK);
+        Gauge.builder("library.recommend.books", this, recommender -> recommender.index.trackedBooks())
+            .description("Books with at least one co-borrowed neighbour in the recommendation index")
+            .register(meterRegistry);
+    }
+
+    @TransactionalEventListener
+    public void onLoanCreated(LoanCreatedEvent event) {
+        loanCreated(event.getLoanId(), event.getMemberId(), event.getBookId());
+    }
+
+    public void loanCreated(Long loanId, Long memberId, Long bookId) {
+        CoBorrowIndex current;
+        synchronized (this) {
+            Map<Long, long[]> pending = changes.journal();
+            if (pending != null) {
+                pending.put(loanId, new long[]{memberId, bookId});
+            }
+            current = index;
+        }
+        current.add(memberId, bookId);
+    }
+
+    public List<CoBorrowIndex.Related> related(long bookId, int limit) {
+        return index.related(bookId, limit);
+    }
+
+    public int maxLimit() {
+        return topK;
+    }
+
+    @Override
+    public void warmUp() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${app.recommend.rebuild-cron:0 45 1 * * *}")
+    public void rebuild() {
+        LocalDate from = LocalDate.now().minusDays(historyDays);
+        Set<Long> scannedPending = new HashSet<>();
+        long start = System.nanoTime();
+        boolean swapped;
+        try {
+            swapped = changes.rebuild(() -> {
+                ForkJoinPool pool = new ForkJoinPool(parallelism);
+                try {
+                    return CoBorrowIndex.rebuild(() -> loanPairs(from, scannedPending),
+                        shardCount, memberHistory, maxNeighbors, topK, pool);
+                } finally {
+                    pool.shutdown();
+                }
+            }, (rebuilt, pending) -> {
+                for (Map.Entry<Long, long[]> entry : pending.entrySet()) {
+                    if (!scannedPending.contains(entry.getKey())) {
+                        rebuilt.add(entry.getValue()[0], entry.getValue()[1]);
+                    }
+                }
+                index = rebuilt;
+            });
+        } catch (RuntimeException e) {
+            log.warn("함께 대출한 책 색인 재구성 실패, 기존 색인을 유지합니다: {}", e.getMessage());
+            return;
+        }
+        if (swapped) {
+            log.info("함께 대출한 책 색인 재구성 완료: {} 이후 대출, 도서 {}권, {}ms",
+                from, index.trackedBooks(), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private synchronized void markScanned(List<LoanFact> chunk, Set<Long> scannedPending) {
+        Map<Long, long[]> pending = changes.journal();
+        for (LoanFact fact : chunk) {
+            if (pending.containsKey(fact.id())) {
+                scannedPending.add(fact.id());
+            }
+        }
+    }
+
+    // 대출을 id 순으로 chunk 단위로 읽으며 {회원 id, 도서 id}를 하나씩 내보냄 (전체를 메모리에 올리지 않음)
+    private Iterator<long[]> loanPairs(LocalDate from, Set<Long> scannedPending) {
+        Iterator<LoanFact> facts = KeysetScan.iterator(REBUILD_CHUNK_SIZE,
+            lastId -> loanRepository.findFactsSince(from, lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE)),
+            LoanFact::id, chunk -> markScanned(chunk, scannedPending));
+        return new Iterator<>() {
+
+            @Override
+            public boolean hasNext() {
+                return facts.hasNext();
+            }
+
+            @Override
+            public long[] next() {
+                LoanFact fact = facts.next();
+                return new long[]{fact.memberId(), fact.bookId()};
+            }
+        };
+    }
+}
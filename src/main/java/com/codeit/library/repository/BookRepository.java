@@ -1,20 +1,38 @@
 package com.codeit.library.repository;
 
+import com.codeit.library.catalog.CatalogBook;
 import com.codeit.library.domain.Book;
+import com.codeit.library.dto.request.BookSearchCondition;
+import com.codeit.library.search.SuggestSource;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BookRepository extends JpaRepository<Book, Long> {
+public interface BookRepository extends JpaRepository<Book, Long>, BookRepositoryCustom {
 
     List<Book> findByAuthor(String author);
 
+    // 대출 시 같은 책의 동시 대출을 막기 위해 book 행을 잠금
+    // (DB의 최종 보장은 open_loan 트리거. 잠금은 제약 위반 전에 순서대로 기다리게 해서 BookAlreadyLoanedException으로 거절)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Book b WHERE b.id = :id")
+    Optional<Book> findByIdForUpdate(@Param("id") Long id);
+
+    // 일괄 대출용. 교착 상태를 피하려고 항상 id 순서로 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Book b WHERE b.id IN :ids ORDER BY b.id")
+    List<Book> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
     List<Book> findByTitleContaining(String keyword);
 
     Optional<Book> findByIsbn(String isbn);
@@ -26,14 +44,19 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     @Query("SELECT b FROM Book b WHERE b.price > :minPrice AND b.publishedDate > :date ORDER BY b.price DESC")
     List<Book> findExpensiveRecentBooks(@Param("minPrice") Integer minPrice, @Param("date") LocalDate date);
 
-    @Query("SELECT b FROM Book b WHERE " +
-           "(:author IS NULL OR b.author = :author) AND " +
-           "(:minPrice IS NULL OR b.price >= :minPrice) AND " +
-           "(:maxPrice IS NULL OR b.price <= :maxPrice)")
-    List<Book> searchBooks(
-        @Param("author") String author,
-        @Param("minPrice") Integer minPrice,
-        @Param("maxPrice") Integer maxPrice
-    );
+    // 자동완성 색인 적재: id 키셋으로 chunk 단위 조회 (필요한 컬럼만)
+    @Query("SELECT new com.codeit.library.search.SuggestSource(b.id, b.title, b.author) " +
+           "FROM Book b WHERE b.id > :lastId ORDER BY b.id")
+    List<SuggestSource> findSuggestSources(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 메모리 카탈로그 적재: id 키셋으로 chunk 단위 조회
+    @Query("SELECT new com.codeit.library.catalog.CatalogBook(b.id, b.title, b.author, b.isbn, b.price, b.publishedDate) " +
+           "FROM Book b WHERE b.id > :lastId ORDER BY b.id")
+    List<CatalogBook> findCatalogBooks(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 넘어온 조건만으로 쿼리를 조립 (BookRepositoryCustomImpl 참고)
+    default List<Book> searchBooks(String author, Integer minPrice, Integer maxPrice) {
+        return search(BookSearchCondition.of(author, minPrice, maxPrice));
+    }
 }
 
@@ -0,0 +1,18 @@
+package com.codeit.library.repository;
+
+import com.codeit.library.domain.Book;
+import com.codeit.library.dto.request.BookSearchCondition;
+
+import java.util.List;
+import java.util.function.LongPredicate;
+
+public interface BookRepositoryCustom {
+
+    List<Book> search(BookSearchCondition condition);
+
+    // idFilter를 통과한 책만 limit개까지 반환 (DB에서 걸러낼 수 없는 조건용)
+    List<Book> search(BookSearchCondition condition, LongPredicate idFilter);
+
+    // 미반납 대출이 없는 책만 (대출중 도서 비트맵이 아직 준비되지 않았을 때 DB로 거름)
+    List<Book> searchAvailable(BookSearchCondition condition);
+}
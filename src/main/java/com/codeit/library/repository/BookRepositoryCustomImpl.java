@@ -0,0 +1,107 @@
+package com.codeit.library.repository;
+
+import com.codeit.library.domain.Book;
+import com.codeit.library.dto.request.BookSearchCondition;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Sort;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+import java.util.stream.Stream;
+
+/**
+ * 검색 조건 중 실제로 값이 들어온 조건만 WHERE 절에 넣어 JPQL을 조립합니다.
+ *
+ * "(:author IS NULL OR b.author = :author)" 형태는 PostgreSQL에서 모든 조합이 하나의 범용 실행 계획을 공유해
+ * 조건에 맞는 인덱스를 쓰지 못합니다. 조건 조합(모양)마다 JPQL 문자열이 고정되므로
+ * Hibernate 쿼리 플랜 캐시와 PostgreSQL 드라이버의 서버 측 prepared statement 캐시가 모양별로 재사용됩니다.
+ * 값은 항상 파라미터로 바인딩하고, 정렬 컬럼은 화이트리스트로만 받습니다.
+ */
+public class BookRepositoryCustomImpl implements BookRepositoryCustom {
+
+    private static final int FILTER_FETCH_SIZE = 200;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Book> search(BookSearchCondition condition) {
+        return search(condition, null);
+    }
+
+    /**
+     * idFilter가 있으면 LIMIT 없이 커서로 FILTER_FETCH_SIZE 행씩 받아 걸러내고, limit개를 채우면 읽기를 멈춥니다.
+     */
+    @Override
+    public List<Book> search(BookSearchCondition condition, LongPredicate idFilter) {
+        return search(condition, idFilter, false);
+    }
+
+    @Override
+    public List<Book> searchAvailable(BookSearchCondition condition) {
+        return search(condition, null, true);
+    }
+
+    private List<Book> search(BookSearchCondition condition, LongPredicate idFilter, boolean availableOnly) {
+        StringBuilder jpql = new StringBuilder("SELECT b FROM Book b");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+
+        String separator = " WHERE ";
+        if (condition.getAuthor() != null) {
+            jpql.append(separator).append("b.author = :author");
+            parameters.put("author", condition.getAuthor());
+            separator = " AND ";
+        }
+        if (condition.getMinPrice() != null) {
+            jpql.append(separator).append("b.price >= :minPrice");
+            parameters.put("minPrice", condition.getMinPrice());
+            separator = " AND ";
+        }
+        if (condition.getMaxPrice() != null) {
+            jpql.append(separator).append("b.price <= :maxPrice");
+            parameters.put("maxPrice", condition.getMaxPrice());
+            separator = " AND ";
+        }
+        if (availableOnly) {
+            // idx_loan_book_open(미반납 대출의 book_id) 인덱스로 확인
+            jpql.append(separator)
+                .append("NOT EXISTS (SELECT 1 FROM Loan l WHERE l.book = b AND l.returnDate IS NULL)");
+        }
+        appendOrderBy(jpql, condition.getSort());
+
+        TypedQuery<Book> query = entityManager.createQuery(jpql.toString(), Book.class);
+        parameters.forEach(query::setParameter);
+        Integer limit = condition.validatedLimit();
+        if (idFilter == null) {
+            if (limit != null) {
+                query.setMaxResults(limit);
+            }
+            return query.getResultList();
+        }
+
+        query.setHint(AvailableHints.HINT_FETCH_SIZE, FILTER_FETCH_SIZE);
+        try (Stream<Book> books = query.getResultStream()) {
+            Stream<Book> filtered = books.filter(book -> idFilter.test(book.getId()));
+            return (limit == null ? filtered : filtered.limit(limit)).toList();
+        }
+    }
+
+    private void appendOrderBy(StringBuilder jpql, Sort sort) {
+        if (sort == null || sort.isUnsorted()) {
+            return;
+        }
+        String separator = " ORDER BY ";
+        for (Sort.Order order : sort) {
+            BookSearchCondition.validateSortProperty(order.getProperty());
+            jpql.append(separator)
+                .append("b.").append(order.getProperty())
+                .append(order.isAscending() ? " ASC" : " DESC");
+            separator = ", ";
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.codeit.library.repository;
+
+import com.codeit.library.domain.Loan;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * fields= 파라미터로 요청한 항목만 SELECT 하는 조회.
+ *
+ * 엔티티를 통째로 읽지 않고 요청된 컬럼만 튜플로 가져오므로, SELECT 목록과 JSON 출력이 함께 줄어듭니다.
+ * 대출 목록은 memberName / bookTitle 을 요청했을 때만 member / book 을 조인합니다.
+ * (memberId, bookId는 loan 테이블의 FK 컬럼이라 조인이 필요 없음)
+ */
+@Repository
+public class FieldProjectionRepository {
+
+    private static final Map<String, String> BOOK_FIELDS = orderedMap(
+        "id", "b.id",
+        "title", "b.title",
+        "author", "b.author",
+        "isbn", "b.isbn",
+        "price", "b.price",
+        "publishedDate", "b.publishedDate"
+    );
+
+    private static final Map<String, String> MEMBER_FIELDS = orderedMap(
+        "id", "m.id",
+        "name", "m.name",
+        "email", "m.email"
+    );
+
+    // overdue는 컬럼이 아니므로 loanDate, returnDate를 읽어 계산
+    private static final Map<String, String> LOAN_FIELDS = orderedMap(
+        "id", "l.id",
+        "memberId", "l.member.id",
+        "memberName", "m.name",
+        "bookId", "l.book.id",
+        "bookTitle", "bk.title",
+        "loanDate", "l.loanDate",
+        "returnDate", "l.returnDate"
+    );
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public List<Map<String, Object>> findBooks(Set<String> fields) {
+        return select(fields, BOOK_FIELDS, "FROM Book b ORDER BY b.id");
+    }
+
+    public List<Map<String, Object>> findMembers(Set<String> fields) {
+        return select(fields, MEMBER_FIELDS, "FROM Member m ORDER BY m.id");
+    }
+
+    public List<Map<String, Object>> findLoans(Set<String> fields) {
+        boolean overdue = fields.contains("overdue");
+        Set<String> columns = new LinkedHashSet<>(fields);
+        columns.remove("overdue");
+        if (overdue) {
+            columns.add("loanDate");
+            columns.add("returnDate");
+        }
+
+        StringBuilder from = new StringBuilder("FROM Loan l");
+        if (columns.contains("memberName")) {
+            from.append(" JOIN l.member m");
+        }
+        if (columns.contains("bookTitle")) {
+            from.append(" JOIN l.book bk");
+        }
+        from.append(" ORDER BY l.id");
+
+        List<Map<String, Object>> rows = select(columns, LOAN_FIELDS, from.toString());
+        if (!overdue) {
+            return rows;
+        }
+        // 계산을 위해 추가로 읽은 항목은 빼고, 요청한 순서대로 다시 담음
+        List<Map<String, Object>> result = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            Map<String, Object> ordered = new LinkedHashMap<>(fields.size() * 2);
+            for (String field : fields) {
+                ordered.put(field, "overdue".equals(field)
+                    ? Loan.isOverdue((LocalDate) row.get("loanDate"), (LocalDate) row.get("returnDate"))
+                    : row.get(field));
+            }
+            result.add(ordered);
+        }
+        return result;
+    }
+
+    private List<Map<String, Object>> select(Set<String> fields, Map<String, String> allowed, String from) {
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("fields에 최소 하나의 항목을 지정해야 합니다");
+        }
+        List<String> names = new ArrayList<>(fields);
+        StringBuilder jpql = new StringBuilder("SELECT ");
+        for (int i = 0; i < names.size(); i++) {
+            String path = allowed.get(names.get(i));
+            if (path == null) {
+                throw new IllegalArgumentException("조회할 수 없는 항목입니다: " + names.get(i));
+            }
+            if (i > 0) {
+                jpql.append(", ");
+            }
+            jpql.append(path).append(" AS f").append(i);
+        }
+        jpql.append(' ').append(from);
+
+        List<Tuple> tuples = entityManager.createQuery(jpql.toString(), Tuple.class).getResultList();
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            // 요청한 순서대로 출력되도록 LinkedHashMap 사용
+            Map<String, Object> row = new LinkedHashMap<>(names.size() * 2);
+            for (int i = 0; i < names.size(); i++) {
+                row.put(names.get(i), tuple.get(i));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static Map<String, String> orderedMap(String... keyValues) {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            map.put(keyValues[i], keyValues[i + 1]);
+        }
+        return map;
+    }
+
+    /**
+     * "id, title,,author" -> [id, title, author] (중복 제거, 순서 유지)
+     */
+    public static Set<String> parseFields(String fields) {
+        Set<String> result = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String trimmed = field.trim();
+            if (!trimmed.isEmpty()) {
+                result.add(trimmed);
+            }
+        }
+        return result;
+    }
+}
@@ -1,13 +1,19 @@
 package com.codeit.library.repository;
 
+import com.codeit.library.archive.ArchivedLoan;
 import com.codeit.library.domain.Loan;
 import com.codeit.library.domain.Member;
+import com.codeit.library.search.BookLoanCount;
+import com.codeit.library.stats.LoanFact;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -28,10 +34,56 @@ public interface LoanRepository extends JpaRepository<Loan, Long> {
     boolean existsOverdueLoan(@Param("memberId") Long memberId, @Param("cutoffDate") LocalDate cutoffDate);
 
     default boolean existsOverdueLoan(Long memberId) {
-        LocalDate cutoffDate = LocalDate.now().minusDays(14);
+        LocalDate cutoffDate = LocalDate.now().minusDays(Loan.LOAN_PERIOD_DAYS);
         return existsOverdueLoan(memberId, cutoffDate);
     }
 
+    // 일괄 대출: 요청한 책 중 이미 대출중인 책 id를 한 번에 조회
+    @Query("SELECT l.book.id FROM Loan l WHERE l.book.id IN :bookIds AND l.returnDate IS NULL")
+    List<Long> findLoanedBookIds(@Param("bookIds") Collection<Long> bookIds);
+
+    // 대출중 도서 비트맵 재구성: 도서 id만 읽으므로 idx_loan_book_open 인덱스만으로 처리
+    @Query("SELECT l.book.id FROM Loan l WHERE l.returnDate IS NULL")
+    List<Long> findAllLoanedBookIds();
+
+    // 일괄 반납: 응답과 이벤트에 필요한 회원/도서를 함께 조회
+    @Query("SELECT l FROM Loan l JOIN FETCH l.member JOIN FETCH l.book WHERE l.id IN :ids")
+    List<Loan> findAllWithMemberAndBookByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 연체 목록: 연체 감지 휠이 고른 후보 중 아직 미반납인 것만, 응답에 필요한 회원/도서를 함께 조회
+    @Query("SELECT l FROM Loan l JOIN FETCH l.member JOIN FETCH l.book WHERE l.id IN :ids AND l.returnDate IS NULL")
+    List<Loan> findOpenWithMemberAndBookByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 키셋 페이지네이션: 마지막으로 읽은 id 이후의 미반납 대출을 id 순서로 chunk 단위 조회
+    List<Loan> findByReturnDateIsNullAndIdGreaterThanOrderByIdAsc(Long lastId, Pageable pageable);
+
+    // 아카이브: 보관 기간이 지난 반납 대출을 (회원 id, 대출 id) 키셋으로 chunk 단위 조회 (idx_loan_member_returned).
+    // 회원 id 순이라 chunk 하나가 좁은 회원 구간 파일에만 기록됨.
+    // 반납일 >= 대출일 이므로 loan_date 조건을 같이 걸어 오래된 월 파티션만 읽도록 함.
+    // member_id >= 조건은 OR 조건과 중복이지만 인덱스 스캔 시작 위치로 쓰임
+    @Query("SELECT new com.codeit.library.archive.ArchivedLoan(l.id, l.member.id, b.id, b.title, l.loanDate, l.returnDate) " +
+           "FROM Loan l JOIN l.book b " +
+           "WHERE l.returnDate < :cutoff AND l.loanDate < :cutoff " +
+           "AND l.member.id >= :afterMemberId " +
+           "AND (l.member.id > :afterMemberId OR (l.member.id = :afterMemberId AND l.id > :afterId)) " +
+           "ORDER BY l.member.id, l.id")
+    List<ArchivedLoan> findArchivable(@Param("cutoff") LocalDate cutoff, @Param("afterMemberId") Long afterMemberId,
+                                      @Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Loan l WHERE l.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 통계 재계산: 기간 내 대출을 id 키셋으로 chunk 단위 조회 (필요한 컬럼만, 조인 없음)
+    @Query("SELECT new com.codeit.library.stats.LoanFact(l.id, l.member.id, l.book.id, l.loanDate, l.returnDate) " +
+           "FROM Loan l WHERE l.loanDate >= :from AND l.id > :lastId ORDER BY l.id")
+    List<LoanFact> findFactsSince(@Param("from") LocalDate from, @Param("lastId") Long lastId, Pageable pageable);
+
+    // 자동완성 인기도 초기값: 기동 시 한 번만 읽음. loan_date 하한으로 최근 월 파티션만 집계
+    @Query("SELECT new com.codeit.library.search.BookLoanCount(l.book.id, COUNT(l)) " +
+           "FROM Loan l WHERE l.loanDate >= :from GROUP BY l.book.id")
+    List<BookLoanCount> countLoansByBookSince(@Param("from") LocalDate from);
+
 //    long countByBookIdAndReturnDateIsNull(Long bookId, LocalDate returnDate);
 }
 
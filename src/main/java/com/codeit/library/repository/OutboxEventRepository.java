@@ -0,0 +1,27 @@
+package com.codeit.library.repository;
+
+import com.codeit.library.domain.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 다른 노드가 잠근 행은 건너뛰므로 여러 노드의 relay가 서로 다른 배치를 가져감 (PostgreSQL)
+    @Query(value = "SELECT * FROM outbox_event ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e")
+    LocalDateTime findOldestCreatedAt();
+}
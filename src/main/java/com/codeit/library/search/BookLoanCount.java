@@ -0,0 +1,8 @@
+package com.codeit.library.search;
+
+// 도서별 누적 대출 수 (자동완성 인기도 초기값)
+public record BookLoanCount(
+    Long bookId,
+    Long count
+) {
+}
@@ -0,0 +1,326 @@
+package com.codeit.library.search;
+
+import com.codeit.library.util.LongIntHashMap;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 제목/저자 자동완성 색인.
+ *
+ * 도서마다 문서 번호를 하나 받고 (제목, 제목의 각 단어 시작, 저자, 제목 초성, 저자 초성) 키를 만듭니다.
+ * 대부분의 키는 불변 {@link SuggestSegment}에 있고, 그 뒤에 등록/수정된 도서의 키는 작은 TreeMap(delta)에 쌓였다가
+ * {@link #compact()}에서 세그먼트로 합쳐집니다. 수정된 도서는 새 문서 번호를 받고 이전 번호는 죽은 것으로 표시합니다.
+ * 인기도(대출 횟수)는 도서 id 기준으로 관리하며 세그먼트 점수에 바로 반영됩니다.
+ */
+public class BookSuggestIndex {
+
+    private static final int MAX_WORD_KEYS = 4;
+
+    public record Suggestion(long bookId, String title, String author) {
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 문서 번호 -> 도서 (죽은 문서는 제목/저자를 비워 둠)
+    private long[] docBooks = new long[1024];
+    private String[] docTitles = new String[1024];
+    private String[] docAuthors = new String[1024];
+    private int docCount;
+    private final BitSet alive = new BitSet();
+    // 도서 id -> 현재 문서 번호 (삭제된 도서는 -1로 남겨 기동 시 적재가 되살리지 않게 함)
+    private final LongIntHashMap bookDocs = new LongIntHashMap();
+    private final LongIntHashMap popularity = new LongIntHashMap();
+
+    private SuggestSegment segment = SuggestSegment.EMPTY;
+    private int deadInSegment;
+    // load()로 들어왔지만 아직 세그먼트에 없는 문서 수
+    private int unindexedLoads;
+    // 키(latin1) + '\0' + 문서 번호 -> 문서 번호. 키에 0x00/0xFF 바이트가 없어 접두사 구간을 subMap으로 자를 수 있음
+    private final TreeMap<String, Integer> delta = new TreeMap<>();
+    // 압축 중일 때만 non-null: 그 사이 인기도가 바뀐 도서
+    private Set<Long> touchedWhileCompacting;
+
+    // 등록/수정: 바로 검색되도록 delta에 키를 넣음
+    public void put(long bookId, String title, String author) {
+        lock.writeLock().lock();
+        try {
+            int current = bookDocs.getOrDefault(bookId, -1);
+            if (current >= 0) {
+                if (title.equals(docTitles[current]) && equalsNullable(author, docAuthors[current])) {
+                    return;
+                }
+                kill(current);
+            }
+            int doc = addDoc(bookId, title, author);
+            for (byte[] key : keys(title, author)) {
+                delta.put(deltaKey(key, doc), doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 기동 시 적재: 이미 이벤트로 들어온(또는 삭제된) 도서는 건너뛰고, 키는 다음 compact()에서 세그먼트로 들어감
+    public void load(long bookId, String title, String author) {
+        lock.writeLock().lock();
+        try {
+            if (!bookDocs.containsKey(bookId)) {
+                addDoc(bookId, title, author);
+                unindexedLoads++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long bookId) {
+        lock.writeLock().lock();
+        try {
+            int current = bookDocs.getOrDefault(bookId, -1);
+            if (current >= 0) {
+                kill(current);
+            }
+            bookDocs.put(bookId, -1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addPopularity(long bookId, int amount) {
+        lock.writeLock().lock();
+        try {
+            updatePopularity(bookId, popularity.addTo(bookId, amount));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void setPopularity(long bookId, int value) {
+        lock.writeLock().lock();
+        try {
+            popularity.put(bookId, value);
+            updatePopularity(bookId, value);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 입력 중인 문자열로 시작하는 제목/저자를 인기순으로 최대 limit개.
+     * 공백은 무시하고, "클ㄹ"처럼 조합 중인 음절이나 "ㅋㄹㅋㄷ" 같은 초성만으로도 찾습니다.
+     */
+    public List<Suggestion> suggest(String query, int limit) {
+        byte[] prefix = HangulKeys.jamoKey(query);
+        if (prefix.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<Integer> candidates = segment.top(prefix, limit, alive::get);
+            String from = new String(prefix, StandardCharsets.ISO_8859_1);
+            Set<Integer> seen = new HashSet<>(candidates);
+            for (Integer doc : delta.subMap(from, from + '\u00FF').values()) {
+                if (alive.get(doc) && seen.add(doc)) {
+                    candidates.add(doc);
+                }
+            }
+            // 안정 정렬이라 인기도가 같으면 세그먼트 순서(키 사전순)가 유지됨
+            candidates.sort(Comparator.comparingInt((Integer doc) -> popularity.getOrDefault(docBooks[doc], 0)).reversed());
+            List<Suggestion> suggestions = new ArrayList<>(Math.min(limit, candidates.size()));
+            for (int i = 0; i < candidates.size() && i < limit; i++) {
+                int doc = candidates.get(i);
+                suggestions.add(new Suggestion(docBooks[doc], docTitles[doc], docAuthors[doc]));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // delta 또는 세그먼트의 죽은 문서가 threshold 이상 쌓였으면 압축
+    public boolean compactIfNeeded(int threshold) {
+        lock.readLock().lock();
+        try {
+            if (delta.size() < threshold && deadInSegment < threshold && unindexedLoads == 0) {
+                return false;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return compact();
+    }
+
+    /**
+     * 살아 있는 문서 전체로 세그먼트를 다시 만들고 delta를 비웁니다.
+     * 문서 표만 잠금 안에서 복사하고 정렬/인코딩은 잠금 밖에서 하므로 그동안에도 검색/갱신은 계속되며,
+     * 그 사이에 죽은 문서와 인기도가 바뀐 도서는 교체 직전에 새 세그먼트에 다시 반영합니다.
+     */
+    public boolean compact() {
+        int limit;
+        int loads;
+        String[] titles;
+        String[] authors;
+        int[] scores;
+        BitSet live;
+        lock.writeLock().lock();
+        try {
+            if (touchedWhileCompacting != null) {
+                return false; // 이미 압축 중
+            }
+            touchedWhileCompacting = new HashSet<>();
+            limit = docCount;
+            loads = unindexedLoads;
+            titles = Arrays.copyOf(docTitles, limit);
+            authors = Arrays.copyOf(docAuthors, limit);
+            live = alive.get(0, limit);
+            scores = new int[limit];
+            for (int doc = live.nextSetBit(0); doc >= 0; doc = live.nextSetBit(doc + 1)) {
+                scores[doc] = popularity.getOrDefault(docBooks[doc], 0);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        SuggestSegment rebuilt;
+        try {
+            List<SuggestSegment.Entry> entries = new ArrayList<>(live.cardinality() * 6);
+            for (int doc = live.nextSetBit(0); doc >= 0; doc = live.nextSetBit(doc + 1)) {
+                for (byte[] key : keys(titles[doc], authors[doc])) {
+                    entries.add(new SuggestSegment.Entry(key, doc));
+                }
+            }
+            rebuilt = SuggestSegment.build(entries.toArray(new SuggestSegment.Entry[0]), limit, doc -> scores[doc]);
+        } catch (RuntimeException | Error e) {
+            lock.writeLock().lock();
+            try {
+                touchedWhileCompacting = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            int dead = 0;
+            for (int doc = live.nextSetBit(0); doc >= 0; doc = live.nextSetBit(doc + 1)) {
+                if (!alive.get(doc)) {
+                    rebuilt.setScore(doc, -1);
+                    dead++;
+                }
+            }
+            for (Long bookId : touchedWhileCompacting) {
+                int doc = bookDocs.getOrDefault(bookId, -1);
+                if (doc >= 0) {
+                    rebuilt.setScore(doc, popularity.getOrDefault(bookId, 0));
+                }
+            }
+            delta.values().removeIf(doc -> doc < limit);
+            segment = rebuilt;
+            deadInSegment = dead;
+            unindexedLoads -= loads;
+            touchedWhileCompacting = null;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return alive.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int addDoc(long bookId, String title, String author) {
+        if (docCount == docBooks.length) {
+            int capacity = docBooks.length * 2;
+            docBooks = Arrays.copyOf(docBooks, capacity);
+            docTitles = Arrays.copyOf(docTitles, capacity);
+            docAuthors = Arrays.copyOf(docAuthors, capacity);
+        }
+        int doc = docCount++;
+        docBooks[doc] = bookId;
+        docTitles[doc] = title;
+        docAuthors[doc] = author;
+        alive.set(doc);
+        bookDocs.put(bookId, doc);
+        return doc;
+    }
+
+    private void kill(int doc) {
+        alive.clear(doc);
+        if (doc < segment.docLimit()) {
+            segment.setScore(doc, -1);
+            deadInSegment++;
+        } else {
+            for (byte[] key : keys(docTitles[doc], docAuthors[doc])) {
+                delta.remove(deltaKey(key, doc));
+            }
+        }
+        docTitles[doc] = null;
+        docAuthors[doc] = null;
+    }
+
+    private void updatePopularity(long bookId, int value) {
+        int doc = bookDocs.getOrDefault(bookId, -1);
+        if (doc >= 0) {
+            segment.setScore(doc, value);
+        }
+        if (touchedWhileCompacting != null) {
+            touchedWhileCompacting.add(bookId);
+        }
+    }
+
+    // 도서 하나의 검색 키 (중복 제거)
+    static List<byte[]> keys(String title, String author) {
+        List<byte[]> keys = new ArrayList<>(6);
+        addKey(keys, HangulKeys.jamoKey(title));
+        int words = 0;
+        for (int i = 1; i < title.length() && words < MAX_WORD_KEYS; i++) {
+            if (Character.isWhitespace(title.charAt(i - 1)) && !Character.isWhitespace(title.charAt(i))) {
+                addKey(keys, HangulKeys.jamoKey(title.substring(i)));
+                words++;
+            }
+        }
+        addKey(keys, HangulKeys.choseongKey(title));
+        if (author != null) {
+            addKey(keys, HangulKeys.jamoKey(author));
+            addKey(keys, HangulKeys.choseongKey(author));
+        }
+        return keys;
+    }
+
+    private static void addKey(List<byte[]> keys, byte[] key) {
+        if (key.length == 0) {
+            return;
+        }
+        for (byte[] existing : keys) {
+            if (Arrays.equals(existing, key)) {
+                return;
+            }
+        }
+        keys.add(key);
+    }
+
+    private static String deltaKey(byte[] key, int doc) {
+        return new String(key, StandardCharsets.ISO_8859_1) + '\u0000' + doc;
+    }
+
+    private static boolean equalsNullable(String a, String b) {
+        return a == null ? b == null : a.equals(b);
+    }
+}
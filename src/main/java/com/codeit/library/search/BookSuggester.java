@@ -0,0 +1,111 @@
+package com.codeit.library.search;
+
+import com.codeit.library.event.BookDeletedEvent;
+import com.codeit.library.event.BookSavedEvent;
+import com.codeit.library.event.LoanCreatedEvent;
+import com.codeit.library.repository.BookRepository;
+import com.codeit.library.repository.LoanRepository;
+import com.codeit.library.util.KeysetScan;
+import com.codeit.library.warmup.WarmupTask;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * {@link BookSuggestIndex}를 기동 시 DB로 채우고 도서/대출 이벤트로 증분 갱신합니다.
+ * 적재는 도서를 id 키셋으로 chunk 단위로 읽어 문서 표만 채운 뒤 세그먼트를 한 번에 만들고,
+ * 그 사이 이벤트로 들어온 등록/수정/삭제가 적재 결과보다 우선합니다 (load()는 이미 있는 도서를 건너뜀).
+ * 이후에는 delta가 쌓이면 주기적으로 압축합니다.
+ *
+ * 인기도 초기값은 최근 app.suggest.popularity-days일의 대출 수입니다. 전체 대출을 GROUP BY 하면 대출 이력이 쌓일수록
+ * 기동 준비가 길어지므로 loan_date로 최근 월 파티션만 읽고, 그 뒤로는 LoanCreatedEvent로 더해 갑니다.
+ */
+@Slf4j
+@Component
+public class BookSuggester implements WarmupTask {
+
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final BookRepository bookRepository;
+    private final LoanRepository loanRepository;
+    private final BookSuggestIndex index = new BookSuggestIndex();
+    private final int compactThreshold;
+    private final int maxLimit;
+    private final int popularityDays;
+
+    public BookSuggester(BookRepository bookRepository, LoanRepository loanRepository, MeterRegistry meterRegistry,
+                         @Value("${app.suggest.compact-threshold:20000}") int compactThreshold,
+                         @Value("${app.suggest.max-limit:20}") int maxLimit,
+                         @Value("${app.suggest.popularity-days:90}") int popularityDays) {
+        this.bookRepository = bookRepository;
+        this.loanRepository = loanRepository;
+        this.compactThreshold = compactThreshold;
+        this.maxLimit = maxLimit;
+        this.popularityDays = popularityDays;
+        Gauge.builder("library.suggest.books", index, BookSuggestIndex::size)
+            .description("Books in the title/author autocomplete index")
+            .register(meterRegistry);
+    }
+
+    @TransactionalEventListener
+    public void onBookSaved(BookSavedEvent event) {
+        index.put(event.getBookId(), event.getTitle(), event.getAuthor());
+    }
+
+    @TransactionalEventListener
+    public void onBookDeleted(BookDeletedEvent event) {
+        index.remove(event.getBookId());
+    }
+
+    @TransactionalEventListener
+    public void onLoanCreated(LoanCreatedEvent event) {
+        index.addPopularity(event.getBookId(), 1);
+    }
+
+    public List<BookSuggestIndex.Suggestion> suggest(String query, int limit) {
+        return index.suggest(query, limit);
+    }
+
+    public int maxLimit() {
+        return maxLimit;
+    }
+
+    @Override
+    public void warmUp() {
+        load();
+    }
+
+    public void load() {
+        long start = System.nanoTime();
+        try {
+            LocalDate from = LocalDate.now().minusDays(popularityDays);
+            for (BookLoanCount count : loanRepository.countLoansByBookSince(from)) {
+                index.setPopularity(count.bookId(), (int) Math.min(count.count(), Integer.MAX_VALUE));
+            }
+            KeysetScan.forEachChunk(LOAD_CHUNK_SIZE,
+                lastId -> bookRepository.findSuggestSources(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE)),
+                SuggestSource::id,
+                chunk -> chunk.forEach(source -> index.load(source.id(), source.title(), source.author())));
+            index.compact();
+        } catch (RuntimeException e) {
+            log.warn("자동완성 색인 적재 실패, 이벤트로 들어오는 도서만 검색됩니다: {}", e.getMessage());
+            return;
+        }
+        log.info("자동완성 색인 적재 완료: 도서 {}권, {}ms", index.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Scheduled(fixedDelayString = "${app.suggest.compact-interval-ms:60000}")
+    public void compact() {
+        if (index.compactIfNeeded(compactThreshold)) {
+            log.debug("자동완성 색인 압축 완료: 도서 {}권", index.size());
+        }
+    }
+}
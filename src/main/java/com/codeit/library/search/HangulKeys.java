@@ -0,0 +1,113 @@
+package com.codeit.library.search;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+/**
+ * 자동완성 색인 키 생성. 문자를 한 바이트 기호로 바꿔 키를 작게 만듭니다.
+ *
+ * - 한글 음절은 자모로 분해 (겹모음/겹받침도 입력 순서대로 분해: ㅘ -> ㅗㅏ, ㄺ -> ㄹㄱ)
+ *   그래서 "클ㄹ", "닭"을 입력하는 중인 "달" 같은 조합 중간 상태도 접두사로 일치합니다.
+ * - 초성 키는 음절마다 초성만 남김 ("클린 코드" -> ㅋㄹㅋㄷ)
+ * - 영문은 소문자, 숫자는 그대로, 공백/문장부호는 버림
+ * - 그 밖의 문자(한자 등)는 63개 구간 중 하나로 뭉개어 기호 하나로 표현 (드문 경우의 오탐은 허용)
+ * 0xFF는 쓰지 않으므로 "접두사 + 0xFF"를 범위 상한으로 쓸 수 있습니다.
+ */
+public final class HangulKeys {
+
+    public static final int MAX_KEY_LENGTH = 32;
+
+    private static final int SYLLABLE_BASE = 0xAC00;
+    private static final int SYLLABLE_LAST = 0xD7A3;
+    private static final int COMPAT_JAMO_FIRST = 0x3131; // ㄱ
+    private static final int COMPAT_CONSONANT_LAST = 0x314E; // ㅎ
+    private static final int COMPAT_JAMO_LAST = 0x3163; // ㅣ
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] JUNGSEONG = {
+        "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ",
+        "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSEONG = {
+        "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+        "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    // 호환 자모로 직접 입력된 겹모음/겹받침 분해 (ㄳ, ㅘ ...)
+    private static final String[] COMPAT_DECOMPOSITION = new String[COMPAT_JAMO_LAST - COMPAT_JAMO_FIRST + 1];
+
+    static {
+        String compound = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+        String[] parts = {"ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"};
+        for (int i = 0; i < compound.length(); i++) {
+            COMPAT_DECOMPOSITION[compound.charAt(i) - COMPAT_JAMO_FIRST] = parts[i];
+        }
+    }
+
+    private HangulKeys() {
+    }
+
+    // 전체 문자열의 자모 키
+    public static byte[] jamoKey(String text) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(text.length() * 3);
+        for (int i = 0; i < text.length() && out.size() < MAX_KEY_LENGTH; i++) {
+            appendJamo(out, text.charAt(i));
+        }
+        return truncate(out.toByteArray());
+    }
+
+    // 음절마다 초성만 남긴 키
+    public static byte[] choseongKey(String text) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(text.length());
+        for (int i = 0; i < text.length() && out.size() < MAX_KEY_LENGTH; i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                out.write(symbol(CHOSEONG.charAt((c - SYLLABLE_BASE) / 588)));
+            } else if (c >= COMPAT_JAMO_FIRST && c <= COMPAT_CONSONANT_LAST) {
+                appendJamo(out, c);
+            } else if (!(c >= COMPAT_JAMO_FIRST && c <= COMPAT_JAMO_LAST)) {
+                appendJamo(out, c); // 영문/숫자 등은 그대로 (모음만 단독으로 있으면 버림)
+            }
+        }
+        return truncate(out.toByteArray());
+    }
+
+    private static void appendJamo(ByteArrayOutputStream out, char c) {
+        if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+            int index = c - SYLLABLE_BASE;
+            out.write(symbol(CHOSEONG.charAt(index / 588)));
+            appendAll(out, JUNGSEONG[(index % 588) / 28]);
+            appendAll(out, JONGSEONG[index % 28]);
+        } else if (c >= COMPAT_JAMO_FIRST && c <= COMPAT_JAMO_LAST) {
+            String parts = COMPAT_DECOMPOSITION[c - COMPAT_JAMO_FIRST];
+            if (parts != null) {
+                appendAll(out, parts);
+            } else {
+                out.write(symbol(c));
+            }
+        } else if (Character.isLetterOrDigit(c)) {
+            out.write(symbol(Character.toLowerCase(c)));
+        }
+    }
+
+    private static void appendAll(ByteArrayOutputStream out, String jamo) {
+        for (int i = 0; i < jamo.length(); i++) {
+            out.write(symbol(jamo.charAt(i)));
+        }
+    }
+
+    // 0x01~0x7F: ASCII, 0x80~0xB2: 호환 자모, 0xC0~0xFE: 그 밖의 문자 (0x00, 0xFF는 쓰지 않음)
+    private static int symbol(char c) {
+        if (c > 0 && c < 0x80) {
+            return c;
+        }
+        if (c >= COMPAT_JAMO_FIRST && c <= COMPAT_JAMO_LAST) {
+            return 0x80 + (c - COMPAT_JAMO_FIRST);
+        }
+        return 0xC0 + c % 63;
+    }
+
+    private static byte[] truncate(byte[] key) {
+        return key.length <= MAX_KEY_LENGTH ? key : Arrays.copyOf(key, MAX_KEY_LENGTH);
+    }
+}
@@ -0,0 +1,246 @@
+package com.codeit.library.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 정렬된 자동완성 키를 담은 불변 세그먼트.
+ *
+ * 키는 16개 단위 블록으로 나눠 블록 첫 키만 전체를 저장하고 나머지는 앞 키와 겹치는 길이 + 나머지 바이트만 저장합니다
+ * (front coding). 같은 접두사를 가진 키는 정렬 순서상 한 구간에 모이므로 접두사 검색은 블록 첫 키 이진 탐색 + 블록 하나 스캔이고,
+ * 구간 안의 인기 상위 k개는 위치별 인기도의 최대값 세그먼트 트리로 구간을 쪼개 가며 꺼냅니다 (구간 크기와 무관하게 O(k log n)).
+ * 인기도(점수)만 갱신 가능하며 호출자가 잠금으로 읽기와 갱신을 분리해야 합니다.
+ */
+final class SuggestSegment {
+
+    static final SuggestSegment EMPTY = build(new Entry[0], 0, doc -> 0);
+
+    private static final int BLOCK_SIZE = 16;
+
+    record Entry(byte[] key, int doc) {
+    }
+
+    private final int size;
+    private final byte[] data;
+    private final int[] blockOffsets;
+    private final int[] docs;
+    private final int[] scores;
+    // tree[size + i] = i, 내부 노드는 두 자식 중 점수가 높은 위치 (동점이면 앞 위치)
+    private final int[] tree;
+    private final int docLimit;
+    // 문서 번호 -> 키 위치 목록 (점수 갱신용)
+    private final int[] docPositionStart;
+    private final int[] docPositions;
+
+    private SuggestSegment(int size, byte[] data, int[] blockOffsets, int[] docs, int[] scores, int docLimit) {
+        this.size = size;
+        this.data = data;
+        this.blockOffsets = blockOffsets;
+        this.docs = docs;
+        this.scores = scores;
+        this.docLimit = docLimit;
+
+        this.tree = new int[Math.max(2 * size, 1)];
+        for (int i = 0; i < size; i++) {
+            tree[size + i] = i;
+        }
+        for (int node = size - 1; node > 0; node--) {
+            tree[node] = better(tree[2 * node], tree[2 * node + 1]);
+        }
+
+        this.docPositionStart = new int[docLimit + 1];
+        for (int doc : docs) {
+            docPositionStart[doc + 1]++;
+        }
+        for (int doc = 0; doc < docLimit; doc++) {
+            docPositionStart[doc + 1] += docPositionStart[doc];
+        }
+        this.docPositions = new int[size];
+        int[] fill = Arrays.copyOf(docPositionStart, docLimit);
+        for (int position = 0; position < size; position++) {
+            docPositions[fill[docs[position]]++] = position;
+        }
+    }
+
+    // entries는 정렬되어 있지 않아도 되며 이 메서드 안에서 정렬됩니다. docLimit: 문서 번호 상한 (exclusive)
+    static SuggestSegment build(Entry[] entries, int docLimit, IntUnaryOperator scoreOfDoc) {
+        Arrays.parallelSort(entries, (a, b) -> {
+            int compared = Arrays.compareUnsigned(a.key(), b.key());
+            return compared != 0 ? compared : Integer.compare(a.doc(), b.doc());
+        });
+        int size = entries.length;
+        int[] blockOffsets = new int[(size + BLOCK_SIZE - 1) / BLOCK_SIZE];
+        int[] docs = new int[size];
+        int[] scores = new int[size];
+        // 키 길이는 HangulKeys.MAX_KEY_LENGTH 이하라 길이 정보는 항상 1바이트
+        byte[] data = new byte[Math.max(size * 8, 16)];
+        int offset = 0;
+        byte[] previous = new byte[0];
+        for (int position = 0; position < size; position++) {
+            byte[] key = entries[position].key();
+            if (offset + key.length + 2 > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, offset + key.length + 2));
+            }
+            if (position % BLOCK_SIZE == 0) {
+                blockOffsets[position / BLOCK_SIZE] = offset;
+                data[offset++] = (byte) key.length;
+                System.arraycopy(key, 0, data, offset, key.length);
+                offset += key.length;
+            } else {
+                int shared = Arrays.mismatch(previous, key);
+                if (shared < 0) {
+                    shared = key.length; // 같은 키 (문서만 다름)
+                }
+                data[offset++] = (byte) shared;
+                data[offset++] = (byte) (key.length - shared);
+                System.arraycopy(key, shared, data, offset, key.length - shared);
+                offset += key.length - shared;
+            }
+            previous = key;
+            docs[position] = entries[position].doc();
+            scores[position] = scoreOfDoc.applyAsInt(entries[position].doc());
+        }
+        return new SuggestSegment(size, Arrays.copyOf(data, offset), blockOffsets, docs, scores, docLimit);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int docLimit() {
+        return docLimit;
+    }
+
+    // 문서의 모든 키 위치 점수를 바꾸고 트리를 갱신 (삭제된 문서는 -1)
+    void setScore(int doc, int score) {
+        if (doc >= docLimit) {
+            return;
+        }
+        for (int i = docPositionStart[doc]; i < docPositionStart[doc + 1]; i++) {
+            int position = docPositions[i];
+            scores[position] = score;
+            for (int node = (size + position) >> 1; node > 0; node >>= 1) {
+                tree[node] = better(tree[2 * node], tree[2 * node + 1]);
+            }
+        }
+    }
+
+    /**
+     * prefix로 시작하는 키 중 점수 순 상위 limit개 문서. 한 문서가 키 여러 개로 걸려도 한 번만 내보내고,
+     * accept를 통과하지 못한 문서(삭제/수정된 문서)는 건너뜁니다.
+     */
+    List<Integer> top(byte[] prefix, int limit, IntPredicate accept) {
+        List<Integer> result = new ArrayList<>(limit);
+        if (size == 0 || limit <= 0) {
+            return result;
+        }
+        int from = firstPosition(prefix, 0);
+        int to = firstPosition(prefix, 1);
+        if (from >= to) {
+            return result;
+        }
+        // {구간 최대 위치, 구간 시작, 구간 끝}
+        PriorityQueue<int[]> ranges = new PriorityQueue<>((a, b) -> better(a[0], b[0]) == a[0] ? -1 : 1);
+        ranges.add(new int[]{rangeMax(from, to), from, to});
+        BitSet emitted = new BitSet();
+        while (!ranges.isEmpty() && result.size() < limit) {
+            int[] range = ranges.poll();
+            int position = range[0];
+            int doc = docs[position];
+            if (!emitted.get(doc) && accept.test(doc)) {
+                emitted.set(doc);
+                result.add(doc);
+            }
+            if (range[1] < position) {
+                ranges.add(new int[]{rangeMax(range[1], position), range[1], position});
+            }
+            if (position + 1 < range[2]) {
+                ranges.add(new int[]{rangeMax(position + 1, range[2]), position + 1, range[2]});
+            }
+        }
+        return result;
+    }
+
+    // [from, to) 구간에서 점수가 가장 높은 위치
+    private int rangeMax(int from, int to) {
+        int best = -1;
+        for (int left = from + size, right = to + size; left < right; left >>= 1, right >>= 1) {
+            if ((left & 1) == 1) {
+                best = better(best, tree[left++]);
+            }
+            if ((right & 1) == 1) {
+                best = better(best, tree[--right]);
+            }
+        }
+        return best;
+    }
+
+    private int better(int a, int b) {
+        if (a < 0) {
+            return b;
+        }
+        if (b < 0) {
+            return a;
+        }
+        if (scores[a] != scores[b]) {
+            return scores[a] > scores[b] ? a : b;
+        }
+        return Math.min(a, b);
+    }
+
+    // compare(key, prefix) >= minCompare 인 첫 위치 (minCompare 0: 접두사 구간 시작, 1: 구간 끝)
+    private int firstPosition(byte[] prefix, int minCompare) {
+        int low = 0;
+        int high = blockOffsets.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int offset = blockOffsets[mid];
+            if (compare(data, offset + 1, data[offset], prefix) >= minCompare) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        if (low == 0) {
+            return 0;
+        }
+        // 답은 low - 1 블록 안에 있거나 low 블록의 첫 키
+        int block = low - 1;
+        int end = Math.min(size, low * BLOCK_SIZE);
+        byte[] key = new byte[HangulKeys.MAX_KEY_LENGTH];
+        int offset = blockOffsets[block];
+        int length = 0;
+        for (int position = block * BLOCK_SIZE; position < end; position++) {
+            if (position % BLOCK_SIZE == 0) {
+                length = data[offset++];
+                System.arraycopy(data, offset, key, 0, length);
+                offset += length;
+            } else {
+                int shared = data[offset++];
+                int suffix = data[offset++];
+                System.arraycopy(data, offset, key, shared, suffix);
+                offset += suffix;
+                length = shared + suffix;
+            }
+            if (compare(key, 0, length, prefix) >= minCompare) {
+                return position;
+            }
+        }
+        return end;
+    }
+
+    // 키가 prefix로 시작하면 0, 정렬상 앞이면 -1, 뒤면 1
+    private static int compare(byte[] key, int offset, int length, byte[] prefix) {
+        int common = Math.min(length, prefix.length);
+        int compared = Arrays.compareUnsigned(key, offset, offset + common, prefix, 0, common);
+        if (compared != 0) {
+            return Integer.signum(compared);
+        }
+        return length >= prefix.length ? 0 : -1;
+    }
+}
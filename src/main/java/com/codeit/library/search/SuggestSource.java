@@ -0,0 +1,9 @@
+package com.codeit.library.search;
+
+// 자동완성 색인 적재에 필요한 도서 컬럼만 담은 조회 결과
+public record SuggestSource(
+    Long id,
+    String title,
+    String author
+) {
+}
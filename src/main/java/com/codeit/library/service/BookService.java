@@ -1,17 +1,34 @@
 package com.codeit.library.service;
 
 import com.codeit.library.domain.Book;
+import com.codeit.library.catalog.BookCatalog;
 import com.codeit.library.dto.request.BookCreateRequest;
+import com.codeit.library.dto.request.BookSearchCondition;
 import com.codeit.library.dto.request.BookUpdateRequest;
 import com.codeit.library.dto.response.BookResponse;
+import com.codeit.library.dto.response.BookSuggestionResponse;
+import com.codeit.library.dto.response.MultiGetResponse;
+import com.codeit.library.dto.response.RelatedBookResponse;
+import com.codeit.library.event.BookDeletedEvent;
+import com.codeit.library.event.BookSavedEvent;
 import com.codeit.library.exception.BookNotFoundException;
+import com.codeit.library.recommend.CoBorrowIndex;
+import com.codeit.library.recommend.CoBorrowRecommender;
 import com.codeit.library.repository.BookRepository;
+import com.codeit.library.repository.FieldProjectionRepository;
+import com.codeit.library.search.BookSuggester;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,6 +37,13 @@ import java.util.stream.Collectors;
 public class BookService {
 
     private final BookRepository bookRepository;
+    private final FieldProjectionRepository fieldProjectionRepository;
+    private final CoBorrowRecommender coBorrowRecommender;
+    private final LoanedBookIndex loanedBookIndex;
+    private final BookSuggester bookSuggester;
+    private final ApplicationEventPublisher eventPublisher;
+    // app.catalog.enabled=true 일 때만 존재
+    private final ObjectProvider<BookCatalog> bookCatalog;
 
     @Transactional
     public BookResponse createBook(BookCreateRequest request) {
@@ -32,6 +56,7 @@ public class BookService {
         );
         
         Book saved = bookRepository.save(book);
+        publishSaved(saved);
         return BookResponse.from(saved);
     }
 
@@ -47,6 +72,56 @@ public class BookService {
             .collect(Collectors.toList());
     }
 
+    // 여러 권을 IN 쿼리 한 번으로 조회 (요청 순서 유지, 없는 id는 missingIds로)
+    public MultiGetResponse<BookResponse> findAllById(List<Long> ids) {
+        List<Long> distinctIds = MultiGetResponse.distinctIds(ids);
+        List<BookResponse> found = bookRepository.findAllById(distinctIds).stream()
+            .map(BookResponse::from)
+            .collect(Collectors.toList());
+        return MultiGetResponse.of(distinctIds, found, BookResponse::id);
+    }
+
+    // 이 책을 빌린 회원이 함께 빌린 책 (동시 대출 색인의 상위 limit권, 함께 빌린 회원 수 순)
+    public List<RelatedBookResponse> findRelated(Long id, int limit) {
+        if (limit < 1 || limit > coBorrowRecommender.maxLimit()) {
+            throw new IllegalArgumentException("limit은 1 이상 " + coBorrowRecommender.maxLimit() + " 이하여야 합니다");
+        }
+        if (!bookRepository.existsById(id)) {
+            throw new BookNotFoundException(id);
+        }
+        List<CoBorrowIndex.Related> related = coBorrowRecommender.related(id, limit);
+        if (related.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Book> books = bookRepository.findAllById(
+                related.stream().map(CoBorrowIndex.Related::bookId).toList()).stream()
+            .collect(Collectors.toMap(Book::getId, Function.identity()));
+        // 색인에는 남아 있지만 삭제된 책은 건너뜀
+        return related.stream()
+            .filter(item -> books.containsKey(item.bookId()))
+            .map(item -> RelatedBookResponse.of(books.get(item.bookId()), item.count()))
+            .collect(Collectors.toList());
+    }
+
+    // 제목/저자 자동완성: 메모리 색인만 읽으므로 트랜잭션/커넥션을 잡지 않음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BookSuggestionResponse> suggest(String query, int limit) {
+        if (limit < 1 || limit > bookSuggester.maxLimit()) {
+            throw new IllegalArgumentException("limit은 1 이상 " + bookSuggester.maxLimit() + " 이하여야 합니다");
+        }
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return bookSuggester.suggest(query, limit).stream()
+            .map(BookSuggestionResponse::from)
+            .collect(Collectors.toList());
+    }
+
+    // fields=id,title 처럼 요청한 항목만 조회
+    public List<Map<String, Object>> findAll(String fields) {
+        return fieldProjectionRepository.findBooks(FieldProjectionRepository.parseFields(fields));
+    }
+
     public List<BookResponse> findByAuthor(String author) {
         return bookRepository.findByAuthor(author).stream()
             .map(BookResponse::from)
@@ -60,18 +135,62 @@ public class BookService {
     }
 
     public List<BookResponse> searchBooks(String author, Integer minPrice, Integer maxPrice) {
-        return bookRepository.searchBooks(author, minPrice, maxPrice).stream()
+        return searchBooks(BookSearchCondition.of(author, minPrice, maxPrice));
+    }
+
+    public List<BookResponse> searchBooks(BookSearchCondition condition) {
+        BookCatalog catalog = readyCatalog();
+        if (catalog != null) {
+            return catalog.search(condition, null);
+        }
+        return bookRepository.search(condition).stream()
+            .map(BookResponse::from)
+            .collect(Collectors.toList());
+    }
+
+    // available=true: 대출중 도서 비트맵에 없는 책만 (비트맵은 메모리 조회이므로 행마다 DB를 다시 보지 않음).
+    // 기동 직후 비트맵이 아직 비어 있는 동안은 모든 책이 대여 가능으로 보이므로 DB의 NOT EXISTS로 거름
+    public List<BookResponse> searchBooks(BookSearchCondition condition, boolean availableOnly) {
+        if (!availableOnly) {
+            return searchBooks(condition);
+        }
+        if (!loanedBookIndex.isReady()) {
+            return bookRepository.searchAvailable(condition).stream()
+                .map(BookResponse::from)
+                .collect(Collectors.toList());
+        }
+        BookCatalog catalog = readyCatalog();
+        if (catalog != null) {
+            return catalog.search(condition, bookId -> !loanedBookIndex.isLoaned(bookId));
+        }
+        return bookRepository.search(condition, bookId -> !loanedBookIndex.isLoaned(bookId)).stream()
             .map(BookResponse::from)
             .collect(Collectors.toList());
     }
 
+    // "price,desc" 형태의 정렬 파라미터를 Sort로 변환 (방향 생략 시 오름차순)
+    public static Sort parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.unsorted();
+        }
+        String[] tokens = sort.split(",");
+        String property = tokens[0].trim();
+        if (tokens.length == 1) {
+            return Sort.by(Sort.Direction.ASC, property);
+        }
+        Sort.Direction direction = Sort.Direction.fromOptionalString(tokens[1].trim())
+            .orElseThrow(() -> new IllegalArgumentException("정렬 방향은 asc 또는 desc 입니다: " + tokens[1]));
+        return Sort.by(direction, property);
+    }
+
     @Transactional
     public BookResponse updateBook(Long id, BookUpdateRequest request) {
         Book book = bookRepository.findById(id)
             .orElseThrow(() -> new BookNotFoundException(id));
         
         book.updateInfo(request.getTitle(), request.getPrice());
-        
+        publishSaved(book);
+
         return BookResponse.from(book);
     }
 
@@ -81,6 +200,7 @@ public class BookService {
             throw new BookNotFoundException(id);
         }
         bookRepository.deleteById(id);
+        eventPublisher.publishEvent(new BookDeletedEvent(id));
     }
 
     @Transactional
@@ -89,14 +209,39 @@ public class BookService {
             .orElseThrow(() -> new BookNotFoundException(id));
         
         book.applyDiscount(discountRate);
-        
+        publishSaved(book);
+
         return BookResponse.from(book);
     }
 
     public List<BookResponse> findExpensiveRecentBooks(Integer minPrice, LocalDate fromDate) {
+        BookCatalog catalog = readyCatalog();
+        if (catalog != null) {
+            return catalog.findExpensiveRecentBooks(minPrice, fromDate);
+        }
         return bookRepository.findExpensiveRecentBooks(minPrice, fromDate).stream()
             .map(BookResponse::from)
             .collect(Collectors.toList());
     }
-}
 
+    public List<BookResponse> findByPublishedDateBetween(LocalDate startDate, LocalDate endDate) {
+        BookCatalog catalog = readyCatalog();
+        if (catalog != null) {
+            return catalog.findByPublishedDateBetween(startDate, endDate);
+        }
+        return bookRepository.findByPublishedDateBetween(startDate, endDate).stream()
+            .map(BookResponse::from)
+            .collect(Collectors.toList());
+    }
+
+    private void publishSaved(Book book) {
+        eventPublisher.publishEvent(new BookSavedEvent(book.getId(), book.getTitle(), book.getAuthor(),
+            book.getIsbn(), book.getPrice(), book.getPublishedDate()));
+    }
+
+    // 카탈로그가 켜져 있고 첫 적재가 끝났을 때만 사용, 아니면 null (JPA로 조회)
+    private BookCatalog readyCatalog() {
+        BookCatalog catalog = bookCatalog.getIfAvailable();
+        return catalog != null && catalog.isReady() ? catalog : null;
+    }
+}
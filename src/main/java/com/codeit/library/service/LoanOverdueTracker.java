@@ -0,0 +1,203 @@
+package com.codeit.library.service;
+
+import com.codeit.library.domain.Loan;
+import com.codeit.library.event.LoanCreatedEvent;
+import com.codeit.library.event.LoanReturnedEvent;
+import com.codeit.library.repository.LoanRepository;
+import com.codeit.library.util.KeysetScan;
+import com.codeit.library.util.RebuildJournal;
+import com.codeit.library.warmup.WarmupTask;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 대출이 연체 상태로 넘어가는 시점을 타이밍 휠로 관리합니다.
+ *
+ * 대출은 항상 "오늘" 생성되므로 연체 시작일은 최대 LOAN_PERIOD_DAYS + 1일 뒤입니다.
+ * 그래서 계층형 휠 없이 하루 단위 슬롯 하나짜리 휠로 충분합니다.
+ * 휠이 하루씩 넘어갈 때 해당 슬롯의 대출만 연체 집합으로 옮기므로 전체 대출을 다시 훑지 않습니다.
+ *
+ * 휠은 노드마다 따로 있고, 커밋 후 이벤트는 그 대출을 처리한 노드에만 옵니다.
+ * 그래서 여러 인스턴스로 띄우면 다른 노드의 대출/반납은 주기적 재동기화(resync, 기본 10분) 전까지 반영되지 않습니다.
+ * 휠은 연체 "후보"만 고르고 응답은 DB에서 미반납인 것만 다시 읽으므로(LoanService.findOverdueLoans),
+ * 다른 노드에서 반납된 대출이 목록에 남지는 않지만 다른 노드에서 막 연체된 대출은 그 주기만큼 늦게 나타날 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoanOverdueTracker implements WarmupTask {
+
+    // 2의 거듭제곱이면서 LOAN_PERIOD_DAYS + 1 보다 커야 합니다.
+    private static final int WHEEL_SIZE = 32;
+    private static final int BACKFILL_CHUNK_SIZE = 500;
+
+    private final LoanRepository loanRepository;
+
+    // 슬롯별 대출 id (index = 연체 시작 epochDay & (WHEEL_SIZE - 1))
+    private final List<Set<Long>> slots = createSlots();
+    // 휠에 올라가 있는 대출 id -> 연체 시작 epochDay
+    private final Map<Long, Long> scheduledDays = new HashMap<>();
+    private final Set<Long> overdueLoanIds = new HashSet<>();
+    // 재동기화 스캔 중에 등록된 대출 id (스캔 + 이벤트)
+    private final RebuildJournal<Set<Long>> resyncSeen = new RebuildJournal<>(action -> {
+        synchronized (this) {
+            action.run();
+        }
+    }, HashSet::new);
+    private long currentDay = LocalDate.now().toEpochDay();
+
+    private static List<Set<Long>> createSlots() {
+        List<Set<Long>> slots = new ArrayList<>(WHEEL_SIZE);
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            slots.add(new HashSet<>());
+        }
+        return slots;
+    }
+
+    public synchronized void register(Long loanId, LocalDate loanDate) {
+        if (loanId == null || loanDate == null) {
+            return;
+        }
+        Set<Long> seen = resyncSeen.journal();
+        if (seen != null) {
+            seen.add(loanId);
+        }
+        // isOverdue()와 같은 기준: 반납 예정일 "다음 날"부터 연체
+        long overdueDay = loanDate.plusDays(Loan.LOAN_PERIOD_DAYS + 1).toEpochDay();
+        if (overdueDay <= currentDay) {
+            overdueLoanIds.add(loanId);
+            return;
+        }
+        scheduledDays.put(loanId, overdueDay);
+        slots.get(slotIndex(overdueDay)).add(loanId);
+    }
+
+    public synchronized void unregister(Long loanId) {
+        if (loanId == null) {
+            return;
+        }
+        Long overdueDay = scheduledDays.remove(loanId);
+        if (overdueDay != null) {
+            slots.get(slotIndex(overdueDay)).remove(loanId);
+        }
+        overdueLoanIds.remove(loanId);
+    }
+
+    // today까지 휠을 돌리면서 만기가 된 슬롯의 대출을 연체 집합으로 옮깁니다.
+    public synchronized void advanceTo(LocalDate today) {
+        long targetDay = today.toEpochDay();
+        if (targetDay <= currentDay) {
+            return;
+        }
+        // 휠 한 바퀴 이상 건너뛰었다면 모든 슬롯을 한 번씩만 확인하면 됩니다.
+        long fromDay = Math.max(currentDay + 1, targetDay - WHEEL_SIZE + 1);
+        for (long day = fromDay; day <= targetDay; day++) {
+            fire(slots.get(slotIndex(day)), targetDay);
+        }
+        currentDay = targetDay;
+    }
+
+    private void fire(Set<Long> slot, long targetDay) {
+        Iterator<Long> iterator = slot.iterator();
+        while (iterator.hasNext()) {
+            Long loanId = iterator.next();
+            Long overdueDay = scheduledDays.get(loanId);
+            // 같은 슬롯이라도 다음 바퀴에 해당하는 대출은 남겨둔다.
+            if (overdueDay != null && overdueDay <= targetDay) {
+                iterator.remove();
+                scheduledDays.remove(loanId);
+                overdueLoanIds.add(loanId);
+            }
+        }
+    }
+
+    public synchronized Set<Long> getOverdueLoanIds(LocalDate today) {
+        advanceTo(today);
+        return new HashSet<>(overdueLoanIds);
+    }
+
+    public synchronized int scheduledCount() {
+        return scheduledDays.size();
+    }
+
+    private static int slotIndex(long epochDay) {
+        return (int) (epochDay & (WHEEL_SIZE - 1));
+    }
+
+    // 매일 자정에 휠을 하루 전진
+    @Scheduled(cron = "0 0 0 * * *")
+    public void tick() {
+        advanceTo(LocalDate.now());
+    }
+
+    @TransactionalEventListener
+    public void onLoanCreated(LoanCreatedEvent event) {
+        register(event.getLoanId(), event.getLoanDate());
+    }
+
+    @TransactionalEventListener
+    public void onLoanReturned(LoanReturnedEvent event) {
+        unregister(event.getLoanId());
+    }
+
+    /**
+     * 기동 시 미반납 대출을 id 기준 키셋 스캔으로 chunk 단위로 읽어 휠을 복구합니다.
+     * 휠은 노드 메모리에만 존재하므로 각 노드가 자기 상태를 직접 복구해야 합니다.
+     */
+    @Override
+    public void warmUp() {
+        backfill();
+    }
+
+    public void backfill() {
+        advanceTo(LocalDate.now());
+        long total = registerOpenLoans();
+        log.info("연체 감지 휠 복구 완료: 미반납 {}건, 연체 {}건", total, getOverdueLoanIds(LocalDate.now()).size());
+    }
+
+    /**
+     * 다른 노드에서 생성/반납된 대출을 반영합니다.
+     * 미반납 대출을 다시 훑어 없던 것은 등록하고, 스캔에도 이벤트에도 나오지 않은 대출은 반납된 것으로 보고 뺍니다.
+     */
+    @Scheduled(fixedDelayString = "${app.loan.overdue-resync-interval-ms:600000}",
+        initialDelayString = "${app.loan.overdue-resync-interval-ms:600000}")
+    public void resync() {
+        resyncSeen.rebuild(this::registerOpenLoans, (total, seen) -> {
+            int removed = pruneUnseen(seen);
+            if (removed > 0) {
+                log.info("연체 감지 휠 재동기화: 다른 노드에서 반납된 대출 {}건 제거", removed);
+            }
+        });
+    }
+
+    private int pruneUnseen(Set<Long> seen) {
+        List<Long> stale = new ArrayList<>();
+        for (Long loanId : scheduledDays.keySet()) {
+            if (!seen.contains(loanId)) {
+                stale.add(loanId);
+            }
+        }
+        for (Long loanId : overdueLoanIds) {
+            if (!seen.contains(loanId)) {
+                stale.add(loanId);
+            }
+        }
+        stale.forEach(this::unregister);
+        return stale.size();
+    }
+
+    private long registerOpenLoans() {
+        return KeysetScan.forEachChunk(BACKFILL_CHUNK_SIZE,
+            lastId -> loanRepository.findByReturnDateIsNullAndIdGreaterThanOrderByIdAsc(
+                lastId, PageRequest.of(0, BACKFILL_CHUNK_SIZE)),
+            Loan::getId,
+            chunk -> chunk.forEach(loan -> register(loan.getId(), loan.getLoanDate())));
+    }
+}
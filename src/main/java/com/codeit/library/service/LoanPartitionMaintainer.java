@@ -0,0 +1,174 @@
+package com.codeit.library.service;
+
+import com.codeit.library.warmup.WarmupTask;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * loan 월별 파티션(V6__partition_loan_by_month.sql)을 관리합니다.
+ * - loan_default에 들어간 행(파티션이 없던 과거 달로 나중에 넣은 행 등)을 월별 파티션으로 옮김
+ * - 이번 달부터 monthsAhead 개월 뒤까지의 파티션을 미리 생성 (loan_default로 행이 새지 않도록)
+ * - detachAfterMonths 보다 오래되고 미반납 대출이 없는 파티션을 loan에서 분리 (테이블은 남겨 보관/아카이브)
+ * 여러 노드가 동시에 DDL을 실행하지 않도록 PostgreSQL advisory lock을 잡은 노드만 수행합니다.
+ * PostgreSQL이 아니거나 loan이 파티션 테이블이 아니면 아무것도 하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.loan.partition", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LoanPartitionMaintainer implements WarmupTask {
+
+    private static final long ADVISORY_LOCK_KEY = 0x4C4F414EL; // "LOAN"
+    private static final Pattern PARTITION_NAME = Pattern.compile("^loan_p(\\d{4})_(\\d{2})$");
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.loan.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${app.loan.partition.detach-after-months:0}") // 0이면 분리하지 않음
+    private int detachAfterMonths;
+
+    @Override
+    public void warmUp() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${app.loan.partition.cron:0 30 0 * * *}")
+    public void maintain() {
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                    return null;
+                }
+                // advisory lock은 세션 단위이므로 잠금/DDL/해제를 같은 커넥션에서 실행
+                JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+                if (!isPartitioned(session)) {
+                    return null;
+                }
+                if (!Boolean.TRUE.equals(session.queryForObject(
+                    "SELECT pg_try_advisory_lock(?)", Boolean.class, ADVISORY_LOCK_KEY))) {
+                    return null; // 다른 노드가 수행 중
+                }
+                try {
+                    YearMonth current = YearMonth.from(LocalDate.now());
+                    relocateDefaultRows(connection, session);
+                    createUpcomingPartitions(session, current);
+                    if (detachAfterMonths > 0) {
+                        detachOldPartitions(session, current.minusMonths(detachAfterMonths));
+                    }
+                } finally {
+                    session.queryForObject("SELECT pg_advisory_unlock(?)", Boolean.class, ADVISORY_LOCK_KEY);
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("loan 파티션 관리 실패: {}", e.getMessage());
+        }
+    }
+
+    private boolean isPartitioned(JdbcTemplate session) {
+        Boolean partitioned = session.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('loan'))", Boolean.class);
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    private void createUpcomingPartitions(JdbcTemplate session, YearMonth current) {
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            String name = partitionName(month);
+            try {
+                session.execute("CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF loan " +
+                    "FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+            } catch (DataAccessException e) {
+                // loan_default에 해당 월의 행이 있으면 생성할 수 없음 (relocateDefaultRows가 옮기지 못한 경우)
+                log.warn("loan 파티션 {} 생성 실패: {}", name, e.getMessage());
+            }
+        }
+    }
+
+    // 월마다 한 트랜잭션: 새 테이블로 복사 -> loan_default에서 삭제 -> 파티션으로 연결.
+    // loan_default 삭제 시 트리거가 open_loan 행을 지우므로 연결 후 미반납 대출을 다시 넣음 (V7__open_loan_guard.sql)
+    private void relocateDefaultRows(Connection connection, JdbcTemplate session) throws SQLException {
+        List<Date> months = session.queryForList(
+            "SELECT DISTINCT date_trunc('month', loan_date)::date FROM loan_default ORDER BY 1", Date.class);
+        for (Date first : months) {
+            YearMonth month = YearMonth.from(first.toLocalDate());
+            String name = partitionName(month);
+            if (Boolean.TRUE.equals(session.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, name))) {
+                // 분리(detach)해 둔 같은 이름의 테이블이 있으면 자동으로 합치지 않음
+                log.warn("loan_default에 {} 범위의 행이 있지만 {} 테이블이 이미 있어 옮기지 않습니다", month, name);
+                continue;
+            }
+            String range = "loan_date >= '" + month.atDay(1) + "' AND loan_date < '" + month.plusMonths(1).atDay(1) + "'";
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                session.execute("CREATE TABLE " + name + " (LIKE loan INCLUDING DEFAULTS)");
+                int moved = session.update("INSERT INTO " + name + " SELECT * FROM loan_default WHERE " + range);
+                session.update("DELETE FROM loan_default WHERE " + range);
+                session.execute("ALTER TABLE loan ATTACH PARTITION " + name + " FOR VALUES FROM ('" +
+                    month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+                session.update("INSERT INTO open_loan (book_id, loan_id) " +
+                    "SELECT book_id, id FROM " + name + " WHERE return_date IS NULL");
+                connection.commit();
+                log.info("loan_default의 {}건을 파티션 {}로 옮겼습니다", moved, name);
+            } catch (DataAccessException e) {
+                connection.rollback();
+                log.warn("loan_default 행을 파티션 {}로 옮기지 못했습니다: {}", name, e.getMessage());
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private void detachOldPartitions(JdbcTemplate session, YearMonth before) {
+        List<String> partitions = session.queryForList(
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+            "WHERE i.inhparent = to_regclass('loan')", String.class);
+        for (String name : partitions) {
+            YearMonth month = monthOf(name);
+            if (month == null || !month.isBefore(before)) {
+                continue;
+            }
+            Boolean hasOpenLoans = session.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + name + " WHERE return_date IS NULL)", Boolean.class);
+            if (Boolean.TRUE.equals(hasOpenLoans)) {
+                continue; // 아직 반납되지 않은 대출이 있으면 조회 대상에 남겨둠
+            }
+            session.execute("ALTER TABLE loan DETACH PARTITION " + name);
+            log.info("loan 파티션 {} 분리 완료 (테이블은 보관됨)", name);
+        }
+    }
+
+    static String partitionName(YearMonth month) {
+        return "loan_p" + month.format(NAME_FORMAT);
+    }
+
+    static YearMonth monthOf(String partitionName) {
+        Matcher matcher = PARTITION_NAME.matcher(partitionName);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+    }
+}
@@ -1,21 +1,39 @@
 package com.codeit.library.service;
 
+import com.codeit.library.archive.ArchivedLoan;
+import com.codeit.library.archive.LoanArchive;
 import com.codeit.library.domain.Book;
 import com.codeit.library.domain.Loan;
 import com.codeit.library.domain.Member;
+import com.codeit.library.dto.request.LoanBatchCreateRequest;
+import com.codeit.library.dto.request.LoanBatchReturnRequest;
 import com.codeit.library.dto.request.LoanCreateRequest;
+import com.codeit.library.dto.response.LoanBatchResponse;
 import com.codeit.library.dto.response.LoanResponse;
+import com.codeit.library.event.LoanCreatedEvent;
+import com.codeit.library.event.LoanReturnedEvent;
 import com.codeit.library.exception.*;
+import com.codeit.library.metrics.LibraryMetrics;
 import com.codeit.library.repository.BookRepository;
+import com.codeit.library.repository.FieldProjectionRepository;
 import com.codeit.library.repository.LoanRepository;
 import com.codeit.library.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -23,18 +41,32 @@ import java.util.stream.Collectors;
 public class LoanService {
 
     private static final int MAX_LOAN_COUNT = 3;
+    // 연체 후보 id를 IN 절로 읽을 때 한 번에 넘기는 개수 (바인드 파라미터 상한 대비)
+    private static final int OVERDUE_FETCH_CHUNK_SIZE = 1000;
 
     private final LoanRepository loanRepository;
     private final MemberRepository memberRepository;
     private final BookRepository bookRepository;
+    private final LoanOverdueTracker loanOverdueTracker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LibraryMetrics libraryMetrics;
+    private final FieldProjectionRepository fieldProjectionRepository;
+    private final LoanArchive loanArchive;
+    private final LoanedBookIndex loanedBookIndex;
 
     @Transactional
     public LoanResponse createLoan(LoanCreateRequest request) {
         Member member = memberRepository.findById(request.getMemberId())
-            .orElseThrow(() -> new MemberNotFoundException(request.getMemberId()));
+            .orElseThrow(() -> {
+                libraryMetrics.loanRejected("member_not_found");
+                return new MemberNotFoundException(request.getMemberId());
+            });
         
-        Book book = bookRepository.findById(request.getBookId())
-            .orElseThrow(() -> new BookNotFoundException(request.getBookId()));
+        Book book = bookRepository.findByIdForUpdate(request.getBookId())
+            .orElseThrow(() -> {
+                libraryMetrics.loanRejected("book_not_found");
+                return new BookNotFoundException(request.getBookId());
+            });
 
         // 비즈니스 규칙 검증
         validateLoanCreation(request.getMemberId(), request.getBookId());
@@ -42,23 +74,113 @@ public class LoanService {
         Loan loan = new Loan(member, book, LocalDate.now());
         Loan saved = loanRepository.save(loan);
 
+        eventPublisher.publishEvent(new LoanCreatedEvent(
+            saved.getId(), member.getId(), book.getId(), saved.getLoanDate()));
+
         return LoanResponse.from(saved);
     }
 
+    /**
+     * 한 회원이 여러 권을 한 번에 대출합니다. 전체를 하나의 트랜잭션으로 처리합니다.
+     * - 회원 단위 규칙(회원 존재, 연체 여부)은 한 번만 확인하고, 위반 시 전체를 거절합니다.
+     * - 책 단위 규칙(존재, 대출중, 남은 한도)은 IN 쿼리로 한 번에 확인하고 책마다 결과를 돌려줍니다.
+     * - 통과한 대출은 saveAll로 저장되어 JDBC 배치 INSERT로 전송됩니다.
+     */
+    @Transactional
+    public LoanBatchResponse createLoans(LoanBatchCreateRequest request) {
+        Long memberId = request.getMemberId();
+        Member member = memberRepository.findById(memberId)
+            .orElseThrow(() -> {
+                libraryMetrics.loanRejected("member_not_found");
+                return new MemberNotFoundException(memberId);
+            });
+        if (loanRepository.existsOverdueLoan(memberId)) {
+            libraryMetrics.loanRejected("overdue");
+            throw new OverdueLoanExistsException();
+        }
+        long remaining = MAX_LOAN_COUNT - loanRepository.countByMemberIdAndReturnDateIsNull(memberId);
+
+        List<Long> bookIds = request.getBookIds();
+        Map<Long, Book> books = bookRepository.findAllByIdForUpdate(bookIds).stream()
+            .collect(Collectors.toMap(Book::getId, Function.identity()));
+        Set<Long> loanedBookIds = books.isEmpty()
+            ? Set.of()
+            : new HashSet<>(loanRepository.findLoanedBookIds(books.keySet()));
+
+        LocalDate today = LocalDate.now();
+        LoanBatchResponse.Item[] results = new LoanBatchResponse.Item[bookIds.size()];
+        Loan[] created = new Loan[bookIds.size()];
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < bookIds.size(); i++) {
+            Long bookId = bookIds.get(i);
+            Book book = books.get(bookId);
+            if (!seen.add(bookId)) {
+                results[i] = LoanBatchResponse.Item.failure(bookId, "DUPLICATE", "같은 책이 중복으로 요청되었습니다");
+            } else if (book == null) {
+                libraryMetrics.loanRejected("book_not_found");
+                results[i] = LoanBatchResponse.Item.failure(bookId, "BOOK_NOT_FOUND",
+                    new BookNotFoundException(bookId).getMessage());
+            } else if (loanedBookIds.contains(bookId)) {
+                libraryMetrics.loanRejected("already_loaned");
+                results[i] = LoanBatchResponse.Item.failure(bookId, "ALREADY_LOANED",
+                    new BookAlreadyLoanedException().getMessage());
+            } else if (remaining <= 0) {
+                libraryMetrics.loanRejected("limit_exceeded");
+                results[i] = LoanBatchResponse.Item.failure(bookId, "LIMIT_EXCEEDED",
+                    new LoanLimitExceededException().getMessage());
+            } else {
+                created[i] = new Loan(member, book, today);
+                remaining--;
+            }
+        }
+
+        List<Loan> loans = new ArrayList<>();
+        for (Loan loan : created) {
+            if (loan != null) {
+                loans.add(loan);
+            }
+        }
+        loanRepository.saveAll(loans);
+
+        for (int i = 0; i < created.length; i++) {
+            Loan loan = created[i];
+            if (loan == null) {
+                continue;
+            }
+            eventPublisher.publishEvent(new LoanCreatedEvent(
+                loan.getId(), memberId, loan.getBook().getId(), loan.getLoanDate()));
+            results[i] = LoanBatchResponse.Item.success(bookIds.get(i), LoanResponse.from(loan));
+        }
+        return LoanBatchResponse.of(Arrays.asList(results));
+    }
+
     private void validateLoanCreation(Long memberId, Long bookId) {
         // 1. 대출 한도 확인 (최대 3권)
         long currentLoanCount = loanRepository.countByMemberIdAndReturnDateIsNull(memberId);
         if (currentLoanCount >= MAX_LOAN_COUNT) {
+            libraryMetrics.loanRejected("limit_exceeded");
             throw new LoanLimitExceededException();
         }
 
         // 2. 책이 이미 대출중인지 확인
-        if (loanRepository.existsByBookIdAndReturnDateIsNull(bookId)) {
+        //    판단은 항상 DB로 함 (책 행을 잠근 상태이므로 결과는 커밋까지 유효). 비트맵은 노드별 캐시라
+        //    다른 인스턴스의 반납이 늦게 반영되므로, 비트맵과 DB가 다르면 비트맵만 바로잡음
+        boolean loaned = loanRepository.existsByBookIdAndReturnDateIsNull(bookId);
+        if (loaned != loanedBookIndex.isLoaned(bookId)) {
+            if (loaned) {
+                loanedBookIndex.markLoaned(bookId);
+            } else {
+                loanedBookIndex.markReturned(bookId);
+            }
+        }
+        if (loaned) {
+            libraryMetrics.loanRejected("already_loaned");
             throw new BookAlreadyLoanedException();
         }
 
         // 3. 연체중인 대출이 있는지 확인
         if (loanRepository.existsOverdueLoan(memberId)) {
+            libraryMetrics.loanRejected("overdue");
             throw new OverdueLoanExistsException();
         }
     }
@@ -75,13 +197,39 @@ public class LoanService {
             .collect(Collectors.toList());
     }
 
+    // fields=id,memberName,bookTitle 처럼 요청한 항목만 조회
+    public List<Map<String, Object>> findAll(String fields) {
+        return fieldProjectionRepository.findLoans(FieldProjectionRepository.parseFields(fields));
+    }
+
     public List<LoanResponse> findByMemberId(Long memberId) {
+        return findByMemberId(memberId, false);
+    }
+
+    /**
+     * includeArchived면 아카이브 파일로 옮겨진 반납 이력(오래된 달부터)을 DB 대출 앞에 붙여 반환합니다.
+     * 아카이브는 회원 id 범위가 맞는 파일/row group만 읽으며, 아카이브 도중 DB에도 남아 있는 행은 DB 쪽을 씁니다.
+     */
+    public List<LoanResponse> findByMemberId(Long memberId, boolean includeArchived) {
         Member member = memberRepository.findById(memberId)
             .orElseThrow(() -> new MemberNotFoundException(memberId));
-        
-        return loanRepository.findByMember(member).stream()
+
+        List<LoanResponse> hot = loanRepository.findByMember(member).stream()
             .map(LoanResponse::from)
             .collect(Collectors.toList());
+        if (!includeArchived) {
+            return hot;
+        }
+
+        Set<Long> seen = hot.stream().map(LoanResponse::id).collect(Collectors.toCollection(HashSet::new));
+        List<LoanResponse> result = new ArrayList<>();
+        try (Stream<ArchivedLoan> archived = loanArchive.findByMemberId(memberId)) {
+            archived.filter(loan -> seen.add(loan.id()))
+                .map(loan -> loan.toResponse(member.getName()))
+                .forEach(result::add);
+        }
+        result.addAll(hot);
+        return result;
     }
 
     public List<LoanResponse> findCurrentLoans() {
@@ -90,14 +238,67 @@ public class LoanService {
             .collect(Collectors.toList());
     }
 
+    // 연체 목록은 타이밍 휠이 고른 후보 id로만 조회 (미반납 전체를 훑지 않음)
+    // 휠은 노드별이라 다른 노드에서 반납된 대출이 남아 있을 수 있으므로 DB에서 미반납인 것만 회원/도서와 함께 읽음
+    public List<LoanResponse> findOverdueLoans() {
+        List<Long> overdueLoanIds = new ArrayList<>(loanOverdueTracker.getOverdueLoanIds(LocalDate.now()));
+        if (overdueLoanIds.isEmpty()) {
+            return List.of();
+        }
+        List<Loan> loans = new ArrayList<>(overdueLoanIds.size());
+        for (int from = 0; from < overdueLoanIds.size(); from += OVERDUE_FETCH_CHUNK_SIZE) {
+            int to = Math.min(from + OVERDUE_FETCH_CHUNK_SIZE, overdueLoanIds.size());
+            loans.addAll(loanRepository.findOpenWithMemberAndBookByIdIn(overdueLoanIds.subList(from, to)));
+        }
+        return loans.stream()
+            .sorted(Comparator.comparing(Loan::getLoanDate).thenComparing(Loan::getId))
+            .map(LoanResponse::from)
+            .collect(Collectors.toList());
+    }
+
     @Transactional
     public LoanResponse returnBook(Long loanId) {
         Loan loan = loanRepository.findById(loanId)
             .orElseThrow(() -> new LoanNotFoundException(loanId));
         
         loan.returnBook();
+
+        eventPublisher.publishEvent(new LoanReturnedEvent(
+            loan.getId(), loan.getMember().getId(), loan.getBook().getId(),
+            loan.getLoanDate(), loan.getReturnDate()));
         
         return LoanResponse.from(loan);
     }
-}
 
+    /**
+     * 여러 대출을 한 번에 반납합니다. 대출/회원/도서를 한 번의 조회로 읽고,
+     * 변경된 대출은 커밋 시점에 JDBC 배치 UPDATE로 전송됩니다.
+     */
+    @Transactional
+    public LoanBatchResponse returnBooks(LoanBatchReturnRequest request) {
+        List<Long> loanIds = request.getLoanIds();
+        Map<Long, Loan> loans = loanRepository.findAllWithMemberAndBookByIdIn(loanIds).stream()
+            .collect(Collectors.toMap(Loan::getId, Function.identity()));
+
+        List<LoanBatchResponse.Item> results = new ArrayList<>(loanIds.size());
+        Set<Long> seen = new HashSet<>();
+        for (Long loanId : loanIds) {
+            Loan loan = loans.get(loanId);
+            if (!seen.add(loanId)) {
+                results.add(LoanBatchResponse.Item.failure(loanId, "DUPLICATE", "같은 대출이 중복으로 요청되었습니다"));
+            } else if (loan == null) {
+                results.add(LoanBatchResponse.Item.failure(loanId, "LOAN_NOT_FOUND",
+                    new LoanNotFoundException(loanId).getMessage()));
+            } else if (loan.isReturned()) {
+                results.add(LoanBatchResponse.Item.failure(loanId, "ALREADY_RETURNED", "이미 반납된 책입니다"));
+            } else {
+                loan.returnBook();
+                eventPublisher.publishEvent(new LoanReturnedEvent(
+                    loan.getId(), loan.getMember().getId(), loan.getBook().getId(),
+                    loan.getLoanDate(), loan.getReturnDate()));
+                results.add(LoanBatchResponse.Item.success(loanId, LoanResponse.from(loan)));
+            }
+        }
+        return LoanBatchResponse.of(results);
+    }
+}
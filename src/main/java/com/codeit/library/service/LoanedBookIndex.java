@@ -0,0 +1,147 @@
+package com.codeit.library.service;
+
+import com.codeit.library.event.LoanCreatedEvent;
+import com.codeit.library.event.LoanReturnedEvent;
+import com.codeit.library.repository.LoanRepository;
+import com.codeit.library.util.RebuildJournal;
+import com.codeit.library.warmup.WarmupTask;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 현재 대출중인 도서 id를 Roaring 비트맵으로 메모리에 유지합니다. 조회는 DB 없이 O(1)에 가깝습니다.
+ *
+ * - 대출/반납 이벤트(커밋 후)로 비트를 켜고 끔
+ * - 기동 시와 refresh-interval-ms마다 미반납 대출의 도서 id로 비트맵을 다시 만들어 교체
+ *   (다른 인스턴스에서 처리된 대출/반납은 이때 반영됨)
+ * - 재구성 중 들어온 이벤트는 순서대로 기록해 두었다가 새 비트맵에 다시 적용 ({@link RebuildJournal})
+ * 읽기는 공유 잠금, 갱신과 교체는 배타 잠금으로 보호합니다.
+ * 노드별 캐시이므로 대출 가능 여부의 최종 판단(대출 생성)은 항상 DB로 하고, 이 비트맵은 검색 필터에만 씁니다.
+ * 첫 재구성이 끝나기 전({@link #isReady()}가 false)에는 비어 있으므로 검색도 DB로 걸러야 합니다.
+ */
+@Slf4j
+@Component
+public class LoanedBookIndex implements WarmupTask {
+
+    private final LoanRepository loanRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 재구성 중 기록: 도착 순서대로 {도서 id, 1=대출 / 0=반납}
+    private final RebuildJournal<List<long[]>> changes =
+        new RebuildJournal<>(RebuildJournal.with(lock.writeLock()), ArrayList::new);
+
+    private Roaring64Bitmap loaned = new Roaring64Bitmap();
+    private volatile boolean ready;
+
+    public LoanedBookIndex(LoanRepository loanRepository, MeterRegistry meterRegistry) {
+        this.loanRepository = loanRepository;
+        Gauge.builder("library.books.loaned", this, LoanedBookIndex::loanedCount)
+            .description("Books currently on loan according to the in-memory availability bitmap")
+            .register(meterRegistry);
+    }
+
+    public boolean isLoaned(long bookId) {
+        lock.readLock().lock();
+        try {
+            return loaned.contains(bookId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 첫 재구성이 끝났는지 (그 전에는 대출중 도서가 비트맵에 없음)
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long loanedCount() {
+        lock.readLock().lock();
+        try {
+            return loaned.getLongCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onLoanCreated(LoanCreatedEvent event) {
+        markLoaned(event.getBookId());
+    }
+
+    @TransactionalEventListener
+    public void onLoanReturned(LoanReturnedEvent event) {
+        markReturned(event.getBookId());
+    }
+
+    public void markLoaned(long bookId) {
+        apply(bookId, true);
+    }
+
+    public void markReturned(long bookId) {
+        apply(bookId, false);
+    }
+
+    private void apply(long bookId, boolean isLoaned) {
+        lock.writeLock().lock();
+        try {
+            List<long[]> journal = changes.journal();
+            if (journal != null) {
+                journal.add(new long[]{bookId, isLoaned ? 1 : 0});
+            }
+            set(loaned, bookId, isLoaned);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void warmUp() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.availability.refresh-interval-ms:10000}",
+               initialDelayString = "${app.availability.refresh-interval-ms:10000}")
+    public void rebuild() {
+        boolean swapped;
+        try {
+            swapped = changes.rebuild(() -> {
+                Roaring64Bitmap rebuilt = new Roaring64Bitmap();
+                for (Long bookId : loanRepository.findAllLoanedBookIds()) {
+                    rebuilt.addLong(bookId);
+                }
+                rebuilt.runOptimize();
+                return rebuilt;
+            }, (rebuilt, journal) -> {
+                for (long[] entry : journal) {
+                    set(rebuilt, entry[0], entry[1] == 1);
+                }
+                loaned = rebuilt;
+                ready = true;
+            });
+        } catch (RuntimeException e) {
+            log.warn("대출중 도서 비트맵 재구성 실패, 기존 비트맵을 유지합니다: {}", e.getMessage());
+            return;
+        }
+        if (swapped) {
+            log.debug("대출중 도서 비트맵 재구성 완료: {}권", loanedCount());
+        }
+    }
+
+    private static void set(Roaring64Bitmap bitmap, long bookId, boolean isLoaned) {
+        if (isLoaned) {
+            bitmap.addLong(bookId);
+        } else {
+            bitmap.removeLong(bookId);
+        }
+    }
+}
@@ -3,17 +3,22 @@ package com.codeit.library.service;
 import com.codeit.library.domain.Member;
 import com.codeit.library.dto.request.MemberCreateRequest;
 import com.codeit.library.dto.response.MemberResponse;
+import com.codeit.library.dto.response.MultiGetResponse;
+import com.codeit.library.event.MemberCreatedEvent;
 import com.codeit.library.exception.DuplicateEmailException;
 import com.codeit.library.exception.MemberNotFoundException;
+import com.codeit.library.repository.FieldProjectionRepository;
 import com.codeit.library.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,6 +28,8 @@ import java.util.stream.Collectors;
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final FieldProjectionRepository fieldProjectionRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final S3FileService s3FileService;
     private final S3PrivateFileService s3PrivateFileService;
 
@@ -49,7 +56,10 @@ public class MemberService {
 
         Member member = new Member(request.getName(), request.getEmail());
         Member saved = memberRepository.save(member);
-        
+
+        // outbox에 같은 트랜잭션으로 기록되어 커밋 후 외부로 전달됨
+        eventPublisher.publishEvent(new MemberCreatedEvent(saved.getId(), saved.getName(), saved.getEmail()));
+
         return MemberResponse.from(saved);
     }
 
@@ -65,6 +75,20 @@ public class MemberService {
             .collect(Collectors.toList());
     }
 
+    // 여러 회원을 IN 쿼리 한 번으로 조회 (요청 순서 유지, 없는 id는 missingIds로)
+    public MultiGetResponse<MemberResponse> findAllById(List<Long> ids) {
+        List<Long> distinctIds = MultiGetResponse.distinctIds(ids);
+        List<MemberResponse> found = memberRepository.findAllById(distinctIds).stream()
+            .map(MemberResponse::from)
+            .collect(Collectors.toList());
+        return MultiGetResponse.of(distinctIds, found, MemberResponse::id);
+    }
+
+    // fields=id,name 처럼 요청한 항목만 조회
+    public List<Map<String, Object>> findAll(String fields) {
+        return fieldProjectionRepository.findMembers(FieldProjectionRepository.parseFields(fields));
+    }
+
     public MemberResponse findByEmail(String email) {
         Member member = memberRepository.findByEmail(email)
             .orElseThrow(() -> new MemberNotFoundException("이메일 " + email + "인 회원을 찾을 수 없습니다"));
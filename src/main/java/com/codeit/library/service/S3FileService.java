@@ -1,15 +1,13 @@
 package com.codeit.library.service;
 
-import jakarta.annotation.PostConstruct;
+import com.codeit.library.metrics.LibraryMetrics;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 
@@ -27,31 +25,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class S3FileService {
 
-    // S3 버킷을 제어하는 객체
-    private S3Client s3Client;
+    private final LibraryMetrics libraryMetrics;
+
+    // S3 버킷을 제어하는 객체 (S3Config의 @Lazy 빈, 처음 사용할 때 생성)
+    private final ObjectProvider<S3Client> s3ClientProvider;
 
-    @Value("${spring.cloud.aws.credentials.accessKey}")
-    private String accessKey;
-    @Value("${spring.cloud.aws.credentials.secretKey}")
-    private String secretKey;
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucketName;
-    @Value("${spring.cloud.aws.region.static}")
-    private String region;
-
-    // S3에 연결해서 인증을 처리하는 로직
-    @PostConstruct // 클래스를 기반으로 객체가 생성될 때 1번만 자동 실행되는 어노테이션
-    private void initializeAmazonS3Client() {
-
-        // 액세스 키와 시크릿 키를 이용해서 계정 인증 받기
-        AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
-
-        // 지역 설정 및 인증 정보를 담은 S3Client 객체를 위의 변수에 세팅
-        this.s3Client = S3Client.builder()
-                .region(Region.of(region))
-                .credentialsProvider(StaticCredentialsProvider.create(credentials))
-                .build();
-    }
 
     public String uploadToS3Bucket(MultipartFile file) throws IOException {
         // 1. 고유한 파일명 생성(UUID + 원본 파일명)
@@ -66,14 +46,15 @@ public class S3FileService {
                 .build();
 
         // 3. 실제 S3에 파일 업로드
-        s3Client.putObject(
+        s3Client().putObject(
                 request,
                 RequestBody.fromBytes(file.getBytes())
         );
+        libraryMetrics.fileUploaded(file.getSize());
 
         // 4. 업로드된 파일의 URL 변환
         // utilities()를 통해 버킷 이름과 파일명이 결합된 url을 쉽게 얻어낼 수 있습니다. -> DB에 저장할 겁니다.
-        return s3Client.utilities()
+        return s3Client().utilities()
                 .getUrl(b -> b.bucket(bucketName).key(uniqueFileName))
                 .toString();
     }
@@ -93,14 +74,15 @@ public class S3FileService {
                 .build();
 
         // 3. 실제 S3에 파일 업로드
-        s3Client.putObject(
+        s3Client().putObject(
                 request,
                 RequestBody.fromBytes(file.getBytes())
         );
+        libraryMetrics.fileUploaded(file.getSize());
 
         // 4. 업로드된 파일의 URL 변환
         // utilities()를 통해 버킷 이름과 파일명이 결합된 url을 쉽게 얻어낼 수 있습니다. -> DB에 저장할 겁니다.
-        return s3Client.utilities()
+        return s3Client().utilities()
                 .getUrl(b -> b.bucket(bucketName).key(uniqueFileName))
                 .toString();
     }
@@ -125,7 +107,7 @@ public class S3FileService {
                 .key(key)
                 .build();
 
-        s3Client.deleteObject(request);
+        s3Client().deleteObject(request);
     }
 
     public void deleteFiles(List<String> imageUrls) throws IOException {
@@ -154,7 +136,7 @@ public class S3FileService {
                 .delete(delete)
                 .build();
 
-        s3Client.deleteObjects(request);
+        s3Client().deleteObjects(request);
     }
 
     // 파일 다운로드 요청
@@ -167,7 +149,7 @@ public class S3FileService {
                 .build();
 
         ResponseBytes<GetObjectResponse> objectAsBytes
-                = s3Client.getObjectAsBytes(getObjectRequest);
+                = s3Client().getObjectAsBytes(getObjectRequest);
 
         return objectAsBytes.asByteArray();
     }
@@ -183,7 +165,7 @@ public class S3FileService {
                     .build();
 
             // headObject의 결과로 응답된 객체에서 데이터의 여러 정보를 얻을 수 있습니다.
-            HeadObjectResponse response = s3Client.headObject(request);
+            HeadObjectResponse response = s3Client().headObject(request);
 //            response.contentType();
 //            response.contentLength();
 //            response.metadata();
@@ -203,6 +185,10 @@ public class S3FileService {
         }
     }
 
+    private S3Client s3Client() {
+        return s3ClientProvider.getObject();
+    }
+
     // url에서 파일명만 추출
     public static String extractFileNameFromUrl(String imageUrl) throws MalformedURLException, UnsupportedEncodingException {
         URL url = new URL(imageUrl);
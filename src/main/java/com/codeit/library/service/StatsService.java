@@ -0,0 +1,100 @@
+package com.codeit.library.service;
+
+import com.codeit.library.domain.Book;
+import com.codeit.library.domain.Member;
+import com.codeit.library.dto.response.BorrowerStatsResponse;
+import com.codeit.library.dto.response.DailyLoanStatsResponse;
+import com.codeit.library.dto.response.LoanDurationStatsResponse;
+import com.codeit.library.dto.response.TopItemResponse;
+import com.codeit.library.repository.BookRepository;
+import com.codeit.library.repository.MemberRepository;
+import com.codeit.library.stats.LoanRollupService;
+import com.codeit.library.stats.TopCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 대출 통계 조회. 숫자는 모두 LoanRollupService의 메모리 집계에서 읽고,
+ * 순위 항목의 이름만 최대 limit건의 PK 조회로 채웁니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StatsService {
+
+    private static final int MAX_DAYS = 366;
+
+    private final LoanRollupService loanRollupService;
+    private final BookRepository bookRepository;
+    private final MemberRepository memberRepository;
+
+    // 오늘부터 days일 전까지, 최근 날짜가 먼저
+    public List<DailyLoanStatsResponse> getDailyLoans(int days) {
+        validateDays(days);
+        LocalDate today = LocalDate.now();
+        List<DailyLoanStatsResponse> result = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            LocalDate date = today.minusDays(i);
+            result.add(new DailyLoanStatsResponse(date,
+                loanRollupService.loansOn(date), loanRollupService.distinctBorrowersOn(date)));
+        }
+        return result;
+    }
+
+    public List<TopItemResponse> getTopBooks(int limit) {
+        validateLimit(limit);
+        List<TopCounter.Entry> top = loanRollupService.topBooks(limit);
+        Map<Long, String> titles = bookRepository.findAllById(ids(top)).stream()
+            .collect(Collectors.toMap(Book::getId, Book::getTitle));
+        return toResponses(top, titles::get);
+    }
+
+    public List<TopItemResponse> getTopMembers(int limit) {
+        validateLimit(limit);
+        List<TopCounter.Entry> top = loanRollupService.topMembers(limit);
+        Map<Long, String> names = memberRepository.findAllById(ids(top)).stream()
+            .collect(Collectors.toMap(Member::getId, Member::getName));
+        return toResponses(top, names::get);
+    }
+
+    public LoanDurationStatsResponse getLoanDuration() {
+        return new LoanDurationStatsResponse(loanRollupService.windowStart(),
+            loanRollupService.returnedLoans(), loanRollupService.averageLoanDays());
+    }
+
+    public BorrowerStatsResponse getDistinctBorrowers(int days) {
+        validateDays(days);
+        return new BorrowerStatsResponse(days,
+            loanRollupService.distinctBorrowers(LocalDate.now(), days), loanRollupService.borrowerEstimateError());
+    }
+
+    private static List<Long> ids(List<TopCounter.Entry> top) {
+        return top.stream().map(TopCounter.Entry::id).toList();
+    }
+
+    private static List<TopItemResponse> toResponses(List<TopCounter.Entry> top, Function<Long, String> names) {
+        return top.stream()
+            .map(entry -> new TopItemResponse(entry.id(), names.apply(entry.id()), entry.count()))
+            .toList();
+    }
+
+    private static void validateDays(int days) {
+        if (days < 1 || days > MAX_DAYS) {
+            throw new IllegalArgumentException("days는 1 이상 " + MAX_DAYS + " 이하여야 합니다");
+        }
+    }
+
+    private static void validateLimit(int limit) {
+        if (limit < 1 || limit > LoanRollupService.maxTopLimit()) {
+            throw new IllegalArgumentException("limit은 1 이상 " + LoanRollupService.maxTopLimit() + " 이하여야 합니다");
+        }
+    }
+}
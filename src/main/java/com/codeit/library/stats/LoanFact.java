@@ -0,0 +1,13 @@
+package com.codeit.library.stats;
+
+import java.time.LocalDate;
+
+// 통계 재계산에 필요한 대출 컬럼만 담은 조회 결과 (엔티티/연관관계를 읽지 않음)
+public record LoanFact(
+    Long id,
+    Long memberId,
+    Long bookId,
+    LocalDate loanDate,
+    LocalDate returnDate
+) {
+}
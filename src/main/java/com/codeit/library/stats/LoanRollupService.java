@@ -0,0 +1,237 @@
+package com.codeit.library.stats;
+
+import com.codeit.library.event.LoanCreatedEvent;
+import com.codeit.library.event.LoanReturnedEvent;
+import com.codeit.library.repository.LoanRepository;
+import com.codeit.library.util.KeysetScan;
+import com.codeit.library.util.RebuildJournal;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대출 통계를 메모리에서 증분 집계합니다. 조회 API는 집계 결과만 읽으므로 loan 테이블 크기와 무관합니다.
+ *
+ * - 대출/반납 이벤트(커밋 후)마다 일별 대출 수, 일별/전체 대출 회원 HyperLogLog, 도서/회원 상위 순위,
+ *   대출 기간 합계를 갱신
+ * - reconcile-interval-ms(기본 1시간)마다 최근 windowDays일의 대출을 id 키셋 스캔으로 다시 읽어 새 집계를 만들고 교체
+ *   (이벤트 유실, 다른 노드에서 처리된 대출, 기간이 지난 데이터를 바로잡음). 기간 시작일도 이때 오늘 기준으로 옮겨짐
+ * - 첫 재계산은 기동 후 0 ~ reconcile-jitter-ms 사이 임의 시점에 스케줄러 스레드에서 실행 (기동/readiness를 막지 않고,
+ *   여러 노드가 같은 시각에 1년치를 동시에 읽지 않도록 노드마다 주기가 어긋남)
+ * - 재계산 중에 들어온 이벤트는 따로 기록해 두었다가, 스캔에서 보지 못한 변경만 새 집계에 다시 반영 ({@link RebuildJournal})
+ * 집계는 노드 메모리에만 있으므로 각 노드가 같은 방식으로 스스로 유지합니다.
+ * 그래서 노드마다 값이 조금씩 다를 수 있습니다: 다른 노드에서 처리된 대출/반납은 이 노드의 다음 재계산 때 반영되고,
+ * 기동 직후 첫 재계산 전에는 이 노드가 받은 이벤트만 집계됩니다.
+ */
+@Slf4j
+@Component
+public class LoanRollupService {
+
+    private static final int RECONCILE_CHUNK_SIZE = 1000;
+
+    private final LoanRepository loanRepository;
+    private final int windowDays;
+
+    // 재계산 중 기록: 대출 id -> 재계산 중 받은 대출/반납 이벤트
+    private final RebuildJournal<Map<Long, PendingEvent>> changes = new RebuildJournal<>(action -> {
+        synchronized (this) {
+            action.run();
+        }
+    }, LinkedHashMap::new);
+    private final AtomicLong lastDrift = new AtomicLong();
+
+    private Rollup rollup;
+
+    private record PendingEvent(long memberId, long bookId, LocalDate loanDate, boolean created, LocalDate returnDate) {
+    }
+
+    public LoanRollupService(LoanRepository loanRepository, MeterRegistry meterRegistry,
+                             @Value("${app.stats.window-days:365}") int windowDays) {
+        this.loanRepository = loanRepository;
+        this.windowDays = windowDays;
+        this.rollup = new Rollup(LocalDate.now().minusDays(windowDays));
+        Gauge.builder("library.stats.reconcile.drift", lastDrift, AtomicLong::get)
+            .description("Loans counted differently by the incremental rollup and the last reconciliation")
+            .register(meterRegistry);
+    }
+
+    @TransactionalEventListener
+    public void onLoanCreated(LoanCreatedEvent event) {
+        loanCreated(event.getLoanId(), event.getMemberId(), event.getBookId(), event.getLoanDate());
+    }
+
+    @TransactionalEventListener
+    public void onLoanReturned(LoanReturnedEvent event) {
+        loanReturned(event.getLoanId(), event.getMemberId(), event.getBookId(),
+            event.getLoanDate(), event.getReturnDate());
+    }
+
+    public synchronized void loanCreated(Long loanId, Long memberId, Long bookId, LocalDate loanDate) {
+        Map<Long, PendingEvent> pending = changes.journal();
+        if (pending != null) {
+            pending.merge(loanId, new PendingEvent(memberId, bookId, loanDate, true, null),
+                (previous, created) -> new PendingEvent(memberId, bookId, loanDate, true, previous.returnDate()));
+        }
+        if (!loanDate.isBefore(rollup.windowStart)) {
+            rollup.loanCreated(memberId, bookId, loanDate);
+        }
+    }
+
+    public synchronized void loanReturned(Long loanId, Long memberId, Long bookId, LocalDate loanDate, LocalDate returnDate) {
+        Map<Long, PendingEvent> pending = changes.journal();
+        if (pending != null) {
+            pending.merge(loanId, new PendingEvent(memberId, bookId, loanDate, false, returnDate),
+                (previous, returned) -> new PendingEvent(memberId, bookId, loanDate, previous.created(), returnDate));
+        }
+        if (!loanDate.isBefore(rollup.windowStart)) {
+            rollup.loanReturned(loanDate, returnDate);
+        }
+    }
+
+    /**
+     * 최근 windowDays일(대출일 기준)의 대출을 다시 읽어 집계를 새로 만들고 교체합니다.
+     * 읽기 전용 쿼리이므로 replica 라우팅이 켜져 있으면 replica에서 읽습니다.
+     */
+    @Scheduled(fixedDelayString = "${app.stats.reconcile-interval-ms:3600000}",
+               initialDelayString = "#{T(java.util.concurrent.ThreadLocalRandom).current()"
+                   + ".nextLong(${app.stats.reconcile-jitter-ms:300000} + 1)}")
+    public void reconcile() {
+        LocalDate windowStart = LocalDate.now().minusDays(windowDays);
+        Map<Long, LoanFact> scanned = new HashMap<>();
+        boolean swapped;
+        try {
+            swapped = changes.rebuild(() -> {
+                Rollup rebuilt = new Rollup(windowStart);
+                KeysetScan.forEachChunk(RECONCILE_CHUNK_SIZE,
+                    lastId -> loanRepository.findFactsSince(windowStart, lastId, PageRequest.of(0, RECONCILE_CHUNK_SIZE)),
+                    LoanFact::id,
+                    chunk -> {
+                        for (LoanFact fact : chunk) {
+                            rebuilt.loanCreated(fact.memberId(), fact.bookId(), fact.loanDate());
+                            if (fact.returnDate() != null) {
+                                rebuilt.loanReturned(fact.loanDate(), fact.returnDate());
+                            }
+                        }
+                        rememberScanned(chunk, scanned);
+                    });
+                return rebuilt;
+            }, (rebuilt, pending) -> {
+                replayPending(rebuilt, pending, scanned);
+                lastDrift.set(Math.abs(rebuilt.totalLoans - countSince(rollup, windowStart)));
+                rollup = rebuilt;
+            });
+        } catch (RuntimeException e) {
+            log.warn("대출 통계 재계산 실패, 기존 집계를 유지합니다: {}", e.getMessage());
+            return;
+        }
+        if (swapped) {
+            log.info("대출 통계 재계산 완료: {} 이후 대출 {}건, 오차 {}건", windowStart, totalLoans(), lastDrift.get());
+        }
+    }
+
+    // 재계산 중 이벤트가 온 대출만 스캔 결과를 기억 (전체 id를 들고 있지 않도록)
+    private synchronized void rememberScanned(List<LoanFact> chunk, Map<Long, LoanFact> scanned) {
+        Map<Long, PendingEvent> pending = changes.journal();
+        for (LoanFact fact : chunk) {
+            if (pending.containsKey(fact.id())) {
+                scanned.put(fact.id(), fact);
+            }
+        }
+    }
+
+    private static void replayPending(Rollup rebuilt, Map<Long, PendingEvent> pending, Map<Long, LoanFact> scanned) {
+        for (Map.Entry<Long, PendingEvent> entry : pending.entrySet()) {
+            PendingEvent event = entry.getValue();
+            LoanFact fact = scanned.get(entry.getKey());
+            if (event.loanDate().isBefore(rebuilt.windowStart)) {
+                continue;
+            }
+            if (event.created() && fact == null) {
+                rebuilt.loanCreated(event.memberId(), event.bookId(), event.loanDate());
+            }
+            if (event.returnDate() != null && (fact == null || fact.returnDate() == null)) {
+                rebuilt.loanReturned(event.loanDate(), event.returnDate());
+            }
+        }
+    }
+
+    private synchronized long totalLoans() {
+        return rollup.totalLoans;
+    }
+
+    // 이전 집계 중 새 기간에 해당하는 대출 수 (기간이 밀려나 빠진 날은 오차로 세지 않음)
+    private static long countSince(Rollup previous, LocalDate windowStart) {
+        long from = windowStart.toEpochDay();
+        return previous.dailyLoans.entrySet().stream()
+            .filter(entry -> entry.getKey() >= from)
+            .mapToLong(Map.Entry::getValue)
+            .sum();
+    }
+
+    // ===== 조회 (모두 집계 크기에만 비례) =====
+
+    public synchronized long loansOn(LocalDate date) {
+        return rollup.dailyLoans.getOrDefault(date.toEpochDay(), 0L);
+    }
+
+    public synchronized long distinctBorrowersOn(LocalDate date) {
+        HyperLogLog borrowers = rollup.dailyBorrowers.get(date.toEpochDay());
+        return borrowers == null ? 0 : borrowers.estimate();
+    }
+
+    // 최근 days일(오늘 포함) 동안 한 번 이상 대출한 회원 수 추정
+    public synchronized long distinctBorrowers(LocalDate today, int days) {
+        HyperLogLog merged = new HyperLogLog(Rollup.HLL_PRECISION);
+        for (int i = 0; i < days; i++) {
+            HyperLogLog daily = rollup.dailyBorrowers.get(today.minusDays(i).toEpochDay());
+            if (daily != null) {
+                merged.merge(daily);
+            }
+        }
+        return merged.estimate();
+    }
+
+    public synchronized long distinctBorrowersInWindow() {
+        return rollup.borrowers.estimate();
+    }
+
+    public double borrowerEstimateError() {
+        return new HyperLogLog(Rollup.HLL_PRECISION).relativeError();
+    }
+
+    public synchronized List<TopCounter.Entry> topBooks(int limit) {
+        return rollup.books.top(limit);
+    }
+
+    public synchronized List<TopCounter.Entry> topMembers(int limit) {
+        return rollup.members.top(limit);
+    }
+
+    public synchronized long returnedLoans() {
+        return rollup.returnedLoans;
+    }
+
+    public synchronized double averageLoanDays() {
+        return rollup.returnedLoans == 0 ? 0 : (double) rollup.totalLoanDays / rollup.returnedLoans;
+    }
+
+    public synchronized LocalDate windowStart() {
+        return rollup.windowStart;
+    }
+
+    public static int maxTopLimit() {
+        return Rollup.TOP_CAPACITY;
+    }
+}
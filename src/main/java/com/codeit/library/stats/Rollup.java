@@ -0,0 +1,44 @@
+package com.codeit.library.stats;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한 시점의 대출 집계 (LoanRollupService가 보관하고, 재계산 시 새 인스턴스로 교체).
+ * 스레드 안전하지 않으므로 LoanRollupService의 잠금 안에서만 사용합니다.
+ */
+class Rollup {
+
+    static final int TOP_CAPACITY = 100;
+    static final int HLL_PRECISION = 12;
+
+    final LocalDate windowStart;
+    final Map<Long, Long> dailyLoans = new HashMap<>(); // epochDay -> 대출 수
+    final Map<Long, HyperLogLog> dailyBorrowers = new HashMap<>(); // epochDay -> 대출한 회원 추정
+    final HyperLogLog borrowers = new HyperLogLog(HLL_PRECISION);
+    final TopCounter books = new TopCounter(TOP_CAPACITY);
+    final TopCounter members = new TopCounter(TOP_CAPACITY);
+    long totalLoans;
+    long returnedLoans;
+    long totalLoanDays;
+
+    Rollup(LocalDate windowStart) {
+        this.windowStart = windowStart;
+    }
+
+    void loanCreated(long memberId, long bookId, LocalDate loanDate) {
+        long day = loanDate.toEpochDay();
+        dailyLoans.merge(day, 1L, Long::sum);
+        dailyBorrowers.computeIfAbsent(day, key -> new HyperLogLog(HLL_PRECISION)).add(memberId);
+        borrowers.add(memberId);
+        books.increment(bookId);
+        members.increment(memberId);
+        totalLoans++;
+    }
+
+    void loanReturned(LocalDate loanDate, LocalDate returnDate) {
+        returnedLoans++;
+        totalLoanDays += returnDate.toEpochDay() - loanDate.toEpochDay();
+    }
+}
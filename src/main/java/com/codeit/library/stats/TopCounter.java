@@ -0,0 +1,73 @@
+package com.codeit.library.stats;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * id별 횟수와 상위 capacity개 순위를 함께 관리합니다.
+ * 횟수는 증가만 하므로 increment 때 순위 배열 안에서만 자리를 옮기면 되고(O(capacity)),
+ * 조회는 정렬 없이 앞에서부터 잘라 반환합니다.
+ */
+public class TopCounter {
+
+    public record Entry(long id, long count) {
+    }
+
+    private final int capacity;
+    private final Map<Long, long[]> counts = new HashMap<>();
+    private final List<Entry> top = new ArrayList<>();
+
+    public TopCounter(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public void increment(long id) {
+        long count = ++counts.computeIfAbsent(id, key -> new long[1])[0];
+
+        int position = indexOf(id);
+        if (position < 0) {
+            if (top.size() < capacity) {
+                top.add(new Entry(id, count));
+                position = top.size() - 1;
+            } else if (count > top.get(top.size() - 1).count()) {
+                position = top.size() - 1;
+                top.set(position, new Entry(id, count));
+            } else {
+                return;
+            }
+        } else {
+            top.set(position, new Entry(id, count));
+        }
+        // 같은 횟수면 먼저 올라온 id가 앞에 남음
+        while (position > 0 && top.get(position - 1).count() < count) {
+            Entry previous = top.get(position - 1);
+            top.set(position - 1, top.get(position));
+            top.set(position, previous);
+            position--;
+        }
+    }
+
+    public List<Entry> top(int limit) {
+        return List.copyOf(top.subList(0, Math.min(limit, top.size())));
+    }
+
+    public long count(long id) {
+        long[] count = counts.get(id);
+        return count == null ? 0 : count[0];
+    }
+
+    public int size() {
+        return counts.size();
+    }
+
+    private int indexOf(long id) {
+        for (int i = 0; i < top.size(); i++) {
+            if (top.get(i).id() == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
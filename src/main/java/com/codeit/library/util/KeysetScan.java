@@ -0,0 +1,82 @@
+package com.codeit.library.util;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * id 키셋 스캔: 마지막으로 읽은 id 이후를 id 순으로 chunkSize씩 읽고, chunk가 chunkSize보다 작으면 끝냅니다.
+ * OFFSET 없이 인덱스 범위 조회만 반복하므로 테이블이 커져도 chunk 하나의 비용이 일정합니다.
+ * 메모리 색인(대출중 비트맵, 도서 카탈로그, 자동완성, 추천, 통계, 연체 휠)을 DB로 채울 때 씁니다.
+ */
+public final class KeysetScan {
+
+    private KeysetScan() {
+    }
+
+    /**
+     * chunk마다 onChunk를 호출하고 읽은 행 수를 반환합니다.
+     *
+     * @param chunkAfter 마지막 id(처음은 0)를 받아 그 이후 최대 chunkSize 행을 id 순으로 반환
+     */
+    public static <T> long forEachChunk(int chunkSize, LongFunction<List<T>> chunkAfter, ToLongFunction<T> idOf,
+                                        Consumer<List<T>> onChunk) {
+        long lastId = 0;
+        long total = 0;
+        while (true) {
+            List<T> chunk = chunkAfter.apply(lastId);
+            if (!chunk.isEmpty()) {
+                onChunk.accept(chunk);
+                total += chunk.size();
+                lastId = idOf.applyAsLong(chunk.get(chunk.size() - 1));
+            }
+            if (chunk.size() < chunkSize) {
+                return total;
+            }
+        }
+    }
+
+    /**
+     * 같은 방식으로 읽되 한 행씩 내보냅니다. 다음 chunk는 앞 chunk를 다 소비한 뒤에 읽으므로
+     * 메모리에는 chunk 하나만 올라옵니다. onChunk는 chunk를 읽을 때마다 (행을 내보내기 전에) 호출됩니다.
+     */
+    public static <T> Iterator<T> iterator(int chunkSize, LongFunction<List<T>> chunkAfter, ToLongFunction<T> idOf,
+                                           Consumer<List<T>> onChunk) {
+        return new Iterator<>() {
+
+            private List<T> chunk = List.of();
+            private int position;
+            private long lastId;
+            private boolean exhausted;
+
+            @Override
+            public boolean hasNext() {
+                if (position < chunk.size()) {
+                    return true;
+                }
+                if (exhausted) {
+                    return false;
+                }
+                chunk = chunkAfter.apply(lastId);
+                position = 0;
+                exhausted = chunk.size() < chunkSize;
+                if (!chunk.isEmpty()) {
+                    lastId = idOf.applyAsLong(chunk.get(chunk.size() - 1));
+                    onChunk.accept(chunk);
+                }
+                return !chunk.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return chunk.get(position++);
+            }
+        };
+    }
+}
@@ -0,0 +1,203 @@
+package com.codeit.library.util;
+
+/**
+ * long 키 -> int 값 해시 맵 (개방 주소법, 선형 탐사).
+ * Map&lt;Long, Integer&gt;와 달리 항목마다 Long/Integer/Entry 객체를 만들지 않아 항목당 약 12~24바이트만 씁니다.
+ * 키 0은 빈 칸 표시로 쓰므로 따로 보관합니다. 스레드 안전하지 않습니다.
+ */
+public class LongIntHashMap {
+
+    public interface EntryConsumer {
+        void accept(long key, int value);
+    }
+
+    public interface EntryPredicate {
+        boolean test(long key, int value);
+    }
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    public LongIntHashMap() {
+        this(16);
+    }
+
+    public LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        keys = new long[capacity];
+        values = new int[capacity];
+    }
+
+    public int get(long key) {
+        return getOrDefault(key, 0);
+    }
+
+    public int getOrDefault(long key, int defaultValue) {
+        if (key == 0) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int mask = keys.length - 1;
+        for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return values[i];
+            }
+            if (keys[i] == 0) {
+                return defaultValue;
+            }
+        }
+    }
+
+    public boolean containsKey(long key) {
+        if (key == 0) {
+            return hasZeroKey;
+        }
+        int mask = keys.length - 1;
+        for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return true;
+            }
+            if (keys[i] == 0) {
+                return false;
+            }
+        }
+    }
+
+    public void put(long key, int value) {
+        if (key == 0) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return;
+        }
+        int i = findOrInsert(key);
+        values[i] = value;
+    }
+
+    // key의 값에 delta를 더하고 더한 결과를 반환 (없으면 0에서 시작)
+    public int addTo(long key, int delta) {
+        if (key == 0) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue += delta;
+            return zeroValue;
+        }
+        int i = findOrInsert(key);
+        values[i] += delta;
+        return values[i];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void forEach(EntryConsumer consumer) {
+        if (hasZeroKey) {
+            consumer.accept(0, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    public int[] values() {
+        int[] result = new int[size];
+        int n = 0;
+        if (hasZeroKey) {
+            result[n++] = zeroValue;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                result[n++] = values[i];
+            }
+        }
+        return result;
+    }
+
+    // predicate를 만족하는 항목만 남깁니다. 테이블을 새로 만들어 다시 넣으므로 O(capacity) 입니다.
+    public void retainIf(EntryPredicate predicate) {
+        if (hasZeroKey && !predicate.test(0, zeroValue)) {
+            hasZeroKey = false;
+            zeroValue = 0;
+            size--;
+        }
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[oldKeys.length];
+        values = new int[oldValues.length];
+        size = hasZeroKey ? 1 : 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0 && predicate.test(oldKeys[i], oldValues[i])) {
+                values[findOrInsert(oldKeys[i])] = oldValues[i];
+            }
+        }
+    }
+
+    private int findOrInsert(long key) {
+        int mask = keys.length - 1;
+        int i = slot(key, mask);
+        while (keys[i] != 0) {
+            if (keys[i] == key) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = 0;
+        size++;
+        if (size > keys.length * LOAD_FACTOR) {
+            rehash(keys.length << 1);
+            return findExisting(key);
+        }
+        return i;
+    }
+
+    private int findExisting(long key) {
+        int mask = keys.length - 1;
+        int i = slot(key, mask);
+        while (keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[capacity];
+        values = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int j = slot(oldKeys[i], mask);
+                while (keys[j] != 0) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+
+    private static int slot(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L; // 연속된 id가 한쪽에 몰리지 않도록 섞음
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        forEach((key, value) -> builder.append(builder.length() > 1 ? ", " : "").append(key).append('=').append(value));
+        return builder.append('}').toString();
+    }
+}
@@ -0,0 +1,87 @@
+package com.codeit.library.util;
+
+import java.util.concurrent.locks.Lock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 메모리 색인을 DB 스캔으로 다시 만들어 교체하는 절차. 스캔하는 동안에도 갱신을 막지 않습니다.
+ *
+ * 1. 잠금 안에서 변경 기록(journal)을 시작 (이미 재구성 중이면 아무것도 하지 않음)
+ * 2. 잠금 밖에서 새 상태를 만듦 (DB 스캔). 실패하면 기록을 버리고 예외를 그대로 던지므로 기존 상태가 유지됨
+ * 3. 잠금 안에서 기록된 변경을 새 상태에 다시 적용한 뒤 교체.
+ *    스캔은 조회 시점 이후에 커밋된 변경을 보지 못했을 수 있으므로, 기록은 도착 순서를 지켜 다시 적용해야 합니다
+ *    (J로 순서 있는 List나 LinkedHashMap을 씀)
+ * 갱신 쪽은 같은 잠금 안에서 {@link #journal()}이 null이 아니면 변경을 기록한 뒤 현재 상태에 적용합니다.
+ *
+ * @param <J> 변경 기록 (List, 대출 id별 Map 등)
+ */
+public final class RebuildJournal<J> {
+
+    private final Consumer<Runnable> locked;
+    private final Supplier<J> newJournal;
+    private J journal;
+
+    /**
+     * @param locked 넘겨받은 작업을 색인의 배타 잠금 안에서 실행 (synchronized 블록이나 쓰기 잠금)
+     */
+    public RebuildJournal(Consumer<Runnable> locked, Supplier<J> newJournal) {
+        this.locked = locked;
+        this.newJournal = newJournal;
+    }
+
+    // 재구성 중이면 변경 기록, 아니면 null. 색인의 잠금 안에서 호출
+    public J journal() {
+        return journal;
+    }
+
+    /**
+     * @param build 새 상태를 만듦 (잠금 밖에서 실행)
+     * @param replayAndSwap 기록된 변경을 새 상태에 다시 적용하고 교체 (잠금 안에서 실행)
+     * @return 교체했으면 true, 이미 다른 재구성이 진행 중이면 false
+     */
+    public <S> boolean rebuild(Supplier<S> build, BiConsumer<S, J> replayAndSwap) {
+        boolean[] started = new boolean[1];
+        locked.accept(() -> {
+            if (journal == null) {
+                journal = newJournal.get();
+                started[0] = true;
+            }
+        });
+        if (!started[0]) {
+            return false;
+        }
+
+        S rebuilt = buildOrAbort(build);
+        locked.accept(() -> {
+            try {
+                replayAndSwap.accept(rebuilt, journal);
+            } finally {
+                journal = null;
+            }
+        });
+        return true;
+    }
+
+    private <S> S buildOrAbort(Supplier<S> build) {
+        try {
+            return build.get();
+        } catch (RuntimeException | Error e) {
+            locked.accept(() -> journal = null);
+            throw e;
+        }
+    }
+
+    // ReadWriteLock 등 java.util.concurrent 잠금을 locked 인자로 쓸 때
+    public static Consumer<Runnable> with(Lock lock) {
+        return action -> {
+            lock.lock();
+            try {
+                action.run();
+            } finally {
+                lock.unlock();
+            }
+        };
+    }
+}
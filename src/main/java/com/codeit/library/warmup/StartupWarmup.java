@@ -0,0 +1,77 @@
+package com.codeit.library.warmup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 기동 시 {@link WarmupTask}들을 백그라운드 스레드(app.warmup.parallelism개)에서 실행합니다.
+ * ApplicationReadyEvent를 받은 스레드는 바로 돌아가므로 전체 테이블 스캔이 기동 완료를 막지 않습니다.
+ *
+ * 작업이 모두 끝나기 전에는 health 기여자 startupWarmup이 OUT_OF_SERVICE이고,
+ * readiness 그룹(/actuator/health/readiness)에 포함되어 있어 로드밸런서가 그동안 트래픽을 보내지 않습니다.
+ * 실패한 작업은 로그만 남기고 끝난 것으로 셉니다 (각 색인은 적재 전에도 DB로 조회하고, 주기적 재적재에서 다시 시도함).
+ */
+@Slf4j
+@Component
+public class StartupWarmup implements HealthIndicator, AutoCloseable {
+
+    private final List<WarmupTask> tasks;
+    private final ExecutorService executor;
+    private final AtomicInteger remaining;
+    private final Set<String> failed = ConcurrentHashMap.newKeySet();
+
+    public StartupWarmup(ObjectProvider<WarmupTask> tasks,
+                         @Value("${app.warmup.parallelism:2}") int parallelism) {
+        this.tasks = tasks.orderedStream().toList();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, parallelism), new CustomizableThreadFactory("warmup-"));
+        this.remaining = new AtomicInteger(this.tasks.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long start = System.nanoTime();
+        for (WarmupTask task : tasks) {
+            executor.execute(() -> {
+                String name = task.getClass().getSimpleName();
+                try {
+                    task.warmUp();
+                } catch (RuntimeException e) {
+                    failed.add(name);
+                    log.warn("기동 준비 작업 실패: {}: {}", name, e.getMessage());
+                } finally {
+                    if (remaining.decrementAndGet() == 0) {
+                        log.info("기동 준비 작업 완료: {}개, {}ms", tasks.size(), (System.nanoTime() - start) / 1_000_000);
+                        executor.shutdown();
+                    }
+                }
+            });
+        }
+    }
+
+    @Override
+    public Health health() {
+        int left = remaining.get();
+        Health.Builder health = left == 0 ? Health.up() : Health.outOfService().withDetail("remaining", left);
+        return failed.isEmpty() ? health.build() : health.withDetail("failed", failed).build();
+    }
+
+    // 준비 작업 도중 종료되면 스캔을 끊음
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,10 @@
+package com.codeit.library.warmup;
+
+/**
+ * 기동 직후 한 번 실행할 준비 작업 (메모리 색인 적재, 파티션 점검 등).
+ * {@link StartupWarmup}이 요청 스레드와 무관한 백그라운드 스레드에서 실행하고, 모두 끝나야 readiness를 UP으로 보고합니다.
+ */
+public interface WarmupTask {
+
+    void warmUp();
+}
@@ -1,22 +0,0 @@
--- 초기 데이터 삽입
-
--- 책 데이터
-INSERT INTO book (title, author, isbn, price, published_date) VALUES
-('클린 코드', '로버트 마틴', '978-0132350884', 30000, '2008-08-01'),
-('리팩토링', '마틴 파울러', '978-0134757599', 35000, '2018-11-01'),
-('이펙티브 자바', '조슈아 블로크', '978-0134685991', 36000, '2018-01-01'),
-('클린 아키텍처', '로버트 마틴', '978-0134494166', 32000, '2017-09-01'),
-('테스트 주도 개발', '켄트 벡', '978-0321146533', 28000, '2002-11-01');
-
--- 회원 데이터
-INSERT INTO member (name, email) VALUES
-('홍길동', 'hong@example.com'),
-('김철수', 'kim@example.com'),
-('이영희', 'lee@example.com');
-
--- 대출 데이터 (일부는 대출중, 일부는 반납 완료)
-INSERT INTO loan (member_id, book_id, loan_date, return_date) VALUES
-(1, 1, '2024-12-01', '2024-12-10'),
-(2, 2, '2024-12-05', NULL),
-(3, 3, '2024-12-07', NULL);
-
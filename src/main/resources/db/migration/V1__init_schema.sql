@@ -0,0 +1,30 @@
+-- 초기 스키마
+-- Hibernate(ddl-auto)가 이미 테이블을 만들어 둔 DB는 flyway 이력이 없으므로 baseline(버전 1)으로 등록되고
+-- 이 파일은 건너뜁니다 (spring.flyway.baseline-on-migrate). 기존 데이터는 지우지 않습니다.
+
+CREATE TABLE IF NOT EXISTS book (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title          VARCHAR(255) NOT NULL,
+    author         VARCHAR(255) NOT NULL,
+    isbn           VARCHAR(255),
+    price          INTEGER      NOT NULL,
+    published_date DATE,
+    CONSTRAINT uk_book_isbn UNIQUE (isbn)
+);
+
+CREATE TABLE IF NOT EXISTS member (
+    id    BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name  VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_member_email UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS loan (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    member_id   BIGINT NOT NULL,
+    book_id     BIGINT NOT NULL,
+    loan_date   DATE   NOT NULL,
+    return_date DATE,
+    CONSTRAINT fk_loan_member FOREIGN KEY (member_id) REFERENCES member (id),
+    CONSTRAINT fk_loan_book FOREIGN KEY (book_id) REFERENCES book (id)
+);
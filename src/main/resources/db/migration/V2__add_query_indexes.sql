@@ -0,0 +1,33 @@
+-- Repository 쿼리별 인덱스
+-- 각 인덱스 위의 주석은 해당 인덱스를 사용하는 Repository 메서드입니다.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- LoanRepository.findByMember / FK(member 삭제 시 참조 검사)
+CREATE INDEX idx_loan_member_id ON loan (member_id);
+
+-- FK(book 삭제 시 참조 검사)
+CREATE INDEX idx_loan_book_id ON loan (book_id);
+
+-- LoanRepository.countByMemberIdAndReturnDateIsNull, existsOverdueLoan
+-- 미반납 대출만 담는 부분 인덱스라 반납 이력이 쌓여도 크기가 늘지 않습니다.
+CREATE INDEX idx_loan_member_open ON loan (member_id, loan_date) WHERE return_date IS NULL;
+
+-- LoanRepository.existsByBookIdAndReturnDateIsNull
+-- 한 책은 동시에 한 건만 대출될 수 있으므로 유니크로 만들어 중복 대출도 막습니다.
+CREATE UNIQUE INDEX uk_loan_book_open ON loan (book_id) WHERE return_date IS NULL;
+
+-- LoanRepository.findByReturnDateIsNull, findByReturnDateIsNullAndIdGreaterThanOrderByIdAsc
+CREATE INDEX idx_loan_open_id ON loan (id) WHERE return_date IS NULL;
+
+-- BookRepository.findByAuthor, findByAuthorOrderByPriceAsc, searchBooks(author, ...)
+CREATE INDEX idx_book_author_price ON book (author, price);
+
+-- BookRepository.findByPublishedDateBetween
+CREATE INDEX idx_book_published_date ON book (published_date);
+
+-- BookRepository.findExpensiveRecentBooks, searchBooks(null, minPrice, maxPrice)
+CREATE INDEX idx_book_price_published_date ON book (price, published_date);
+
+-- BookRepository.findByTitleContaining (LIKE '%keyword%')
+CREATE INDEX idx_book_title_trgm ON book USING gin (title gin_trgm_ops);
@@ -0,0 +1,32 @@
+-- 초기 데이터 삽입 (기존 data.sql)
+-- baseline으로 등록된 기존 DB에도 실행되므로 이미 있는 도서/회원은 건너뛰고, 대출은 비어 있을 때만 넣습니다.
+
+-- 책 데이터
+INSERT INTO book (title, author, isbn, price, published_date) VALUES
+('클린 코드', '로버트 마틴', '978-0132350884', 30000, '2008-08-01'),
+('리팩토링', '마틴 파울러', '978-0134757599', 35000, '2018-11-01'),
+('이펙티브 자바', '조슈아 블로크', '978-0134685991', 36000, '2018-01-01'),
+('클린 아키텍처', '로버트 마틴', '978-0134494166', 32000, '2017-09-01'),
+('테스트 주도 개발', '켄트 벡', '978-0321146533', 28000, '2002-11-01')
+ON CONFLICT DO NOTHING;
+
+-- 회원 데이터
+INSERT INTO member (name, email) VALUES
+('홍길동', 'hong@example.com'),
+('김철수', 'kim@example.com'),
+('이영희', 'lee@example.com')
+ON CONFLICT DO NOTHING;
+
+-- 대출 데이터 (일부는 대출중, 일부는 반납 완료)
+-- id 대신 email/isbn으로 찾아 기존 DB에서도 같은 회원/도서를 가리키게 함
+INSERT INTO loan (member_id, book_id, loan_date, return_date)
+SELECT m.id, b.id, seed.loan_date, seed.return_date
+FROM (VALUES
+    ('hong@example.com', '978-0132350884', DATE '2024-12-01', DATE '2024-12-10'),
+    ('kim@example.com', '978-0134757599', DATE '2024-12-05', NULL),
+    ('lee@example.com', '978-0134685991', DATE '2024-12-07', NULL)
+) AS seed (email, isbn, loan_date, return_date)
+JOIN member m ON m.email = seed.email
+JOIN book b ON b.isbn = seed.isbn
+WHERE NOT EXISTS (SELECT 1 FROM loan);
+
@@ -0,0 +1,13 @@
+-- 대출 id를 IDENTITY에서 시퀀스로 전환
+-- IDENTITY는 INSERT 마다 생성된 키를 돌려받아야 해서 Hibernate가 JDBC 배치 INSERT를 할 수 없습니다.
+-- 시퀀스를 50씩 증가시키면 Hibernate(pooled optimizer)가 한 번의 nextval로 id 50개를 메모리에서 할당합니다.
+-- (Loan 엔티티의 @SequenceGenerator allocationSize와 반드시 같아야 함)
+
+ALTER TABLE loan ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE loan_id_seq INCREMENT BY 50;
+SELECT setval('loan_id_seq', COALESCE((SELECT MAX(id) FROM loan), 0) + 50);
+
+-- SQL로 직접 넣는 경우(시드, 테스트 데이터)를 위한 기본값
+ALTER TABLE loan ALTER COLUMN id SET DEFAULT nextval('loan_id_seq');
+ALTER SEQUENCE loan_id_seq OWNED BY loan.id;
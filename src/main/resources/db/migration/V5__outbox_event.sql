@@ -0,0 +1,9 @@
+-- 트랜잭셔널 outbox: 엔티티 변경과 같은 트랜잭션에서 기록되고, OutboxRelay가 전달 후 삭제합니다.
+CREATE TABLE outbox_event (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    aggregate_type VARCHAR(50)   NOT NULL,
+    aggregate_id   BIGINT        NOT NULL,
+    event_type     VARCHAR(100)  NOT NULL,
+    payload        VARCHAR(4000) NOT NULL,
+    created_at     TIMESTAMP(6)  NOT NULL
+);
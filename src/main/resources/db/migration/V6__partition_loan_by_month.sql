@@ -0,0 +1,61 @@
+-- loan 테이블을 loan_date 기준 월별 range 파티션으로 전환
+--
+-- - 미반납/최근 대출만 자주 읽히므로, 오래된 월 파티션은 인덱스·VACUUM 대상에서 빠지고 통째로 분리(DETACH)할 수 있습니다.
+-- - 파티션 테이블의 PK/UNIQUE는 파티션 키를 포함해야 하므로 PK는 (id, loan_date)가 됩니다.
+--   Hibernate는 id만 식별자로 쓰고, Loan.loanDate의 @PartitionKey로 UPDATE/DELETE에 loan_date 조건을 붙여 파티션을 좁힙니다.
+-- - 같은 이유로 uk_loan_book_open(책당 미반납 1건) 유니크 인덱스를 유지할 수 없어 일반 부분 인덱스로 바꾸고,
+--   중복 대출은 대출 시 book 행을 잠가서(BookRepository.findByIdForUpdate) 막습니다.
+-- - 이후 달의 파티션은 LoanPartitionMaintainer가 미리 만들고, 범위를 벗어난 행은 loan_default로 들어갑니다.
+
+ALTER TABLE loan RENAME TO loan_unpartitioned;
+ALTER SEQUENCE loan_id_seq OWNED BY NONE;
+
+CREATE TABLE loan (
+    id          BIGINT NOT NULL DEFAULT nextval('loan_id_seq'),
+    member_id   BIGINT NOT NULL,
+    book_id     BIGINT NOT NULL,
+    loan_date   DATE   NOT NULL,
+    return_date DATE,
+    CONSTRAINT pk_loan PRIMARY KEY (id, loan_date),
+    CONSTRAINT fk_loan_member FOREIGN KEY (member_id) REFERENCES member (id),
+    CONSTRAINT fk_loan_book FOREIGN KEY (book_id) REFERENCES book (id)
+) PARTITION BY RANGE (loan_date);
+
+-- 기존 데이터의 첫 달부터 3개월 뒤까지 월별 파티션 생성
+DO $$
+DECLARE
+    month      DATE := date_trunc('month', COALESCE((SELECT MIN(loan_date) FROM loan_unpartitioned), CURRENT_DATE))::date;
+    last_month DATE := (date_trunc('month', CURRENT_DATE) + INTERVAL '3 months')::date;
+BEGIN
+    WHILE month <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF loan FOR VALUES FROM (%L) TO (%L)',
+                       'loan_p' || to_char(month, 'YYYY_MM'), month, (month + INTERVAL '1 month')::date);
+        month := (month + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+-- 미리 만들어 두지 못한 범위의 행을 받는 안전망 (평소에는 비어 있어야 함)
+CREATE TABLE loan_default PARTITION OF loan DEFAULT;
+
+INSERT INTO loan (id, member_id, book_id, loan_date, return_date)
+SELECT id, member_id, book_id, loan_date, return_date FROM loan_unpartitioned;
+
+DROP TABLE loan_unpartitioned;
+ALTER SEQUENCE loan_id_seq OWNED BY loan.id;
+
+-- V2의 인덱스를 파티션 테이블에 다시 생성 (각 파티션에 자동으로 만들어짐)
+-- LoanRepository.findByMember / FK(member 삭제 시 참조 검사)
+CREATE INDEX idx_loan_member_id ON loan (member_id);
+
+-- FK(book 삭제 시 참조 검사)
+CREATE INDEX idx_loan_book_id ON loan (book_id);
+
+-- LoanRepository.countByMemberIdAndReturnDateIsNull, existsOverdueLoan
+-- 반납이 끝난 오래된 파티션에서는 거의 비어 있는 인덱스가 됩니다.
+CREATE INDEX idx_loan_member_open ON loan (member_id, loan_date) WHERE return_date IS NULL;
+
+-- LoanRepository.existsByBookIdAndReturnDateIsNull, findLoanedBookIds
+CREATE INDEX idx_loan_book_open ON loan (book_id) WHERE return_date IS NULL;
+
+-- LoanRepository.findByReturnDateIsNull, findByReturnDateIsNullAndIdGreaterThanOrderByIdAsc
+CREATE INDEX idx_loan_open_id ON loan (id) WHERE return_date IS NULL;
@@ -0,0 +1,35 @@
+-- 책당 미반납 대출 1건을 DB에서 보장 (V6에서 파티션 때문에 없앤 uk_loan_book_open 대신)
+--
+-- - 파티션 테이블의 UNIQUE는 파티션 키(loan_date)를 포함해야 해서 book_id만으로는 걸 수 없으므로,
+--   파티션 없는 open_loan(book_id PK)에 미반납 대출을 한 행씩 두고 loan 트리거로 같은 트랜잭션에서 맞춥니다.
+-- - 같은 책의 미반납 대출을 두 트랜잭션이 동시에 넣으면 뒤 트랜잭션은 PK 검사에서 앞 트랜잭션의 커밋을 기다린 뒤
+--   pk_open_loan 위반으로 실패합니다. 애플리케이션 경로(book 행 잠금 + 미반납 확인)를 거치지 않는
+--   배치/수동 SQL도 같은 규칙을 따릅니다.
+-- - 파티션 간 이동(loan_date 변경)은 DELETE + INSERT 트리거로 처리됩니다.
+
+CREATE TABLE open_loan (
+    book_id BIGINT NOT NULL,
+    loan_id BIGINT NOT NULL,
+    CONSTRAINT pk_open_loan PRIMARY KEY (book_id),
+    CONSTRAINT fk_open_loan_book FOREIGN KEY (book_id) REFERENCES book (id)
+);
+
+INSERT INTO open_loan (book_id, loan_id)
+SELECT book_id, id FROM loan WHERE return_date IS NULL;
+
+CREATE FUNCTION sync_open_loan() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.return_date IS NULL THEN
+        DELETE FROM open_loan WHERE book_id = OLD.book_id AND loan_id = OLD.id;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.return_date IS NULL THEN
+        INSERT INTO open_loan (book_id, loan_id) VALUES (NEW.book_id, NEW.id);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 파티션 테이블에 건 행 트리거는 기존/이후 파티션 모두에 복제됨
+CREATE TRIGGER trg_loan_open_loan
+    AFTER INSERT OR DELETE OR UPDATE OF book_id, return_date ON loan
+    FOR EACH ROW EXECUTE FUNCTION sync_open_loan();
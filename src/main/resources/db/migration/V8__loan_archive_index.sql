@@ -0,0 +1,7 @@
+-- LoanRepository.findArchivable: 반납된 대출을 (회원 id, 대출 id) 키셋으로 chunk 단위 조회
+--
+-- - 아카이브는 오래된 월 파티션만 읽지만(loan_date 조건), 인덱스가 없으면 chunk마다 남은 대상 행 전체를 정렬해
+--   밀린 행이 많을수록 한 번 실행이 행 수의 제곱에 가깝게 느려집니다.
+-- - 이 인덱스로 파티션별 인덱스 스캔을 Merge Append 하면 chunk 크기만큼만 읽고 정렬이 필요 없습니다.
+-- - 미반납 대출은 대상이 아니므로 부분 인덱스로 둡니다 (return_date < :cutoff 조건이 IS NOT NULL을 함의).
+CREATE INDEX idx_loan_member_returned ON loan (member_id, id) WHERE return_date IS NOT NULL;
@@ -0,0 +1,153 @@
+package com.codeit.library.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("입장 제어 테스트")
+class AdmissionControllerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger poolPending = new AtomicInteger();
+
+    private AdmissionController controller(int maxInFlight, double burst, double ratePerSecond) {
+        return controller(maxInFlight, burst, ratePerSecond, 10_000);
+    }
+
+    private AdmissionController controller(int maxInFlight, double burst, double ratePerSecond, int maxClients) {
+        return new AdmissionController(maxInFlight, 0.5, 0.8, 3, 10, burst, ratePerSecond, burst, ratePerSecond,
+            maxClients, 1, poolPending::get, clock::get);
+    }
+
+    @Test
+    @DisplayName("클라이언트별 토큰을 다 쓰면 429와 다음 토큰까지의 Retry-After를 준다")
+    void rateLimitPerClient() {
+        // given
+        AdmissionController controller = controller(100, 2, 1);
+
+        // when
+        AdmissionDecision first = controller.tryAdmit("a", RequestPriority.BROWSE);
+        AdmissionDecision second = controller.tryAdmit("a", RequestPriority.BROWSE);
+        AdmissionDecision third = controller.tryAdmit("a", RequestPriority.BROWSE);
+        AdmissionDecision otherClient = controller.tryAdmit("b", RequestPriority.BROWSE);
+
+        // then
+        assertThat(first.admitted()).isTrue();
+        assertThat(second.admitted()).isTrue();
+        assertThat(third.admitted()).isFalse();
+        assertThat(third.status()).isEqualTo(429);
+        assertThat(third.retryAfterSeconds()).isGreaterThanOrEqualTo(1);
+        assertThat(otherClient.admitted()).isTrue();
+
+        // 1초 뒤 토큰이 다시 채워짐
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(controller.tryAdmit("a", RequestPriority.BROWSE).admitted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("in-flight가 차오르면 조회부터 503으로 거절하고 대출/반납은 끝까지 받는다")
+    void shedByPriority() {
+        // given - 한도 10, 조회는 5개, 일반 변경은 8개까지
+        AdmissionController controller = controller(10, 1_000, 1_000);
+        for (int i = 0; i < 5; i++) {
+            controller.tryAdmit("c" + i, RequestPriority.BROWSE);
+        }
+
+        // when & then
+        AdmissionDecision browse = controller.tryAdmit("x", RequestPriority.BROWSE);
+        assertThat(browse.admitted()).isFalse();
+        assertThat(browse.status()).isEqualTo(503);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(controller.tryAdmit("x", RequestPriority.NORMAL).admitted()).isTrue();
+        }
+        assertThat(controller.tryAdmit("x", RequestPriority.NORMAL).admitted()).isFalse();
+
+        assertThat(controller.tryAdmit("x", RequestPriority.CRITICAL).admitted()).isTrue();
+        assertThat(controller.tryAdmit("x", RequestPriority.CRITICAL).admitted()).isTrue();
+        assertThat(controller.tryAdmit("x", RequestPriority.CRITICAL).admitted()).isFalse();
+        assertThat(controller.getInFlight()).isEqualTo(10);
+
+        // 처리가 끝나면 다시 받음
+        controller.release();
+        assertThat(controller.tryAdmit("x", RequestPriority.CRITICAL).admitted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("커넥션 풀 대기가 쌓이면 in-flight와 무관하게 조회를 거절한다")
+    void shedOnPoolPending() {
+        // given
+        AdmissionController controller = controller(100, 1_000, 1_000);
+        poolPending.set(3);
+
+        // when
+        AdmissionDecision browse = controller.tryAdmit("a", RequestPriority.BROWSE);
+        AdmissionDecision normal = controller.tryAdmit("a", RequestPriority.NORMAL);
+
+        // then
+        assertThat(browse.admitted()).isFalse();
+        assertThat(browse.reason()).isEqualTo("pool_pending");
+        assertThat(normal.admitted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("과부하로 거절한 요청은 클라이언트 토큰을 쓰지 않고, 토큰으로 막힌 요청은 in-flight를 남기지 않는다")
+    void shedRequestKeepsToken() {
+        // given - 토큰 1개
+        AdmissionController controller = controller(100, 1, 1);
+        poolPending.set(3);
+
+        // when
+        AdmissionDecision shed = controller.tryAdmit("a", RequestPriority.BROWSE);
+        poolPending.set(0);
+        AdmissionDecision retry = controller.tryAdmit("a", RequestPriority.BROWSE);
+        AdmissionDecision limited = controller.tryAdmit("a", RequestPriority.BROWSE);
+
+        // then
+        assertThat(shed.status()).isEqualTo(503);
+        assertThat(retry.admitted()).isTrue();
+        assertThat(limited.status()).isEqualTo(429);
+        assertThat(controller.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대출/반납은 조회와 다른 버킷을 써서 조회로 토큰을 다 쓴 클라이언트도 대출할 수 있다")
+    void criticalUsesSeparateBucket() {
+        // given
+        AdmissionController controller = controller(100, 1, 1);
+        controller.tryAdmit("a", RequestPriority.BROWSE);
+        assertThat(controller.tryAdmit("a", RequestPriority.BROWSE).status()).isEqualTo(429);
+
+        // when
+        AdmissionDecision checkout = controller.tryAdmit("a", RequestPriority.CRITICAL);
+        AdmissionDecision secondCheckout = controller.tryAdmit("a", RequestPriority.CRITICAL);
+
+        // then - 대출/반납 버킷도 한도는 있음
+        assertThat(checkout.admitted()).isTrue();
+        assertThat(secondCheckout.status()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("클라이언트 수가 상한을 넘으면 오래 안 쓴 버킷부터 버리고, 유휴 버킷은 정리 작업에서 지운다")
+    void boundedClientBuckets() {
+        // given - 구간(16개)마다 1개씩만 보관
+        AdmissionController controller = controller(100_000, 1_000, 1_000, 16);
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            controller.tryAdmit("client-" + i, RequestPriority.BROWSE);
+        }
+
+        // then
+        assertThat(controller.getTrackedClients()).isLessThanOrEqualTo(16);
+
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(2));
+        controller.evictIdleClients();
+        assertThat(controller.getTrackedClients()).isZero();
+    }
+}
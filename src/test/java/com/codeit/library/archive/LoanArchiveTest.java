@@ -0,0 +1,105 @@
+package com.codeit.library.archive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("대출 아카이브 테스트")
+class LoanArchiveTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    @DisplayName("기록한 대출을 그대로 읽을 수 있다")
+    void roundTrip() throws IOException {
+        // given - 여러 row group에 걸치도록 작은 row group 크기 사용
+        List<ArchivedLoan> loans = loans(1, 1000);
+
+        // when
+        byte[] file = LoanArchiveFormat.write(loans, 64);
+        List<ArchivedLoan> read = LoanArchiveFormat.readAll(new ByteArrayInputStream(file));
+
+        // then
+        assertThat(read).containsExactlyInAnyOrderElementsOf(loans);
+    }
+
+    @Test
+    @DisplayName("회원 id로 조회하면 해당 회원의 대출만 대출일 순으로 반환한다")
+    void readByMemberId() throws IOException {
+        // given
+        List<ArchivedLoan> loans = loans(1, 1000);
+        byte[] file = LoanArchiveFormat.write(loans, 64);
+
+        // when
+        List<ArchivedLoan> read = LoanArchiveFormat.readByMemberId(new ByteArrayInputStream(file), 7L);
+
+        // then
+        assertThat(read).isNotEmpty()
+            .allMatch(loan -> loan.memberId() == 7L)
+            .isSortedAccordingTo(LoanArchiveFormat.ORDER)
+            .hasSize((int) loans.stream().filter(loan -> loan.memberId() == 7L).count());
+        assertThat(LoanArchiveFormat.readByMemberId(new ByteArrayInputStream(file), 999L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("회원이 속한 구간의 월별 파일만 읽어 오래된 달부터 반환한다")
+    void findByMemberIdAcrossMonths() throws IOException {
+        // given - 회원 10명 단위 구간
+        LoanArchive archive = new LoanArchive(new LocalLoanArchiveStore(root), 64, 10);
+        archive.write(List.of(loan(10, 1, "2024-02-03"), loan(20, 50, "2024-03-01")));
+        archive.write(List.of(loan(1, 1, "2024-01-05"), loan(2, 2, "2024-01-06")));
+
+        // when
+        List<ArchivedLoan> read = archive.findByMemberId(1L).toList();
+
+        // then
+        assertThat(read).extracting(ArchivedLoan::id).containsExactly(1L, 10L);
+        assertThat(new LocalLoanArchiveStore(root).list("members=")).containsExactly(
+            "members=0-9/month=2024-01.lnar",
+            "members=0-9/month=2024-02.lnar",
+            "members=50-59/month=2024-03.lnar");
+        assertThat(LoanArchive.mayContain("members=50-59/month=2024-03.lnar", 1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 대출을 다시 기록해도 같은 파일에 합쳐지고 중복되지 않는다")
+    void rewriteIsIdempotent() throws IOException {
+        // given - 커밋 실패 후 재시도처럼 같은 행을 다시 기록하고, 같은 구간/월의 새 행도 추가
+        LoanArchive archive = new LoanArchive(new LocalLoanArchiveStore(root), 64, 10);
+        List<String> first = archive.write(List.of(loan(1, 1, "2024-01-05"), loan(2, 2, "2024-01-06")));
+
+        // when
+        List<String> second = archive.write(List.of(loan(2, 2, "2024-01-06"), loan(3, 1, "2024-01-20")));
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(archive.findByMemberId(1L).toList()).extracting(ArchivedLoan::id).containsExactly(1L, 3L);
+        assertThat(archive.findByMemberId(2L).toList()).extracting(ArchivedLoan::id).containsExactly(2L);
+    }
+
+    private static List<ArchivedLoan> loans(long firstId, int count) {
+        List<ArchivedLoan> loans = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long id = firstId + i;
+            LocalDate loanDate = LocalDate.of(2024, 1, 1).plusDays(i % 28);
+            loans.add(new ArchivedLoan(id, id % 50 + 1, id % 300 + 1, "도서 " + (id % 300),
+                loanDate, loanDate.plusDays(i % 20)));
+        }
+        return loans;
+    }
+
+    private static ArchivedLoan loan(long id, long memberId, String loanDate) {
+        LocalDate date = LocalDate.parse(loanDate);
+        return new ArchivedLoan(id, memberId, 100 + id, "클린 코드", date, date.plusDays(7));
+    }
+}
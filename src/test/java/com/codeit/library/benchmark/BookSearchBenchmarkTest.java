@@ -0,0 +1,129 @@
+package com.codeit.library.benchmark;
+
+import com.codeit.library.domain.Book;
+import com.codeit.library.dto.request.BookSearchCondition;
+import com.codeit.library.repository.BookRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 검색 조건 조합(author, minPrice, maxPrice 각각 있음/없음 = 8가지)별로
+ * 기존 범용 JPQL("(:author IS NULL OR ...)")과 조건 조립 방식의 응답 시간을 비교합니다.
+ *
+ * 실행: ./gradlew benchmark --tests '*BookSearchBenchmarkTest'
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.show-sql=false"
+})
+@DisplayName("도서 검색 벤치마크")
+class BookSearchBenchmarkTest {
+
+    private static final int BOOK_COUNT = 200_000;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+
+    private static final String GENERIC_JPQL = "SELECT b FROM Book b WHERE " +
+            "(:author IS NULL OR b.author = :author) AND " +
+            "(:minPrice IS NULL OR b.price >= :minPrice) AND " +
+            "(:maxPrice IS NULL OR b.price <= :maxPrice)";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Test
+    @DisplayName("조건 조합별 범용 JPQL vs 조건 조립")
+    void compareSearchStrategies() throws Exception {
+        seed();
+
+        System.out.printf("%-8s %-8s %-8s | %14s %14s | %14s %14s%n",
+                "author", "minPrice", "maxPrice", "generic avg(us)", "generic p95", "dynamic avg(us)", "dynamic p95");
+        for (int mask = 0; mask < 8; mask++) {
+            String author = (mask & 1) != 0 ? "저자 42" : null;
+            Integer minPrice = (mask & 2) != 0 ? 990_000 : null;
+            Integer maxPrice = (mask & 4) != 0 ? 995_000 : null;
+
+            long[] generic = measure(() -> genericSearch(author, minPrice, maxPrice));
+            long[] dynamic = measure(() -> bookRepository.search(BookSearchCondition.of(author, minPrice, maxPrice)));
+
+            System.out.printf("%-8s %-8s %-8s | %14d %14d | %14d %14d%n",
+                    author != null, minPrice != null, maxPrice != null,
+                    average(generic), percentile(generic, 95), average(dynamic), percentile(dynamic, 95));
+        }
+    }
+
+    private List<Book> genericSearch(String author, Integer minPrice, Integer maxPrice) {
+        return entityManager.createQuery(GENERIC_JPQL, Book.class)
+                .setParameter("author", author)
+                .setParameter("minPrice", minPrice)
+                .setParameter("maxPrice", maxPrice)
+                .getResultList();
+    }
+
+    private long[] measure(Supplier<List<Book>> search) {
+        for (int i = 0; i < WARMUP; i++) {
+            search.get();
+            entityManager.clear();
+        }
+        long[] micros = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            search.get();
+            micros[i] = (System.nanoTime() - start) / 1_000;
+            entityManager.clear();
+        }
+        return micros;
+    }
+
+    private static long average(long[] values) {
+        return (long) Arrays.stream(values).average().orElse(0);
+    }
+
+    private static long percentile(long[] values, int percentile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+
+    private void seed() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO book (title, author, isbn, price, published_date) " +
+                    "SELECT '제목 ' || g, '저자 ' || (g % 5000), 'ISBN-' || g, (g * 37) % 1000000, DATE '2000-01-01' + (g % 9000) " +
+                    "FROM generate_series(1, " + BOOK_COUNT + ") g");
+            statement.execute("ANALYZE book");
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.codeit.library.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 대출(checkout) 한 건에 실행되는 SQL(대출 한도, 대출중 여부, 연체 여부 확인 + INSERT)의 응답 시간을
+ * 월별 파티션 loan 테이블과, 같은 데이터를 담은 파티션 없는 loan_flat 테이블에서 비교합니다.
+ * 테이블+인덱스 크기도 함께 출력합니다. 각 반복은 롤백되어 데이터가 변하지 않습니다.
+ *
+ * 실행: ./gradlew benchmark --tests '*LoanPartitionBenchmarkTest' -Dbenchmark.loan.rows=50000000
+ * (기본 500만 건. 5천만 건은 적재에 수십 분, 디스크 10GB 이상이 필요합니다)
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("대출 테이블 파티션 벤치마크")
+class LoanPartitionBenchmarkTest {
+
+    private static final int LOAN_COUNT = Integer.getInteger("benchmark.loan.rows", 5_000_000);
+    private static final int MEMBER_COUNT = 100_000;
+    private static final int BOOK_COUNT = 1_000_000;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2021, 1, 1);
+    private static final int DAYS = 5 * 365;
+    private static final int WARMUP = 500;
+    private static final int ITERATIONS = 5_000;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+            .withCommand("postgres", "-c", "shared_buffers=512MB", "-c", "max_wal_size=4GB");
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("파티션 vs 단일 테이블 대출 처리 시간")
+    void compareCheckoutLatency() throws SQLException {
+        seed();
+
+        System.out.printf("loans=%,d%n", LOAN_COUNT);
+        System.out.printf("%-12s | %12s | %14s %14s %14s%n", "table", "size(MB)", "avg(us)", "p95(us)", "p99(us)");
+        for (String table : new String[]{"loan", "loan_flat"}) {
+            long[] micros = measureCheckout(table);
+            System.out.printf("%-12s | %12d | %14d %14d %14d%n",
+                    table, totalSizeMb(table), average(micros), percentile(micros, 95), percentile(micros, 99));
+        }
+    }
+
+    private long[] measureCheckout(String table) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement countOpen = connection.prepareStatement(
+                         "SELECT count(*) FROM " + table + " WHERE member_id = ? AND return_date IS NULL");
+                 PreparedStatement bookLoaned = connection.prepareStatement(
+                         "SELECT 1 FROM " + table + " WHERE book_id = ? AND return_date IS NULL LIMIT 1");
+                 PreparedStatement overdue = connection.prepareStatement(
+                         "SELECT count(*) FROM " + table + " WHERE member_id = ? AND return_date IS NULL AND loan_date < ?");
+                 PreparedStatement insert = connection.prepareStatement(
+                         "INSERT INTO " + table + " (id, member_id, book_id, loan_date) VALUES (nextval('loan_id_seq'), ?, ?, ?)")) {
+                for (int i = 0; i < WARMUP; i++) {
+                    checkout(connection, countOpen, bookLoaned, overdue, insert);
+                }
+                long[] micros = new long[ITERATIONS];
+                for (int i = 0; i < ITERATIONS; i++) {
+                    long start = System.nanoTime();
+                    checkout(connection, countOpen, bookLoaned, overdue, insert);
+                    micros[i] = (System.nanoTime() - start) / 1_000;
+                }
+                return micros;
+            }
+        }
+    }
+
+    private void checkout(Connection connection, PreparedStatement countOpen, PreparedStatement bookLoaned,
+                          PreparedStatement overdue, PreparedStatement insert) throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long memberId = random.nextLong(MEMBER_COUNT) + 1;
+        long bookId = random.nextLong(BOOK_COUNT) + 1;
+        LocalDate today = FIRST_DAY.plusDays(DAYS - 1);
+
+        countOpen.setLong(1, memberId);
+        consume(countOpen);
+        bookLoaned.setLong(1, bookId);
+        boolean loaned = consume(bookLoaned);
+        overdue.setLong(1, memberId);
+        overdue.setDate(2, Date.valueOf(today.minusDays(14)));
+        consume(overdue);
+        if (loaned) {
+            connection.rollback(); // 대출 거절 (넣으면 책당 미반납 1건 제약에 걸림)
+            return;
+        }
+        insert.setLong(1, memberId);
+        insert.setLong(2, bookId);
+        insert.setDate(3, Date.valueOf(today));
+        insert.executeUpdate();
+        connection.rollback();
+    }
+
+    private static boolean consume(PreparedStatement statement) throws SQLException {
+        boolean found = false;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                resultSet.getLong(1);
+                found = true;
+            }
+        }
+        return found;
+    }
+
+    private long totalSizeMb(String table) throws SQLException {
+        // 파티션 테이블은 부모 자체의 크기가 0이므로 모든 파티션을 더함
+        String sql = "SELECT COALESCE(sum(pg_total_relation_size(relid)), 0) FROM pg_partition_tree(?::regclass)";
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, table);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1) / (1024 * 1024);
+            }
+        }
+    }
+
+    private static long average(long[] values) {
+        return (long) Arrays.stream(values).average().orElse(0);
+    }
+
+    private static long percentile(long[] values, int percentile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+
+    private void seed() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            // 마이그레이션은 기존 데이터 범위부터만 파티션을 만들므로, 벤치마크 기간의 월 파티션을 추가
+            for (YearMonth month = YearMonth.from(FIRST_DAY); !month.isAfter(YearMonth.from(FIRST_DAY.plusDays(DAYS)));
+                 month = month.plusMonths(1)) {
+                statement.execute(String.format("CREATE TABLE IF NOT EXISTS loan_p%d_%02d PARTITION OF loan " +
+                                "FOR VALUES FROM ('%s') TO ('%s')",
+                        month.getYear(), month.getMonthValue(), month.atDay(1), month.plusMonths(1).atDay(1)));
+            }
+            statement.execute("INSERT INTO member (name, email) " +
+                    "SELECT '회원 ' || g, 'bench' || g || '@example.com' FROM generate_series(1, " + MEMBER_COUNT + ") g");
+            statement.execute("INSERT INTO book (title, author, isbn, price, published_date) " +
+                    "SELECT '제목 ' || g, '저자 ' || (g % 5000), 'ISBN-' || g, (g * 37) % 1000000, DATE '2000-01-01' + (g % 9000) " +
+                    "FROM generate_series(1, " + BOOK_COUNT + ") g");
+            // 시간 순으로 쌓이는 실제 패턴처럼 id와 loan_date가 함께 증가, 최근 2주 대출 중 일부만 미반납
+            statement.execute("INSERT INTO loan (member_id, book_id, loan_date, return_date) " +
+                    "SELECT (g % " + MEMBER_COUNT + ") + 1, (g % " + BOOK_COUNT + ") + 1, " +
+                    "DATE '" + FIRST_DAY + "' + (g::bigint * " + DAYS + " / " + LOAN_COUNT + ")::int, " +
+                    "CASE WHEN g > " + LOAN_COUNT + " - " + BOOK_COUNT / 10 + " AND g % 10 = 0 THEN NULL " +
+                    "ELSE DATE '" + FIRST_DAY + "' + (g::bigint * " + DAYS + " / " + LOAN_COUNT + ")::int + 7 END " +
+                    "FROM generate_series(1, " + LOAN_COUNT + ") g");
+            statement.execute("CREATE TABLE loan_flat AS SELECT * FROM loan");
+            statement.execute("ALTER TABLE loan_flat ADD PRIMARY KEY (id)");
+            statement.execute("CREATE INDEX ON loan_flat (member_id)");
+            statement.execute("CREATE INDEX ON loan_flat (book_id)");
+            statement.execute("CREATE INDEX ON loan_flat (member_id, loan_date) WHERE return_date IS NULL");
+            // 파티션 loan은 같은 보장을 open_loan 트리거로 함 (V7__open_loan_guard.sql)
+            statement.execute("CREATE UNIQUE INDEX ON loan_flat (book_id) WHERE return_date IS NULL");
+            statement.execute("CREATE INDEX ON loan_flat (id) WHERE return_date IS NULL");
+            statement.execute("VACUUM ANALYZE");
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.codeit.library.catalog;
+
+import com.codeit.library.dto.request.BookSearchCondition;
+import com.codeit.library.dto.response.BookResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("도서 메모리 카탈로그 테스트")
+class BookCatalogTest {
+
+    private final BookCatalog catalog = new BookCatalog(new ForkJoinPool(4), 1000);
+
+    @AfterEach
+    void tearDown() {
+        catalog.close();
+    }
+
+    @Test
+    @DisplayName("조건 검색 결과가 같은 조건으로 전체를 거른 결과와 같다 (병렬 스캔 포함)")
+    void matchesFullScan() {
+        // given - parallel-threshold(1000)를 넘겨 여러 세그먼트로 나눠 스캔되게 함
+        Random random = new Random(42);
+        List<CatalogBook> books = new ArrayList<>();
+        for (long id = 1; id <= 200_000; id++) {
+            LocalDate published = random.nextInt(10) == 0 ? null : LocalDate.of(2000, 1, 1).plusDays(random.nextInt(9000));
+            books.add(new CatalogBook(id, "책" + id, "저자" + random.nextInt(300), "isbn-" + id,
+                random.nextInt(100_000), published));
+        }
+        catalog.reload(5000, lastId -> books.stream().filter(book -> book.id() > lastId).limit(5000).toList());
+        LocalDate from = LocalDate.of(2015, 1, 1);
+
+        // when
+        List<BookResponse> expensive = catalog.findExpensiveRecentBooks(90_000, from);
+        List<BookResponse> byAuthor = catalog.search(new BookSearchCondition(
+            "저자7", 10_000, 50_000, Sort.by(Sort.Direction.ASC, "title"), null), null);
+        List<BookResponse> published = catalog.findByPublishedDateBetween(from, from.plusDays(30));
+
+        // then
+        assertThat(ids(expensive)).isEqualTo(books.stream()
+            .filter(book -> book.price() > 90_000 && book.publishedDate() != null && book.publishedDate().isAfter(from))
+            .sorted(Comparator.comparing(CatalogBook::price).reversed().thenComparing(CatalogBook::id))
+            .map(CatalogBook::id).toList());
+        assertThat(ids(byAuthor)).isEqualTo(books.stream()
+            .filter(book -> book.author().equals("저자7") && book.price() >= 10_000 && book.price() <= 50_000)
+            .sorted(Comparator.comparing(CatalogBook::title))
+            .map(CatalogBook::id).toList());
+        assertThat(ids(published)).isEqualTo(books.stream()
+            .filter(book -> book.publishedDate() != null
+                && !book.publishedDate().isBefore(from) && !book.publishedDate().isAfter(from.plusDays(30)))
+            .map(CatalogBook::id).toList());
+    }
+
+    @Test
+    @DisplayName("등록/수정/삭제가 바로 반영되고, 재적재 중 들어온 변경은 적재 결과보다 우선한다")
+    void appliesChanges() {
+        // given
+        catalog.reload(1000, lastId -> lastId == 0
+            ? List.of(new CatalogBook(1L, "자바", "홍길동", null, 10_000, null),
+                      new CatalogBook(2L, "스프링", "홍길동", null, 20_000, null))
+            : List.of());
+
+        // when
+        catalog.upsert(new CatalogBook(3L, "JPA", "김영한", null, 30_000, null));
+        catalog.upsert(new CatalogBook(1L, "자바", "홍길동", null, 9_000, null)); // 할인
+        catalog.remove(2L);
+        catalog.reload(1000, lastId -> {
+            if (lastId != 0) {
+                return List.of();
+            }
+            catalog.remove(3L); // 적재 도중 삭제됨 (조회 결과에는 아직 있음)
+            return List.of(new CatalogBook(1L, "자바", "홍길동", null, 9_000, null),
+                           new CatalogBook(3L, "JPA", "김영한", null, 30_000, null));
+        });
+
+        // then
+        assertThat(catalog.search(BookSearchCondition.of("홍길동", null, null), null))
+            .extracting(BookResponse::id, BookResponse::price)
+            .containsExactly(tuple(1L, 9_000));
+        assertThat(catalog.search(BookSearchCondition.of(null, null, null), null)).hasSize(1);
+        assertThat(catalog.search(BookSearchCondition.of("없는저자", null, null), null)).isEmpty();
+    }
+
+    private static List<Long> ids(List<BookResponse> books) {
+        return books.stream().map(BookResponse::id).toList();
+    }
+}
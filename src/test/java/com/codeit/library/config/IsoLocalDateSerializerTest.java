@@ -0,0 +1,37 @@
+package com.codeit.library.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocalDate 직렬화 테스트")
+class IsoLocalDateSerializerTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+        .addModule(new SimpleModule().addSerializer(new IsoLocalDateSerializer()))
+        .build();
+
+    @Test
+    @DisplayName("LocalDate.toString()과 같은 ISO 형식으로 쓴다")
+    void sameAsIsoFormat() throws Exception {
+        LocalDate date = LocalDate.of(1999, 1, 1);
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(objectMapper.writeValueAsString(date)).isEqualTo("\"" + date + "\"");
+            date = date.plusDays(3);
+        }
+    }
+
+    @Test
+    @DisplayName("네 자리를 넘는 연도는 ISO 확장 표기로 쓴다")
+    void outOfRangeYear() throws Exception {
+        LocalDate date = LocalDate.of(12345, 6, 7);
+
+        assertThat(objectMapper.writeValueAsString(date)).isEqualTo("\"+12345-06-07\"");
+    }
+}
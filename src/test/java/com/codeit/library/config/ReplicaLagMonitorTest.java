@@ -0,0 +1,59 @@
+package com.codeit.library.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Tag("mockito")
+@DisplayName("replica 지연 감시 테스트")
+class ReplicaLagMonitorTest {
+
+    @Test
+    @DisplayName("WAL 수신이 끊긴 replica는 재생 지연이 0이어도 라우팅 대상에서 빠진다")
+    void excludesDisconnectedReplica() throws SQLException {
+        // given
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica(true, 0));
+        replicas.put("replica-2", replica(false, 0)); // 수신 끊김, 받은 WAL은 모두 재생함
+        replicas.put("replica-3", replica(true, 10_000));
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(routingDataSource, replicas, 5000, meterRegistry);
+
+        // when
+        monitor.checkLag();
+
+        // then
+        assertThat(routingDataSource.getHealthyReplicas()).containsExactly("replica-1");
+        assertThat(meterRegistry.get("db.replica.lag").tag("replica", "replica-2").gauge().value())
+            .isEqualTo(Double.POSITIVE_INFINITY);
+    }
+
+    private static DataSource replica(boolean streaming, double lagMillis) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getBoolean(1)).thenReturn(streaming);
+        when(resultSet.getDouble(2)).thenReturn(lagMillis);
+        return dataSource;
+    }
+}
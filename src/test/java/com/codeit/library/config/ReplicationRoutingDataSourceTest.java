@@ -0,0 +1,70 @@
+package com.codeit.library.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("읽기/쓰기 라우팅 테스트")
+class ReplicationRoutingDataSourceTest {
+
+    private ReplicationRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReplicationRoutingDataSource();
+        routingDataSource.updateHealthyReplicas(List.of("replica-1", "replica-2"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReplicationContext.clear();
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 primary로 간다")
+    void writeGoesToPrimary() {
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicationRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica를 번갈아 사용한다")
+    void readOnlyIsBalancedAcrossReplicas() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when & then
+        assertThat(List.of(
+                routingDataSource.determineCurrentLookupKey(),
+                routingDataSource.determineCurrentLookupKey()))
+                .containsExactlyInAnyOrder("replica-1", "replica-2");
+    }
+
+    @Test
+    @DisplayName("쓰기 직후(primary 고정)에는 읽기도 primary로 간다")
+    void stickyReadGoesToPrimary() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicationContext.forcePrimary();
+
+        // when & then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicationRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("지연으로 모든 replica가 제외되면 primary로 간다")
+    void fallbackToPrimaryWhenNoHealthyReplica() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        routingDataSource.updateHealthyReplicas(List.of());
+
+        // when & then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicationRoutingDataSource.PRIMARY);
+    }
+}
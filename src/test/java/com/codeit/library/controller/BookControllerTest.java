@@ -2,11 +2,13 @@ package com.codeit.library.controller;
 
 import com.codeit.library.dto.request.BookCreateRequest;
 import com.codeit.library.dto.response.BookResponse;
+import com.codeit.library.dto.response.MultiGetResponse;
 import com.codeit.library.exception.BookNotFoundException;
 import com.codeit.library.service.BookService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -14,6 +16,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
@@ -27,6 +30,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 
+@Tag("mockito")
 @WebMvcTest(BookController.class)
 @DisplayName("도서 Controller 테스트")
 class BookControllerTest {
@@ -66,6 +70,28 @@ class BookControllerTest {
             verify(bookService).findAll();
         }
 
+        @Test
+        @DisplayName("여러 ID로 책을 한 번에 조회하고 없는 ID를 알려준다.")
+        void getBooksByIds() throws Exception {
+            // given
+            MultiGetResponse<BookResponse> response = new MultiGetResponse<>(
+                    List.of(new BookResponse(3L, "아무책", "김춘식", "456", 30000, null),
+                            new BookResponse(1L, "클린 코드", "로버트 마틴", "123", 30000, null)),
+                    List.of(2L)
+            );
+            when(bookService.findAllById(List.of(3L, 1L, 2L)))
+                    .thenReturn(response);
+
+            // when & then
+            mockMvc.perform(get("/api/books").param("ids", "3,1,2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].id").value(3))
+                    .andExpect(jsonPath("$.items[1].id").value(1))
+                    .andExpect(jsonPath("$.missingIds[0]").value(2));
+
+            verify(bookService).findAllById(List.of(3L, 1L, 2L));
+        }
+
         @Test
         @DisplayName("ID로 책을 조회할 수 있다.")
         void getBookById() throws Exception {
@@ -108,6 +134,24 @@ class BookControllerTest {
                             .param("maxPrice", "40000"))
                     .andExpect(status().isOk());
         }
+
+        @Test
+        @DisplayName("출판일 범위로 책을 조회할 수 있다")
+        void getBooksPublishedBetween() throws Exception {
+            // given
+            LocalDate from = LocalDate.of(2020, 1, 1);
+            LocalDate to = LocalDate.of(2020, 12, 31);
+            when(bookService.findByPublishedDateBetween(from, to))
+                    .thenReturn(List.of(new BookResponse(1L, "클린 코드", "로버트 마틴", "123", 30000, from)));
+
+            // when & then
+            mockMvc.perform(get("/api/books/published")
+                            .param("from", "2020-01-01")
+                            .param("to", "2020-12-31"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].publishedDate").value("2020-01-01"));
+        }
     }
 
     @Nested
@@ -0,0 +1,68 @@
+package com.codeit.library.converter;
+
+import com.codeit.library.dto.request.LoanCreateRequest;
+import com.codeit.library.dto.response.BookResponse;
+import com.codeit.library.proto.BookList;
+import com.codeit.library.proto.LoanCreate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Protobuf 메시지 변환기 테스트")
+class ProtobufDtoHttpMessageConverterTest {
+
+    private final ProtobufDtoHttpMessageConverter converter = new ProtobufDtoHttpMessageConverter();
+
+    @Test
+    @DisplayName("DTO 목록을 BookList 메시지로 쓴다")
+    void writeList() throws Exception {
+        // given
+        Type listType = new ParameterizedTypeReference<List<BookResponse>>() { }.getType();
+        List<BookResponse> books = List.of(
+            new BookResponse(1L, "클린 코드", "로버트 마틴", "123", 30000, LocalDate.of(2013, 12, 24)),
+            new BookResponse(2L, "아무책", "김춘식", null, null, null)
+        );
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // when
+        assertThat(converter.canWrite(listType, List.class, ProtobufDtoHttpMessageConverter.PROTOBUF)).isTrue();
+        converter.write(books, listType, ProtobufDtoHttpMessageConverter.PROTOBUF, output);
+
+        // then
+        BookList parsed = BookList.parseFrom(output.getBodyAsBytes());
+        assertThat(parsed.getItemsCount()).isEqualTo(2);
+        assertThat(parsed.getItems(0).getTitle()).isEqualTo("클린 코드");
+        assertThat(LocalDate.ofEpochDay(parsed.getItems(0).getPublishedDate())).isEqualTo(LocalDate.of(2013, 12, 24));
+        assertThat(parsed.getItems(1).hasPrice()).isFalse();
+    }
+
+    @Test
+    @DisplayName("JSON 요청으로는 쓰지 않는다")
+    void jsonNotSupported() {
+        assertThat(converter.canWrite(BookResponse.class, BookResponse.class, MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    @Test
+    @DisplayName("LoanCreate 메시지를 LoanCreateRequest로 읽고, 빠진 필드는 null로 둔다")
+    void readRequest() throws Exception {
+        // given
+        byte[] body = LoanCreate.newBuilder().setMemberId(7L).build().toByteArray();
+        MockHttpInputMessage input = new MockHttpInputMessage(body);
+
+        // when
+        LoanCreateRequest request = (LoanCreateRequest) converter.read(LoanCreateRequest.class, null, input);
+
+        // then
+        assertThat(request.getMemberId()).isEqualTo(7L);
+        assertThat(request.getBookId()).isNull(); // @Valid에서 "책 ID는 필수입니다"로 걸러짐
+    }
+}
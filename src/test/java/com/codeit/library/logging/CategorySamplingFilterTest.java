@@ -0,0 +1,95 @@
+package com.codeit.library.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("로그 카테고리 샘플링 테스트")
+class CategorySamplingFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final CategorySamplingFilter filter = new CategorySamplingFilter();
+
+    @BeforeEach
+    void setUp() {
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.DEBUG);
+        filter.setContext(context);
+        filter.addSample("sql:org.hibernate.SQL=0");
+        filter.addSample("sql:org.hibernate.orm.jdbc.bind=0");
+        filter.addSample("s3:com.codeit.library.service.S3=1");
+    }
+
+    @Test
+    @DisplayName("비율 0인 카테고리의 INFO 이하 로그는 버리고 카테고리별로 센다")
+    void dropsSampledOutCategory() {
+        // given
+        Logger sql = context.getLogger("org.hibernate.SQL");
+        Logger bind = context.getLogger("org.hibernate.orm.jdbc.bind");
+
+        // when
+        FilterReply debug = filter.decide(null, sql, Level.DEBUG, "select 1", null, null);
+        FilterReply trace = filter.decide(null, bind, Level.DEBUG, "binding parameter", null, null);
+
+        // then
+        assertThat(debug).isEqualTo(FilterReply.DENY);
+        assertThat(trace).isEqualTo(FilterReply.DENY);
+        assertThat(filter.sampledOutCounts().get("sql").sum()).isEqualTo(2);
+        assertThat(filter.sampledOutCounts().get("s3").sum()).isZero();
+    }
+
+    @Test
+    @DisplayName("WARN 이상, 레벨 확인 호출, 카테고리 밖 로거, 레벨로 꺼진 로그는 건드리지 않는다")
+    void leavesOtherEventsAlone() {
+        // given
+        Logger sql = context.getLogger("org.hibernate.SQL");
+        Logger service = context.getLogger("com.codeit.library.service.BookService");
+        context.getLogger("org.hibernate.SQL").setLevel(Level.INFO);
+
+        // when & then
+        assertThat(filter.decide(null, sql, Level.WARN, "slow", null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, sql, Level.INFO, null, null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, sql, Level.DEBUG, "select 1", null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, service, Level.DEBUG, "hello", null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.sampledOutCounts().get("sql").sum()).isZero();
+    }
+
+    @Test
+    @DisplayName("follow 로거는 같은 스레드의 직전 SQL 로그와 같은 결정을 따른다")
+    void followerUsesStatementDecision() {
+        // given
+        CategorySamplingFilter perStatement = new CategorySamplingFilter();
+        perStatement.setContext(context);
+        perStatement.addSample("sql:org.hibernate.SQL=0.5");
+        perStatement.addFollow("sql:org.hibernate.orm.jdbc.bind");
+        Logger sql = context.getLogger("org.hibernate.SQL");
+        Logger bind = context.getLogger("org.hibernate.orm.jdbc.bind");
+
+        // when & then - 문장마다 SQL 로그와 바인딩 로그 두 건이 항상 같은 결정을 받음
+        for (int i = 0; i < 200; i++) {
+            FilterReply statement = perStatement.decide(null, sql, Level.DEBUG, "select ?", null, null);
+            assertThat(perStatement.decide(null, bind, Level.DEBUG, "binding parameter", null, null))
+                .isEqualTo(statement);
+            assertThat(perStatement.decide(null, bind, Level.DEBUG, "binding parameter", null, null))
+                .isEqualTo(statement);
+        }
+        assertThat(perStatement.sampledOutCounts().get("sql").sum() % 3).isZero();
+    }
+
+    @Test
+    @DisplayName("잘못된 설정은 무시한다")
+    void ignoresInvalidSample() {
+        // when
+        filter.addSample("no-category=0.5");
+        filter.addSample("x:com.example=2");
+        filter.addFollow("unknown:org.hibernate.orm.jdbc.bind");
+
+        // then
+        assertThat(filter.sampledOutCounts()).containsOnlyKeys("sql", "s3");
+    }
+}
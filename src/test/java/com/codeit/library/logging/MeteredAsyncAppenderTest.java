@@ -0,0 +1,83 @@
+package com.codeit.library.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비동기 로그 큐 버림 집계 테스트")
+class MeteredAsyncAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger logger = context.getLogger("test");
+    private final CountDownLatch outputEntered = new CountDownLatch(1);
+    private final CountDownLatch releaseOutput = new CountDownLatch(1);
+    private MeteredAsyncAppender appender;
+
+    @BeforeEach
+    void setUp() {
+        // 출력 appender가 첫 이벤트에서 멈춰 있으므로 이후 이벤트는 큐에 쌓이기만 함
+        AppenderBase<ILoggingEvent> blockingOutput = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                outputEntered.countDown();
+                try {
+                    releaseOutput.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        blockingOutput.setContext(context);
+        blockingOutput.start();
+
+        appender = new MeteredAsyncAppender();
+        appender.setContext(context);
+        appender.setQueueSize(2);
+        appender.setDiscardingThreshold(1);
+        appender.setNeverBlock(true);
+        appender.setMaxFlushTime(1000);
+        appender.addAppender(blockingOutput);
+        appender.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseOutput.countDown();
+        appender.stop();
+    }
+
+    @Test
+    @DisplayName("큐 여유가 기준 아래면 INFO 이하는 discarded, 큐가 가득 차면 WARN 이상도 queue_full로 센다")
+    void countsDroppedEvents() throws InterruptedException {
+        // given - 첫 이벤트는 출력 스레드가 가져가 멈춰 있고, 큐(2칸)는 WARN 두 건으로 가득 참
+        appender.doAppend(event(Level.INFO));
+        assertThat(outputEntered.await(5, TimeUnit.SECONDS)).isTrue();
+        appender.doAppend(event(Level.WARN));
+        appender.doAppend(event(Level.WARN));
+
+        // when
+        appender.doAppend(event(Level.INFO));
+        appender.doAppend(event(Level.ERROR));
+
+        // then
+        assertThat(appender.discardedCount()).isEqualTo(1);
+        assertThat(appender.queueFullCount()).isEqualTo(1);
+        assertThat(appender.getNumberOfElementsInQueue()).isEqualTo(2);
+    }
+
+    private LoggingEvent event(Level level) {
+        return new LoggingEvent(Logger.class.getName(), logger, level, "message", null, null);
+    }
+}
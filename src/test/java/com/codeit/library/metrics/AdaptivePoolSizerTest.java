@@ -0,0 +1,87 @@
+package com.codeit.library.metrics;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@Tag("mockito")
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("커넥션 풀 자동 조정 테스트")
+class AdaptivePoolSizerTest {
+
+    @Mock
+    private HikariDataSource dataSource;
+    @Mock
+    private HikariPoolMXBean pool;
+    @Mock
+    private HikariConfigMXBean config;
+
+    private AdaptivePoolSizer sizer;
+
+    @BeforeEach
+    void setUp() {
+        when(dataSource.getPoolName()).thenReturn("test");
+        when(dataSource.getHikariPoolMXBean()).thenReturn(pool);
+        when(dataSource.getHikariConfigMXBean()).thenReturn(config);
+        sizer = new AdaptivePoolSizer(dataSource, new SimpleMeterRegistry(), 4, 20, 50, 5);
+    }
+
+    @Test
+    @DisplayName("풀이 가득 차고 대기 스레드가 있으면 풀을 늘린다")
+    void growWhenSaturated() {
+        // given
+        when(config.getMaximumPoolSize()).thenReturn(10);
+        when(pool.getActiveConnections()).thenReturn(10);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(3);
+
+        // when
+        sizer.adjust();
+
+        // then
+        verify(config).setMaximumPoolSize(12);
+    }
+
+    @Test
+    @DisplayName("대기가 없고 사용률이 낮으면 풀을 줄인다")
+    void shrinkWhenIdle() {
+        // given
+        when(config.getMaximumPoolSize()).thenReturn(10);
+        when(pool.getActiveConnections()).thenReturn(2);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(0);
+
+        // when
+        sizer.adjust();
+
+        // then
+        verify(config).setMaximumPoolSize(8);
+    }
+
+    @Test
+    @DisplayName("설정된 최대 크기를 넘겨 늘리지 않는다")
+    void neverExceedMaxSize() {
+        // given
+        when(config.getMaximumPoolSize()).thenReturn(20);
+        when(pool.getActiveConnections()).thenReturn(20);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(5);
+
+        // when
+        sizer.adjust();
+
+        // then
+        verify(config, never()).setMaximumPoolSize(anyInt());
+    }
+}
@@ -0,0 +1,68 @@
+package com.codeit.library.metrics;
+
+import com.codeit.library.event.LoanCreatedEvent;
+import com.codeit.library.event.LoanReturnedEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 지표 테스트")
+class LibraryMetricsTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LibraryMetrics libraryMetrics = new LibraryMetrics(meterRegistry);
+
+    @Test
+    @DisplayName("대출/반납 이벤트마다 카운터가 1씩 오른다")
+    void countsLoanEvents() {
+        // given
+        LocalDate today = LocalDate.now();
+
+        // when
+        libraryMetrics.onLoanCreated(new LoanCreatedEvent(1L, 1L, 1L, today));
+        libraryMetrics.onLoanCreated(new LoanCreatedEvent(2L, 1L, 2L, today));
+        libraryMetrics.onLoanReturned(new LoanReturnedEvent(1L, 1L, 1L, today, today));
+
+        // then
+        assertThat(meterRegistry.get("library.loans.created").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("library.loans.returned").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대출 거절은 사유 태그별로 따로 센다")
+    void countsRejectionsByReason() {
+        // when
+        libraryMetrics.loanRejected("limit_exceeded");
+        libraryMetrics.loanRejected("limit_exceeded");
+        libraryMetrics.loanRejected("overdue");
+
+        // then
+        assertThat(meterRegistry.get("library.loans.rejected").tag("reason", "limit_exceeded").counter().count())
+            .isEqualTo(2);
+        assertThat(meterRegistry.get("library.loans.rejected").tag("reason", "overdue").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("업로드는 크기 구간 태그로 세고 크기 분포에도 기록한다")
+    void recordsUploadSize() {
+        // when
+        libraryMetrics.fileUploaded(50 * 1024);
+        libraryMetrics.fileUploaded(5 * 1024 * 1024);
+        libraryMetrics.fileUploaded(20L * 1024 * 1024);
+
+        // then
+        assertThat(meterRegistry.get("library.uploads").tag("size", "lt_100kb").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("library.uploads").tag("size", "lt_10mb").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("library.uploads").tag("size", "gte_10mb").counter().count()).isEqualTo(1);
+        DistributionSummary summary = meterRegistry.get("library.upload.size").summary();
+        assertThat(summary.count()).isEqualTo(3);
+        assertThat(summary.totalAmount()).isEqualTo(50 * 1024 + 5 * 1024 * 1024 + 20.0 * 1024 * 1024);
+    }
+}
@@ -0,0 +1,113 @@
+package com.codeit.library.metrics;
+
+import com.codeit.library.domain.Member;
+import com.codeit.library.exception.MemberNotFoundException;
+import com.codeit.library.repository.MemberRepository;
+import com.codeit.library.service.MemberService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@Tag("mockito")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("메서드 타이머 테스트")
+class MethodObservationAspectTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @InjectMocks
+    private MemberService memberService;
+
+    private MeterRegistry meterRegistry;
+    private MethodObservationAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        aspect = new MethodObservationAspect(observationRegistry);
+    }
+
+    @Test
+    @DisplayName("서비스 메서드 호출은 class/method/outcome/exception 태그가 붙은 타이머에 기록된다")
+    void serviceTimerOnSuccess() {
+        // given
+        given(memberRepository.findById(1L)).willReturn(Optional.of(new Member("홍길동", "hong@test.com")));
+        MemberService service = proxy(memberService);
+
+        // when
+        service.findById(1L);
+
+        // then
+        Timer timer = meterRegistry.get(MethodObservationAspect.SERVICE_METRIC)
+            .tags("class", "MemberService", "method", "findById", "outcome", "SUCCESS", "exception", "none")
+            .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예외로 끝난 호출은 outcome=ERROR 와 예외 클래스 이름으로 따로 기록된다")
+    void serviceTimerOnError() {
+        // given
+        given(memberRepository.findById(99L)).willReturn(Optional.empty());
+        MemberService service = proxy(memberService);
+
+        // when
+        assertThatThrownBy(() -> service.findById(99L)).isInstanceOf(MemberNotFoundException.class);
+
+        // then
+        Timer timer = meterRegistry.get(MethodObservationAspect.SERVICE_METRIC)
+            .tags("class", "MemberService", "method", "findById",
+                "outcome", "ERROR", "exception", "MemberNotFoundException")
+            .timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(meterRegistry.find(MethodObservationAspect.SERVICE_METRIC).tag("outcome", "SUCCESS").timer())
+            .isNull();
+    }
+
+    @Test
+    @DisplayName("Repository 호출은 상속받은 메서드도 선언한 Repository 인터페이스 이름으로 기록된다")
+    void repositoryTimerUsesDeclaredInterface() {
+        // given
+        given(memberRepository.findById(1L)).willReturn(Optional.empty());
+        AspectJProxyFactory factory = new AspectJProxyFactory(memberRepository);
+        factory.addInterface(MemberRepository.class);
+        factory.addAspect(aspect);
+        MemberRepository repository = factory.getProxy();
+
+        // when
+        repository.findById(1L);
+
+        // then
+        Timer timer = meterRegistry.get(MethodObservationAspect.REPOSITORY_METRIC)
+            .tags("class", "MemberRepository", "method", "findById", "outcome", "SUCCESS")
+            .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    private MemberService proxy(MemberService target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+}
@@ -0,0 +1,51 @@
+package com.codeit.library.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("요청별 SQL 통계 테스트")
+class RequestSqlStatsTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestSqlStats.end();
+    }
+
+    @Test
+    @DisplayName("문장 수, 행 수, DB 시간을 누적한다")
+    void accumulate() {
+        // given
+        RequestSqlStats stats = RequestSqlStats.start();
+
+        // when
+        stats.recordExecution("select * from book where id=?", 1_000_000, 0);
+        stats.recordRows(3);
+        stats.recordExecution("update book set price=? where id=?", 2_000_000, 1);
+
+        // then
+        assertThat(RequestSqlStats.current()).isSameAs(stats);
+        assertThat(stats.getStatementCount()).isEqualTo(2);
+        assertThat(stats.getRowCount()).isEqualTo(4);
+        assertThat(stats.getDbNanos()).isEqualTo(3_000_000);
+    }
+
+    @Test
+    @DisplayName("같은 SQL이 기준 횟수 이상 반복되면 N+1로 의심한다")
+    void detectNPlusOne() {
+        // given
+        RequestSqlStats stats = RequestSqlStats.start();
+        String lazyLoad = "select m.id, m.name from member m where m.id=?";
+
+        // when
+        stats.recordExecution("select * from loan", 1, 0);
+        for (int i = 0; i < RequestSqlStats.N_PLUS_ONE_THRESHOLD; i++) {
+            stats.recordExecution(lazyLoad, 1, 1);
+        }
+
+        // then
+        assertThat(stats.suspectedNPlusOne()).containsOnlyKeys(lazyLoad);
+    }
+}
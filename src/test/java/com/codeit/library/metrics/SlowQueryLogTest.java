@@ -0,0 +1,68 @@
+package com.codeit.library.metrics;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("느린 쿼리 로그 테스트")
+class SlowQueryLogTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Logger logger = (Logger) LoggerFactory.getLogger(SlowQueryLog.class);
+    private final ListAppender<ILoggingEvent> logs = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        logs.start();
+        logger.addAppender(logs);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(logs);
+    }
+
+    @Test
+    @DisplayName("임계값 이상 걸린 SQL만 WARN으로 남기고 센다")
+    void logsOnlyAboveThreshold() {
+        // given
+        SlowQueryLog slowQueryLog = new SlowQueryLog(200, meterRegistry, "main");
+
+        // when
+        slowQueryLog.record("select 1", TimeUnit.MILLISECONDS.toNanos(199));
+        slowQueryLog.record("select * from loan where member_id = ?", TimeUnit.MILLISECONDS.toNanos(200));
+
+        // then
+        assertThat(meterRegistry.get(SlowQueryLog.METRIC).tag("pool", "main").counter().count()).isEqualTo(1);
+        assertThat(logs.list).hasSize(1);
+        ILoggingEvent event = logs.list.get(0);
+        assertThat(event.getLevel()).isEqualTo(Level.WARN);
+        assertThat(event.getKeyValuePairs()).extracting(pair -> pair.key + "=" + pair.value)
+            .contains("elapsedMs=200", "sql=select * from loan where member_id = ?");
+    }
+
+    @Test
+    @DisplayName("임계값이 0이면 아무리 느려도 기록하지 않는다")
+    void disabledWithZeroThreshold() {
+        // given
+        SlowQueryLog slowQueryLog = new SlowQueryLog(0, meterRegistry, "main");
+
+        // when
+        slowQueryLog.record("select 1", TimeUnit.SECONDS.toNanos(60));
+
+        // then
+        assertThat(meterRegistry.get(SlowQueryLog.METRIC).counter().count()).isZero();
+        assertThat(logs.list).isEmpty();
+    }
+}
@@ -0,0 +1,117 @@
+package com.codeit.library.metrics;
+
+import com.codeit.library.domain.Member;
+import com.codeit.library.repository.MemberRepository;
+import com.codeit.library.service.MemberService;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@Tag("mockito")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("트레이싱 span 테스트")
+class TracingObservationTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @InjectMocks
+    private MemberService memberService;
+
+    private InMemorySpanExporter spanExporter;
+    private SdkTracerProvider tracerProvider;
+    private ObservationRegistry observationRegistry;
+
+    @BeforeEach
+    void setUp() {
+        spanExporter = InMemorySpanExporter.create();
+        tracerProvider = SdkTracerProvider.builder()
+            .addSpanProcessor(SimpleSpanProcessor.create(spanExporter))
+            .build();
+        OtelTracer tracer = new OtelTracer(tracerProvider.get("test"), new OtelCurrentTraceContext(), event -> { });
+
+        observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultTracingObservationHandler(tracer));
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    @DisplayName("서비스 메서드 호출은 '클래스.메서드' 이름의 span을 만든다")
+    void serviceMethodSpan() {
+        // given
+        given(memberRepository.findById(1L)).willReturn(Optional.of(new Member("홍길동", "hong@test.com")));
+        AspectJProxyFactory factory = new AspectJProxyFactory(memberService);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new MethodObservationAspect(observationRegistry));
+        MemberService proxy = factory.getProxy();
+
+        // when
+        proxy.findById(1L);
+
+        // then
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        assertThat(spans).extracting(SpanData::getName).containsExactly("MemberService.findById");
+        assertThat(spans.get(0).getAttributes().asMap().toString()).contains("outcome=SUCCESS");
+    }
+
+    @Test
+    @DisplayName("S3 호출 span은 호출한 서비스 span의 자식이 된다")
+    void s3SpanIsChildOfCaller() {
+        // given
+        S3ObservationInterceptor interceptor = new S3ObservationInterceptor(observationRegistry);
+        ExecutionAttributes attributes = new ExecutionAttributes();
+        attributes.putAttribute(SdkExecutionAttribute.OPERATION_NAME, "PutObject");
+        Context.AfterExecution afterExecution = mock(Context.AfterExecution.class);
+        SdkHttpResponse response = mock(SdkHttpResponse.class);
+        given(afterExecution.httpResponse()).willReturn(response);
+        given(response.statusCode()).willReturn(200);
+
+        // when
+        Observation.createNotStarted("library.service.method", observationRegistry)
+            .contextualName("MemberService.createMember")
+            .observe(() -> {
+                interceptor.beforeExecution(mock(Context.BeforeExecution.class), attributes);
+                interceptor.afterExecution(afterExecution, attributes);
+            });
+
+        // then
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        assertThat(spans).extracting(SpanData::getName)
+            .containsExactly("S3.PutObject", "MemberService.createMember");
+        SpanData s3Span = spans.get(0);
+        SpanData serviceSpan = spans.get(1);
+        assertThat(s3Span.getParentSpanId()).isEqualTo(serviceSpan.getSpanId());
+        assertThat(s3Span.getTraceId()).isEqualTo(serviceSpan.getTraceId());
+    }
+}
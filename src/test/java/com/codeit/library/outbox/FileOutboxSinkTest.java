@@ -0,0 +1,44 @@
+package com.codeit.library.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("outbox 파일 싱크 테스트")
+class FileOutboxSinkTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("파일이 한도를 넘으면 밀어내고 maxHistory 개까지만 남긴다")
+    void rotatesAndKeepsHistory() throws IOException {
+        // given - 한 배치만 써도 한도(1바이트)를 넘도록
+        Path path = dir.resolve("events.jsonl");
+        FileOutboxSink sink = new FileOutboxSink(path, new ObjectMapper().findAndRegisterModules(), 1, 2);
+
+        // when
+        for (long id = 1; id <= 4; id++) {
+            sink.publish(List.of(message(id)));
+        }
+
+        // then - 최신이 events.jsonl, 직전 두 배치가 .1/.2, 가장 오래된 배치는 삭제
+        assertThat(Files.readString(path)).contains("\"id\":4");
+        assertThat(Files.readString(dir.resolve("events.jsonl.1"))).contains("\"id\":3");
+        assertThat(Files.readString(dir.resolve("events.jsonl.2"))).contains("\"id\":2");
+        assertThat(dir.resolve("events.jsonl.3")).doesNotExist();
+    }
+
+    private static OutboxMessage message(long id) {
+        return new OutboxMessage(id, "LOAN", id, "LoanCreated", "{}", LocalDateTime.now());
+    }
+}
@@ -0,0 +1,82 @@
+package com.codeit.library.outbox;
+
+import com.codeit.library.domain.OutboxEvent;
+import com.codeit.library.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@Tag("mockito")
+@DisplayName("outbox 전달 테스트")
+class OutboxRelayTest {
+
+    private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private InMemoryOutboxSink sink;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        sink = new InMemoryOutboxSink();
+        relay = new OutboxRelay(outboxEventRepository, sink, new TransactionTemplate(transactionManager),
+            meterRegistry, 2);
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차면 빌 때까지 이어서 전달하고, 전달한 이벤트는 삭제한다")
+    void relayUntilDrained() {
+        // given - 배치 크기 2, 이벤트 3건
+        when(outboxEventRepository.lockNextBatch(2))
+            .thenReturn(List.of(event(1L), event(2L)))
+            .thenReturn(List.of(event(3L)));
+
+        // when
+        relay.relay();
+
+        // then
+        assertThat(sink.drain()).extracting(OutboxMessage::id).containsExactly(1L, 2L, 3L);
+        verify(outboxEventRepository).deleteByIdIn(List.of(1L, 2L));
+        verify(outboxEventRepository).deleteByIdIn(List.of(3L));
+        verify(transactionManager, times(2)).commit(any());
+        assertThat(meterRegistry.get("outbox.relay.batch.size").summary().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("outbox.relay.lag").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("싱크 전달이 실패하면 삭제하지 않고 롤백해 다음 주기에 다시 전달한다")
+    void rollbackOnSinkFailure() {
+        // given
+        OutboxSink failingSink = messages -> {
+            throw new IllegalStateException("broker down");
+        };
+        relay = new OutboxRelay(outboxEventRepository, failingSink, new TransactionTemplate(transactionManager),
+            meterRegistry, 2);
+        when(outboxEventRepository.lockNextBatch(2)).thenReturn(List.of(event(1L)));
+
+        // when
+        relay.relay();
+
+        // then
+        verify(outboxEventRepository, never()).deleteByIdIn(any());
+        verify(transactionManager).rollback(any());
+        assertThat(meterRegistry.get("outbox.relay.failures").counter().count()).isEqualTo(1);
+    }
+
+    private static OutboxEvent event(Long id) {
+        OutboxEvent event = new OutboxEvent("LOAN", id, "LoanCreated", "{\"loanId\":" + id + "}");
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}
@@ -0,0 +1,84 @@
+package com.codeit.library.outbox;
+
+import com.codeit.library.domain.OutboxEvent;
+import com.codeit.library.event.LoanCreatedEvent;
+import com.codeit.library.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import(OutboxWriterTest.WriterConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 트랜잭션 경계를 테스트에서 직접 정함
+@DisplayName("outbox 기록 테스트")
+class OutboxWriterTest {
+
+    @Autowired
+    private OutboxWriter outboxWriter;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("호출한 쪽 트랜잭션 없이 기록하면 거절한다")
+    void rejectsWithoutTransaction() {
+        // when & then
+        assertThatThrownBy(() -> outboxWriter.onLoanCreated(event(1L)))
+            .isInstanceOf(IllegalTransactionStateException.class);
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("호출한 쪽 트랜잭션에 참여해 함께 커밋/롤백된다")
+    void joinsCallerTransaction() {
+        // given
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // when
+        transaction.executeWithoutResult(status -> outboxWriter.onLoanCreated(event(1L)));
+        transaction.executeWithoutResult(status -> {
+            outboxWriter.onLoanCreated(event(2L));
+            status.setRollbackOnly(); // 서비스 트랜잭션이 롤백된 경우
+        });
+
+        // then
+        assertThat(outboxEventRepository.findAll())
+            .extracting(OutboxEvent::getAggregateId)
+            .containsExactly(1L);
+    }
+
+    private static LoanCreatedEvent event(Long loanId) {
+        return new LoanCreatedEvent(loanId, 1L, 1L, LocalDate.now());
+    }
+
+    @TestConfiguration
+    static class WriterConfig {
+
+        @Bean
+        OutboxWriter outboxWriter(OutboxEventRepository outboxEventRepository) {
+            return new OutboxWriter(outboxEventRepository, new ObjectMapper().findAndRegisterModules());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.codeit.library.recommend;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("함께 대출한 책 색인 테스트")
+class CoBorrowIndexTest {
+
+    @Test
+    @DisplayName("같은 회원이 빌린 책끼리 함께 빌린 회원 수 순으로 반환한다")
+    void relatedByCoBorrowCount() {
+        // given
+        CoBorrowIndex index = new CoBorrowIndex(4, 10, 20, 5);
+        index.add(1L, 100L);
+        index.add(1L, 200L);
+        index.add(1L, 300L);
+        index.add(2L, 100L);
+        index.add(2L, 200L);
+        index.add(2L, 100L); // 같은 책 재대출은 다시 세지 않음
+
+        // when
+        List<CoBorrowIndex.Related> related = index.related(100L, 10);
+
+        // then
+        assertThat(related).containsExactly(
+            new CoBorrowIndex.Related(200L, 2),
+            new CoBorrowIndex.Related(300L, 1));
+        assertThat(index.related(999L, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("fork/join 재구성 결과는 증분 갱신 결과와 같다")
+    void rebuildMatchesIncremental() {
+        // given - 회원별 기록이 잘리지 않고 이웃도 버려지지 않는 크기 (회원당 평균 40권, 도서 300권)
+        Random random = new Random(42);
+        List<long[]> loans = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            loans.add(new long[]{random.nextInt(500) + 1, random.nextInt(300) + 1});
+        }
+        CoBorrowIndex incremental = new CoBorrowIndex(8, 100, 400, 10);
+        loans.forEach(loan -> incremental.add(loan[0], loan[1]));
+
+        // when
+        CoBorrowIndex rebuilt = CoBorrowIndex.rebuild(loans, 8, 100, 400, 10, new ForkJoinPool(4));
+
+        // then
+        for (long bookId = 1; bookId <= 300; bookId++) {
+            assertThat(counts(rebuilt.related(bookId, 10)))
+                .as("book %d", bookId)
+                .isEqualTo(counts(incremental.related(bookId, 10)));
+        }
+    }
+
+    @Test
+    @DisplayName("이웃이 상한을 넘으면 횟수가 적은 이웃을 버리고 상위 이웃은 유지한다")
+    void boundedNeighbors() {
+        // given - 책 1과 2를 100명이 함께 빌리고, 나머지는 한 번씩만
+        CoBorrowIndex index = new CoBorrowIndex(1, 10, 20, 5);
+        for (long member = 1; member <= 100; member++) {
+            index.add(member, 1L);
+            index.add(member, 2L);
+        }
+        for (long book = 1000; book < 1100; book++) {
+            index.add(10_000 + book, 1L);
+            index.add(10_000 + book, book);
+        }
+
+        // when
+        List<CoBorrowIndex.Related> related = index.related(1L, 5);
+
+        // then
+        assertThat(related.get(0)).isEqualTo(new CoBorrowIndex.Related(2L, 100));
+        assertThat(related).hasSizeLessThanOrEqualTo(5);
+    }
+
+    // 같은 횟수끼리의 순서는 갱신 순서에 따라 다를 수 있으므로 횟수 목록만 비교
+    private static List<Integer> counts(List<CoBorrowIndex.Related> related) {
+        return related.stream().map(CoBorrowIndex.Related::count).toList();
+    }
+}
@@ -1,11 +1,15 @@
 package com.codeit.library.repository;
 
 import com.codeit.library.domain.Book;
+import com.codeit.library.domain.Loan;
+import com.codeit.library.domain.Member;
+import com.codeit.library.dto.request.BookSearchCondition;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -19,6 +23,10 @@ class BookRepositoryTest {
 
     @Autowired
     private BookRepository bookRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private LoanRepository loanRepository;
 
     @Nested
     @DisplayName("검색 관련 기능")
@@ -125,5 +133,47 @@ class BookRepositoryTest {
             // then
             assertThat(books).hasSize(3);
         }
+
+        @Test
+        @DisplayName("검색 결과를 정렬하고 개수를 제한할 수 있다")
+        void searchWithSortAndLimit() {
+            // given
+            bookRepository.save(new Book("클린 코드", "로버트 마틴", "111", 30000));
+            bookRepository.save(new Book("클린 아키텍처", "로버트 마틴", "222", 32000));
+            bookRepository.save(new Book("리팩토링", "마틴 파울러", "333", 35000));
+
+            BookSearchCondition condition = new BookSearchCondition(
+                    null, 31000, null, Sort.by(Sort.Direction.DESC, "price"), 1);
+
+            // when
+            List<Book> books = bookRepository.search(condition);
+
+            // then
+            assertThat(books).hasSize(1);
+            assertThat(books.get(0).getTitle()).isEqualTo("리팩토링");
+        }
+
+        @Test
+        @DisplayName("대여 가능 검색은 미반납 대출이 있는 책을 DB에서 제외한다")
+        void searchAvailable() {
+            // given
+            Member member = memberRepository.save(new Member("홍길동", "hong@test.com"));
+            Book loaned = bookRepository.save(new Book("클린 코드", "로버트 마틴", "111", 30000));
+            Book returned = bookRepository.save(new Book("클린 아키텍처", "로버트 마틴", "222", 32000));
+            bookRepository.save(new Book("리팩토링", "마틴 파울러", "333", 35000));
+            loanRepository.save(new Loan(member, loaned, LocalDate.now()));
+            Loan past = new Loan(member, returned, LocalDate.now().minusDays(3));
+            past.returnBook();
+            loanRepository.save(past);
+
+            BookSearchCondition condition = new BookSearchCondition(
+                    "로버트 마틴", null, null, Sort.by("price"), null);
+
+            // when
+            List<Book> books = bookRepository.searchAvailable(condition);
+
+            // then
+            assertThat(books).extracting("title").containsExactly("클린 아키텍처");
+        }
     }
-}
\ No newline at end of file
+}
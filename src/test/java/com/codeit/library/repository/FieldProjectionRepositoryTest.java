@@ -0,0 +1,77 @@
+package com.codeit.library.repository;
+
+import com.codeit.library.domain.Book;
+import com.codeit.library.domain.Loan;
+import com.codeit.library.domain.Member;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import(FieldProjectionRepository.class)
+@DisplayName("필드 선택 조회 테스트")
+class FieldProjectionRepositoryTest {
+
+    @Autowired
+    private FieldProjectionRepository fieldProjectionRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("요청한 항목만 요청한 순서대로 담는다")
+    void selectRequestedFieldsOnly() {
+        // given
+        entityManager.persist(new Book("클린 코드", "로버트 마틴", "111", 30000));
+        entityManager.flush();
+
+        // when
+        List<Map<String, Object>> books = fieldProjectionRepository.findBooks(Set.of("title"));
+
+        // then
+        assertThat(books).hasSize(1);
+        assertThat(books.get(0)).containsOnlyKeys("title").containsEntry("title", "클린 코드");
+    }
+
+    @Test
+    @DisplayName("대출 목록에서 회원 이름, 도서 제목, 연체 여부를 함께 조회한다")
+    void loanFieldsWithJoins() {
+        // given
+        Member member = entityManager.persist(new Member("홍길동", "hong@test.com"));
+        Book book = entityManager.persist(new Book("클린 코드", "로버트 마틴", "111", 30000));
+        Loan loan = entityManager.persist(new Loan(member, book, LocalDate.now().minusDays(30)));
+        entityManager.flush();
+
+        // when
+        List<Map<String, Object>> loans = fieldProjectionRepository.findLoans(
+            FieldProjectionRepository.parseFields("id, memberName,bookTitle,overdue"));
+
+        // then
+        assertThat(loans).hasSize(1);
+        assertThat(loans.get(0)).containsExactly(
+            Map.entry("id", loan.getId()),
+            Map.entry("memberName", "홍길동"),
+            Map.entry("bookTitle", "클린 코드"),
+            Map.entry("overdue", true)
+        );
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 항목을 요청하면 예외가 발생한다")
+    void unknownField() {
+        assertThatThrownBy(() -> fieldProjectionRepository.findMembers(Set.of("password")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("password");
+    }
+}
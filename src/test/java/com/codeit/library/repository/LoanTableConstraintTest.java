@@ -0,0 +1,157 @@
+package com.codeit.library.repository;
+
+import com.codeit.library.service.LoanPartitionMaintainer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 파티션 loan 테이블에서 책당 미반납 1건 보장(V7__open_loan_guard.sql)과
+ * loan_default 행 재배치(LoanPartitionMaintainer)를 실제 PostgreSQL에서 확인합니다.
+ * 애플리케이션 검사(book 행 잠금)를 거치지 않는 SQL로 직접 넣어 DB 제약만 검증합니다.
+ * Docker가 없는 환경에서는 건너뜁니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("loan 테이블 제약 테스트")
+class LoanTableConstraintTest {
+
+    private static final String UNIQUE_VIOLATION = "23505";
+    private static final AtomicInteger ISBN_SEQ = new AtomicInteger();
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("같은 책을 두 트랜잭션이 동시에 대출하면 먼저 커밋한 쪽만 남는다")
+    void concurrentCheckoutOfSameBook() throws Exception {
+        // given
+        long bookId = insertBook();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (Connection first = dataSource.getConnection()) {
+            first.setAutoCommit(false);
+            insertOpenLoan(first, 1L, bookId);
+
+            // when - 두 번째 트랜잭션은 첫 트랜잭션이 끝날 때까지 open_loan PK 검사에서 기다림
+            Future<Boolean> second = executor.submit(() -> checkout(2L, bookId));
+            Thread.sleep(300);
+            assertThat(second).isNotDone();
+            first.commit();
+
+            // then
+            assertThat(second.get(10, TimeUnit.SECONDS)).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(openLoanCount(bookId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반납하면 같은 책을 다시 대출할 수 있다")
+    void returnReleasesBook() throws SQLException {
+        // given
+        long bookId = insertBook();
+        assertThat(checkout(1L, bookId)).isTrue();
+        assertThat(checkout(2L, bookId)).isFalse();
+
+        // when
+        jdbc().update("UPDATE loan SET return_date = CURRENT_DATE WHERE book_id = ? AND return_date IS NULL", bookId);
+
+        // then
+        assertThat(checkout(2L, bookId)).isTrue();
+        assertThat(openLoanCount(bookId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("파티션이 없는 과거 달의 행은 월 파티션으로 옮겨지고 미반납 보호가 유지된다")
+    void relocatesDefaultRows() throws SQLException {
+        // given - 마이그레이션은 기존 데이터의 첫 달부터 파티션을 만들므로 그 이전 달은 loan_default로 감
+        long openBook = insertBook();
+        long returnedBook = insertBook();
+        jdbc().update("INSERT INTO loan (member_id, book_id, loan_date, return_date) VALUES " +
+                "(1, ?, DATE '2019-05-10', NULL), (1, ?, DATE '2019-05-11', DATE '2019-05-20')", openBook, returnedBook);
+        assertThat(count("SELECT count(*) FROM loan_default")).isEqualTo(2);
+
+        // when
+        new LoanPartitionMaintainer(jdbc()).maintain();
+
+        // then
+        assertThat(count("SELECT count(*) FROM loan_default")).isZero();
+        assertThat(count("SELECT count(*) FROM loan_p2019_05")).isEqualTo(2);
+        assertThat(openLoanCount(openBook)).isEqualTo(1);
+        assertThat(checkout(2L, openBook)).isFalse();
+        assertThat(checkout(2L, returnedBook)).isTrue();
+    }
+
+    // 자동 커밋 한 건. 미반납 중복이면 false
+    private boolean checkout(long memberId, long bookId) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            insertOpenLoan(connection, memberId, bookId);
+            return true;
+        } catch (SQLException e) {
+            if (UNIQUE_VIOLATION.equals(e.getSQLState())) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private void insertOpenLoan(Connection connection, long memberId, long bookId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO loan (member_id, book_id, loan_date) VALUES (?, ?, CURRENT_DATE)")) {
+            statement.setLong(1, memberId);
+            statement.setLong(2, bookId);
+            statement.executeUpdate();
+        }
+    }
+
+    private long insertBook() {
+        return jdbc().queryForObject("INSERT INTO book (title, author, isbn, price) VALUES ('제목', '저자', ?, 10000) " +
+                "RETURNING id", Long.class, "GUARD-" + ISBN_SEQ.incrementAndGet());
+    }
+
+    private long openLoanCount(long bookId) {
+        return jdbc().queryForObject("SELECT count(*) FROM loan WHERE book_id = ? AND return_date IS NULL",
+                Long.class, bookId);
+    }
+
+    private long count(String sql) {
+        return jdbc().queryForObject(sql, Long.class);
+    }
+
+    private JdbcTemplate jdbc() {
+        return new JdbcTemplate(dataSource);
+    }
+}
@@ -0,0 +1,406 @@
+package com.codeit.library.repository;
+
+import com.codeit.library.dto.request.BookSearchCondition;
+import com.codeit.library.service.LoanPartitionMaintainer;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 PostgreSQL에 마이그레이션을 적용하고 데이터를 충분히 넣은 뒤,
+ * Repository 메서드를 호출해 Hibernate가 만든 SQL을 잡아(SqlCapture) EXPLAIN 해서 Seq Scan이 없는지 확인합니다.
+ * 의도한 전체 스캔은 {@link #assertIntentionalFullScan}으로 대상 테이블을 명시하고, 그 밖의 테이블을 Seq Scan 하면 실패합니다.
+ * Docker가 없는 환경에서는 건너뜁니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                "com.codeit.library.repository.QueryPlanTest$SqlCapture"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("쿼리 실행 계획 테스트")
+class QueryPlanTest {
+
+    private static final int BOOK_COUNT = 100_000;
+    private static final int MEMBER_COUNT = 10_000;
+    private static final int LOAN_COUNT = 300_000;
+
+    private static final Pattern SEQ_SCAN = Pattern.compile("Seq Scan on (\\w+)");
+    // Sort / Incremental Sort 노드 (Merge Append의 "Sort Key:"는 해당 없음)
+    private static final Pattern SORT = Pattern.compile("Sort\\s+\\(cost");
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    private static boolean seeded = false;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void seed() throws SQLException {
+        if (seeded) {
+            return;
+        }
+        execute("INSERT INTO member (name, email) " +
+                "SELECT '회원 ' || g, 'member' || g || '@example.com' FROM generate_series(1, " + MEMBER_COUNT + ") g");
+        execute("INSERT INTO book (title, author, isbn, price, published_date) " +
+                "SELECT '제목 ' || g, '저자 ' || (g % 5000), 'ISBN-' || g, (g * 37) % 1000000, DATE '2000-01-01' + (g % 9000) " +
+                "FROM generate_series(1, " + BOOK_COUNT + ") g");
+        // 대부분 반납 완료, 일부(책이 겹치지 않게)만 미반납
+        execute("INSERT INTO loan (member_id, book_id, loan_date, return_date) " +
+                "SELECT (g % " + MEMBER_COUNT + ") + 1, (g % " + BOOK_COUNT + ") + 1, DATE '2024-01-01' + (g % 600), " +
+                "CASE WHEN g % 100 = 0 AND g <= " + BOOK_COUNT + " THEN NULL ELSE DATE '2024-01-01' + (g % 600) + 7 END " +
+                "FROM generate_series(1, " + LOAN_COUNT + ") g");
+        // 마이그레이션 이전 달(2024-01~)의 행은 loan_default로 들어가므로 운영과 같이 월 파티션으로 옮김
+        new LoanPartitionMaintainer(new JdbcTemplate(dataSource)).maintain();
+        execute("ANALYZE");
+        seeded = true;
+    }
+
+    @Nested
+    @DisplayName("LoanRepository")
+    class LoanQueries {
+
+        @Test
+        @DisplayName("findByMember")
+        void findByMember() throws SQLException {
+            assertNoSeqScan(explainCall(() -> loanRepository.findByMember(memberRepository.getReferenceById(42L)),
+                    42L));
+        }
+
+        @Test
+        @DisplayName("findByReturnDateIsNull")
+        void findByReturnDateIsNull() throws SQLException {
+            assertNoSeqScan(explainCall(() -> loanRepository.findByReturnDateIsNull()));
+        }
+
+        @Test
+        @DisplayName("findByReturnDateIsNullAndIdGreaterThanOrderByIdAsc")
+        void findOpenLoansByKeyset() throws SQLException {
+            assertNoSeqScan(explainCall(() -> loanRepository.findByReturnDateIsNullAndIdGreaterThanOrderByIdAsc(
+                    5000L, PageRequest.of(0, 500)), 5000L, 500));
+        }
+
+        @Test
+        @DisplayName("countByMemberIdAndReturnDateIsNull")
+        void countOpenLoansByMember() throws SQLException {
+            assertNoSeqScan(explainCall(() -> loanRepository.countByMemberIdAndReturnDateIsNull(42L), 42L));
+        }
+
+        @Test
+        @DisplayName("existsByBookIdAndReturnDateIsNull")
+        void existsOpenLoanByBook() throws SQLException {
+            assertNoSeqScan(explainCall(() -> loanRepository.existsByBookIdAndReturnDateIsNull(4200L), 4200L, 1));
+        }
+
+        @Test
+        @DisplayName("existsOverdueLoan")
+        void existsOverdueLoan() throws SQLException {
+            LocalDate cutoff = LocalDate.of(2024, 6, 1);
+            assertNoSeqScan(explainCall(() -> loanRepository.existsOverdueLoan(42L, cutoff), 42L, cutoff));
+        }
+
+        @Test
+        @DisplayName("findLoanedBookIds")
+        void findLoanedBookIds() throws SQLException {
+            assertNoSeqScan(explainCall(() -> loanRepository.findLoanedBookIds(List.of(100L, 4200L)), 100L, 4200L));
+        }
+
+        @Test
+        @DisplayName("findAllLoanedBookIds: 미반납 부분 인덱스만 읽는다")
+        void findAllLoanedBookIds() throws SQLException {
+            assertNoSeqScan(explainCall(() -> loanRepository.findAllLoanedBookIds()));
+        }
+
+        @Test
+        @DisplayName("findAllWithMemberAndBookByIdIn / findOpenWithMemberAndBookByIdIn")
+        void findWithMemberAndBookByIdIn() throws SQLException {
+            assertNoSeqScan(explainCall(() -> loanRepository.findAllWithMemberAndBookByIdIn(List.of(1000L, 2000L)),
+                    1000L, 2000L));
+            assertNoSeqScan(explainCall(() -> loanRepository.findOpenWithMemberAndBookByIdIn(List.of(1000L, 2000L)),
+                    1000L, 2000L));
+        }
+
+        @Test
+        @DisplayName("findArchivable: 이전 달 파티션만 키셋 인덱스로 읽고, 남은 대상 행 전체를 정렬하지 않는다")
+        void findArchivable() throws SQLException {
+            LocalDate cutoff = LocalDate.of(2024, 3, 1);
+            List<String> plan = explainCall(() -> loanRepository.findArchivable(cutoff, 4200L, 0L,
+                    PageRequest.of(0, 500)), cutoff, cutoff, 4200L, 4200L, 4200L, 0L, 500);
+            assertNoSeqScan(plan);
+            assertThat(plan)
+                    .as(String.join(System.lineSeparator(), plan))
+                    .noneMatch(line -> SORT.matcher(line).find())
+                    .noneMatch(line -> line.contains("loan_p2024_03") || line.contains("loan_p2024_04"));
+        }
+
+        @Test
+        @DisplayName("countLoansByBookSince: 기간 안의 월 파티션만 전부 읽는다")
+        void countLoansByBookSince() throws SQLException {
+            LocalDate from = LocalDate.of(2025, 6, 1);
+            List<String> plan = explainCall(() -> loanRepository.countLoansByBookSince(from), from);
+            // 기간 안의 대출은 모두 세야 하므로 해당 파티션 전체 스캔이 맞음
+            assertIntentionalFullScan(plan, "loan");
+            assertThat(plan)
+                    .as(String.join(System.lineSeparator(), plan))
+                    .anyMatch(line -> line.contains("loan_p2025_06"))
+                    .noneMatch(line -> line.contains("loan_p2024_") || line.contains("loan_p2025_05"));
+        }
+
+        @Test
+        @DisplayName("시드 데이터는 모두 월 파티션에 있다")
+        void defaultPartitionIsEmpty() {
+            assertThat(new JdbcTemplate(dataSource).queryForObject("SELECT count(*) FROM loan_default", Long.class))
+                    .isZero();
+        }
+
+        @Test
+        @DisplayName("findFactsSince: loan_date 하한보다 이전 달 파티션은 읽지 않는다")
+        void partitionPruning() throws SQLException {
+            LocalDate from = LocalDate.of(2024, 3, 1);
+            List<String> plan = explainCall(() -> loanRepository.findFactsSince(from, 0L, PageRequest.of(0, 500)),
+                    from, 0L, 500);
+            assertThat(plan)
+                    .as(String.join(System.lineSeparator(), plan))
+                    .anyMatch(line -> line.contains("loan_p2024_03"))
+                    .noneMatch(line -> line.contains("loan_p2024_01") || line.contains("loan_p2024_02"));
+        }
+    }
+
+    @Nested
+    @DisplayName("BookRepository")
+    class BookQueries {
+
+        @Test
+        @DisplayName("findByAuthor / findByAuthorOrderByPriceAsc")
+        void findByAuthor() throws SQLException {
+            assertNoSeqScan(explainCall(() -> bookRepository.findByAuthor("저자 42"), "저자 42"));
+            assertNoSeqScan(explainCall(() -> bookRepository.findByAuthorOrderByPriceAsc("저자 42"), "저자 42"));
+        }
+
+        @Test
+        @DisplayName("findByTitleContaining")
+        void findByTitleContaining() throws SQLException {
+            // Containing은 '%값%'으로 바인딩됨
+            assertNoSeqScan(explainCall(() -> bookRepository.findByTitleContaining("제목 4242"), "%제목 4242%"));
+        }
+
+        @Test
+        @DisplayName("findByIsbn")
+        void findByIsbn() throws SQLException {
+            assertNoSeqScan(explainCall(() -> bookRepository.findByIsbn("ISBN-4242"), "ISBN-4242"));
+        }
+
+        @Test
+        @DisplayName("findByPublishedDateBetween")
+        void findByPublishedDateBetween() throws SQLException {
+            LocalDate start = LocalDate.of(2020, 1, 1);
+            LocalDate end = LocalDate.of(2020, 1, 31);
+            assertNoSeqScan(explainCall(() -> bookRepository.findByPublishedDateBetween(start, end), start, end));
+        }
+
+        @Test
+        @DisplayName("findExpensiveRecentBooks")
+        void findExpensiveRecentBooks() throws SQLException {
+            LocalDate date = LocalDate.of(2020, 1, 1);
+            assertNoSeqScan(explainCall(() -> bookRepository.findExpensiveRecentBooks(995000, date), 995000, date));
+        }
+
+        @Test
+        @DisplayName("searchBooks")
+        void searchBooks() throws SQLException {
+            assertNoSeqScan(explainCall(() -> bookRepository.searchBooks("저자 42", 10000, 500000),
+                    "저자 42", 10000, 500000));
+            assertNoSeqScan(explainCall(() -> bookRepository.searchBooks(null, 10000, 12000), 10000, 12000));
+        }
+
+        @Test
+        @DisplayName("search: 정렬과 limit")
+        void searchWithSortAndLimit() throws SQLException {
+            BookSearchCondition byAuthor = new BookSearchCondition("저자 42", null, null, Sort.by("price"), 20);
+            assertNoSeqScan(explainCall(() -> bookRepository.search(byAuthor), "저자 42", 20));
+            BookSearchCondition byId = new BookSearchCondition(null, null, null, Sort.by(Sort.Direction.DESC, "id"), 20);
+            assertNoSeqScan(explainCall(() -> bookRepository.search(byId), 20));
+            // 조건 없이 제목순: 제목에는 trigram 인덱스뿐이라 전체를 읽어 상위 N개를 고름
+            BookSearchCondition byTitle = new BookSearchCondition(null, null, null, Sort.by("title"), 20);
+            assertIntentionalFullScan(explainCall(() -> bookRepository.search(byTitle), 20), "book");
+        }
+
+        @Test
+        @DisplayName("searchAvailable: 미반납 대출은 부분 인덱스로 확인한다")
+        void searchAvailable() throws SQLException {
+            BookSearchCondition condition = new BookSearchCondition("저자 42", null, null, Sort.by("id"), 20);
+            assertNoSeqScan(explainCall(() -> bookRepository.searchAvailable(condition), "저자 42", 20));
+        }
+
+        @Test
+        @DisplayName("findAllByIdForUpdate")
+        void findAllByIdForUpdate() throws SQLException {
+            // 잠금 쿼리는 트랜잭션 안에서만 실행됨
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            assertNoSeqScan(explainCall(() -> transaction.executeWithoutResult(
+                    status -> bookRepository.findAllByIdForUpdate(List.of(100L, 4200L))), 100L, 4200L));
+        }
+
+        @Test
+        @DisplayName("findCatalogBooks / findSuggestSources: id 키셋")
+        void findByIdKeyset() throws SQLException {
+            assertNoSeqScan(explainCall(() -> bookRepository.findCatalogBooks(50_000L, PageRequest.of(0, 1000)),
+                    50_000L, 1000));
+            assertNoSeqScan(explainCall(() -> bookRepository.findSuggestSources(50_000L, PageRequest.of(0, 1000)),
+                    50_000L, 1000));
+        }
+    }
+
+    /**
+     * Hibernate가 실제로 만든 SELECT를 파라미터 값과 함께 EXPLAIN 합니다.
+     * 값은 SQL의 ? 순서대로 넘기며 (페이지 크기, exists의 1건 제한 포함), 개수가 다르면 실패합니다.
+     */
+    private List<String> explainCall(Runnable repositoryCall, Object... parameters) throws SQLException {
+        SqlCapture.clear();
+        repositoryCall.run();
+        String sql = SqlCapture.firstSelect();
+        assertThat(sql).as("실행된 SELECT가 없습니다").isNotNull();
+        assertThat(sql.chars().filter(c -> c == '?').count()).as(sql).isEqualTo(parameters.length);
+
+        List<String> plan = new ArrayList<>();
+        plan.add(sql); // 실패 메시지에 SQL도 보이도록
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.add(resultSet.getString(1));
+                }
+            }
+        }
+        return plan;
+    }
+
+    // loan은 월별 파티션이라, 데이터가 없는 (미래 달) 파티션은 Seq Scan 이 더 싸게 잡히므로 제외
+    private void assertNoSeqScan(List<String> plan) {
+        assertSeqScanOnly(plan, null);
+    }
+
+    /**
+     * 전체를 읽는 것이 의도인 쿼리: fullScanTable(파티션 테이블이면 그 파티션 포함)의 Seq Scan만 허용하고,
+     * 다른 테이블을 Seq Scan 하면 실패합니다.
+     */
+    private void assertIntentionalFullScan(List<String> plan, String fullScanTable) {
+        assertSeqScanOnly(plan, fullScanTable);
+    }
+
+    private void assertSeqScanOnly(List<String> plan, String allowedTable) {
+        assertThat(plan)
+                .as(String.join(System.lineSeparator(), plan))
+                .noneMatch(line -> {
+                    Matcher matcher = SEQ_SCAN.matcher(line);
+                    if (!matcher.find()) {
+                        return false;
+                    }
+                    String relation = matcher.group(1);
+                    return !(allowedTable != null && isPartOf(relation, allowedTable)) && hasRows(relation);
+                });
+    }
+
+    // reltuples는 ANALYZE 전에는 -1이라 실제로 행이 있는지 확인
+    private boolean hasRows(String relation) {
+        return Boolean.TRUE.equals(new JdbcTemplate(dataSource)
+                .queryForObject("SELECT EXISTS (SELECT 1 FROM " + relation + ")", Boolean.class));
+    }
+
+    private boolean isPartOf(String relation, String table) {
+        if (relation.equals(table)) {
+            return true;
+        }
+        Boolean partition = new JdbcTemplate(dataSource).queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid JOIN pg_class p ON p.oid = i.inhparent " +
+                "WHERE c.relname = ? AND p.relname = ?)", Boolean.class, relation, table);
+        return Boolean.TRUE.equals(partition);
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    /**
+     * Hibernate가 JDBC로 보내기 직전의 SQL을 모읍니다 (hibernate.session_factory.statement_inspector).
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        private static final List<String> CAPTURED = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            CAPTURED.add(sql);
+            return sql;
+        }
+
+        static void clear() {
+            CAPTURED.clear();
+        }
+
+        static String firstSelect() {
+            return CAPTURED.stream()
+                    .filter(sql -> sql.regionMatches(true, 0, "select", 0, 6))
+                    .findFirst()
+                    .orElse(null);
+        }
+    }
+}
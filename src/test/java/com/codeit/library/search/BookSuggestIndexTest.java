@@ -0,0 +1,125 @@
+package com.codeit.library.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("자동완성 색인 테스트")
+class BookSuggestIndexTest {
+
+    @Test
+    @DisplayName("조합 중인 음절, 초성, 단어 시작, 저자로도 찾는다")
+    void matchesKoreanPrefixes() {
+        // given
+        BookSuggestIndex index = new BookSuggestIndex();
+        index.load(1L, "클린 코드", "로버트 마틴");
+        index.load(2L, "클라우드 네이티브", "김철수");
+        index.load(3L, "Effective Java", "Joshua Bloch");
+        index.compact();
+
+        // when & then
+        assertThat(bookIds(index.suggest("클리", 10))).containsExactly(1L); // "클린" 입력 중
+        assertThat(bookIds(index.suggest("클ㄹ", 10))).containsExactlyInAnyOrder(1L, 2L); // 클린, 클라
+        assertThat(bookIds(index.suggest("클", 10))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(bookIds(index.suggest("ㅋㄹㅋㄷ", 10))).containsExactly(1L);
+        assertThat(bookIds(index.suggest("클린코", 10))).containsExactly(1L);
+        assertThat(bookIds(index.suggest("코드", 10))).containsExactly(1L);
+        assertThat(bookIds(index.suggest("ㄱㅊ", 10))).containsExactly(2L);
+        assertThat(bookIds(index.suggest("effective ja", 10))).containsExactly(3L);
+        assertThat(bookIds(index.suggest("java", 10))).containsExactly(3L);
+        assertThat(index.suggest("없는책", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("인기도 순으로 상위 limit권을 반환하고 대출 시 순위가 바로 바뀐다")
+    void ranksByPopularity() {
+        // given
+        BookSuggestIndex index = new BookSuggestIndex();
+        for (long id = 1; id <= 50; id++) {
+            index.load(id, "자바 " + id + "판", "저자" + id);
+            index.setPopularity(id, (int) id);
+        }
+        index.compact();
+
+        // when & then
+        assertThat(bookIds(index.suggest("자바", 3))).containsExactly(50L, 49L, 48L);
+
+        index.addPopularity(1L, 100);
+        assertThat(bookIds(index.suggest("ㅈㅂ", 3))).containsExactly(1L, 50L, 49L);
+    }
+
+    @Test
+    @DisplayName("등록/수정/삭제는 압축 전에도 바로 반영되고 압축 후에도 결과가 같다")
+    void incrementalUpdates() {
+        // given
+        BookSuggestIndex index = new BookSuggestIndex();
+        index.load(1L, "토비의 스프링", "이일민");
+        index.compact();
+
+        // when
+        index.put(2L, "토지", "박경리");
+        index.put(1L, "스프링 부트 실전", "이일민");
+        index.remove(2L);
+        index.put(3L, "토끼전", null);
+        index.load(2L, "토지", "박경리"); // 삭제된 도서는 적재로 되살아나지 않음
+
+        // then
+        assertThat(bookIds(index.suggest("토", 10))).containsExactly(3L);
+        assertThat(bookIds(index.suggest("스프링", 10))).containsExactly(1L);
+        index.compact();
+        assertThat(bookIds(index.suggest("토", 10))).containsExactly(3L);
+        assertThat(bookIds(index.suggest("스프링", 10))).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("세그먼트 결과는 전체 스캔으로 구한 인기 상위 k권과 같다")
+    void matchesBruteForce() {
+        // given
+        Random random = new Random(7);
+        String syllables = "가나다라마바사아자차카타파하";
+        BookSuggestIndex index = new BookSuggestIndex();
+        String[] titles = new String[2000];
+        int[] popularity = new int[2000];
+        for (int i = 0; i < titles.length; i++) {
+            StringBuilder title = new StringBuilder();
+            for (int j = 0; j < 4; j++) {
+                title.append(syllables.charAt(random.nextInt(syllables.length())));
+            }
+            titles[i] = title.toString();
+            popularity[i] = random.nextInt(1000) * 2000 + i; // 동점 없음
+            index.load(i, titles[i], null);
+            index.setPopularity(i, popularity[i]);
+        }
+        index.compact();
+
+        // when & then
+        for (String prefix : List.of("가", "나다", "ㅂ", "ㅅㅇ", "하하")) {
+            byte[] key = HangulKeys.jamoKey(prefix);
+            List<Long> expected = IntStream.range(0, titles.length)
+                .filter(i -> startsWith(HangulKeys.jamoKey(titles[i]), key)
+                    || startsWith(HangulKeys.choseongKey(titles[i]), key))
+                .boxed()
+                .sorted((a, b) -> Integer.compare(popularity[b], popularity[a]))
+                .limit(5)
+                .map(Integer::longValue)
+                .toList();
+            assertThat(bookIds(index.suggest(prefix, 5))).as(prefix).isEqualTo(expected);
+        }
+    }
+
+    private static List<Long> bookIds(List<BookSuggestIndex.Suggestion> suggestions) {
+        return suggestions.stream().map(BookSuggestIndex.Suggestion::bookId).toList();
+    }
+
+    private static boolean startsWith(byte[] key, byte[] prefix) {
+        return key.length >= prefix.length
+            && Arrays.equals(key, 0, prefix.length, prefix, 0, prefix.length);
+    }
+}
@@ -0,0 +1,109 @@
+package com.codeit.library.service;
+
+import com.codeit.library.domain.Loan;
+import com.codeit.library.repository.LoanRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Tag("mockito")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("연체 감지 타이밍 휠 테스트")
+class LoanOverdueTrackerTest {
+
+    @Mock
+    private LoanRepository loanRepository;
+
+    private LoanOverdueTracker tracker;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new LoanOverdueTracker(loanRepository);
+        today = LocalDate.now();
+    }
+
+    @Test
+    @DisplayName("반납 예정일 다음 날이 되면 연체 목록에 들어간다")
+    void becomesOverdueAfterDueDate() {
+        // given
+        tracker.register(1L, today);
+
+        // when & then
+        assertThat(tracker.getOverdueLoanIds(today.plusDays(14))).isEmpty(); // 반납 예정일 당일은 연체 아님
+        assertThat(tracker.getOverdueLoanIds(today.plusDays(15))).containsExactly(1L);
+        assertThat(tracker.scheduledCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 기한이 지난 대출은 등록 즉시 연체로 분류된다")
+    void registerAlreadyOverdueLoan() {
+        // when
+        tracker.register(1L, today.minusDays(20));
+        tracker.register(2L, today.minusDays(3));
+
+        // then
+        assertThat(tracker.getOverdueLoanIds(today)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("반납된 대출은 휠과 연체 목록에서 모두 제거된다")
+    void unregisterReturnedLoan() {
+        // given
+        tracker.register(1L, today.minusDays(20));
+        tracker.register(2L, today);
+
+        // when
+        tracker.unregister(1L);
+        tracker.unregister(2L);
+
+        // then
+        assertThat(tracker.getOverdueLoanIds(today.plusDays(30))).isEmpty();
+        assertThat(tracker.scheduledCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("휠을 한 바퀴 이상 건너뛰어도 만기된 대출을 놓치지 않는다")
+    void advanceMoreThanOneRevolution() {
+        // given
+        tracker.register(1L, today);
+        tracker.register(2L, today.minusDays(10));
+
+        // when
+        tracker.advanceTo(today.plusDays(100));
+
+        // then
+        assertThat(tracker.getOverdueLoanIds(today.plusDays(100))).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("재동기화하면 다른 노드에서 생긴 대출은 추가되고 반납된 대출은 빠진다")
+    void resyncWithDatabase() {
+        // given: 1번은 이 노드가 등록했지만 다른 노드에서 반납됨, 2번은 다른 노드에서 생성됨
+        tracker.register(1L, today.minusDays(20));
+        Loan otherNodeLoan = mock(Loan.class);
+        when(otherNodeLoan.getId()).thenReturn(2L);
+        when(otherNodeLoan.getLoanDate()).thenReturn(today.minusDays(30));
+        when(loanRepository.findByReturnDateIsNullAndIdGreaterThanOrderByIdAsc(anyLong(), any()))
+            .thenReturn(List.of(otherNodeLoan));
+
+        // when
+        tracker.resync();
+
+        // then
+        assertThat(tracker.getOverdueLoanIds(today)).containsExactly(2L);
+    }
+}
@@ -0,0 +1,35 @@
+package com.codeit.library.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("loan 파티션 관리 테스트")
+class LoanPartitionMaintainerTest {
+
+    @Test
+    @DisplayName("파티션 이름은 loan_pYYYY_MM 이고 이름에서 다시 월을 읽을 수 있다")
+    void partitionNameRoundTrip() {
+        // given
+        YearMonth month = YearMonth.of(2024, 3);
+
+        // when
+        String name = LoanPartitionMaintainer.partitionName(month);
+
+        // then
+        assertThat(name).isEqualTo("loan_p2024_03");
+        assertThat(LoanPartitionMaintainer.monthOf(name)).isEqualTo(month);
+    }
+
+    @Test
+    @DisplayName("월 파티션 형식이 아닌 이름은 분리 대상에서 제외된다")
+    void monthOfIgnoresOtherTables() {
+        assertThat(LoanPartitionMaintainer.monthOf("loan_default")).isNull();
+        assertThat(LoanPartitionMaintainer.monthOf("loan_p2024_3")).isNull();
+        assertThat(LoanPartitionMaintainer.monthOf("loan_p2024_03_old")).isNull();
+        assertThat(LoanPartitionMaintainer.monthOf("loan_flat")).isNull();
+    }
+}
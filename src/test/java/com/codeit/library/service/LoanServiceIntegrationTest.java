@@ -0,0 +1,147 @@
+package com.codeit.library.service;
+
+import com.codeit.library.archive.LoanArchive;
+import com.codeit.library.archive.LocalLoanArchiveStore;
+import com.codeit.library.domain.Book;
+import com.codeit.library.domain.Loan;
+import com.codeit.library.domain.Member;
+import com.codeit.library.dto.request.LoanBatchReturnRequest;
+import com.codeit.library.dto.request.LoanCreateRequest;
+import com.codeit.library.dto.response.LoanBatchResponse;
+import com.codeit.library.dto.response.LoanResponse;
+import com.codeit.library.exception.BookAlreadyLoanedException;
+import com.codeit.library.exception.LoanLimitExceededException;
+import com.codeit.library.exception.MemberNotFoundException;
+import com.codeit.library.exception.OverdueLoanExistsException;
+import com.codeit.library.metrics.LibraryMetrics;
+import com.codeit.library.repository.BookRepository;
+import com.codeit.library.repository.FieldProjectionRepository;
+import com.codeit.library.repository.LoanRepository;
+import com.codeit.library.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * LoanServiceTest(Mockito)의 핵심 규칙을 실제 JPA/H2로 다시 확인합니다.
+ * Mockito를 쓰지 않으므로 네이티브 테스트(./gradlew nativeTest -Pnative)에서도 실행됩니다.
+ */
+@DataJpaTest
+@Import({LoanService.class, LoanOverdueTracker.class, LoanedBookIndex.class, LibraryMetrics.class,
+    FieldProjectionRepository.class, LoanServiceIntegrationTest.Config.class})
+@DisplayName("대출 서비스 통합 테스트")
+class LoanServiceIntegrationTest {
+
+    @Autowired
+    private LoanService loanService;
+    @Autowired
+    private LoanRepository loanRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(new Member("홍길동", "hong@test.com"));
+    }
+
+    @Test
+    @DisplayName("대출하면 오늘 날짜의 미반납 대출이 저장된다")
+    void createLoan() {
+        // given
+        Book book = book("111");
+
+        // when
+        LoanResponse response = loanService.createLoan(new LoanCreateRequest(member.getId(), book.getId()));
+
+        // then
+        assertThat(response.loanDate()).isEqualTo(LocalDate.now());
+        assertThat(response.returnDate()).isNull();
+        assertThat(response.overdue()).isFalse();
+        assertThat(loanRepository.existsByBookIdAndReturnDateIsNull(book.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("없는 회원, 대출중인 책, 한도 초과, 연체는 거절하고 사유별로 센다")
+    void rejectsByRule() {
+        // given
+        Book loaned = book("111");
+        loanService.createLoan(new LoanCreateRequest(member.getId(), loaned.getId()));
+        loanService.createLoan(new LoanCreateRequest(member.getId(), book("222").getId()));
+        loanService.createLoan(new LoanCreateRequest(member.getId(), book("333").getId()));
+        Member late = memberRepository.save(new Member("김연체", "late@test.com"));
+        loanRepository.save(new Loan(late, book("444"), LocalDate.now().minusDays(30)));
+        Long other = memberRepository.save(new Member("이영희", "lee@test.com")).getId();
+
+        // when & then
+        assertThatThrownBy(() -> loanService.createLoan(new LoanCreateRequest(999L, loaned.getId())))
+            .isInstanceOf(MemberNotFoundException.class);
+        assertThatThrownBy(() -> loanService.createLoan(new LoanCreateRequest(other, loaned.getId())))
+            .isInstanceOf(BookAlreadyLoanedException.class);
+        assertThatThrownBy(() -> loanService.createLoan(new LoanCreateRequest(member.getId(), book("555").getId())))
+            .isInstanceOf(LoanLimitExceededException.class);
+        assertThatThrownBy(() -> loanService.createLoan(new LoanCreateRequest(late.getId(), book("666").getId())))
+            .isInstanceOf(OverdueLoanExistsException.class);
+        for (String reason : List.of("member_not_found", "already_loaned", "limit_exceeded", "overdue")) {
+            assertThat(meterRegistry.get("library.loans.rejected").tag("reason", reason).counter().count())
+                .isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("일괄 반납은 대출마다 결과를 돌려주고 실패한 항목이 있어도 나머지는 반납한다")
+    void returnBooks() {
+        // given
+        Long open = loanService.createLoan(new LoanCreateRequest(member.getId(), book("111").getId())).id();
+        Long returned = loanService.createLoan(new LoanCreateRequest(member.getId(), book("222").getId())).id();
+        loanService.returnBook(returned);
+
+        // when
+        LoanBatchResponse response = loanService.returnBooks(
+            new LoanBatchReturnRequest(List.of(open, 999_999L, returned, open)));
+
+        // then
+        assertThat(response.succeeded()).isEqualTo(1);
+        assertThat(response.results()).extracting(LoanBatchResponse.Item::code)
+            .containsExactly(null, "LOAN_NOT_FOUND", "ALREADY_RETURNED", "DUPLICATE");
+        assertThat(response.results().get(0).loan().returnDate()).isEqualTo(LocalDate.now());
+        assertThat(loanRepository.findById(open)).get().extracting(Loan::isReturned).isEqualTo(true);
+    }
+
+    private Book book(String isbn) {
+        return bookRepository.save(new Book("책 " + isbn, "저자", isbn, 10_000));
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        LoanArchive loanArchive() throws Exception {
+            return new LoanArchive(new LocalLoanArchiveStore(Files.createTempDirectory("loan-archive")), 1024, 1000);
+        }
+    }
+}
@@ -1,25 +1,38 @@
 package com.codeit.library.service;
 
+import com.codeit.library.archive.LoanArchive;
 import com.codeit.library.domain.Book;
 import com.codeit.library.domain.Loan;
 import com.codeit.library.domain.Member;
+import com.codeit.library.dto.request.LoanBatchCreateRequest;
+import com.codeit.library.dto.request.LoanBatchReturnRequest;
 import com.codeit.library.dto.request.LoanCreateRequest;
+import com.codeit.library.dto.response.LoanBatchResponse;
 import com.codeit.library.dto.response.LoanResponse;
+import com.codeit.library.event.LoanReturnedEvent;
+import com.codeit.library.exception.BookAlreadyLoanedException;
 import com.codeit.library.exception.LoanLimitExceededException;
 import com.codeit.library.exception.MemberNotFoundException;
+import com.codeit.library.exception.OverdueLoanExistsException;
+import com.codeit.library.metrics.LibraryMetrics;
 import com.codeit.library.repository.BookRepository;
+import com.codeit.library.repository.FieldProjectionRepository;
 import com.codeit.library.repository.LoanRepository;
 import com.codeit.library.repository.MemberRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -27,6 +40,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+@Tag("mockito")
 @ExtendWith(MockitoExtension.class) //Mockito 활성화
 @DisplayName("대출 서비스 테스트")
 class LoanServiceTest {
@@ -37,6 +51,18 @@ class LoanServiceTest {
     private BookRepository bookRepository;
     @Mock
     private MemberRepository memberRepository;
+    @Mock
+    private LoanOverdueTracker loanOverdueTracker;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private LibraryMetrics libraryMetrics;
+    @Mock
+    private FieldProjectionRepository fieldProjectionRepository;
+    @Mock
+    private LoanArchive loanArchive;
+    @Mock
+    private LoanedBookIndex loanedBookIndex;
 
     @InjectMocks // 테스트 대상에게 가짜 객체를 주입
     private LoanService loanService;
@@ -58,7 +84,7 @@ class LoanServiceTest {
             //Mock 동작 정의
             // loadService.createLoan()을 호출하면서 발생할 수 있는 모든 상황을 가정하여 Mock 객체에 세팅
             when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
-            when(bookRepository.findById(bookId)).thenReturn(Optional.of(book));
+            when(bookRepository.findByIdForUpdate(bookId)).thenReturn(Optional.of(book));
             when(loanRepository.countByMemberIdAndReturnDateIsNull(memberId)).thenReturn(2l);
             when(loanRepository.existsByBookIdAndReturnDateIsNull(bookId)).thenReturn(false);
             when(loanRepository.existsOverdueLoan(memberId)).thenReturn(false);
@@ -72,8 +98,8 @@ class LoanServiceTest {
 
             // then
             assertThat(response).isNotNull();
-            assertThat(response.getMemberId()).isEqualTo(memberId);
-            assertThat(response.getBookId()).isEqualTo(bookId);
+            assertThat(response.memberId()).isEqualTo(memberId);
+            assertThat(response.bookId()).isEqualTo(bookId);
 
             // 이 메서드가 실제로 호출되었니? 를 확인
             // 가짜 객체는 실제로 DB 연동하지 않기 때문에 서비스의 특정 메서드가 호출될 때
@@ -116,7 +142,7 @@ class LoanServiceTest {
             Book book = new Book(bookId, "클린 코드", "로버트 마틴" ,"987-1234567890", 30000);
 
             when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
-            when(bookRepository.findById(bookId)).thenReturn(Optional.of(book));
+            when(bookRepository.findByIdForUpdate(bookId)).thenReturn(Optional.of(book));
             when(loanRepository.countByMemberIdAndReturnDateIsNull(memberId)).thenReturn(3L);
 
             LoanCreateRequest request = new LoanCreateRequest(memberId, bookId);
@@ -143,7 +169,7 @@ class LoanServiceTest {
             Book book = new Book(bookId, "클린 코드", "로버트 마틴" ,"987-1234567890", 30000);
 
             when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
-            when(bookRepository.findById(bookId)).thenReturn(Optional.of(book));
+            when(bookRepository.findByIdForUpdate(bookId)).thenReturn(Optional.of(book));
             when(loanRepository.countByMemberIdAndReturnDateIsNull(memberId)).thenReturn(2l);
             when(loanRepository.existsByBookIdAndReturnDateIsNull(bookId)).thenReturn(false);
             when(loanRepository.existsOverdueLoan(memberId)).thenReturn(false);
@@ -171,6 +197,55 @@ class LoanServiceTest {
             assertThat(captorValue.getLoanDate().plusDays(14)).isEqualTo(expectDueDate);
         }
 
+        @Test
+        @DisplayName("비트맵에 대출중으로 남아 있어도 DB에서 반납되었으면 대출하고 비트맵을 바로잡는다")
+        void createLoan_StaleBitmap() {
+            // given
+            Long memberId = 1L;
+            Long bookId = 1L;
+
+            Member member = new Member(memberId, "홍길동", "abc1234@naver.com");
+            Book book = new Book(bookId, "클린 코드", "로버트 마틴" ,"987-1234567890", 30000);
+
+            when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
+            when(bookRepository.findByIdForUpdate(bookId)).thenReturn(Optional.of(book));
+            when(loanRepository.countByMemberIdAndReturnDateIsNull(memberId)).thenReturn(0L);
+            when(loanedBookIndex.isLoaned(bookId)).thenReturn(true);
+            when(loanRepository.existsByBookIdAndReturnDateIsNull(bookId)).thenReturn(false);
+            when(loanRepository.existsOverdueLoan(memberId)).thenReturn(false);
+            when(loanRepository.save(any(Loan.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            loanService.createLoan(new LoanCreateRequest(memberId, bookId));
+
+            // then
+            verify(loanedBookIndex).markReturned(bookId);
+            verify(loanRepository).save(any(Loan.class));
+        }
+
+        @Test
+        @DisplayName("DB에 미반납 대출이 있으면 비트맵과 관계없이 거절한다")
+        void createLoan_LoanedInDb() {
+            // given
+            Long memberId = 1L;
+            Long bookId = 1L;
+
+            Member member = new Member(memberId, "홍길동", "abc1234@naver.com");
+            Book book = new Book(bookId, "클린 코드", "로버트 마틴" ,"987-1234567890", 30000);
+
+            when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
+            when(bookRepository.findByIdForUpdate(bookId)).thenReturn(Optional.of(book));
+            when(loanRepository.countByMemberIdAndReturnDateIsNull(memberId)).thenReturn(0L);
+            when(loanedBookIndex.isLoaned(bookId)).thenReturn(false);
+            when(loanRepository.existsByBookIdAndReturnDateIsNull(bookId)).thenReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> loanService.createLoan(new LoanCreateRequest(memberId, bookId)))
+                .isInstanceOf(BookAlreadyLoanedException.class);
+            verify(loanedBookIndex).markLoaned(bookId);
+            verify(loanRepository, never()).save(any());
+        }
+
     }
 
     @Nested
@@ -195,8 +270,129 @@ class LoanServiceTest {
             LoanResponse response = loanService.returnBook(loanId);
             // then
             assertThat(response).isNotNull();
-            assertThat(response.getReturnDate()).isEqualTo(LocalDate.now());
+            assertThat(response.returnDate()).isEqualTo(LocalDate.now());
+
+        }
+    }
+
+    @Nested
+    @DisplayName("일괄 대출")
+    class CreateLoans {
 
+        @Test
+        @DisplayName("자격은 한 번만 확인하고 책마다 결과를 돌려준다")
+        void createLoans_PerItemResults() {
+            // given
+            Long memberId = 1L;
+            Member member = new Member(memberId, "홍길동", "abc1234@naver.com");
+            Book book1 = new Book(1L, "클린 코드", "로버트 마틴", "987-1234567890", 30000);
+            Book book2 = new Book(2L, "리팩토링", "마틴 파울러", "987-1234567891", 35000);
+            List<Long> bookIds = List.of(1L, 2L, 1L, 99L);
+
+            when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
+            when(loanRepository.existsOverdueLoan(memberId)).thenReturn(false);
+            when(loanRepository.countByMemberIdAndReturnDateIsNull(memberId)).thenReturn(2L); // 남은 한도 1권
+            when(bookRepository.findAllByIdForUpdate(bookIds)).thenReturn(List.of(book1, book2));
+            when(loanRepository.findLoanedBookIds(any())).thenReturn(List.of());
+
+            // when
+            LoanBatchResponse response = loanService.createLoans(new LoanBatchCreateRequest(memberId, bookIds));
+
+            // then
+            assertThat(response.succeeded()).isEqualTo(1);
+            assertThat(response.failed()).isEqualTo(3);
+            assertThat(response.results()).extracting(LoanBatchResponse.Item::code)
+                    .containsExactly(null, "LIMIT_EXCEEDED", "DUPLICATE", "BOOK_NOT_FOUND");
+            assertThat(response.results().get(0).loan().bookId()).isEqualTo(1L);
+
+            // 책 수와 무관하게 자격 확인 쿼리는 한 번씩, 저장도 한 번
+            verify(loanRepository).countByMemberIdAndReturnDateIsNull(memberId);
+            verify(loanRepository).existsOverdueLoan(memberId);
+            verify(loanRepository, never()).existsByBookIdAndReturnDateIsNull(any());
+            verify(loanRepository).saveAll(argThat(loans -> ((List<?>) loans).size() == 1));
+        }
+
+        @Test
+        @DisplayName("연체중인 대출이 있으면 전체를 거절한다")
+        void createLoans_Overdue() {
+            // given
+            Long memberId = 1L;
+            when(memberRepository.findById(memberId))
+                    .thenReturn(Optional.of(new Member(memberId, "홍길동", "abc1234@naver.com")));
+            when(loanRepository.existsOverdueLoan(memberId)).thenReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> loanService.createLoans(new LoanBatchCreateRequest(memberId, List.of(1L, 2L))))
+                    .isInstanceOf(OverdueLoanExistsException.class);
+            verify(loanRepository, never()).saveAll(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("일괄 반납")
+    class ReturnBooks {
+
+        private final Member member = new Member(1L, "홍길동", "abc1234@naver.com");
+
+        private Loan loan(Long loanId, Long bookId) {
+            Book book = new Book(bookId, "클린 코드", "로버트 마틴", "987-123456789" + bookId, 30000);
+            Loan loan = new Loan(member, book, LocalDate.now().minusDays(5));
+            ReflectionTestUtils.setField(loan, "id", loanId);
+            return loan;
+        }
+
+        @Test
+        @DisplayName("요청 순서대로 대출마다 결과를 돌려주고 반납된 대출만 이벤트를 발행한다")
+        void returnBooks_PerItemResults() {
+            // given
+            Loan open1 = loan(10L, 1L);
+            Loan open2 = loan(11L, 2L);
+            List<Long> loanIds = List.of(11L, 10L);
+            when(loanRepository.findAllWithMemberAndBookByIdIn(loanIds)).thenReturn(List.of(open1, open2));
+
+            // when
+            LoanBatchResponse response = loanService.returnBooks(new LoanBatchReturnRequest(loanIds));
+
+            // then
+            assertThat(response.succeeded()).isEqualTo(2);
+            assertThat(response.failed()).isZero();
+            assertThat(response.results()).extracting(LoanBatchResponse.Item::id).containsExactly(11L, 10L);
+            LoanBatchResponse.Item first = response.results().get(0);
+            assertThat(first.success()).isTrue();
+            assertThat(first.code()).isNull();
+            assertThat(first.loan().id()).isEqualTo(11L);
+            assertThat(first.loan().bookId()).isEqualTo(2L);
+            assertThat(first.loan().returnDate()).isEqualTo(LocalDate.now());
+            verify(eventPublisher, times(2)).publishEvent(any(LoanReturnedEvent.class));
+        }
+
+        @Test
+        @DisplayName("없는 대출, 이미 반납된 대출, 중복 요청은 실패로 표시하고 나머지는 반납한다")
+        void returnBooks_PartialFailure() {
+            // given
+            Loan open = loan(10L, 1L);
+            Loan returned = loan(11L, 2L);
+            returned.returnBook();
+            List<Long> loanIds = List.of(10L, 99L, 11L, 10L);
+            when(loanRepository.findAllWithMemberAndBookByIdIn(loanIds)).thenReturn(List.of(open, returned));
+
+            // when
+            LoanBatchResponse response = loanService.returnBooks(new LoanBatchReturnRequest(loanIds));
+
+            // then
+            assertThat(response.succeeded()).isEqualTo(1);
+            assertThat(response.failed()).isEqualTo(3);
+            assertThat(response.results()).extracting(LoanBatchResponse.Item::code)
+                    .containsExactly(null, "LOAN_NOT_FOUND", "ALREADY_RETURNED", "DUPLICATE");
+            assertThat(response.results()).extracting(LoanBatchResponse.Item::loan)
+                    .extracting(loan -> loan == null ? null : loan.id())
+                    .containsExactly(10L, null, null, null);
+            assertThat(response.results().get(1).message()).contains("99");
+
+            ArgumentCaptor<LoanReturnedEvent> event = ArgumentCaptor.forClass(LoanReturnedEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertThat(event.getValue().getLoanId()).isEqualTo(10L);
+            assertThat(event.getValue().getBookId()).isEqualTo(1L);
         }
     }
 
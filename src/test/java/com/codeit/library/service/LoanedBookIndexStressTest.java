@@ -0,0 +1,109 @@
+package com.codeit.library.service;
+
+import com.codeit.library.repository.LoanRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Tag("mockito")
+@DisplayName("대출중 도서 비트맵 동시성 테스트")
+class LoanedBookIndexStressTest {
+
+    private static final int WRITERS = 8;
+    private static final int BOOKS = 10_000;
+    private static final int OPERATIONS_PER_WRITER = 50_000;
+
+    @Test
+    @DisplayName("대출/반납, 조회, 재구성이 동시에 일어나도 커밋된 상태와 어긋나지 않는다")
+    void concurrentUpdatesAndRebuilds() throws Exception {
+        // given - "DB"의 미반납 도서 집합. 실제와 같이 커밋(집합 변경) 후에 이벤트를 반영
+        Set<Long> committed = ConcurrentHashMap.newKeySet();
+        LoanRepository loanRepository = mock(LoanRepository.class);
+        when(loanRepository.findAllLoanedBookIds()).thenAnswer(invocation -> List.copyOf(committed));
+        LoanedBookIndex index = new LoanedBookIndex(loanRepository, new SimpleMeterRegistry());
+
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS + 2);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger mismatches = new AtomicInteger();
+        AtomicInteger rebuilds = new AtomicInteger();
+        List<Future<?>> writers = new ArrayList<>();
+
+        // 같은 책은 책 행 잠금으로 직렬화되므로, 책을 writer마다 나눠 맡김
+        for (int w = 0; w < WRITERS; w++) {
+            int writer = w;
+            writers.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < OPERATIONS_PER_WRITER; i++) {
+                    long bookId = (long) random.nextInt(BOOKS / WRITERS) * WRITERS + writer + 1;
+                    if (committed.add(bookId)) {
+                        index.markLoaned(bookId);
+                    } else {
+                        committed.remove(bookId);
+                        index.markReturned(bookId);
+                    }
+                    // 자신이 방금 반영한 상태는 재구성과 겹쳐도 바로 보여야 함
+                    if (index.isLoaned(bookId) != committed.contains(bookId)) {
+                        mismatches.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        Future<?> rebuilder = executor.submit(() -> {
+            start.await();
+            while (running.get()) {
+                index.rebuild();
+                rebuilds.incrementAndGet();
+            }
+            return null;
+        });
+        Future<?> reader = executor.submit(() -> {
+            start.await();
+            while (running.get()) {
+                index.isLoaned(ThreadLocalRandom.current().nextLong(1, BOOKS + 1));
+                index.loanedCount();
+            }
+            return null;
+        });
+
+        // when
+        start.countDown();
+        for (Future<?> future : writers) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        running.set(false);
+        rebuilder.get(10, TimeUnit.SECONDS);
+        reader.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(mismatches.get()).isZero();
+        assertThat(rebuilds.get()).isPositive();
+        assertThat(index.loanedCount()).isEqualTo(committed.size());
+        for (long bookId = 1; bookId <= BOOKS; bookId++) {
+            assertThat(index.isLoaned(bookId)).as("book %d", bookId).isEqualTo(committed.contains(bookId));
+        }
+        index.rebuild();
+        assertThat(index.loanedCount()).isEqualTo(committed.size());
+    }
+}
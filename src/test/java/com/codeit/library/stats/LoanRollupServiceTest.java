@@ -0,0 +1,94 @@
+package com.codeit.library.stats;
+
+import com.codeit.library.repository.LoanRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Tag("mockito")
+@DisplayName("대출 통계 집계 테스트")
+class LoanRollupServiceTest {
+
+    private final LoanRepository loanRepository = mock(LoanRepository.class);
+    private final LocalDate today = LocalDate.now();
+    private LoanRollupService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new LoanRollupService(loanRepository, new SimpleMeterRegistry(), 365);
+    }
+
+    @Test
+    @DisplayName("대출/반납 이벤트로 일별 대출 수, 순위, 평균 대출 기간을 갱신한다")
+    void incrementalUpdates() {
+        // when
+        service.loanCreated(1L, 1L, 10L, today.minusDays(4));
+        service.loanCreated(2L, 2L, 10L, today);
+        service.loanCreated(3L, 2L, 20L, today);
+        service.loanReturned(1L, 1L, 10L, today.minusDays(4), today);
+
+        // then
+        assertThat(service.loansOn(today)).isEqualTo(2);
+        assertThat(service.distinctBorrowersOn(today)).isEqualTo(1);
+        assertThat(service.topBooks(1)).containsExactly(new TopCounter.Entry(10L, 2));
+        assertThat(service.topMembers(2)).extracting(TopCounter.Entry::id).containsExactly(2L, 1L);
+        assertThat(service.averageLoanDays()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("재계산 중 들어온 이벤트는 스캔에서 보지 못한 변경만 새 집계에 반영한다")
+    void reconcileReplaysEventsMissedByScan() {
+        // given - 증분 집계에는 DB에 없는 대출 99가 들어 있음
+        service.loanCreated(99L, 9L, 90L, today);
+        when(loanRepository.findFactsSince(any(), anyLong(), any())).thenAnswer(invocation -> {
+            // 스캔 도중 이벤트 도착: 1은 스캔 결과에 포함, 2는 스캔 이후 커밋, 1의 반납은 스캔 이후 커밋
+            service.loanCreated(1L, 1L, 10L, today);
+            service.loanCreated(2L, 2L, 10L, today);
+            service.loanReturned(1L, 1L, 10L, today, today);
+            return List.of(new LoanFact(1L, 1L, 10L, today, null));
+        });
+
+        // when
+        service.reconcile();
+
+        // then
+        assertThat(service.loansOn(today)).isEqualTo(2);
+        assertThat(service.topBooks(10)).containsExactly(new TopCounter.Entry(10L, 2));
+        assertThat(service.returnedLoans()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("HyperLogLog 추정치는 표준 오차의 3배 안에 든다")
+    void hyperLogLogAccuracy() {
+        // given
+        HyperLogLog daily1 = new HyperLogLog(12);
+        HyperLogLog daily2 = new HyperLogLog(12);
+        for (long id = 0; id < 60_000; id++) {
+            daily1.add(id);
+        }
+        for (long id = 40_000; id < 100_000; id++) {
+            daily2.add(id);
+        }
+
+        // when
+        HyperLogLog merged = daily1.copy();
+        merged.merge(daily2);
+
+        // then
+        double tolerance = 3 * merged.relativeError();
+        assertThat((double) daily1.estimate()).isCloseTo(60_000, within(60_000 * tolerance));
+        assertThat((double) merged.estimate()).isCloseTo(100_000, within(100_000 * tolerance));
+    }
+}
@@ -0,0 +1,51 @@
+package com.codeit.library.warmup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("기동 준비 작업 테스트")
+class StartupWarmupTest {
+
+    @Test
+    @DisplayName("준비 작업은 백그라운드에서 돌고, 모두 끝날 때까지 OUT_OF_SERVICE, 실패한 작업도 끝난 것으로 센다")
+    void reportsReadinessAfterAllTasks() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        Map<String, Object> beans = new LinkedHashMap<>();
+        beans.put("slow", (WarmupTask) () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        beans.put("failing", (WarmupTask) () -> {
+            throw new IllegalStateException("DB 연결 실패");
+        });
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(beans);
+
+        try (StartupWarmup warmup = new StartupWarmup(beanFactory.getBeanProvider(WarmupTask.class), 2)) {
+            // when - 이벤트 스레드는 작업을 기다리지 않고 돌아옴
+            warmup.start();
+
+            // then
+            assertThat(warmup.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+            release.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (warmup.health().getStatus() != Status.UP && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(warmup.health().getStatus()).isEqualTo(Status.UP);
+            assertThat(warmup.health().getDetails()).containsKey("failed");
+        }
+    }
+}